@@ -0,0 +1,210 @@
+package com.athleticaos.backend.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer for audit entries. Request threads only enqueue; a single
+ * writer thread drains the queue and inserts the rows with one JDBC batch.
+ * A failing batch is retried a few times, then written row by row so one bad
+ * entry cannot take the rest of the batch with it.
+ */
+@Component
+@Slf4j
+public class AsyncAuditWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_log (id, timestamp, actor_user_id, actor_email, "
+            + "actor_role, organisation_id, organisation_name, action_type, entity_type, entity_id, "
+            + "entity_summary, details_json, ip_address, user_agent) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${application.audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${application.audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${application.audit.flush-interval:1000}")
+    private long flushIntervalMillis;
+
+    @Value("${application.audit.overflow-policy:BLOCK}")
+    private AuditOverflowPolicy overflowPolicy;
+
+    @Value("${application.audit.offer-timeout:50}")
+    private long offerTimeoutMillis;
+
+    @Value("${application.audit.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${application.audit.retry-backoff:200}")
+    private long retryBackoffMillis;
+
+    private BlockingQueue<AuditRecord> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public AsyncAuditWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writerThread = new Thread(this::run, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public void enqueue(AuditRecord record) {
+        if (queue.offer(record)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (queue.offer(record, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                drop(record);
+            }
+            case DROP -> drop(record);
+            case CALLER_WRITES -> writeWithRetry(List.of(record));
+        }
+    }
+
+    /**
+     * Stops the writer thread and writes whatever is still queued.
+     */
+    @PreDestroy
+    public void shutdown() {
+        // The writer notices within one flush interval; an in-flight batch is left to finish
+        running = false;
+        try {
+            writerThread.join(flushIntervalMillis + TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<AuditRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        flush(remaining);
+        log.info("Audit writer stopped ({} entries dropped, {} failed since startup)", dropped.get(), failed.get());
+    }
+
+    private void run() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditRecord first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                // Whatever is left is written by shutdown()
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AuditRecord> records) {
+        for (int from = 0; from < records.size(); from += batchSize) {
+            writeWithRetry(records.subList(from, Math.min(from + batchSize, records.size())));
+        }
+    }
+
+    /**
+     * Writes a batch, retrying transient failures; after the last attempt
+     * falls back to one row at a time and logs the rows that still fail.
+     */
+    private void writeWithRetry(List<AuditRecord> records) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                write(records);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to write {} audit entries (attempt {} of {})", records.size(), attempt,
+                        maxAttempts, e);
+            }
+            if (attempt < maxAttempts && !sleep(retryBackoffMillis * attempt)) {
+                break;
+            }
+        }
+
+        for (AuditRecord record : records) {
+            try {
+                write(List.of(record));
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.error("Audit entry lost: {} on {} {} by {} at {}: {}", record.entry().getActionType(),
+                        record.entry().getEntityType(), record.entry().getEntityId(), record.actor().email(),
+                        record.timestamp(), record.entry().getEntitySummary(), e);
+            }
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void write(List<AuditRecord> records) {
+        List<Object[]> rows = new ArrayList<>(records.size());
+        for (AuditRecord record : records) {
+            AuditActor actor = record.actor();
+            rows.add(new Object[] {
+                    UUID.randomUUID(),
+                    Timestamp.valueOf(record.timestamp()),
+                    actor.userId(),
+                    actor.email(),
+                    actor.role() != null ? actor.role() : "UNKNOWN",
+                    actor.organisationId(),
+                    actor.organisationName(),
+                    record.entry().getActionType(),
+                    record.entry().getEntityType(),
+                    record.entry().getEntityId(),
+                    record.entry().getEntitySummary(),
+                    record.entry().getDetailsJson(),
+                    record.ipAddress(),
+                    record.userAgent()
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private void drop(AuditRecord record) {
+        long count = dropped.incrementAndGet();
+        log.warn("Audit queue full, dropped {} on {} {} (total dropped: {})",
+                record.entry().getActionType(), record.entry().getEntityType(), record.entry().getEntityId(), count);
+    }
+}
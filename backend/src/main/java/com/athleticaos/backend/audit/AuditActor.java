@@ -0,0 +1,14 @@
+package com.athleticaos.backend.audit;
+
+import java.util.UUID;
+
+/**
+ * Actor columns of an audit row, resolved for a batch of entries at once.
+ */
+public record AuditActor(
+        UUID userId,
+        String email,
+        String role,
+        UUID organisationId,
+        String organisationName) {
+}
@@ -0,0 +1,76 @@
+package com.athleticaos.backend.audit;
+
+import com.athleticaos.backend.events.UserAccountChangedEvent;
+import com.athleticaos.backend.repositories.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of audit actor columns keyed by email, read on the
+ * request thread so each audit row records the actor's role and
+ * organisation as they were when the action happened. Entries expire after a
+ * TTL and are evicted as soon as a change to the account commits.
+ */
+@Component
+@Slf4j
+public class AuditActorCache {
+
+    private final UserRepository userRepository;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${application.audit.actor-cache.ttl:60000}")
+    private long ttlMillis;
+
+    @Value("${application.audit.actor-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private record Entry(AuditActor actor, long expiresAt) {
+    }
+
+    public AuditActorCache(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * The actor with this email, or null if no such user exists.
+     */
+    public AuditActor get(String email) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(email);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.actor();
+        }
+
+        List<AuditActor> actors = userRepository.findAuditActorsByEmailIn(List.of(email));
+        if (actors.isEmpty()) {
+            entries.remove(email);
+            return null;
+        }
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(e -> e.expiresAt() <= now);
+            if (entries.size() >= maxEntries) {
+                log.debug("Audit actor cache full ({} entries), clearing", entries.size());
+                entries.clear();
+            }
+        }
+        AuditActor actor = actors.get(0);
+        entries.put(email, new Entry(actor, now + ttlMillis));
+        return actor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        if (event.email() != null) {
+            entries.remove(event.email());
+        }
+        if (event.previousEmail() != null) {
+            entries.remove(event.previousEmail());
+        }
+    }
+}
@@ -127,8 +127,8 @@ public class AuditLogger {
                                 .entityType("MATCH")
                                 .entityId(match.getId())
                                 .entitySummary(String.format("Match created: %s vs %s on %s",
-                                                match.getHomeTeam().getName(),
-                                                match.getAwayTeam().getName(),
+                                                teamName(match.getHomeTeam()),
+                                                teamName(match.getAwayTeam()),
                                                 match.getMatchDate()))
                                 .build();
 
@@ -141,8 +141,8 @@ public class AuditLogger {
                                 .entityType("MATCH")
                                 .entityId(match.getId())
                                 .entitySummary(String.format("Match updated: %s vs %s",
-                                                match.getHomeTeam().getName(),
-                                                match.getAwayTeam().getName()))
+                                                teamName(match.getHomeTeam()),
+                                                teamName(match.getAwayTeam())))
                                 .build();
 
                 auditLogService.log(entry, getIpAddress(request), getUserAgent(request));
@@ -154,10 +154,10 @@ public class AuditLogger {
                                 .entityType("MATCH")
                                 .entityId(match.getId())
                                 .entitySummary(String.format("Match score updated: %s %d - %d %s",
-                                                match.getHomeTeam().getName(),
+                                                teamName(match.getHomeTeam()),
                                                 match.getHomeScore() != null ? match.getHomeScore() : 0,
                                                 match.getAwayScore() != null ? match.getAwayScore() : 0,
-                                                match.getAwayTeam().getName()))
+                                                teamName(match.getAwayTeam())))
                                 .build();
 
                 auditLogService.log(entry, getIpAddress(request), getUserAgent(request));
@@ -170,8 +170,8 @@ public class AuditLogger {
                                 .entityId(match.getId())
                                 .entitySummary(String.format("Match status changed to %s: %s vs %s",
                                                 match.getStatus(),
-                                                match.getHomeTeam().getName(),
-                                                match.getAwayTeam().getName()))
+                                                teamName(match.getHomeTeam()),
+                                                teamName(match.getAwayTeam())))
                                 .build();
 
                 auditLogService.log(entry, getIpAddress(request), getUserAgent(request));
@@ -191,6 +191,18 @@ public class AuditLogger {
                 auditLogService.log(entry, getIpAddress(request), getUserAgent(request));
         }
 
+        public void logMatchEventsImported(Match match, int inserted, int duplicates, HttpServletRequest request) {
+                AuditLogEntry entry = AuditLogEntry.builder()
+                                .actionType("MATCH_EVENTS_IMPORTED")
+                                .entityType("MATCH")
+                                .entityId(match.getId())
+                                .entitySummary(String.format("Match events imported: %d added, %d duplicates skipped",
+                                                inserted, duplicates))
+                                .build();
+
+                auditLogService.log(entry, getIpAddress(request), getUserAgent(request));
+        }
+
         // ==================== SUSPENSION ACTIONS ====================
 
         public void logSuspensionCreated(PlayerSuspension suspension, HttpServletRequest request) {
@@ -240,4 +252,8 @@ public class AuditLogger {
                 }
                 return request.getHeader("User-Agent");
         }
+
+        private String teamName(Team team) {
+                return team != null ? team.getName() : "TBD";
+        }
 }
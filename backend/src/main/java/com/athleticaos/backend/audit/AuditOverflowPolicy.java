@@ -0,0 +1,13 @@
+package com.athleticaos.backend.audit;
+
+/**
+ * What to do with an audit entry when the write queue is full.
+ */
+public enum AuditOverflowPolicy {
+    /** Wait up to the configured offer timeout, then drop. */
+    BLOCK,
+    /** Drop immediately and log a warning. */
+    DROP,
+    /** Write the entry synchronously on the calling thread. */
+    CALLER_WRITES
+}
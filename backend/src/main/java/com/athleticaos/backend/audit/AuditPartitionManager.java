@@ -0,0 +1,222 @@
+package com.athleticaos.backend.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Maintains the monthly partitions of {@code audit_log}: creates upcoming
+ * months ahead of time and, once a month falls outside the retention window,
+ * exports it to a gzipped CSV file on local disk and drops the partition.
+ */
+@Component
+@Slf4j
+public class AuditPartitionManager {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_log_y(\\d{4})m(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${application.audit.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${application.audit.partitions.retention-months:24}")
+    private int retentionMonths;
+
+    @Value("${application.audit.partitions.archive-directory:audit-archive}")
+    private String archiveDirectory;
+
+    public AuditPartitionManager(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(1000);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${application.audit.partitions.cron:0 15 3 * * *}")
+    public void maintain() {
+        // Independent steps: a month that cannot be created must not stop archival
+        try {
+            ensureUpcomingPartitions();
+        } catch (RuntimeException e) {
+            log.error("Creating upcoming audit partitions failed", e);
+        }
+        try {
+            archiveExpiredPartitions();
+        } catch (RuntimeException e) {
+            log.error("Archiving expired audit partitions failed", e);
+        }
+    }
+
+    public void ensureUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                ensurePartition(month);
+            } catch (RuntimeException e) {
+                log.error("Could not create audit partition for {}", month, e);
+            }
+        }
+    }
+
+    /**
+     * Creates the month's partition if missing. Rows for the month that already
+     * landed in the default partition are moved into it first, since
+     * PostgreSQL refuses a new partition that overlaps rows in the default.
+     */
+    private void ensurePartition(YearMonth month) {
+        String partition = partitionName(month);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        if (Boolean.TRUE.equals(exists)) {
+            return;
+        }
+
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        Integer moved = transactionTemplate.execute(status -> {
+            // Holds back inserts routed to the default until the new partition is attached
+            jdbcTemplate.execute("LOCK TABLE audit_log_default IN ACCESS EXCLUSIVE MODE");
+            jdbcTemplate.execute("CREATE TABLE " + partition
+                    + " (LIKE audit_log INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+            int rows = jdbcTemplate.update("INSERT INTO " + partition
+                    + " SELECT * FROM audit_log_default WHERE timestamp >= ? AND timestamp < ?", from, to);
+            jdbcTemplate.update("DELETE FROM audit_log_default WHERE timestamp >= ? AND timestamp < ?", from, to);
+            jdbcTemplate.execute(String.format(
+                    "ALTER TABLE audit_log ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')",
+                    partition, month.atDay(1), month.plusMonths(1).atDay(1)));
+            return rows;
+        });
+        log.info("Created audit partition {} ({} rows moved from the default partition)", partition, moved);
+    }
+
+    public void archiveExpiredPartitions() {
+        YearMonth oldestRetained = YearMonth.now().minusMonths(retentionMonths);
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent " +
+                        "WHERE p.relname = 'audit_log' ORDER BY c.relname",
+                String.class);
+
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (month.isBefore(oldestRetained)) {
+                try {
+                    archive(partition);
+                } catch (RuntimeException e) {
+                    log.error("Could not archive audit partition {}", partition, e);
+                }
+            }
+        }
+    }
+
+    private void archive(String partition) {
+        Path directory = Path.of(archiveDirectory);
+        Path target = directory.resolve(partition + ".csv.gz");
+        Path temp = directory.resolve(partition + ".csv.gz.tmp");
+
+        try {
+            Files.createDirectories(directory);
+            long rows = export(partition, temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            // Only drop once the file is safely in place
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("ALTER TABLE audit_log DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            });
+            log.info("Archived audit partition {} ({} rows) to {}", partition, rows, target);
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Could not archive audit partition {}", partition, e);
+        }
+    }
+
+    private long export(String partition, Path file) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8))) {
+            // A transaction lets the driver stream with a cursor instead of buffering the month
+            Long rows = transactionTemplate.execute(status -> {
+                long[] count = { 0 };
+                streamingJdbcTemplate.query("SELECT * FROM " + partition + " ORDER BY timestamp, id", (ResultSet rs) -> {
+                    try {
+                        if (count[0] == 0) {
+                            writeHeader(writer, rs.getMetaData());
+                        }
+                        writeRow(writer, rs);
+                        count[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                return count[0];
+            });
+            return rows != null ? rows : 0;
+        }
+    }
+
+    private static void writeHeader(Writer writer, ResultSetMetaData meta) throws SQLException, IOException {
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            if (i > 1) {
+                writer.write(',');
+            }
+            writer.write(meta.getColumnName(i));
+        }
+        writer.write('\n');
+    }
+
+    private static void writeRow(Writer writer, ResultSet rs) throws SQLException, IOException {
+        int columns = rs.getMetaData().getColumnCount();
+        for (int i = 1; i <= columns; i++) {
+            if (i > 1) {
+                writer.write(',');
+            }
+            String value = rs.getString(i);
+            if (value != null) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            }
+        }
+        writer.write('\n');
+    }
+
+    static String partitionName(YearMonth month) {
+        return String.format("audit_log_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,16 @@
+package com.athleticaos.backend.audit;
+
+import com.athleticaos.backend.dtos.audit.AuditLogEntry;
+
+import java.time.LocalDateTime;
+
+/**
+ * An audit entry as captured on the request thread, waiting to be written.
+ */
+public record AuditRecord(
+        LocalDateTime timestamp,
+        AuditActor actor,
+        AuditLogEntry entry,
+        String ipAddress,
+        String userAgent) {
+}
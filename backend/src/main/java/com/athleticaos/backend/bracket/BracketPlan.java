@@ -0,0 +1,13 @@
+package com.athleticaos.backend.bracket;
+
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.TournamentStage;
+
+import java.util.List;
+
+/**
+ * Unsaved stages and matches for a whole bracket, in display order.
+ * Every match references one of the plan's stages.
+ */
+public record BracketPlan(List<TournamentStage> stages, List<Match> matches) {
+}
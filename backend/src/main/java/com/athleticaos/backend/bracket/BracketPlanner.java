@@ -0,0 +1,301 @@
+package com.athleticaos.backend.bracket;
+
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.entities.TournamentStage;
+import com.athleticaos.backend.enums.MatchSlot;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.enums.TournamentFormat;
+import com.athleticaos.backend.enums.TournamentStageType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the complete stage and match layout of a bracket in memory, without
+ * touching the database, so it can be persisted in a couple of batched
+ * statements. Knockout matches carry links to the slot their winner (and, for
+ * placement brackets, their loser) moves into, so progression never has to
+ * search for it.
+ */
+public final class BracketPlanner {
+
+    private final Tournament tournament;
+    private final List<TournamentStage> stages = new ArrayList<>();
+    private final List<Match> matches = new ArrayList<>();
+    private int nextDisplayOrder = 1;
+
+    private BracketPlanner(Tournament tournament) {
+        this.tournament = tournament;
+    }
+
+    public static BracketPlan plan(Tournament tournament, List<Team> teams, TournamentFormat format,
+            Integer numberOfPools, boolean includePlacementStages) {
+        BracketPlanner planner = new BracketPlanner(tournament);
+
+        switch (format) {
+            case ROUND_ROBIN:
+                planner.planRoundRobin(teams, numberOfPools);
+                break;
+            case KNOCKOUT:
+                planner.planKnockout(teams, includePlacementStages);
+                break;
+            case MIXED:
+                planner.planMixedFormat(teams, numberOfPools, includePlacementStages);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported tournament format: " + format);
+        }
+        return new BracketPlan(planner.stages, planner.matches);
+    }
+
+    private void planRoundRobin(List<Team> teams, Integer numberOfPools) {
+        if (numberOfPools == null || numberOfPools < 1) {
+            numberOfPools = 1;
+        }
+
+        List<List<Team>> pools = partitionTeamsIntoPools(teams, numberOfPools);
+        for (int i = 0; i < pools.size(); i++) {
+            List<Team> poolTeams = pools.get(i);
+            String poolName = "Pool " + (char) ('A' + i);
+            TournamentStage stage = addStage(poolName, TournamentStageType.POOL, true);
+
+            // Each team plays every other team once
+            for (int h = 0; h < poolTeams.size(); h++) {
+                for (int a = h + 1; a < poolTeams.size(); a++) {
+                    matches.add(Match.builder()
+                            .tournament(tournament)
+                            .stage(stage)
+                            .homeTeam(poolTeams.get(h))
+                            .awayTeam(poolTeams.get(a))
+                            .matchDate(tournament.getStartDate())
+                            .kickOffTime(LocalTime.of(10, 0)) // Default kick-off time
+                            .venue(tournament.getVenue())
+                            .status(MatchStatus.SCHEDULED)
+                            .phase(poolName)
+                            .matchCode(String.format("%s-M%d", poolName.replace(" ", ""),
+                                    h * poolTeams.size() + a))
+                            .build());
+                }
+            }
+        }
+    }
+
+    private void planKnockout(List<Team> teams, boolean includePlacementStages) {
+        List<List<Match>> rounds = addKnockoutRounds(null, teams.size(), teams,
+                tournament.getStartDate(), LocalTime.of(14, 0)); // Default afternoon kick-off
+        if (includePlacementStages) {
+            planPlacementStages(rounds);
+        }
+    }
+
+    private void planMixedFormat(List<Team> teams, Integer numberOfPools, boolean includePlacementStages) {
+        if (numberOfPools == null || numberOfPools < 2) {
+            numberOfPools = 2; // Default to 2 pools for mixed format
+        }
+
+        planRoundRobin(teams, numberOfPools);
+
+        // Top 2 from each pool; teams are assigned via pool progression
+        List<List<Match>> rounds = addKnockoutRounds(null, numberOfPools * 2, null,
+                tournament.getStartDate().plusDays(3), LocalTime.of(14, 0)); // Schedule after pool stage
+        if (includePlacementStages) {
+            planPlacementStages(rounds);
+        }
+    }
+
+    /**
+     * Placement brackets for teams knocked out of the main bracket: Plate for
+     * quarter-final losers, Bowl for the round before, Shield for the round
+     * before that. Without quarter finals, semi-final losers meet in a 3rd
+     * place playoff.
+     */
+    private void planPlacementStages(List<List<Match>> mainRounds) {
+        int quarterFinal = -1;
+        for (int r = 0; r < mainRounds.size(); r++) {
+            if (mainRounds.get(r).size() == 4) {
+                quarterFinal = r;
+            }
+        }
+
+        if (quarterFinal < 0) {
+            if (mainRounds.size() >= 2) {
+                List<Match> semiFinals = mainRounds.get(mainRounds.size() - 2);
+                TournamentStage stage = addStage("3rd Place Playoff", TournamentStageType.THIRD_PLACE, false);
+                Match playoff = addMatch(stage, "3P-M1", null, null, tournament.getEndDate(), LocalTime.of(12, 0));
+                linkLosers(semiFinals, List.of(playoff));
+            }
+            return;
+        }
+
+        TournamentStageType[] brackets = { TournamentStageType.PLATE, TournamentStageType.BOWL,
+                TournamentStageType.SHIELD };
+        for (int i = 0; i < brackets.length && quarterFinal - i >= 0; i++) {
+            List<Match> feederRound = mainRounds.get(quarterFinal - i);
+            List<List<Match>> placementRounds = addKnockoutRounds(brackets[i], feederRound.size(), null,
+                    tournament.getEndDate(), LocalTime.of(12, 0)); // Schedule for end of tournament
+            linkLosers(feederRound, placementRounds.get(0));
+        }
+    }
+
+    /**
+     * Adds the rounds of a single-elimination bracket, linking each match's
+     * winner to its slot in the next round. Teams are only assigned to the
+     * first round, and only when given.
+     *
+     * @param placementType null for the main bracket, otherwise PLATE/BOWL/SHIELD
+     * @return the matches of each round, first round first
+     */
+    private List<List<Match>> addKnockoutRounds(TournamentStageType placementType, int teamCount,
+            List<Team> firstRoundTeams, LocalDate matchDate, LocalTime kickOffTime) {
+        List<List<Match>> rounds = new ArrayList<>();
+        int matchesInRound = teamCount / 2;
+
+        while (matchesInRound >= 1) {
+            String roundName = roundName(matchesInRound);
+            String roundAbbreviation = roundAbbreviation(matchesInRound);
+            String stageName = placementType == null
+                    ? roundName
+                    : placementName(placementType) + " " + roundName;
+            String codePrefix = placementType == null
+                    ? roundAbbreviation
+                    : getStageAbbreviation(placementType) + "-" + roundAbbreviation;
+            TournamentStage stage = addStage(stageName,
+                    placementType != null ? placementType : roundType(matchesInRound), false);
+
+            List<Match> round = new ArrayList<>(matchesInRound);
+            for (int i = 0; i < matchesInRound; i++) {
+                Team home = null;
+                Team away = null;
+                if (rounds.isEmpty() && firstRoundTeams != null) {
+                    home = firstRoundTeams.get(i * 2);
+                    away = firstRoundTeams.get(i * 2 + 1);
+                }
+                round.add(addMatch(stage, String.format("%s-M%d", codePrefix, i + 1), home, away, matchDate,
+                        kickOffTime));
+            }
+
+            if (!rounds.isEmpty()) {
+                linkWinners(rounds.get(rounds.size() - 1), round);
+            }
+            rounds.add(round);
+
+            if (matchesInRound == 1) {
+                break;
+            }
+            matchesInRound = (matchesInRound + 1) / 2;
+        }
+        return rounds;
+    }
+
+    // Match i feeds match i / 2 of the next round: even index at home, odd index away
+
+    private static void linkWinners(List<Match> from, List<Match> to) {
+        for (int i = 0; i < from.size(); i++) {
+            from.get(i).setWinnerNextMatch(to.get(i / 2));
+            from.get(i).setWinnerNextSlot(i % 2 == 0 ? MatchSlot.HOME : MatchSlot.AWAY);
+        }
+    }
+
+    private static void linkLosers(List<Match> from, List<Match> to) {
+        for (int i = 0; i < from.size(); i++) {
+            from.get(i).setLoserNextMatch(to.get(i / 2));
+            from.get(i).setLoserNextSlot(i % 2 == 0 ? MatchSlot.HOME : MatchSlot.AWAY);
+        }
+    }
+
+    private Match addMatch(TournamentStage stage, String matchCode, Team home, Team away, LocalDate matchDate,
+            LocalTime kickOffTime) {
+        Match match = Match.builder()
+                .tournament(tournament)
+                .stage(stage)
+                .homeTeam(home)
+                .awayTeam(away)
+                .matchDate(matchDate)
+                .kickOffTime(kickOffTime)
+                .venue(tournament.getVenue())
+                .status(MatchStatus.SCHEDULED)
+                .phase(stage.getName())
+                .matchCode(matchCode)
+                .build();
+        matches.add(match);
+        return match;
+    }
+
+    private TournamentStage addStage(String name, TournamentStageType type, boolean groupStage) {
+        TournamentStage stage = TournamentStage.builder()
+                .tournament(tournament)
+                .name(name)
+                .stageType(type)
+                .displayOrder(nextDisplayOrder++)
+                .isGroupStage(groupStage)
+                .isKnockoutStage(!groupStage)
+                .build();
+        stages.add(stage);
+        return stage;
+    }
+
+    private static List<List<Team>> partitionTeamsIntoPools(List<Team> teams, int numberOfPools) {
+        List<List<Team>> pools = new ArrayList<>();
+        for (int i = 0; i < numberOfPools; i++) {
+            pools.add(new ArrayList<>());
+        }
+        // Distribute teams evenly across pools
+        for (int i = 0; i < teams.size(); i++) {
+            pools.get(i % numberOfPools).add(teams.get(i));
+        }
+        return pools;
+    }
+
+    private static String roundName(int matchesInRound) {
+        return switch (matchesInRound) {
+            case 1 -> "Final";
+            case 2 -> "Semi Finals";
+            case 4 -> "Quarter Finals";
+            default -> "Round of " + (matchesInRound * 2);
+        };
+    }
+
+    private static String roundAbbreviation(int matchesInRound) {
+        return switch (matchesInRound) {
+            case 1 -> "F";
+            case 2 -> "SF";
+            case 4 -> "QF";
+            default -> "R" + (matchesInRound * 2);
+        };
+    }
+
+    private static TournamentStageType roundType(int matchesInRound) {
+        return switch (matchesInRound) {
+            case 1 -> TournamentStageType.FINAL;
+            case 2 -> TournamentStageType.SEMI_FINAL;
+            case 4 -> TournamentStageType.QUARTER_FINAL;
+            default -> TournamentStageType.KNOCKOUT_ROUND;
+        };
+    }
+
+    private static String placementName(TournamentStageType placementType) {
+        return switch (placementType) {
+            case PLATE -> "Plate";
+            case BOWL -> "Bowl";
+            case SHIELD -> "Shield";
+            default -> placementType.name();
+        };
+    }
+
+    private static String getStageAbbreviation(TournamentStageType stageType) {
+        return switch (stageType) {
+            case QUARTER_FINAL -> "QF";
+            case SEMI_FINAL -> "SF";
+            case FINAL -> "F";
+            case THIRD_PLACE -> "3P";
+            case PLATE -> "PL";
+            case BOWL -> "BW";
+            case SHIELD -> "SH";
+            default -> stageType.name().substring(0, 2);
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.athleticaos.backend.bracket;
+
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.enums.MatchSlot;
+import com.athleticaos.backend.enums.MatchStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Moves the winner and loser of a completed knockout match into the slots
+ * recorded on it at generation time. Touches at most two other matches.
+ */
+public final class BracketProgression {
+
+    private BracketProgression() {
+    }
+
+    /**
+     * Whether the match is completed with scores and a winner (knockouts
+     * cannot end in a draw).
+     */
+    public static boolean isDecided(Match match) {
+        return match.getStatus() == MatchStatus.COMPLETED
+                && match.getHomeScore() != null
+                && match.getAwayScore() != null
+                && !match.getHomeScore().equals(match.getAwayScore());
+    }
+
+    /**
+     * Places the winner and loser of a decided match into their linked
+     * slots. Matches that have already kicked off are left alone.
+     *
+     * @return the matches whose teams changed
+     */
+    public static List<Match> advance(Match completed) {
+        if (!isDecided(completed)) {
+            return List.of();
+        }
+
+        boolean homeWon = completed.getHomeScore() > completed.getAwayScore();
+        Team winner = homeWon ? completed.getHomeTeam() : completed.getAwayTeam();
+        Team loser = homeWon ? completed.getAwayTeam() : completed.getHomeTeam();
+
+        List<Match> changed = new ArrayList<>(2);
+        if (place(completed.getWinnerNextMatch(), completed.getWinnerNextSlot(), winner)) {
+            changed.add(completed.getWinnerNextMatch());
+        }
+        if (place(completed.getLoserNextMatch(), completed.getLoserNextSlot(), loser)) {
+            changed.add(completed.getLoserNextMatch());
+        }
+        return changed;
+    }
+
+    private static boolean place(Match target, MatchSlot slot, Team team) {
+        if (target == null || slot == null || team == null || target.getStatus() != MatchStatus.SCHEDULED) {
+            return false;
+        }
+
+        Team current = slot == MatchSlot.HOME ? target.getHomeTeam() : target.getAwayTeam();
+        if (current != null && Objects.equals(current.getId(), team.getId())) {
+            return false;
+        }
+
+        // Overwrites a previous occupant, so corrected results re-route the bracket
+        if (slot == MatchSlot.HOME) {
+            target.setHomeTeam(team);
+        } else {
+            target.setAwayTeam(team);
+        }
+        return true;
+    }
+}
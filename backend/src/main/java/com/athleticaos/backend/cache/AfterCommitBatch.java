@@ -0,0 +1,79 @@
+package com.athleticaos.backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Collects the work a transaction's writes call for and hands it over once,
+ * after the transaction commits. Listeners add to it while events are
+ * published, so a batch of N writes costs one flush rather than N. Without a
+ * transaction the item is flushed straight away; on rollback it is dropped.
+ */
+@Slf4j
+public class AfterCommitBatch<T> {
+
+    private final String name;
+    private final Consumer<Set<T>> flush;
+
+    public AfterCommitBatch(String name, Consumer<Set<T>> flush) {
+        this.name = name;
+        this.flush = flush;
+    }
+
+    private final class Pending implements TransactionSynchronization {
+        private final Set<T> items = new LinkedHashSet<>();
+        private boolean flushed;
+
+        private AfterCommitBatch<T> batch() {
+            return AfterCommitBatch.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            flushed = true;
+            run(items);
+        }
+    }
+
+    public void add(T item) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(Set.of(item));
+            return;
+        }
+        Pending pending = current();
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        } else if (pending.flushed) {
+            // Added by another after-commit callback; the write is already visible
+            run(Set.of(item));
+            return;
+        }
+        pending.items.add(item);
+    }
+
+    // Synchronizations are scoped to the current transaction, so a suspended one is never matched
+    @SuppressWarnings("unchecked")
+    private Pending current() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof AfterCommitBatch<?>.Pending pending && pending.batch() == this) {
+                return (Pending) pending;
+            }
+        }
+        return null;
+    }
+
+    private void run(Set<T> items) {
+        try {
+            flush.accept(items);
+        } catch (RuntimeException e) {
+            // The writes are committed; the derived state stays stale until its next refresh
+            log.error("After-commit {} failed for {} items", name, items.size(), e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.athleticaos.backend.cache;
+
+import com.athleticaos.backend.dtos.roster.LineupHintsDTO;
+import com.athleticaos.backend.events.PlayerSuspendedEvent;
+import com.athleticaos.backend.events.PlayerSuspensionChangedEvent;
+import com.athleticaos.backend.events.TournamentRosterChangedEvent;
+import com.athleticaos.backend.events.TournamentStructureChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived per-match cache of lineup hints. Entries expire after a few
+ * seconds and are dropped as soon as a roster, suspension or bracket write
+ * commits for the match's tournament. Cached hints must be treated as
+ * read-only.
+ */
+@Component
+@Slf4j
+public class LineupHintsCache {
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    @Value("${application.roster.lineup-hints-ttl:30000}")
+    private long ttlMillis;
+
+    @Value("${application.roster.lineup-hints-max-entries:2000}")
+    private int maxEntries;
+
+    /**
+     * Hints built on a miss, tagged with the match's tournament so the entry
+     * can be invalidated by tournament-level writes.
+     */
+    public record Loaded(UUID tournamentId, LineupHintsDTO hints) {
+    }
+
+    private record Entry(UUID tournamentId, long expiresAt, LineupHintsDTO hints) {
+    }
+
+    public LineupHintsDTO get(UUID matchId, Supplier<Loaded> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(matchId);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.hints();
+        }
+
+        long before = writeSequence.get();
+        Loaded loaded = loader.get();
+        // An invalidating write that committed while loading makes this build stale
+        if (writeSequence.get() != before) {
+            return loaded.hints();
+        }
+
+        if (entries.size() >= maxEntries) {
+            log.debug("Lineup hints cache full ({} entries), clearing", entries.size());
+            entries.clear();
+        }
+        entries.put(matchId, new Entry(loaded.tournamentId(), now + ttlMillis, loaded.hints()));
+        return loaded.hints();
+    }
+
+    public void invalidateTournament(UUID tournamentId) {
+        writeSequence.incrementAndGet();
+        entries.values().removeIf(entry -> entry.tournamentId().equals(tournamentId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterChanged(TournamentRosterChangedEvent event) {
+        invalidateTournament(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSuspended(PlayerSuspendedEvent event) {
+        invalidateTournament(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSuspensionChanged(PlayerSuspensionChangedEvent event) {
+        invalidateTournament(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureChanged(TournamentStructureChangedEvent event) {
+        // Progression and match edits can change which teams a match involves
+        invalidateTournament(event.tournamentId());
+    }
+}
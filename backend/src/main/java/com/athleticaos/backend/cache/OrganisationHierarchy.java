@@ -0,0 +1,61 @@
+package com.athleticaos.backend.cache;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable parent/child view of every organisation. Subtrees are resolved
+ * in memory and memoised, so repeat lookups for the same root are a single
+ * map read.
+ */
+public final class OrganisationHierarchy {
+
+    private final Map<UUID, List<UUID>> children;
+    private final Map<UUID, Set<UUID>> subtrees = new ConcurrentHashMap<>();
+
+    private OrganisationHierarchy(Map<UUID, List<UUID>> children) {
+        this.children = children;
+    }
+
+    public static OrganisationHierarchy build(List<OrganisationParentRow> rows) {
+        Map<UUID, List<UUID>> children = new HashMap<>();
+        for (OrganisationParentRow row : rows) {
+            if (row.parentId() != null) {
+                children.computeIfAbsent(row.parentId(), k -> new ArrayList<>()).add(row.id());
+            }
+        }
+        return new OrganisationHierarchy(children);
+    }
+
+    /**
+     * The organisation itself plus all of its descendants, as an unmodifiable set.
+     */
+    public Set<UUID> subtree(UUID rootId) {
+        return subtrees.computeIfAbsent(rootId, this::collect);
+    }
+
+    private Set<UUID> collect(UUID rootId) {
+        Set<UUID> ids = new HashSet<>();
+        Deque<UUID> queue = new ArrayDeque<>();
+        ids.add(rootId);
+        queue.add(rootId);
+
+        while (!queue.isEmpty()) {
+            for (UUID child : children.getOrDefault(queue.poll(), List.of())) {
+                if (ids.add(child)) {
+                    queue.add(child);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(ids);
+    }
+}
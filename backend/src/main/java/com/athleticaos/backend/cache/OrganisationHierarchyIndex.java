@@ -0,0 +1,66 @@
+package com.athleticaos.backend.cache;
+
+import com.athleticaos.backend.events.OrganisationHierarchyChangedEvent;
+import com.athleticaos.backend.repositories.OrganisationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the organisation hierarchy in memory for access-scope resolution.
+ * It is loaded with one query on first use and dropped whenever an
+ * organisation change commits.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrganisationHierarchyIndex {
+
+    private final OrganisationRepository organisationRepository;
+
+    private final AtomicReference<OrganisationHierarchy> current = new AtomicReference<>();
+    private final AtomicLong writeCounter = new AtomicLong();
+
+    /**
+     * The organisation plus every descendant.
+     */
+    public Set<UUID> getSubtree(UUID organisationId) {
+        return getHierarchy().subtree(organisationId);
+    }
+
+    public OrganisationHierarchy getHierarchy() {
+        OrganisationHierarchy hierarchy = current.get();
+        if (hierarchy != null) {
+            return hierarchy;
+        }
+
+        long before = writeCounter.get();
+        List<OrganisationParentRow> rows = organisationRepository.findAllParentRows();
+        log.debug("Building organisation hierarchy index from {} organisations", rows.size());
+        OrganisationHierarchy built = OrganisationHierarchy.build(rows);
+
+        // A change landed while we were loading; serve this build but don't keep it
+        if (writeCounter.get() == before && current.compareAndSet(null, built)) {
+            return built;
+        }
+        OrganisationHierarchy existing = current.get();
+        return existing != null ? existing : built;
+    }
+
+    public void invalidate() {
+        writeCounter.incrementAndGet();
+        current.set(null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHierarchyChanged(OrganisationHierarchyChangedEvent event) {
+        invalidate();
+    }
+}
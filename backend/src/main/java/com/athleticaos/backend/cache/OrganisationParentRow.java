@@ -0,0 +1,9 @@
+package com.athleticaos.backend.cache;
+
+import java.util.UUID;
+
+/**
+ * An organisation and its parent, as loaded for the hierarchy index.
+ */
+public record OrganisationParentRow(UUID id, UUID parentId) {
+}
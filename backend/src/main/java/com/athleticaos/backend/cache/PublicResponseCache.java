@@ -0,0 +1,154 @@
+package com.athleticaos.backend.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Serialized public API responses keyed by request, each tagged with the
+ * version of the tournament it was built from. A hit whose version is still
+ * current is served straight from bytes; conditional requests whose ETag
+ * matches get a 304 without touching the database or Jackson.
+ */
+@Component
+@Slf4j
+public class PublicResponseCache {
+
+    private final TournamentVersionRegistry versionRegistry;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${application.public-cache.max-entries:10000}")
+    private int maxEntries;
+
+    public PublicResponseCache(TournamentVersionRegistry versionRegistry, ObjectMapper objectMapper) {
+        this.versionRegistry = versionRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * A view built on a cache miss. A null body means the resource is not
+     * publicly visible and yields a 404 (which is not cached).
+     */
+    public record View(UUID tournamentId, Object body) {
+        public static View notFound() {
+            return new View(null, null);
+        }
+    }
+
+    private record Entry(UUID tournamentId, long version, String etag, byte[] body) {
+    }
+
+    /**
+     * @param key          cache key identifying the representation
+     * @param tournamentId owning tournament if known up front, otherwise null
+     * @param ifNoneMatch  the request's If-None-Match header, may be null
+     * @param loader       builds the view on a miss
+     */
+    public ResponseEntity<byte[]> respond(String key, UUID tournamentId, String ifNoneMatch, Supplier<View> loader) {
+        Entry entry = entries.get(key);
+        UUID owner = tournamentId != null ? tournamentId : (entry != null ? entry.tournamentId() : null);
+
+        long current = 0;
+        if (owner != null) {
+            current = versionRegistry.currentVersion(owner);
+            if (entry != null && entry.version() == current) {
+                return toResponse(entry, ifNoneMatch);
+            }
+            String currentEtag = etag(key, current);
+            if (etagMatches(ifNoneMatch, currentEtag)) {
+                return notModified(currentEtag);
+            }
+        }
+
+        long sequence = versionRegistry.writeSequence();
+        View view = loader.get();
+        if (view.body() == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(view.body());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise public response", e);
+        }
+
+        boolean unchanged = versionRegistry.writeSequence() == sequence;
+        Long version = null;
+        if (owner != null && owner.equals(view.tournamentId())) {
+            // Read before loading: a write that lands meanwhile moves the version past this tag
+            version = current;
+        } else if (unchanged) {
+            version = versionRegistry.currentVersion(view.tournamentId());
+        }
+        if (version == null) {
+            // The version after the load may be newer than the body, so send no ETag
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        }
+        Entry fresh = new Entry(view.tournamentId(), version, etag(key, version), body);
+
+        // Only keep it if no write landed while it was being built
+        if (unchanged) {
+            if (entries.size() >= maxEntries) {
+                log.debug("Public response cache full ({} entries), clearing", entries.size());
+                entries.clear();
+            }
+            entries.put(key, fresh);
+        }
+        return toResponse(fresh, ifNoneMatch);
+    }
+
+    private ResponseEntity<byte[]> toResponse(Entry entry, String ifNoneMatch) {
+        if (etagMatches(ifNoneMatch, entry.etag())) {
+            return notModified(entry.etag());
+        }
+        return ResponseEntity.ok()
+                .eTag(entry.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.body());
+    }
+
+    private ResponseEntity<byte[]> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
+    private String etag(String key, long version) {
+        return "\"" + Long.toHexString(versionRegistry.getEpoch()) + "-" + version + "-"
+                + Integer.toHexString(key.hashCode()) + "\"";
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,38 @@
+package com.athleticaos.backend.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Per-tournament PostgreSQL advisory locks for set-based rewrites of derived
+ * tables. Two delete-then-insert rewrites of the same rows would otherwise
+ * both insert and trip the table's unique key; delta writers can take the
+ * shared form to keep out of a rewrite without blocking one another.
+ */
+@Component
+@RequiredArgsConstructor
+public class TournamentLocks {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Waits for the lock on this scope and tournament; it is held until the
+     * current transaction commits or rolls back. Must run inside a transaction.
+     */
+    public void lock(String scope, UUID tournamentId) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)",
+                (ResultSetExtractor<Void>) rs -> null, scope.hashCode(), tournamentId.hashCode());
+    }
+
+    /**
+     * Shared form of {@link #lock}: holders only exclude exclusive holders.
+     */
+    public void lockShared(String scope, UUID tournamentId) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock_shared(?, ?)",
+                (ResultSetExtractor<Void>) rs -> null, scope.hashCode(), tournamentId.hashCode());
+    }
+}
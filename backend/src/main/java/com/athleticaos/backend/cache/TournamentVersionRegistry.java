@@ -0,0 +1,92 @@
+package com.athleticaos.backend.cache;
+
+import com.athleticaos.backend.events.MatchEventRecordedEvent;
+import com.athleticaos.backend.events.MatchEventRemovedEvent;
+import com.athleticaos.backend.events.MatchResultChangedEvent;
+import com.athleticaos.backend.events.MatchScheduleChangedEvent;
+import com.athleticaos.backend.events.TournamentDetailsChangedEvent;
+import com.athleticaos.backend.events.TournamentRosterChangedEvent;
+import com.athleticaos.backend.events.TournamentStructureChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic per-tournament version counters, bumped after any committed write
+ * to a tournament's matches, events, roster or details. Cached views keyed by
+ * a version are valid for exactly as long as the version is unchanged.
+ */
+@Component
+public class TournamentVersionRegistry {
+
+    // Distinguishes versions issued by this process from those of a previous run
+    private final long epoch = System.currentTimeMillis();
+
+    private final Map<UUID, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long currentVersion(UUID tournamentId) {
+        AtomicLong version = versions.get(tournamentId);
+        return version != null ? version.get() : 0L;
+    }
+
+    /**
+     * Sequence number incremented on every bump across all tournaments. Capture
+     * it before loading a view whose tournament is not yet known; if it moved by
+     * the time the view is built, the view must not be cached.
+     */
+    public long writeSequence() {
+        return writeSequence.get();
+    }
+
+    public void bump(UUID tournamentId) {
+        if (tournamentId == null) {
+            return;
+        }
+        writeSequence.incrementAndGet();
+        versions.computeIfAbsent(tournamentId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventRecorded(MatchEventRecordedEvent event) {
+        bump(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventRemoved(MatchEventRemovedEvent event) {
+        bump(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultChanged(MatchResultChangedEvent event) {
+        bump(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(MatchScheduleChangedEvent event) {
+        bump(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureChanged(TournamentStructureChangedEvent event) {
+        bump(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDetailsChanged(TournamentDetailsChangedEvent event) {
+        bump(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterChanged(TournamentRosterChangedEvent event) {
+        bump(event.tournamentId());
+    }
+}
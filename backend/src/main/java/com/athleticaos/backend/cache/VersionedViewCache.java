@@ -0,0 +1,45 @@
+package com.athleticaos.backend.cache;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-tournament cache of an assembled view, valid while the tournament's
+ * version in {@link TournamentVersionRegistry} is unchanged.
+ *
+ * @param <T> the cached view type; callers must treat it as read-only
+ */
+public class VersionedViewCache<T> {
+
+    private final TournamentVersionRegistry versionRegistry;
+    private final int maxEntries;
+    private final Map<UUID, Entry<T>> entries = new ConcurrentHashMap<>();
+
+    private record Entry<T>(long version, T view) {
+    }
+
+    public VersionedViewCache(TournamentVersionRegistry versionRegistry, int maxEntries) {
+        this.versionRegistry = versionRegistry;
+        this.maxEntries = maxEntries;
+    }
+
+    public T get(UUID tournamentId, Supplier<T> loader) {
+        long version = versionRegistry.currentVersion(tournamentId);
+        Entry<T> entry = entries.get(tournamentId);
+        if (entry != null && entry.version() == version) {
+            return entry.view();
+        }
+
+        T view = loader.get();
+        // A write that committed while loading makes this build stale
+        if (versionRegistry.currentVersion(tournamentId) == version) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(tournamentId, new Entry<>(version, view));
+        }
+        return view;
+    }
+}
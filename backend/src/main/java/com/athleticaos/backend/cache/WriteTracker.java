@@ -0,0 +1,133 @@
+package com.athleticaos.backend.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+
+/**
+ * Guards a lazily loaded in-memory view that after-commit listeners then
+ * patch with deltas. A load may see a write once it commits, but the write's
+ * listener only runs afterwards; keeping such a load would apply the write
+ * twice. Writes are therefore tracked from publication until their
+ * transaction completes, and a load is only kept when no write to its key
+ * was in flight or completed while it ran.
+ * <p>
+ * A key's state is dropped once no write to it is in flight and the owner
+ * holds no view for it. Its last write then moves to a watermark shared by a
+ * stripe of keys, so a load that started before it is still refused; at worst
+ * a load of another key in the stripe is served without being kept.
+ */
+public class WriteTracker<K> {
+
+    private static final int STRIPES = 64;
+
+    private final Map<K, State> states = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLongArray pruned = new AtomicLongArray(STRIPES);
+    private final Predicate<K> viewed;
+
+    // Mutated only inside states.compute, so checks and removal are atomic per key
+    private static final class State {
+        private volatile long lastWritten;
+        private volatile int inFlight;
+    }
+
+    public WriteTracker() {
+        this(key -> false);
+    }
+
+    /**
+     * @param viewed whether the owner currently holds a view for the key
+     */
+    public WriteTracker(Predicate<K> viewed) {
+        this.viewed = viewed;
+    }
+
+    /**
+     * Marks a write as in flight until the current transaction completes.
+     * Call from a plain event listener, which runs while the event is published.
+     * Without a transaction the write has already committed and only
+     * {@link #written} applies.
+     */
+    public void begin(K key) {
+        if (key == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        states.compute(key, (k, state) -> {
+            State current = state != null ? state : new State();
+            current.inFlight++;
+            return current;
+        });
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // After-commit listeners have run by now, so a commit already shows in the clock
+                states.computeIfPresent(key, (k, state) -> {
+                    state.inFlight--;
+                    return prune(k, state);
+                });
+            }
+        });
+    }
+
+    /**
+     * Records a committed write or an invalidation.
+     */
+    public void written(K key) {
+        if (key == null) {
+            return;
+        }
+        states.compute(key, (k, state) -> {
+            State current = state != null ? state : new State();
+            current.lastWritten = clock.incrementAndGet();
+            return prune(k, current);
+        });
+    }
+
+    /**
+     * Drops the key's state if nothing depends on it any more; call after
+     * removing the view.
+     */
+    public void release(K key) {
+        if (key != null) {
+            states.computeIfPresent(key, this::prune);
+        }
+    }
+
+    /**
+     * Taken before loading; pass to {@link #unchangedSince} once the load is published.
+     */
+    public long stamp(K key) {
+        return clock.get();
+    }
+
+    public boolean unchangedSince(K key, long stamp) {
+        if (pruned.get(stripe(key)) > stamp) {
+            return false;
+        }
+        State state = states.get(key);
+        return state == null || (state.inFlight == 0 && state.lastWritten <= stamp);
+    }
+
+    int trackedKeys() {
+        return states.size();
+    }
+
+    private State prune(K key, State state) {
+        if (state.inFlight > 0 || viewed.test(key)) {
+            return state;
+        }
+        long lastWritten = state.lastWritten;
+        pruned.accumulateAndGet(stripe(key), lastWritten, Math::max);
+        return null;
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), STRIPES);
+    }
+}
@@ -1,5 +1,6 @@
 package com.athleticaos.backend.config;
 
+import com.athleticaos.backend.cache.OrganisationHierarchyIndex;
 import com.athleticaos.backend.entities.Organisation;
 import com.athleticaos.backend.enums.OrganisationLevel;
 import com.athleticaos.backend.repositories.OrganisationRepository;
@@ -17,6 +18,7 @@ import java.util.List;
 public class OrganisationSeedConfig {
 
     private final OrganisationRepository organisationRepository;
+    private final OrganisationHierarchyIndex organisationHierarchyIndex;
 
     @Bean
     public CommandLineRunner seedOrganisations() {
@@ -100,6 +102,7 @@ public class OrganisationSeedConfig {
                         .build();
                 organisationRepository.save(school);
             }
+            organisationHierarchyIndex.invalidate();
         };
     }
 }
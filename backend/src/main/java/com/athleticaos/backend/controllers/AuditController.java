@@ -1,16 +1,19 @@
 package com.athleticaos.backend.controllers;
 
 import com.athleticaos.backend.dtos.audit.AuditLogResponse;
+import com.athleticaos.backend.dtos.audit.AuditLogScrollResponse;
 import com.athleticaos.backend.services.AuditLogService;
 import com.athleticaos.backend.services.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.Set;
 import java.util.UUID;
 
@@ -54,11 +57,7 @@ public class AuditController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
-        // Validate access to organisation
-        Set<UUID> accessibleOrgIds = userService.getAccessibleOrgIdsForCurrentUser();
-
-        // If accessibleOrgIds is null, user is SUPER_ADMIN and can access all
-        if (accessibleOrgIds != null && !accessibleOrgIds.contains(orgId)) {
+        if (!canViewOrg(orgId)) {
             return ResponseEntity.status(403).build();
         }
 
@@ -78,23 +77,8 @@ public class AuditController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
-        var currentUser = userService.getCurrentUser();
-
-        // Users can always view their own logs
-        if (!currentUser.getId().equals(userId)) {
-            // For viewing other users' logs, check if they're in the same organisation
-            // hierarchy
-            Set<UUID> accessibleOrgIds = userService.getAccessibleOrgIdsForCurrentUser();
-
-            var targetUser = userService.getUserById(userId);
-            UUID targetOrgId = targetUser.getOrganisationId();
-
-            // If accessibleOrgIds is null (SUPER_ADMIN), allow access
-            // Otherwise, check if target user's org is in accessible orgs
-            if (accessibleOrgIds != null &&
-                    (targetOrgId == null || !accessibleOrgIds.contains(targetOrgId))) {
-                return ResponseEntity.status(403).build();
-            }
+        if (!canViewUser(userId)) {
+            return ResponseEntity.status(403).build();
         }
 
         Pageable pageable = createPageable(page, size);
@@ -135,12 +119,109 @@ public class AuditController {
         return ResponseEntity.ok(filteredLogs);
     }
 
+    /**
+     * Scroll audit logs globally with a keyset cursor (SUPER_ADMIN only).
+     * Cost per page is independent of how far back the cursor is.
+     */
+    @GetMapping("/scroll/global")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<AuditLogScrollResponse> scrollGlobal(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        return ResponseEntity.ok(auditLogService.scrollGlobal(from, to, cursor, validateSize(size)));
+    }
+
+    /**
+     * Scroll audit logs for an organisation with a keyset cursor.
+     */
+    @GetMapping("/scroll/org/{orgId}")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORG_ADMIN', 'CLUB_ADMIN')")
+    public ResponseEntity<AuditLogScrollResponse> scrollForOrg(
+            @PathVariable UUID orgId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        if (!canViewOrg(orgId)) {
+            return ResponseEntity.status(403).build();
+        }
+        return ResponseEntity.ok(auditLogService.scrollForOrg(orgId, from, to, cursor, validateSize(size)));
+    }
+
+    /**
+     * Scroll audit logs for a user with a keyset cursor.
+     */
+    @GetMapping("/scroll/user/{userId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<AuditLogScrollResponse> scrollForUser(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        if (!canViewUser(userId)) {
+            return ResponseEntity.status(403).build();
+        }
+        return ResponseEntity.ok(auditLogService.scrollForUser(userId, from, to, cursor, validateSize(size)));
+    }
+
+    /**
+     * Scroll audit logs for an entity with a keyset cursor.
+     */
+    @GetMapping("/scroll/entity")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<AuditLogScrollResponse> scrollForEntity(
+            @RequestParam String entityType,
+            @RequestParam UUID entityId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        return ResponseEntity.ok(
+                auditLogService.scrollForEntity(entityType, entityId, from, to, cursor, validateSize(size)));
+    }
+
+    /**
+     * Whether the current user may see an organisation's logs.
+     * A null accessible set means SUPER_ADMIN, who can access all.
+     */
+    private boolean canViewOrg(UUID orgId) {
+        Set<UUID> accessibleOrgIds = userService.getAccessibleOrgIdsForCurrentUser();
+        return accessibleOrgIds == null || accessibleOrgIds.contains(orgId);
+    }
+
+    /**
+     * Users can always view their own logs; other users' logs only when they
+     * are in the current user's organisation hierarchy.
+     */
+    private boolean canViewUser(UUID userId) {
+        var currentUser = userService.getCurrentUser();
+        if (currentUser.getId().equals(userId)) {
+            return true;
+        }
+
+        Set<UUID> accessibleOrgIds = userService.getAccessibleOrgIdsForCurrentUser();
+        if (accessibleOrgIds == null) {
+            return true;
+        }
+        UUID targetOrgId = userService.getUserById(userId).getOrganisationId();
+        return targetOrgId != null && accessibleOrgIds.contains(targetOrgId);
+    }
+
+    private int validateSize(int size) {
+        return Math.max(Math.min(size, MAX_PAGE_SIZE), 1);
+    }
+
     /**
      * Creates a Pageable with size constraints.
      */
     private Pageable createPageable(int page, int size) {
-        int validatedSize = Math.min(size, MAX_PAGE_SIZE);
-        validatedSize = Math.max(validatedSize, 1);
-        return PageRequest.of(page, validatedSize);
+        return PageRequest.of(page, validateSize(size));
     }
 }
@@ -1,5 +1,6 @@
 package com.athleticaos.backend.controllers;
 
+import com.athleticaos.backend.dtos.match.BulkMatchResultRequest;
 import com.athleticaos.backend.dtos.match.MatchCreateRequest;
 import com.athleticaos.backend.dtos.match.MatchResponse;
 import com.athleticaos.backend.dtos.match.MatchUpdateRequest;
@@ -67,6 +68,14 @@ public class MatchController {
         return ResponseEntity.ok(matchService.updateMatch(id, request, httpRequest));
     }
 
+    @PutMapping("/results")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('CLUB_ADMIN')")
+    @Operation(summary = "Enter final scores for several matches at once")
+    public ResponseEntity<List<MatchResponse>> updateMatchResults(@RequestBody @Valid BulkMatchResultRequest request,
+            HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(matchService.updateMatchResults(request, httpRequest));
+    }
+
     @PutMapping("/{id}/status")
     @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('CLUB_ADMIN')")
     @Operation(summary = "Update match status")
@@ -1,5 +1,7 @@
 package com.athleticaos.backend.controllers;
 
+import com.athleticaos.backend.dtos.match.MatchEventBatchRequest;
+import com.athleticaos.backend.dtos.match.MatchEventBatchResponse;
 import com.athleticaos.backend.dtos.match.MatchEventCreateRequest;
 import com.athleticaos.backend.dtos.match.MatchEventResponse;
 import com.athleticaos.backend.services.MatchEventService;
@@ -41,6 +43,19 @@ public class MatchEventController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/{matchId}/events/batch")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('CLUB_ADMIN')")
+    @Operation(summary = "Add buffered events to a match, skipping replayed client event ids")
+    public ResponseEntity<MatchEventBatchResponse> addEventsToMatch(@PathVariable UUID matchId,
+            @RequestBody @Valid MatchEventBatchRequest request, HttpServletRequest httpRequest) {
+        MatchEventBatchResponse response = matchEventService.addEventsToMatch(matchId, request, httpRequest);
+        // Once for the whole batch
+        if (response.getInserted() > 0) {
+            matchService.recalculateMatchScores(matchId);
+        }
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/events/{eventId}")
     @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('CLUB_ADMIN')")
     @Operation(summary = "Delete a match event")
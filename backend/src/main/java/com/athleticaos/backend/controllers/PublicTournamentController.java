@@ -1,14 +1,23 @@
 package com.athleticaos.backend.controllers;
 
+import com.athleticaos.backend.cache.PublicResponseCache;
 import com.athleticaos.backend.dtos.match.MatchResponse;
 import com.athleticaos.backend.dtos.public_api.*;
 import com.athleticaos.backend.dtos.tournament.TournamentResponse;
+import com.athleticaos.backend.live.LiveScoreBroadcaster;
+import com.athleticaos.backend.services.BracketService;
 import com.athleticaos.backend.services.MatchService;
 import com.athleticaos.backend.services.TournamentService;
+import com.athleticaos.backend.standings.PoolStandingRow;
+import com.athleticaos.backend.standings.PoolTable;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -20,9 +29,12 @@ public class PublicTournamentController {
 
     private final TournamentService tournamentService;
     private final MatchService matchService;
+    private final BracketService bracketService;
     private final com.athleticaos.backend.repositories.TournamentTeamRepository tournamentTeamRepository;
     private final com.athleticaos.backend.repositories.MatchEventRepository matchEventRepository;
     private final com.athleticaos.backend.repositories.OrganisationRepository organisationRepository;
+    private final LiveScoreBroadcaster liveScoreBroadcaster;
+    private final PublicResponseCache publicResponseCache;
 
     @GetMapping("/tournaments")
     public ResponseEntity<List<PublicTournamentSummaryResponse>> getPublicTournaments(
@@ -41,49 +53,98 @@ public class PublicTournamentController {
     }
 
     @GetMapping("/tournaments/{id}")
-    public ResponseEntity<PublicTournamentDetailResponse> getTournamentDetail(@PathVariable UUID id) {
-        TournamentResponse tournament = tournamentService.getTournamentById(id);
+    public ResponseEntity<byte[]> getTournamentDetail(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return publicResponseCache.respond("tournament:" + id, id, ifNoneMatch, () -> {
+            TournamentResponse tournament = tournamentService.getTournamentById(id);
 
-        if (!tournament.isPublished()) {
-            return ResponseEntity.notFound().build();
-        }
+            if (!tournament.isPublished()) {
+                return PublicResponseCache.View.notFound();
+            }
 
-        PublicTournamentDetailResponse response = mapToPublicDetail(tournament);
-        return ResponseEntity.ok(response);
+            return new PublicResponseCache.View(id, mapToPublicDetail(tournament));
+        });
     }
 
     @GetMapping("/tournaments/{id}/matches")
-    public ResponseEntity<List<PublicMatchSummaryResponse>> getTournamentMatches(
+    public ResponseEntity<byte[]> getTournamentMatches(
             @PathVariable UUID id,
-            @RequestParam(required = false) String stage) {
+            @RequestParam(required = false) String stage,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return publicResponseCache.respond("matches:" + id + ":" + stage, id, ifNoneMatch, () -> {
+            // Verify tournament is published
+            TournamentResponse tournament = tournamentService.getTournamentById(id);
+            if (!tournament.isPublished()) {
+                return PublicResponseCache.View.notFound();
+            }
+
+            List<MatchResponse> matches = matchService.getMatchesByTournament(id);
+
+            List<PublicMatchSummaryResponse> response = matches.stream()
+                    .map(this::mapToPublicMatchSummary)
+                    .collect(Collectors.toList());
 
-        // Verify tournament is published
+            return new PublicResponseCache.View(id, response);
+        });
+    }
+
+    @GetMapping("/tournaments/{id}/standings")
+    public ResponseEntity<byte[]> getTournamentStandings(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return publicResponseCache.respond("standings:" + id, id, ifNoneMatch, () -> {
+            TournamentResponse tournament = tournamentService.getTournamentById(id);
+            if (!tournament.isPublished()) {
+                return PublicResponseCache.View.notFound();
+            }
+
+            List<PublicPoolTableResponse> response = bracketService.getPoolStandings(id).stream()
+                    .map(this::mapToPublicPoolTable)
+                    .collect(Collectors.toList());
+
+            return new PublicResponseCache.View(id, response);
+        });
+    }
+
+    @GetMapping("/matches/{matchId}")
+    public ResponseEntity<byte[]> getMatchDetail(
+            @PathVariable UUID matchId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Owning tournament is learned on first load and remembered by the cache
+        return publicResponseCache.respond("match:" + matchId, null, ifNoneMatch, () -> {
+            MatchResponse match = matchService.getMatchById(matchId);
+
+            // Verify tournament is published
+            TournamentResponse tournament = tournamentService.getTournamentById(match.getTournamentId());
+            if (!tournament.isPublished()) {
+                return PublicResponseCache.View.notFound();
+            }
+
+            return new PublicResponseCache.View(match.getTournamentId(), mapToPublicMatchDetail(match));
+        });
+    }
+
+    @GetMapping(value = "/tournaments/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamTournament(@PathVariable UUID id) {
         TournamentResponse tournament = tournamentService.getTournamentById(id);
         if (!tournament.isPublished()) {
             return ResponseEntity.notFound().build();
         }
 
-        List<MatchResponse> matches = matchService.getMatchesByTournament(id);
-
-        List<PublicMatchSummaryResponse> response = matches.stream()
-                .map(this::mapToPublicMatchSummary)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(liveScoreBroadcaster.subscribeToTournament(id));
     }
 
-    @GetMapping("/matches/{matchId}")
-    public ResponseEntity<PublicMatchDetailResponse> getMatchDetail(@PathVariable UUID matchId) {
+    @GetMapping(value = "/matches/{matchId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMatch(@PathVariable UUID matchId) {
         MatchResponse match = matchService.getMatchById(matchId);
 
-        // Verify tournament is published
         TournamentResponse tournament = tournamentService.getTournamentById(match.getTournamentId());
         if (!tournament.isPublished()) {
             return ResponseEntity.notFound().build();
         }
 
-        PublicMatchDetailResponse response = mapToPublicMatchDetail(match);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(liveScoreBroadcaster.subscribeToMatch(matchId));
     }
 
     // Mappers
@@ -159,6 +220,32 @@ public class PublicTournamentController {
                 .build();
     }
 
+    private PublicPoolTableResponse mapToPublicPoolTable(PoolTable table) {
+        List<PublicPoolStandingResponse> standings = new ArrayList<>(table.standings().size());
+        for (PoolStandingRow row : table.standings()) {
+            standings.add(PublicPoolStandingResponse.builder()
+                    .position(standings.size() + 1)
+                    .teamId(row.teamId())
+                    .teamName(row.teamName())
+                    .played(row.played())
+                    .wins(row.wins())
+                    .draws(row.draws())
+                    .losses(row.losses())
+                    .pointsFor(row.pointsFor())
+                    .pointsAgainst(row.pointsAgainst())
+                    .pointsDifference(row.pointsDifference())
+                    .bonusPoints(row.bonusPoints())
+                    .points(row.tablePoints())
+                    .build());
+        }
+
+        return PublicPoolTableResponse.builder()
+                .stageId(table.stageId())
+                .poolName(table.poolName())
+                .standings(standings)
+                .build();
+    }
+
     private PublicMatchDetailResponse mapToPublicMatchDetail(MatchResponse m) {
         // Fetch match events
         List<com.athleticaos.backend.entities.MatchEvent> matchEvents = matchEventRepository.findByMatchId(m.getId());
@@ -177,7 +264,7 @@ public class PublicTournamentController {
                             .teamName(event.getTeam().getName())
                             .playerName(playerName)
                             .eventType(event.getEventType().name())
-                            .points(getPointsForEventType(event.getEventType()))
+                            .points(event.getEventType().getPoints())
                             .build();
                 })
                 .collect(Collectors.toList());
@@ -244,21 +331,4 @@ public class PublicTournamentController {
                 .redCards(redCards)
                 .build();
     }
-
-    private int getPointsForEventType(com.athleticaos.backend.enums.MatchEventType eventType) {
-        if (eventType == null)
-            return 0;
-        switch (eventType) {
-            case TRY:
-                return 5;
-            case CONVERSION:
-                return 2;
-            case PENALTY:
-                return 3;
-            case DROP_GOAL:
-                return 3;
-            default:
-                return 0;
-        }
-    }
 }
@@ -1,13 +1,20 @@
 package com.athleticaos.backend.controllers;
 
+import com.athleticaos.backend.dtos.season.SeasonExportStatusResponse;
 import com.athleticaos.backend.dtos.season.SeasonOverviewResponse;
 import com.athleticaos.backend.entities.Season;
 import com.athleticaos.backend.services.SeasonService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.UUID;
 
@@ -59,4 +66,29 @@ public class SeasonController {
     public ResponseEntity<Season> updateStatus(@PathVariable UUID id, @RequestParam String status) {
         return ResponseEntity.ok(seasonService.updateStatus(id, status));
     }
+
+    /**
+     * Exports span every organisation's rosters, so they are limited to SUPER_ADMIN.
+     */
+    @PostMapping("/{id}/export")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<SeasonExportStatusResponse> startExport(@PathVariable UUID id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(seasonService.startExport(id));
+    }
+
+    @GetMapping("/exports/{jobId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<SeasonExportStatusResponse> getExportStatus(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(seasonService.getExportStatus(jobId));
+    }
+
+    @GetMapping("/exports/{jobId}/file")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<Resource> downloadExport(@PathVariable UUID jobId) {
+        Path file = seasonService.getExportFile(jobId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + file.getFileName())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(new FileSystemResource(file));
+    }
 }
@@ -2,12 +2,15 @@ package com.athleticaos.backend.controllers;
 
 import com.athleticaos.backend.dtos.tournament.BracketGenerationRequest;
 import com.athleticaos.backend.dtos.tournament.BracketViewResponse;
+import com.athleticaos.backend.dtos.tournament.ScheduleGenerationRequest;
+import com.athleticaos.backend.dtos.tournament.ScheduleResponse;
 import com.athleticaos.backend.dtos.tournament.TournamentCreateRequest;
 import com.athleticaos.backend.dtos.tournament.TournamentDashboardResponse;
 import com.athleticaos.backend.dtos.tournament.TournamentResponse;
 import com.athleticaos.backend.dtos.tournament.TournamentUpdateRequest;
 import com.athleticaos.backend.services.BracketService;
 import com.athleticaos.backend.services.ProgressionService;
+import com.athleticaos.backend.services.SchedulingService;
 import com.athleticaos.backend.services.TournamentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,10 +22,13 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/tournaments")
@@ -32,6 +38,7 @@ public class TournamentController {
     private final TournamentService tournamentService;
     private final BracketService bracketService;
     private final ProgressionService progressionService;
+    private final SchedulingService schedulingService;
 
     @PreAuthorize("isAuthenticated()")
     @GetMapping
@@ -86,22 +93,42 @@ public class TournamentController {
 
     @GetMapping("/{id}/export/matches")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<byte[]> exportMatches(@PathVariable UUID id) {
-        byte[] csvData = tournamentService.exportMatches(id);
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=matches.csv")
-                .contentType(MediaType.TEXT_PLAIN)
-                .body(csvData);
+    public ResponseEntity<StreamingResponseBody> exportMatches(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return csvExport(id, "matches", gzip, out -> tournamentService.exportMatches(id, out));
     }
 
     @GetMapping("/{id}/export/results")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<byte[]> exportResults(@PathVariable UUID id) {
-        byte[] csvData = tournamentService.exportResults(id);
+    public ResponseEntity<StreamingResponseBody> exportResults(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return csvExport(id, "results", gzip, out -> tournamentService.exportResults(id, out));
+    }
+
+    /**
+     * Streams a CSV export, optionally gzipped. The tournament is looked up
+     * first so a missing one is a 404 rather than a broken download.
+     */
+    private ResponseEntity<StreamingResponseBody> csvExport(UUID id, String name, boolean gzip,
+            StreamingResponseBody writer) {
+        tournamentService.getTournamentById(id);
+
+        StreamingResponseBody body = gzip
+                ? out -> {
+                    GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                    writer.writeTo(compressed);
+                    compressed.finish();
+                }
+                : writer;
+
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=results.csv")
-                .contentType(MediaType.TEXT_PLAIN)
-                .body(csvData);
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=" + name + (gzip ? ".csv.gz" : ".csv"))
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip")
+                        : new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
     }
 
     // Bracket Management Endpoints
@@ -120,6 +147,14 @@ public class TournamentController {
         return ResponseEntity.ok(bracketService.generateBracketForTournament(id, request));
     }
 
+    @PostMapping("/{id}/schedule")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN') or hasAuthority('ROLE_CLUB_ADMIN')")
+    public ResponseEntity<ScheduleResponse> scheduleTournament(
+            @PathVariable UUID id,
+            @Valid @RequestBody ScheduleGenerationRequest request) {
+        return ResponseEntity.ok(schedulingService.scheduleTournament(id, request));
+    }
+
     @PostMapping("/{id}/progress")
     @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN') or hasAuthority('ROLE_CLUB_ADMIN')")
     public ResponseEntity<Integer> progressTournament(@PathVariable UUID id) {
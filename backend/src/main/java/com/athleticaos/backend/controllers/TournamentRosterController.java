@@ -1,14 +1,20 @@
 package com.athleticaos.backend.controllers;
 
 import com.athleticaos.backend.dtos.roster.AddPlayersToRosterRequest;
+import com.athleticaos.backend.dtos.roster.BulkRosterRequest;
+import com.athleticaos.backend.dtos.roster.BulkRosterResponse;
 import com.athleticaos.backend.dtos.roster.TournamentPlayerDTO;
 import com.athleticaos.backend.services.TournamentRosterService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,6 +42,24 @@ public class TournamentRosterController {
         return ResponseEntity.ok(rosterService.addPlayersToRoster(tournamentId, teamId, request.getPlayerIds()));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ROLE_SUPER_ADMIN', 'ROLE_ORG_ADMIN', 'ROLE_TOURNAMENT_ADMIN')")
+    public ResponseEntity<BulkRosterResponse> addRosterEntries(
+            @PathVariable UUID tournamentId,
+            @Valid @RequestBody BulkRosterRequest request) {
+        return ResponseEntity.ok(rosterService.addRosterEntries(tournamentId, request.getTeams()));
+    }
+
+    @PostMapping(value = "/bulk/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ROLE_SUPER_ADMIN', 'ROLE_ORG_ADMIN', 'ROLE_TOURNAMENT_ADMIN')")
+    public ResponseEntity<BulkRosterResponse> importRosterCsv(
+            @PathVariable UUID tournamentId,
+            @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(rosterService.importRosterCsv(tournamentId, in));
+        }
+    }
+
     @DeleteMapping("/{tournamentPlayerId}")
     @PreAuthorize("hasAnyRole('ROLE_SUPER_ADMIN', 'ROLE_ORG_ADMIN', 'ROLE_TOURNAMENT_ADMIN', 'ROLE_TEAM_MANAGER')")
     public ResponseEntity<Void> removePlayerFromRoster(
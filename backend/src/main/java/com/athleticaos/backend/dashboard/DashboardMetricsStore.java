@@ -0,0 +1,480 @@
+package com.athleticaos.backend.dashboard;
+
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.MatchResultChangedEvent;
+import com.athleticaos.backend.events.TournamentDetailsChangedEvent;
+import com.athleticaos.backend.events.TournamentRosterChangedEvent;
+import com.athleticaos.backend.events.TournamentStructureChangedEvent;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.OrganisationRepository;
+import com.athleticaos.backend.repositories.PlayerRepository;
+import com.athleticaos.backend.repositories.PlayerTeamRepository;
+import com.athleticaos.backend.repositories.TeamRepository;
+import com.athleticaos.backend.repositories.TournamentPlayerRepository;
+import com.athleticaos.backend.repositories.TournamentRepository;
+import com.athleticaos.backend.repositories.TournamentTeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory dashboard counters: matches by status, teams, players and live
+ * tournaments, kept per tournament and rolled up per organiser organisation.
+ * Everything is rebuilt from grouped queries on a schedule; in between,
+ * result writes move matches between status buckets and structure, roster
+ * and detail writes recount just the affected tournament. Organisation team
+ * and player registrations only change on refresh. Queries never run under
+ * the monitor; it is only held to read counters or swap in new ones.
+ */
+@Component
+@Slf4j
+public class DashboardMetricsStore {
+
+    private static final int STATUS_COUNT = MatchStatus.values().length;
+    private static final int MAX_RECOUNT_ATTEMPTS = 3;
+
+    private final TournamentRepository tournamentRepository;
+    private final MatchRepository matchRepository;
+    private final TournamentTeamRepository tournamentTeamRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerTeamRepository playerTeamRepository;
+    private final PlayerRepository playerRepository;
+    private final OrganisationRepository organisationRepository;
+    private final TransactionTemplate readTransaction;
+
+    // One rebuild at a time; recounts never wait for it
+    private final Object refreshLock = new Object();
+    // Recounts of one tournament run one at a time, so the latest read is the one installed
+    private final Map<UUID, Object> recountLocks = new ConcurrentHashMap<>();
+
+    // Guarded by this
+    private Metrics metrics;
+    private boolean refreshing;
+    private final Set<UUID> touchedDuringRefresh = new HashSet<>();
+    private final Map<UUID, Long> writeSequences = new HashMap<>();
+    private final Map<UUID, Integer> resultsInFlight = new HashMap<>();
+
+    public DashboardMetricsStore(TournamentRepository tournamentRepository, MatchRepository matchRepository,
+            TournamentTeamRepository tournamentTeamRepository,
+            TournamentPlayerRepository tournamentPlayerRepository, TeamRepository teamRepository,
+            PlayerTeamRepository playerTeamRepository, PlayerRepository playerRepository,
+            OrganisationRepository organisationRepository, PlatformTransactionManager transactionManager) {
+        this.tournamentRepository = tournamentRepository;
+        this.matchRepository = matchRepository;
+        this.tournamentTeamRepository = tournamentTeamRepository;
+        this.tournamentPlayerRepository = tournamentPlayerRepository;
+        this.teamRepository = teamRepository;
+        this.playerTeamRepository = playerTeamRepository;
+        this.playerRepository = playerRepository;
+        this.organisationRepository = organisationRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Dashboard totals across the given organisations, or across everything
+     * when {@code orgIds} is null.
+     */
+    public record Totals(
+            long organisations,
+            long teams,
+            long players,
+            long tournaments,
+            long liveTournaments,
+            long totalMatches,
+            long scheduledMatches,
+            long ongoingMatches,
+            long completedMatches) {
+    }
+
+    public record TournamentTotals(
+            UUID organisationId,
+            boolean live,
+            long totalMatches,
+            long scheduledMatches,
+            long ongoingMatches,
+            long completedMatches,
+            long teams,
+            long players) {
+    }
+
+    public Totals getTotals(Set<UUID> orgIds) {
+        ensureLoaded();
+        synchronized (this) {
+            long[] matches = new long[STATUS_COUNT];
+            long tournaments = 0;
+            long live = 0;
+            long teams = 0;
+            long players = 0;
+
+            Iterable<UUID> scope = orgIds != null ? orgIds : metrics.orgs.keySet();
+            for (UUID orgId : scope) {
+                OrgCounters org = metrics.orgs.get(orgId);
+                if (org == null) {
+                    continue;
+                }
+                for (int i = 0; i < STATUS_COUNT; i++) {
+                    matches[i] += org.matches[i];
+                }
+                tournaments += org.tournaments;
+                live += org.liveTournaments;
+                teams += org.teams;
+                players += org.players;
+            }
+
+            if (orgIds == null) {
+                // Registry-wide counts also include teams and players outside any roster
+                teams = metrics.teams;
+                players = metrics.players;
+            }
+            return new Totals(
+                    orgIds != null ? orgIds.size() : metrics.organisations,
+                    teams,
+                    players,
+                    tournaments,
+                    live,
+                    sum(matches),
+                    matches[MatchStatus.SCHEDULED.ordinal()],
+                    matches[MatchStatus.ONGOING.ordinal()],
+                    matches[MatchStatus.COMPLETED.ordinal()]);
+        }
+    }
+
+    /**
+     * Counters for one tournament, or null if it does not exist or is deleted.
+     */
+    public TournamentTotals getTournamentTotals(UUID tournamentId) {
+        ensureLoaded();
+        TournamentCounters counters;
+        synchronized (this) {
+            counters = metrics.tournaments.get(tournamentId);
+        }
+        if (counters == null) {
+            recount(tournamentId);
+            synchronized (this) {
+                counters = metrics.tournaments.get(tournamentId);
+            }
+        }
+        if (counters == null) {
+            return null;
+        }
+        synchronized (this) {
+            return new TournamentTotals(
+                    counters.organisationId,
+                    counters.live,
+                    sum(counters.matches),
+                    counters.matches[MatchStatus.SCHEDULED.ordinal()],
+                    counters.matches[MatchStatus.ONGOING.ordinal()],
+                    counters.matches[MatchStatus.COMPLETED.ordinal()],
+                    counters.teams,
+                    counters.players);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.dashboard.refresh-interval:300000}")
+    public void refresh() {
+        Set<UUID> touched;
+        synchronized (refreshLock) {
+            synchronized (this) {
+                refreshing = true;
+                touchedDuringRefresh.clear();
+                // Results not yet committed may or may not make it into the build
+                touchedDuringRefresh.addAll(resultsInFlight.keySet());
+            }
+
+            try {
+                long started = System.currentTimeMillis();
+                Metrics built = readTransaction.execute(status -> build());
+                synchronized (this) {
+                    touched = new HashSet<>(touchedDuringRefresh);
+                    touched.forEach(id -> {
+                        TournamentCounters counters = built.tournaments.get(id);
+                        if (counters != null) {
+                            counters.uncertain = true;
+                        }
+                    });
+                    metrics = built;
+                }
+                log.debug("Rebuilt dashboard metrics for {} tournaments in {} ms", built.tournaments.size(),
+                        System.currentTimeMillis() - started);
+            } catch (RuntimeException e) {
+                log.error("Dashboard metrics refresh failed", e);
+                return;
+            } finally {
+                synchronized (this) {
+                    refreshing = false;
+                    touchedDuringRefresh.clear();
+                }
+            }
+        }
+
+        // Writes that committed while we were reading may or may not be in the build
+        touched.forEach(this::recount);
+    }
+
+    /**
+     * Tracks a result from publication until its transaction completes.
+     * Counters read in between may already include it and are marked, so
+     * the result recounts instead of applying its delta a second time.
+     */
+    @EventListener
+    public void onResultChanging(MatchResultChangedEvent event) {
+        UUID tournamentId = event.tournamentId();
+        if (tournamentId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        synchronized (this) {
+            resultsInFlight.merge(tournamentId, 1, Integer::sum);
+            if (refreshing) {
+                touchedDuringRefresh.add(tournamentId);
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (DashboardMetricsStore.this) {
+                    resultsInFlight.computeIfPresent(tournamentId, (id, count) -> count > 1 ? count - 1 : null);
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultChanged(MatchResultChangedEvent event) {
+        if (event.previousStatus() == null || event.status() == null) {
+            recountAfterWrite(event.tournamentId());
+            return;
+        }
+        synchronized (this) {
+            TournamentCounters counters = metrics != null ? metrics.tournaments.get(event.tournamentId()) : null;
+            if (counters != null && counters.uncertain) {
+                // Read while a result was in flight; it may already include this one
+                counters = null;
+            } else {
+                markWrite(event.tournamentId());
+                if (counters == null || event.previousStatus() == event.status()) {
+                    return;
+                }
+                OrgCounters org = metrics.org(counters.organisationId);
+                counters.matches[event.previousStatus().ordinal()]--;
+                counters.matches[event.status().ordinal()]++;
+                org.matches[event.previousStatus().ordinal()]--;
+                org.matches[event.status().ordinal()]++;
+                return;
+            }
+        }
+        recountAfterWrite(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureChanged(TournamentStructureChangedEvent event) {
+        recountAfterWrite(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterChanged(TournamentRosterChangedEvent event) {
+        recountAfterWrite(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDetailsChanged(TournamentDetailsChangedEvent event) {
+        recountAfterWrite(event.tournamentId());
+    }
+
+    private void recountAfterWrite(UUID tournamentId) {
+        synchronized (this) {
+            markWrite(tournamentId);
+            if (metrics == null) {
+                return;
+            }
+        }
+        recount(tournamentId);
+    }
+
+    private void ensureLoaded() {
+        synchronized (this) {
+            if (metrics != null) {
+                return;
+            }
+        }
+        refresh();
+        synchronized (this) {
+            if (metrics == null) {
+                throw new IllegalStateException("Dashboard metrics are not available");
+            }
+        }
+    }
+
+    /**
+     * Re-reads one tournament's counters and swaps them into the rollups,
+     * retrying if a result delta lands while the queries are running.
+     */
+    private void recount(UUID tournamentId) {
+        synchronized (recountLocks.computeIfAbsent(tournamentId, id -> new Object())) {
+            for (int attempt = 0; attempt < MAX_RECOUNT_ATTEMPTS; attempt++) {
+                long before;
+                synchronized (this) {
+                    before = writeSequences.getOrDefault(tournamentId, 0L);
+                }
+
+                TournamentCounters fresh = readTransaction.execute(status -> loadTournament(tournamentId));
+
+                synchronized (this) {
+                    if (metrics == null) {
+                        return;
+                    }
+                    if (writeSequences.getOrDefault(tournamentId, 0L) != before
+                            && attempt < MAX_RECOUNT_ATTEMPTS - 1) {
+                        continue;
+                    }
+                    if (fresh != null) {
+                        fresh.uncertain = resultsInFlight.containsKey(tournamentId);
+                    }
+                    TournamentCounters previous = fresh != null
+                            ? metrics.tournaments.put(tournamentId, fresh)
+                            : metrics.tournaments.remove(tournamentId);
+                    if (previous != null) {
+                        metrics.rollUp(previous, -1);
+                    }
+                    if (fresh != null) {
+                        metrics.rollUp(fresh, 1);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    private void markWrite(UUID tournamentId) {
+        writeSequences.merge(tournamentId, 1L, Long::sum);
+        if (refreshing) {
+            touchedDuringRefresh.add(tournamentId);
+        }
+    }
+
+    private Metrics build() {
+        LocalDate today = LocalDate.now();
+        Metrics built = new Metrics();
+
+        for (TournamentMetaRow row : tournamentRepository.findDashboardMetaRows()) {
+            built.tournaments.put(row.tournamentId(), new TournamentCounters(row, today));
+        }
+        for (MatchStatusCountRow row : matchRepository.countByTournamentAndStatus()) {
+            TournamentCounters counters = built.tournaments.get(row.tournamentId());
+            if (counters != null && row.status() != null) {
+                counters.matches[row.status().ordinal()] += row.count();
+            }
+        }
+        for (KeyedCountRow row : tournamentTeamRepository.countByTournament()) {
+            TournamentCounters counters = built.tournaments.get(row.id());
+            if (counters != null) {
+                counters.teams = row.count();
+            }
+        }
+        for (KeyedCountRow row : tournamentPlayerRepository.countActiveByTournament()) {
+            TournamentCounters counters = built.tournaments.get(row.id());
+            if (counters != null) {
+                counters.players = row.count();
+            }
+        }
+        built.tournaments.values().forEach(counters -> built.rollUp(counters, 1));
+
+        for (KeyedCountRow row : teamRepository.countByOrganisation()) {
+            built.org(row.id()).teams = row.count();
+        }
+        for (KeyedCountRow row : playerTeamRepository.countActivePlayersByOrganisation()) {
+            built.org(row.id()).players = row.count();
+        }
+        built.organisations = organisationRepository.count();
+        built.teams = teamRepository.count();
+        built.players = playerRepository.count();
+        return built;
+    }
+
+    private TournamentCounters loadTournament(UUID tournamentId) {
+        TournamentMetaRow meta = tournamentRepository.findDashboardMetaRow(tournamentId).orElse(null);
+        if (meta == null) {
+            return null;
+        }
+        TournamentCounters counters = new TournamentCounters(meta, LocalDate.now());
+        for (MatchStatusCountRow row : matchRepository.countByStatusForTournament(tournamentId)) {
+            if (row.status() != null) {
+                counters.matches[row.status().ordinal()] += row.count();
+            }
+        }
+        counters.teams = tournamentTeamRepository.countByTournamentId(tournamentId);
+        counters.players = tournamentPlayerRepository.countByTournamentIdAndIsActiveTrue(tournamentId);
+        return counters;
+    }
+
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    private static final class TournamentCounters {
+        private final UUID organisationId;
+        private final boolean live;
+        private final long[] matches = new long[STATUS_COUNT];
+        private long teams;
+        private long players;
+        // Read while a result was in flight, so the next result recounts instead
+        private boolean uncertain;
+
+        private TournamentCounters(TournamentMetaRow meta, LocalDate today) {
+            this.organisationId = meta.organisationId();
+            this.live = meta.published()
+                    && meta.startDate() != null && !today.isBefore(meta.startDate())
+                    && meta.endDate() != null && !today.isAfter(meta.endDate());
+        }
+    }
+
+    private static final class OrgCounters {
+        private final long[] matches = new long[STATUS_COUNT];
+        private long tournaments;
+        private long liveTournaments;
+        private long teams;
+        private long players;
+    }
+
+    private static final class Metrics {
+        private final Map<UUID, TournamentCounters> tournaments = new HashMap<>();
+        private final Map<UUID, OrgCounters> orgs = new HashMap<>();
+        private long organisations;
+        private long teams;
+        private long players;
+
+        private OrgCounters org(UUID organisationId) {
+            return orgs.computeIfAbsent(organisationId, id -> new OrgCounters());
+        }
+
+        private void rollUp(TournamentCounters counters, int sign) {
+            OrgCounters org = org(counters.organisationId);
+            for (int i = 0; i < STATUS_COUNT; i++) {
+                org.matches[i] += sign * counters.matches[i];
+            }
+            org.tournaments += sign;
+            if (counters.live) {
+                org.liveTournaments += sign;
+            }
+        }
+    }
+}
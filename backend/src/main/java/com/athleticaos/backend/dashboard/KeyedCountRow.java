@@ -0,0 +1,9 @@
+package com.athleticaos.backend.dashboard;
+
+import java.util.UUID;
+
+/**
+ * A count grouped by an entity id (tournament, organisation, player).
+ */
+public record KeyedCountRow(UUID id, Long count) {
+}
@@ -0,0 +1,11 @@
+package com.athleticaos.backend.dashboard;
+
+import com.athleticaos.backend.enums.MatchStatus;
+
+import java.util.UUID;
+
+/**
+ * Number of matches in one status for one tournament.
+ */
+public record MatchStatusCountRow(UUID tournamentId, MatchStatus status, Long count) {
+}
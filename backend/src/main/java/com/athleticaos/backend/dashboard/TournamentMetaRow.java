@@ -0,0 +1,15 @@
+package com.athleticaos.backend.dashboard;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * The tournament fields the dashboard counters are keyed and filtered by.
+ */
+public record TournamentMetaRow(
+        UUID tournamentId,
+        UUID organisationId,
+        boolean published,
+        LocalDate startDate,
+        LocalDate endDate) {
+}
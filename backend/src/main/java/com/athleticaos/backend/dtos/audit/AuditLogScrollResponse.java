@@ -0,0 +1,23 @@
+package com.athleticaos.backend.dtos.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset scroll through audit logs. Pass {@code nextCursor}
+ * back to fetch the following page; it is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogScrollResponse {
+
+    private List<AuditLogResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -16,4 +16,6 @@ public class DashboardStatsResponse {
     private long totalOrganisations;
     private long activeTournaments;
     private long upcomingMatches;
+    private long liveMatches;
+    private long completedMatches;
 }
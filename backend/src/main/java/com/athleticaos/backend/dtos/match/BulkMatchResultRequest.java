@@ -0,0 +1,20 @@
+package com.athleticaos.backend.dtos.match;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkMatchResultRequest {
+    @NotEmpty(message = "Results list cannot be empty")
+    @Valid
+    private List<MatchResultEntry> results;
+}
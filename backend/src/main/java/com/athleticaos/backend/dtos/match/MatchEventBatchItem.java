@@ -0,0 +1,34 @@
+package com.athleticaos.backend.dtos.match;
+
+import com.athleticaos.backend.enums.MatchEventType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchEventBatchItem {
+    @NotBlank(message = "Client event ID is required")
+    @Size(max = 100, message = "Client event ID must be at most 100 characters")
+    private String clientEventId;
+
+    @NotNull(message = "Team ID is required")
+    private UUID teamId;
+
+    private UUID playerId;
+
+    @NotNull(message = "Event type is required")
+    private MatchEventType eventType;
+
+    private Integer minute;
+
+    private String notes;
+}
@@ -0,0 +1,23 @@
+package com.athleticaos.backend.dtos.match;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchEventBatchRequest {
+    // In the order the events were recorded
+    @NotEmpty(message = "Events list cannot be empty")
+    @Size(max = 1000, message = "At most 1000 events per batch")
+    @Valid
+    private List<MatchEventBatchItem> events;
+}
@@ -0,0 +1,21 @@
+package com.athleticaos.backend.dtos.match;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchEventBatchResponse {
+    private int received;
+    private int inserted;
+    private int duplicates;
+    private List<MatchEventResponse> events;
+    // Keys already recorded for the match, or repeated within the batch
+    private List<String> duplicateClientEventIds;
+}
@@ -19,4 +19,5 @@ public class MatchEventResponse {
     private String eventType;
     private Integer minute;
     private String notes;
+    private String clientEventId;
 }
@@ -0,0 +1,31 @@
+package com.athleticaos.backend.dtos.match;
+
+import com.athleticaos.backend.enums.MatchStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchResultEntry {
+    @NotNull(message = "Match ID is required")
+    private UUID matchId;
+
+    @NotNull(message = "Home score is required")
+    @PositiveOrZero(message = "Home score cannot be negative")
+    private Integer homeScore;
+
+    @NotNull(message = "Away score is required")
+    @PositiveOrZero(message = "Away score cannot be negative")
+    private Integer awayScore;
+
+    // Defaults to COMPLETED
+    private MatchStatus status;
+}
@@ -0,0 +1,23 @@
+package com.athleticaos.backend.dtos.public_api;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicLiveUpdate {
+    private String type; // EVENT_ADDED, EVENT_REMOVED, RESULT
+    private UUID tournamentId;
+    private UUID matchId;
+    private UUID eventId;
+    private String status;
+    private Integer homeScore;
+    private Integer awayScore;
+    private PublicMatchEventResponse event;
+}
@@ -0,0 +1,27 @@
+package com.athleticaos.backend.dtos.public_api;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicPoolStandingResponse {
+    private Integer position;
+    private UUID teamId;
+    private String teamName;
+    private Integer played;
+    private Integer wins;
+    private Integer draws;
+    private Integer losses;
+    private Integer pointsFor;
+    private Integer pointsAgainst;
+    private Integer pointsDifference;
+    private Integer bonusPoints;
+    private Integer points;
+}
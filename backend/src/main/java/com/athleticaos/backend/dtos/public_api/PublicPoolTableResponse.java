@@ -0,0 +1,19 @@
+package com.athleticaos.backend.dtos.public_api;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicPoolTableResponse {
+    private UUID stageId;
+    private String poolName;
+    private List<PublicPoolStandingResponse> standings;
+}
@@ -0,0 +1,21 @@
+package com.athleticaos.backend.dtos.roster;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRosterRequest {
+
+    @NotEmpty(message = "Teams list cannot be empty")
+    @Valid
+    private List<TeamRosterEntry> teams;
+}
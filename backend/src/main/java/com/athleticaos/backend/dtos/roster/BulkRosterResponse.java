@@ -0,0 +1,19 @@
+package com.athleticaos.backend.dtos.roster;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRosterResponse {
+    private int added;
+    private int reactivated;
+    private int unchanged;
+    private List<TournamentPlayerDTO> players;
+}
@@ -0,0 +1,24 @@
+package com.athleticaos.backend.dtos.roster;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamRosterEntry {
+
+    @NotNull(message = "Team ID is required")
+    private UUID teamId;
+
+    @NotEmpty(message = "Player IDs list cannot be empty")
+    private List<UUID> playerIds;
+}
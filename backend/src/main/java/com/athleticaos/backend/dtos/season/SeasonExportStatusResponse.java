@@ -0,0 +1,23 @@
+package com.athleticaos.backend.dtos.season;
+
+import com.athleticaos.backend.enums.ExportJobStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Builder
+public record SeasonExportStatusResponse(
+        UUID jobId,
+        UUID seasonId,
+        ExportJobStatus status,
+        int tournamentsTotal,
+        int tournamentsRead,
+        int matches,
+        int events,
+        int rosterEntries,
+        long fileSizeBytes,
+        String error,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt) {
+}
@@ -0,0 +1,31 @@
+package com.athleticaos.backend.dtos.tournament;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleGenerationRequest {
+
+    @NotNull(message = "Pitch count is required")
+    @Min(value = 1, message = "At least one pitch is required")
+    private Integer pitches;
+
+    @Min(value = 5, message = "Slot length must be at least 5 minutes")
+    private Integer slotMinutes; // kick-off interval per pitch, default 30
+
+    @Min(value = 0, message = "Rest time cannot be negative")
+    private Integer minRestMinutes; // between the end of one match and the next, default 60
+
+    private LocalTime dayStart; // first kick-off each day, default 09:00
+
+    private LocalTime dayEnd; // no match may run past this, default 18:00
+}
@@ -0,0 +1,21 @@
+package com.athleticaos.backend.dtos.tournament;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleResponse {
+    private int matchesScheduled;
+    private int pitchesUsed;
+    private int daysUsed;
+    private LocalDate lastMatchDate;
+    private LocalTime lastKickOffTime;
+}
@@ -13,8 +13,9 @@ import java.util.UUID;
  * Audit Log entity for tracking user actions across the system.
  * Provides governance, traceability, and compliance capabilities.
  * 
- * TODO: Implement retention policy (12-24 months) with archival to cold
- * storage.
+ * The table is range-partitioned by month on 'timestamp' (primary key is
+ * (id, timestamp)); partitions are created and archived by
+ * AuditPartitionManager.
  * 
  * SECURITY NOTE:
  * - Sensitive data (PII, passwords, tokens) MUST NOT be stored in 'detailsJson'
@@ -28,10 +29,10 @@ import java.util.UUID;
 @AllArgsConstructor
 @Entity
 @Table(name = "audit_log", indexes = {
-        @Index(name = "idx_audit_timestamp", columnList = "timestamp DESC"),
-        @Index(name = "idx_audit_org", columnList = "organisation_id"),
-        @Index(name = "idx_audit_actor", columnList = "actor_user_id"),
-        @Index(name = "idx_audit_composite", columnList = "timestamp DESC, organisation_id, actor_user_id")
+        @Index(name = "idx_audit_timestamp_id", columnList = "timestamp DESC, id DESC"),
+        @Index(name = "idx_audit_org", columnList = "organisation_id, timestamp DESC, id DESC"),
+        @Index(name = "idx_audit_actor", columnList = "actor_user_id, timestamp DESC, id DESC"),
+        @Index(name = "idx_audit_entity", columnList = "entity_type, entity_id, timestamp DESC, id DESC")
 })
 public class AuditLog {
 
@@ -1,11 +1,14 @@
 package com.athleticaos.backend.entities;
 
+import com.athleticaos.backend.enums.MatchSlot;
 import com.athleticaos.backend.enums.MatchStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -31,11 +34,11 @@ public class Match {
     private Tournament tournament;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "home_team_id", nullable = false)
+    @JoinColumn(name = "home_team_id")
     private Team homeTeam;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "away_team_id", nullable = false)
+    @JoinColumn(name = "away_team_id")
     private Team awayTeam;
 
     @Column(name = "match_date", nullable = false)
@@ -71,6 +74,27 @@ public class Match {
     @Column(name = "match_code")
     private String matchCode;
 
+    // Bracket topology, set when the bracket is generated
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "winner_next_match_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Match winnerNextMatch;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "winner_next_slot")
+    private MatchSlot winnerNextSlot;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "loser_next_match_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Match loserNextMatch;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "loser_next_slot")
+    private MatchSlot loserNextSlot;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
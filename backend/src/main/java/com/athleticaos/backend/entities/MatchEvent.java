@@ -45,6 +45,10 @@ public class MatchEvent {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    // Client idempotency key, unique per match when present
+    @Column(name = "client_event_id", length = 100)
+    private String clientEventId;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
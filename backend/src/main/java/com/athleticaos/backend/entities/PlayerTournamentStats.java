@@ -0,0 +1,45 @@
+package com.athleticaos.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Rollup of a player's stats within one tournament. Rewritten whenever a match
+ * in the tournament is completed, so career totals sum one row per tournament.
+ */
+@Entity
+@Table(name = "player_tournament_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlayerTournamentStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "player_id", nullable = false)
+    private UUID playerId;
+
+    @Column(name = "tournament_id", nullable = false)
+    private UUID tournamentId;
+
+    @Column(name = "team_name")
+    private String teamName;
+
+    private int matchesPlayed;
+    private int tries;
+    private int conversions;
+    private int penalties;
+    private int dropGoals;
+    private int yellowCards;
+    private int redCards;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
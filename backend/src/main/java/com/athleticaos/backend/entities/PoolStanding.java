@@ -0,0 +1,46 @@
+package com.athleticaos.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A team's row in one pool table, adjusted by delta whenever a pool result is
+ * entered or corrected.
+ */
+@Entity
+@Table(name = "pool_standings")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PoolStanding {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "stage_id", nullable = false)
+    private UUID stageId;
+
+    @Column(name = "team_id", nullable = false)
+    private UUID teamId;
+
+    @Column(name = "tournament_id", nullable = false)
+    private UUID tournamentId;
+
+    private int played;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int pointsFor;
+    private int pointsAgainst;
+    private int bonusPoints;
+    private int tablePoints;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
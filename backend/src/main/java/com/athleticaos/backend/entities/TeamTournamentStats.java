@@ -0,0 +1,43 @@
+package com.athleticaos.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Rollup of a team's results and discipline within one tournament.
+ */
+@Entity
+@Table(name = "team_tournament_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamTournamentStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "team_id", nullable = false)
+    private UUID teamId;
+
+    @Column(name = "tournament_id", nullable = false)
+    private UUID tournamentId;
+
+    private int matchesPlayed;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int pointsFor;
+    private int pointsAgainst;
+    private int triesScored;
+    private int yellowCards;
+    private int redCards;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,12 +1,26 @@
 package com.athleticaos.backend.enums;
 
 public enum MatchEventType {
-    TRY,
-    CONVERSION,
-    PENALTY,
-    DROP_GOAL,
-    YELLOW_CARD,
-    RED_CARD,
-    SUBSTITUTION,
-    OTHER
+    TRY(5),
+    CONVERSION(2),
+    PENALTY(3),
+    DROP_GOAL(3),
+    YELLOW_CARD(0),
+    RED_CARD(0),
+    SUBSTITUTION(0),
+    OTHER(0);
+
+    private final int points;
+
+    MatchEventType(int points) {
+        this.points = points;
+    }
+
+    /**
+     * Points awarded to the scoring team for this event (try=5, conversion=2,
+     * penalty=3, drop goal=3).
+     */
+    public int getPoints() {
+        return points;
+    }
 }
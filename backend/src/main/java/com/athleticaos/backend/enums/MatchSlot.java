@@ -0,0 +1,6 @@
+package com.athleticaos.backend.enums;
+
+public enum MatchSlot {
+    HOME,
+    AWAY
+}
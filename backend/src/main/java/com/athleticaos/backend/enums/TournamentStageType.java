@@ -5,6 +5,7 @@ public enum TournamentStageType {
     PLATE,
     BOWL,
     SHIELD,
+    KNOCKOUT_ROUND,
     QUARTER_FINAL,
     SEMI_FINAL,
     FINAL,
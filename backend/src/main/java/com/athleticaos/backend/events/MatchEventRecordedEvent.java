@@ -0,0 +1,22 @@
+package com.athleticaos.backend.events;
+
+import com.athleticaos.backend.enums.MatchEventType;
+
+import java.util.UUID;
+
+/**
+ * Published when a match event (try, card, etc.) has been recorded.
+ * Carries the display names so listeners never need to reload the entities.
+ */
+public record MatchEventRecordedEvent(
+        UUID eventId,
+        UUID tournamentId,
+        UUID matchId,
+        UUID teamId,
+        String teamName,
+        UUID playerId,
+        String playerFirstName,
+        String playerLastName,
+        MatchEventType eventType,
+        Integer minute) {
+}
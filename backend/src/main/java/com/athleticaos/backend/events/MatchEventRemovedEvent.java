@@ -0,0 +1,17 @@
+package com.athleticaos.backend.events;
+
+import com.athleticaos.backend.enums.MatchEventType;
+
+import java.util.UUID;
+
+/**
+ * Published when a previously recorded match event has been deleted.
+ */
+public record MatchEventRemovedEvent(
+        UUID eventId,
+        UUID tournamentId,
+        UUID matchId,
+        UUID teamId,
+        UUID playerId,
+        MatchEventType eventType) {
+}
@@ -0,0 +1,27 @@
+package com.athleticaos.backend.events;
+
+import com.athleticaos.backend.enums.MatchStatus;
+
+import java.util.UUID;
+
+/**
+ * Published when a match's status or score changes.
+ * Carries both the previous and the new state so listeners can reverse the old
+ * result before applying the new one.
+ */
+public record MatchResultChangedEvent(
+        UUID tournamentId,
+        UUID matchId,
+        UUID homeTeamId,
+        UUID awayTeamId,
+        MatchStatus previousStatus,
+        Integer previousHomeScore,
+        Integer previousAwayScore,
+        MatchStatus status,
+        Integer homeScore,
+        Integer awayScore) {
+
+    public boolean isCompletion() {
+        return status == MatchStatus.COMPLETED && previousStatus != MatchStatus.COMPLETED;
+    }
+}
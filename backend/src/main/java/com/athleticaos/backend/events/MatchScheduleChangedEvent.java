@@ -0,0 +1,11 @@
+package com.athleticaos.backend.events;
+
+import java.util.UUID;
+
+/**
+ * Published when a match's schedule details (date, kick-off, venue, pitch,
+ * phase or code) change without affecting its result. The match id is null
+ * when the whole tournament was rescheduled.
+ */
+public record MatchScheduleChangedEvent(UUID tournamentId, UUID matchId) {
+}
@@ -0,0 +1,10 @@
+package com.athleticaos.backend.events;
+
+import java.util.UUID;
+
+/**
+ * Published when an organisation is created or its place in the hierarchy may
+ * have changed.
+ */
+public record OrganisationHierarchyChangedEvent(UUID organisationId) {
+}
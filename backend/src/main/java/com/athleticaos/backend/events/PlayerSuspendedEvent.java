@@ -0,0 +1,15 @@
+package com.athleticaos.backend.events;
+
+import java.util.UUID;
+
+/**
+ * Published when a new suspension is created for a player.
+ */
+public record PlayerSuspendedEvent(
+        UUID tournamentId,
+        UUID teamId,
+        UUID suspensionId,
+        UUID playerId,
+        String reason,
+        int matchesRemaining) {
+}
@@ -0,0 +1,10 @@
+package com.athleticaos.backend.events;
+
+import java.util.UUID;
+
+/**
+ * Published when a team's active suspensions in a tournament have each been
+ * served down by one match, clearing those that reach zero.
+ */
+public record PlayerSuspensionChangedEvent(UUID tournamentId, UUID teamId) {
+}
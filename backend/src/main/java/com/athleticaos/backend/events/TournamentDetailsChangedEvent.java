@@ -0,0 +1,12 @@
+package com.athleticaos.backend.events;
+
+import java.util.UUID;
+
+/**
+ * Published when a tournament's own details (name, dates, venue, publication
+ * state) are updated, or the tournament is created or deleted. The season
+ * before and after the write are carried along, since after commit only the
+ * new one can be read back.
+ */
+public record TournamentDetailsChangedEvent(UUID tournamentId, UUID previousSeasonId, UUID seasonId) {
+}
@@ -0,0 +1,9 @@
+package com.athleticaos.backend.events;
+
+import java.util.UUID;
+
+/**
+ * Published when players are added to or removed from a team's tournament roster.
+ */
+public record TournamentRosterChangedEvent(UUID tournamentId, UUID teamId) {
+}
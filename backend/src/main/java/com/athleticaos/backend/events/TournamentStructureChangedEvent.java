@@ -0,0 +1,16 @@
+package com.athleticaos.backend.events;
+
+import java.util.UUID;
+
+/**
+ * Published when matches are created, deleted or have their teams reassigned
+ * (bracket generation, progression, seeding). Listeners holding derived state
+ * for the tournament should discard it. {@code poolMatchesChanged} is false
+ * when only knockout matches were touched, as with progression.
+ */
+public record TournamentStructureChangedEvent(UUID tournamentId, boolean poolMatchesChanged) {
+
+    public TournamentStructureChangedEvent(UUID tournamentId) {
+        this(tournamentId, true);
+    }
+}
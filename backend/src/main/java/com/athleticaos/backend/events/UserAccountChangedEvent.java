@@ -0,0 +1,9 @@
+package com.athleticaos.backend.events;
+
+/**
+ * Published when a user's status, roles, organisation or email may have
+ * changed, so anything caching their authentication principal can drop it.
+ * {@code previousEmail} is the email the user had before the change.
+ */
+public record UserAccountChangedEvent(String email, String previousEmail) {
+}
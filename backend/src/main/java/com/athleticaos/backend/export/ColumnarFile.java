@@ -0,0 +1,187 @@
+package com.athleticaos.backend.export;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory builder for a compact columnar file: dictionaries of ids and
+ * labels, and tables whose columns are primitive ints referring into them.
+ * <p>
+ * Layout (all integers are zig-zag varints, strings are a varint byte length
+ * followed by UTF-8):
+ * <pre>
+ * "AOC1"
+ * dictionaryCount { name, size, hasIds(byte) { [uuid msb, uuid lsb as 8-byte longs] label } }
+ * tableCount { name, rowCount, columnCount { name, dictionary name or "", rowCount values } }
+ * </pre>
+ * Null references and missing numbers are stored as -1. Callers normally
+ * wrap the output stream in gzip, which compresses the varint columns well.
+ */
+public class ColumnarFile {
+
+    private static final byte[] MAGIC = { 'A', 'O', 'C', '1' };
+
+    private final Map<String, Dictionary> dictionaries = new LinkedHashMap<>();
+    private final Map<String, Table> tables = new LinkedHashMap<>();
+
+    /**
+     * Values keyed by id (or by label when there are no ids), in first-seen order.
+     */
+    public static final class Dictionary {
+        private final boolean hasIds;
+        private final Map<Object, Integer> index = new HashMap<>();
+        private final List<UUID> ids = new ArrayList<>();
+        private final List<String> labels = new ArrayList<>();
+
+        private Dictionary(boolean hasIds) {
+            this.hasIds = hasIds;
+        }
+
+        public int encode(UUID id, String label) {
+            if (id == null) {
+                return -1;
+            }
+            return index.computeIfAbsent(id, key -> {
+                ids.add(id);
+                labels.add(label);
+                return labels.size() - 1;
+            });
+        }
+
+        public int encode(String label) {
+            if (label == null) {
+                return -1;
+            }
+            return index.computeIfAbsent(label, key -> {
+                labels.add(label);
+                return labels.size() - 1;
+            });
+        }
+
+        public int size() {
+            return labels.size();
+        }
+    }
+
+    /**
+     * A table of int columns filled one row at a time.
+     */
+    public static final class Table {
+        private final String[] columnNames;
+        private final String[] columnDictionaries;
+        private final int[][] columns;
+        private int rows;
+
+        private Table(String[] columnNames, String[] columnDictionaries) {
+            this.columnNames = columnNames;
+            this.columnDictionaries = columnDictionaries;
+            this.columns = new int[columnNames.length][256];
+        }
+
+        public void addRow(int... values) {
+            if (values.length != columns.length) {
+                throw new IllegalArgumentException("Expected " + columns.length + " values, got " + values.length);
+            }
+            if (rows == columns[0].length) {
+                for (int c = 0; c < columns.length; c++) {
+                    columns[c] = Arrays.copyOf(columns[c], rows * 2);
+                }
+            }
+            for (int c = 0; c < columns.length; c++) {
+                columns[c][rows] = values[c];
+            }
+            rows++;
+        }
+
+        public int rowCount() {
+            return rows;
+        }
+    }
+
+    public Dictionary idDictionary(String name) {
+        return dictionaries.computeIfAbsent(name, key -> new Dictionary(true));
+    }
+
+    public Dictionary labelDictionary(String name) {
+        return dictionaries.computeIfAbsent(name, key -> new Dictionary(false));
+    }
+
+    /**
+     * @param columns pairs of column name and the dictionary it refers to
+     *                (empty string for plain numbers)
+     */
+    public Table table(String name, String... columns) {
+        if (columns.length == 0 || columns.length % 2 != 0) {
+            throw new IllegalArgumentException("Columns must be given as name/dictionary pairs");
+        }
+        String[] names = new String[columns.length / 2];
+        String[] refs = new String[columns.length / 2];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = columns[i * 2];
+            refs[i] = columns[i * 2 + 1];
+        }
+        return tables.computeIfAbsent(name, key -> new Table(names, refs));
+    }
+
+    public void writeTo(OutputStream target) throws IOException {
+        DataOutputStream out = new DataOutputStream(target);
+        out.write(MAGIC);
+
+        writeVarInt(out, dictionaries.size());
+        for (Map.Entry<String, Dictionary> entry : dictionaries.entrySet()) {
+            Dictionary dictionary = entry.getValue();
+            writeString(out, entry.getKey());
+            writeVarInt(out, dictionary.size());
+            out.writeByte(dictionary.hasIds ? 1 : 0);
+            for (int i = 0; i < dictionary.size(); i++) {
+                if (dictionary.hasIds) {
+                    UUID id = dictionary.ids.get(i);
+                    out.writeLong(id.getMostSignificantBits());
+                    out.writeLong(id.getLeastSignificantBits());
+                }
+                writeString(out, dictionary.labels.get(i));
+            }
+        }
+
+        writeVarInt(out, tables.size());
+        for (Map.Entry<String, Table> entry : tables.entrySet()) {
+            Table table = entry.getValue();
+            writeString(out, entry.getKey());
+            writeVarInt(out, table.rows);
+            writeVarInt(out, table.columns.length);
+            for (int c = 0; c < table.columns.length; c++) {
+                writeString(out, table.columnNames[c]);
+                writeString(out, table.columnDictionaries[c]);
+                int[] values = table.columns[c];
+                for (int r = 0; r < table.rows; r++) {
+                    writeVarInt(out, values[r]);
+                }
+            }
+        }
+        out.flush();
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        int zigZag = (value << 1) ^ (value >> 31);
+        while ((zigZag & ~0x7F) != 0) {
+            out.writeByte((zigZag & 0x7F) | 0x80);
+            zigZag >>>= 7;
+        }
+        out.writeByte(zigZag);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+}
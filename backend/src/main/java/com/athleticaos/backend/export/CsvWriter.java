@@ -0,0 +1,93 @@
+package com.athleticaos.backend.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Minimal CSV writer over a buffered {@link Writer}. Cells are scanned once
+ * and written character by character, so no per-cell strings or regexes are
+ * allocated. Line breaks inside a cell become spaces; cells containing a
+ * comma or quote are quoted with embedded quotes doubled.
+ */
+public class CsvWriter implements Closeable {
+
+    private final Writer out;
+    private boolean rowStarted;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    public CsvWriter cell(CharSequence value) throws IOException {
+        separator();
+        if (value == null) {
+            return this;
+        }
+
+        int length = value.length();
+        boolean quote = false;
+        for (int i = 0; i < length && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\'';
+        }
+
+        if (quote) {
+            out.write('"');
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '\r' || c == '\n') {
+                out.write(' ');
+            } else {
+                if (c == '"') {
+                    out.write('"');
+                }
+                out.write(c);
+            }
+        }
+        if (quote) {
+            out.write('"');
+        }
+        return this;
+    }
+
+    public CsvWriter cell(Integer value) throws IOException {
+        separator();
+        if (value != null) {
+            out.write(Integer.toString(value));
+        }
+        return this;
+    }
+
+    public CsvWriter cell(Object value) throws IOException {
+        if (value == null || value instanceof CharSequence) {
+            return cell((CharSequence) value);
+        }
+        separator();
+        out.write(value.toString());
+        return this;
+    }
+
+    public CsvWriter endRow() throws IOException {
+        out.write('\n');
+        rowStarted = false;
+        return this;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void separator() throws IOException {
+        if (rowStarted) {
+            out.write(',');
+        }
+        rowStarted = true;
+    }
+}
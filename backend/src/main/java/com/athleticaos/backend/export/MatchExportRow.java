@@ -0,0 +1,24 @@
+package com.athleticaos.backend.export;
+
+import com.athleticaos.backend.enums.MatchStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Flat projection of one match for CSV export, with stage and team names
+ * joined in the query.
+ */
+public record MatchExportRow(
+        UUID matchId,
+        String stageName,
+        String homeTeamName,
+        String awayTeamName,
+        LocalDate matchDate,
+        LocalTime kickOffTime,
+        String venue,
+        MatchStatus status,
+        Integer homeScore,
+        Integer awayScore) {
+}
@@ -0,0 +1,18 @@
+package com.athleticaos.backend.export;
+
+import com.athleticaos.backend.enums.MatchEventType;
+
+import java.util.UUID;
+
+/**
+ * One match event of a season export; the player is the scoring user, if any.
+ */
+public record SeasonEventRow(
+        UUID matchId,
+        UUID teamId,
+        UUID playerId,
+        String playerFirstName,
+        String playerLastName,
+        MatchEventType eventType,
+        Integer minute) {
+}
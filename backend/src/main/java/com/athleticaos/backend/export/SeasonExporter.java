@@ -0,0 +1,300 @@
+package com.athleticaos.backend.export;
+
+import com.athleticaos.backend.dtos.season.SeasonExportStatusResponse;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.enums.ExportJobStatus;
+import com.athleticaos.backend.repositories.MatchEventRepository;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.TournamentPlayerRepository;
+import com.athleticaos.backend.repositories.TournamentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Background export of a whole season (matches, events and rosters) into one
+ * gzipped {@link ColumnarFile}. Tournaments are read in parallel, each in its
+ * own read-only transaction, and encoded in season order as they arrive.
+ */
+@Component
+@Slf4j
+public class SeasonExporter {
+
+    private static final String FILE_SUFFIX = ".aoc.gz";
+
+    private final TournamentRepository tournamentRepository;
+    private final MatchRepository matchRepository;
+    private final MatchEventRepository matchEventRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
+    private final TransactionTemplate readTransaction;
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+
+    // One export at a time; the readers provide the parallelism
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "season-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ExecutorService readerPool;
+
+    @Value("${application.export.directory:${java.io.tmpdir}/athleticaos-exports}")
+    private String directory;
+
+    @Value("${application.export.reader-threads:4}")
+    private int readerThreads;
+
+    @Value("${application.export.retention-hours:24}")
+    private long retentionHours;
+
+    public SeasonExporter(TournamentRepository tournamentRepository,
+            MatchRepository matchRepository,
+            MatchEventRepository matchEventRepository,
+            TournamentPlayerRepository tournamentPlayerRepository,
+            PlatformTransactionManager transactionManager) {
+        this.tournamentRepository = tournamentRepository;
+        this.matchRepository = matchRepository;
+        this.matchEventRepository = matchEventRepository;
+        this.tournamentPlayerRepository = tournamentPlayerRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        readerPool = Executors.newFixedThreadPool(Math.max(1, readerThreads), r -> {
+            Thread thread = new Thread(r, "season-export-reader-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+        readerPool.shutdownNow();
+    }
+
+    public SeasonExportStatusResponse start(UUID seasonId) {
+        pruneExpiredJobs();
+        Job job = new Job(UUID.randomUUID(), seasonId);
+        jobs.put(job.id, job);
+        jobExecutor.execute(() -> run(job));
+        return job.toResponse();
+    }
+
+    public SeasonExportStatusResponse status(UUID jobId) {
+        return job(jobId).toResponse();
+    }
+
+    public Path file(UUID jobId) {
+        Job job = job(jobId);
+        if (job.status != ExportJobStatus.COMPLETED) {
+            throw new IllegalArgumentException("Export is not complete (status " + job.status + ")");
+        }
+        return job.file;
+    }
+
+    private Job job(UUID jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException("Export job not found");
+        }
+        return job;
+    }
+
+    private void run(Job job) {
+        job.status = ExportJobStatus.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        try {
+            List<Tournament> tournaments = readTransaction.execute(status ->
+                    tournamentRepository.findBySeasonId(job.seasonId).stream()
+                            .filter(t -> !t.isDeleted())
+                            .toList());
+            job.tournamentsTotal = tournaments.size();
+
+            List<CompletableFuture<TournamentSlice>> reads = new ArrayList<>(tournaments.size());
+            for (Tournament tournament : tournaments) {
+                reads.add(CompletableFuture.supplyAsync(() -> read(tournament.getId()), readerPool)
+                        .whenComplete((slice, error) -> job.tournamentsRead.incrementAndGet()));
+            }
+
+            ColumnarFile file = new ColumnarFile();
+            for (int i = 0; i < tournaments.size(); i++) {
+                encode(file, tournaments.get(i), reads.get(i).join(), job);
+            }
+
+            Path dir = Paths.get(directory);
+            Files.createDirectories(dir);
+            Path target = dir.resolve("season-" + job.seasonId + "-" + job.id + FILE_SUFFIX);
+            Path partial = dir.resolve(target.getFileName() + ".part");
+            try (OutputStream out = new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(partial)), 65536)) {
+                file.writeTo(out);
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            job.file = target;
+            job.fileSizeBytes = Files.size(target);
+            job.status = ExportJobStatus.COMPLETED;
+            log.info("Season {} exported to {} ({} bytes, {} matches, {} events)", job.seasonId, target,
+                    job.fileSizeBytes, job.matches, job.events);
+        } catch (Exception e) {
+            job.status = ExportJobStatus.FAILED;
+            job.error = e.getMessage();
+            log.error("Season export {} failed", job.id, e);
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    private TournamentSlice read(UUID tournamentId) {
+        return readTransaction.execute(status -> new TournamentSlice(
+                matchRepository.findSeasonExportRowsByTournamentId(tournamentId),
+                matchEventRepository.findSeasonExportRowsByTournamentId(tournamentId),
+                tournamentPlayerRepository.findSeasonExportRowsByTournamentId(tournamentId)));
+    }
+
+    private static void encode(ColumnarFile file, Tournament tournament, TournamentSlice slice, Job job) {
+        ColumnarFile.Dictionary tournaments = file.idDictionary("tournaments");
+        ColumnarFile.Dictionary matches = file.idDictionary("matches");
+        ColumnarFile.Dictionary stages = file.idDictionary("stages");
+        ColumnarFile.Dictionary teams = file.idDictionary("teams");
+        ColumnarFile.Dictionary users = file.idDictionary("users");
+        ColumnarFile.Dictionary players = file.idDictionary("players");
+        ColumnarFile.Dictionary statuses = file.labelDictionary("matchStatus");
+        ColumnarFile.Dictionary eventTypes = file.labelDictionary("eventType");
+
+        ColumnarFile.Table matchTable = file.table("matches",
+                "match", "matches", "tournament", "tournaments", "stage", "stages",
+                "homeTeam", "teams", "awayTeam", "teams", "date", "", "kickOffMinute", "",
+                "status", "matchStatus", "homeScore", "", "awayScore", "");
+        ColumnarFile.Table eventTable = file.table("events",
+                "match", "matches", "team", "teams", "player", "users", "type", "eventType", "minute", "");
+        ColumnarFile.Table rosterTable = file.table("rosters",
+                "tournament", "tournaments", "team", "teams", "player", "players", "active", "", "eligible", "");
+
+        int tournamentIndex = tournaments.encode(tournament.getId(), tournament.getName());
+
+        for (SeasonMatchRow row : slice.matches()) {
+            matchTable.addRow(
+                    matches.encode(row.matchId(), row.matchCode()),
+                    tournamentIndex,
+                    stages.encode(row.stageId(), row.stageName()),
+                    teams.encode(row.homeTeamId(), row.homeTeamName()),
+                    teams.encode(row.awayTeamId(), row.awayTeamName()),
+                    row.matchDate() != null ? (int) row.matchDate().toEpochDay() : -1,
+                    row.kickOffTime() != null ? row.kickOffTime().toSecondOfDay() / 60 : -1,
+                    statuses.encode(row.status() != null ? row.status().name() : null),
+                    row.homeScore() != null ? row.homeScore() : -1,
+                    row.awayScore() != null ? row.awayScore() : -1);
+        }
+        for (SeasonEventRow row : slice.events()) {
+            String playerName = row.playerId() != null ? row.playerFirstName() + " " + row.playerLastName() : null;
+            eventTable.addRow(
+                    matches.encode(row.matchId(), null),
+                    teams.encode(row.teamId(), null),
+                    users.encode(row.playerId(), playerName),
+                    eventTypes.encode(row.eventType() != null ? row.eventType().name() : null),
+                    row.minute() != null ? row.minute() : -1);
+        }
+        for (SeasonRosterRow row : slice.roster()) {
+            rosterTable.addRow(
+                    tournamentIndex,
+                    teams.encode(row.teamId(), row.teamName()),
+                    players.encode(row.playerId(), row.firstName() + " " + row.lastName()),
+                    row.active() ? 1 : 0,
+                    row.eligible() ? 1 : 0);
+        }
+
+        job.matches += slice.matches().size();
+        job.events += slice.events().size();
+        job.rosterEntries += slice.roster().size();
+    }
+
+    private void pruneExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        jobs.values().removeIf(job -> {
+            if (job.finishedAt == null || !job.finishedAt.isBefore(cutoff)) {
+                return false;
+            }
+            if (job.file != null) {
+                try {
+                    Files.deleteIfExists(job.file);
+                } catch (IOException e) {
+                    log.warn("Could not delete expired export {}", job.file, e);
+                }
+            }
+            return true;
+        });
+    }
+
+    private record TournamentSlice(List<SeasonMatchRow> matches, List<SeasonEventRow> events,
+            List<SeasonRosterRow> roster) {
+    }
+
+    /**
+     * Mutable job state, written by the export thread and read by status calls.
+     */
+    private static final class Job {
+        private final UUID id;
+        private final UUID seasonId;
+        private final AtomicInteger tournamentsRead = new AtomicInteger();
+        private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+        private volatile int tournamentsTotal;
+        private volatile int matches;
+        private volatile int events;
+        private volatile int rosterEntries;
+        private volatile long fileSizeBytes;
+        private volatile Path file;
+        private volatile String error;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(UUID id, UUID seasonId) {
+            this.id = id;
+            this.seasonId = seasonId;
+        }
+
+        private SeasonExportStatusResponse toResponse() {
+            return SeasonExportStatusResponse.builder()
+                    .jobId(id)
+                    .seasonId(seasonId)
+                    .status(status)
+                    .tournamentsTotal(tournamentsTotal)
+                    .tournamentsRead(tournamentsRead.get())
+                    .matches(matches)
+                    .events(events)
+                    .rosterEntries(rosterEntries)
+                    .fileSizeBytes(fileSizeBytes)
+                    .error(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.athleticaos.backend.export;
+
+import com.athleticaos.backend.enums.MatchStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * One match of a season export, with stage and team names joined in.
+ */
+public record SeasonMatchRow(
+        UUID matchId,
+        String matchCode,
+        UUID stageId,
+        String stageName,
+        UUID homeTeamId,
+        String homeTeamName,
+        UUID awayTeamId,
+        String awayTeamName,
+        LocalDate matchDate,
+        LocalTime kickOffTime,
+        MatchStatus status,
+        Integer homeScore,
+        Integer awayScore) {
+}
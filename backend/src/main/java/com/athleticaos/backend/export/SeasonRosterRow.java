@@ -0,0 +1,16 @@
+package com.athleticaos.backend.export;
+
+import java.util.UUID;
+
+/**
+ * One tournament roster entry of a season export.
+ */
+public record SeasonRosterRow(
+        UUID teamId,
+        String teamName,
+        UUID playerId,
+        String firstName,
+        String lastName,
+        boolean active,
+        boolean eligible) {
+}
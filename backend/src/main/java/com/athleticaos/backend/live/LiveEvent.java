@@ -0,0 +1,21 @@
+package com.athleticaos.backend.live;
+
+import com.athleticaos.backend.enums.MatchEventType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One entry of a live match's in-memory event log.
+ */
+public record LiveEvent(
+        UUID id,
+        UUID teamId,
+        UUID playerId,
+        String playerFirstName,
+        String playerLastName,
+        MatchEventType eventType,
+        Integer minute,
+        String notes,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,198 @@
+package com.athleticaos.backend.live;
+
+import com.athleticaos.backend.enums.MatchEventType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory state of a match in progress: its append-only event log, running
+ * score and per-player card counts. Mutations are synchronised on the session.
+ */
+public class LiveMatchSession {
+
+    /**
+     * Display name of a player already resolved for this match.
+     */
+    public record PlayerName(String firstName, String lastName) {
+    }
+
+    private final UUID matchId;
+    private final UUID tournamentId;
+    private final String label;
+    private final UUID homeTeamId;
+    private final UUID awayTeamId;
+    private final Map<UUID, String> teamNames;
+
+    private final List<LiveEvent> log = new ArrayList<>();
+    private final Map<UUID, PlayerName> players = new HashMap<>();
+    private final Map<UUID, Integer> yellowCards = new HashMap<>();
+    private int homeScore;
+    private int awayScore;
+    // Position of the last appended event, counting from 1
+    private long sequence;
+    // Events the writer gave up on: sequence, home points, away points
+    private final List<long[]> lost = new ArrayList<>();
+
+    // Score last written to the matches row and the event it reflects; only touched by the writer
+    private Integer persistedHomeScore;
+    private Integer persistedAwayScore;
+    private long persistedSequence;
+
+    private final AtomicInteger unpersisted = new AtomicInteger();
+
+    LiveMatchSession(UUID matchId, UUID tournamentId, String matchCode, UUID homeTeamId, String homeTeamName, UUID awayTeamId,
+            String awayTeamName, Integer persistedHomeScore, Integer persistedAwayScore) {
+        this.matchId = matchId;
+        this.tournamentId = tournamentId;
+        this.label = matchCode != null ? matchCode : matchId.toString();
+        this.homeTeamId = homeTeamId;
+        this.awayTeamId = awayTeamId;
+        this.teamNames = new HashMap<>();
+        this.teamNames.put(homeTeamId, homeTeamName);
+        this.teamNames.put(awayTeamId, awayTeamName);
+        this.persistedHomeScore = persistedHomeScore;
+        this.persistedAwayScore = persistedAwayScore;
+    }
+
+    public UUID getMatchId() {
+        return matchId;
+    }
+
+    public UUID getTournamentId() {
+        return tournamentId;
+    }
+
+    /**
+     * Match code, or the id for matches without one.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    public UUID getHomeTeamId() {
+        return homeTeamId;
+    }
+
+    public UUID getAwayTeamId() {
+        return awayTeamId;
+    }
+
+    public boolean involves(UUID teamId) {
+        return teamId.equals(homeTeamId) || teamId.equals(awayTeamId);
+    }
+
+    public String teamName(UUID teamId) {
+        return teamNames.get(teamId);
+    }
+
+    public synchronized PlayerName player(UUID playerId) {
+        return players.get(playerId);
+    }
+
+    public synchronized void rememberPlayer(UUID playerId, PlayerName name) {
+        players.putIfAbsent(playerId, name);
+    }
+
+    public synchronized List<LiveEvent> events() {
+        return Collections.unmodifiableList(new ArrayList<>(log));
+    }
+
+    public synchronized int homeScore() {
+        return homeScore;
+    }
+
+    public synchronized int awayScore() {
+        return awayScore;
+    }
+
+    /**
+     * Appends an event and returns the player's yellow card count in this
+     * match after it.
+     */
+    synchronized int append(LiveEvent event) {
+        log.add(event);
+        sequence++;
+        if (event.playerId() != null && event.playerFirstName() != null) {
+            players.putIfAbsent(event.playerId(), new PlayerName(event.playerFirstName(), event.playerLastName()));
+        }
+
+        int points = event.eventType() != null ? event.eventType().getPoints() : 0;
+        if (event.teamId().equals(homeTeamId)) {
+            homeScore += points;
+        } else if (event.teamId().equals(awayTeamId)) {
+            awayScore += points;
+        }
+
+        if (event.eventType() == MatchEventType.YELLOW_CARD && event.playerId() != null) {
+            return yellowCards.merge(event.playerId(), 1, Integer::sum);
+        }
+        return event.playerId() != null ? yellowCards.getOrDefault(event.playerId(), 0) : 0;
+    }
+
+    synchronized long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Takes back an event that could not be saved, so the session matches the
+     * database again. Returns the home and away points it had added.
+     */
+    synchronized int[] discard(LiveEvent event, long eventSequence) {
+        log.removeIf(logged -> logged.id().equals(event.id()));
+
+        int points = event.eventType() != null ? event.eventType().getPoints() : 0;
+        int home = event.teamId().equals(homeTeamId) ? points : 0;
+        int away = event.teamId().equals(awayTeamId) ? points : 0;
+        homeScore -= home;
+        awayScore -= away;
+        if (event.eventType() == MatchEventType.YELLOW_CARD && event.playerId() != null) {
+            yellowCards.computeIfPresent(event.playerId(), (id, count) -> count > 1 ? count - 1 : null);
+        }
+        lost.add(new long[] {eventSequence, home, away});
+        return new int[] {home, away};
+    }
+
+    /**
+     * Home and away points of discarded events that a score taken after
+     * {@code eventSequence} still counts.
+     */
+    synchronized int[] lostPointsBefore(long eventSequence) {
+        int home = 0;
+        int away = 0;
+        for (long[] discarded : lost) {
+            if (discarded[0] < eventSequence) {
+                home += (int) discarded[1];
+                away += (int) discarded[2];
+            }
+        }
+        return new int[] {home, away};
+    }
+
+    AtomicInteger unpersisted() {
+        return unpersisted;
+    }
+
+    Integer persistedHomeScore() {
+        return persistedHomeScore;
+    }
+
+    Integer persistedAwayScore() {
+        return persistedAwayScore;
+    }
+
+    long persistedSequence() {
+        return persistedSequence;
+    }
+
+    void markPersisted(int homeScore, int awayScore, long eventSequence) {
+        this.persistedHomeScore = homeScore;
+        this.persistedAwayScore = awayScore;
+        this.persistedSequence = eventSequence;
+    }
+}
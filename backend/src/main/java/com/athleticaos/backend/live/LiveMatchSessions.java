@@ -0,0 +1,512 @@
+package com.athleticaos.backend.live;
+
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.MatchEventRecordedEvent;
+import com.athleticaos.backend.events.MatchResultChangedEvent;
+import com.athleticaos.backend.repositories.MatchEventRepository;
+import com.athleticaos.backend.repositories.MatchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Live sessions for matches in {@code ONGOING} status.
+ * Scorer writes are appended to the session in memory and acknowledged
+ * straight away; a single writer thread persists them in write-behind
+ * batches (events, then the running score) and publishes the usual domain
+ * events once each batch commits. A batch that fails is retried row by row,
+ * so one bad row only holds back itself; a row that keeps failing is logged
+ * and taken back out of its session. Sessions are rebuilt from the database
+ * on startup and whenever a match is first touched, so only events still
+ * queued at a crash are lost.
+ */
+@Component
+@Slf4j
+public class LiveMatchSessions {
+
+    private static final String INSERT_EVENT_SQL = "INSERT INTO match_events (id, match_id, team_id, player_id, "
+            + "event_type, minute, notes, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SCORE_SQL = "UPDATE matches SET home_score = ?, away_score = ? "
+            + "WHERE id = ? AND status = 'ONGOING'";
+
+    private final MatchRepository matchRepository;
+    private final MatchEventRepository matchEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+
+    @Value("${application.live.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${application.live.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${application.live.write-behind.flush-interval:250}")
+    private long flushIntervalMillis;
+
+    // Writes of one row, counting the batch it first failed in
+    @Value("${application.live.write-behind.max-attempts:5}")
+    private int maxAttempts;
+
+    private final Map<UUID, LiveMatchSession> sessions = new ConcurrentHashMap<>();
+    // Matches whose events are being changed directly; not reopened until that transaction completes
+    private final Map<UUID, Integer> held = new ConcurrentHashMap<>();
+    // Bumped on every hold, so an open that overlapped one does not keep what it read
+    private final AtomicLong holds = new AtomicLong();
+
+    /**
+     * A queued event with the running score after it.
+     *
+     * @param sequence position of the event in its session
+     * @param attempts failed writes so far
+     */
+    private record Pending(LiveMatchSession session, LiveEvent event, long sequence, int homeScore, int awayScore,
+            int attempts) {
+
+        Pending failed() {
+            return new Pending(session, event, sequence, homeScore, awayScore, attempts + 1);
+        }
+    }
+
+    private BlockingQueue<Pending> queue;
+    // Held while a batch is drained and written, so a caller that flushes
+    // never overtakes a batch the writer thread has already taken
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Condition wakeUp = writeLock.newCondition();
+    private final List<Pending> retry = new ArrayList<>();
+    private final AtomicLong lost = new AtomicLong();
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public LiveMatchSessions(MatchRepository matchRepository, MatchEventRepository matchEventRepository,
+            JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.matchRepository = matchRepository;
+        this.matchEventRepository = matchEventRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        // Batches commit on their own, even when flushed from inside a caller's transaction
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writerThread = new Thread(this::run, "live-match-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Reopens sessions for every match that was in progress when the
+     * application stopped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<UUID> ongoing = readTransaction.execute(status -> matchRepository.findByStatus(MatchStatus.ONGOING)
+                .stream()
+                .map(Match::getId)
+                .toList());
+        // One transaction per match, so its lazy teams load and one bad match does not stop the rest
+        for (UUID matchId : ongoing) {
+            try {
+                readTransaction.executeWithoutResult(status -> matchRepository.findById(matchId)
+                        .ifPresent(this::open));
+            } catch (RuntimeException e) {
+                log.error("Could not recover live session for match {}", matchId, e);
+            }
+        }
+        log.info("Recovered {} live match sessions", sessions.size());
+    }
+
+    /**
+     * The session of a match if one is open.
+     */
+    public LiveMatchSession find(UUID matchId) {
+        return sessions.get(matchId);
+    }
+
+    /**
+     * Returns the match's session, opening it from the database if the match is
+     * in progress; null if it is not, or while a direct write to its events
+     * has not completed. Must be called inside a transaction when the session
+     * is not yet open.
+     */
+    public LiveMatchSession open(Match match) {
+        LiveMatchSession existing = sessions.get(match.getId());
+        if (existing != null) {
+            return existing;
+        }
+        if (match.getStatus() != MatchStatus.ONGOING || match.getHomeTeam() == null
+                || match.getAwayTeam() == null || held.containsKey(match.getId())) {
+            return null;
+        }
+        long holdsBefore = holds.get();
+
+        LiveMatchSession session = new LiveMatchSession(
+                match.getId(),
+                match.getTournament().getId(),
+                match.getMatchCode(),
+                match.getHomeTeam().getId(),
+                match.getHomeTeam().getName(),
+                match.getAwayTeam().getId(),
+                match.getAwayTeam().getName(),
+                match.getHomeScore(),
+                match.getAwayScore());
+        for (LiveEvent event : matchEventRepository.findLiveEventsByMatchId(match.getId())) {
+            session.append(event);
+        }
+
+        LiveMatchSession raced = sessions.putIfAbsent(match.getId(), session);
+        if (raced != null) {
+            return raced;
+        }
+        if (holds.get() != holdsBefore) {
+            // A direct write may have changed the events after we read them
+            sessions.remove(match.getId(), session);
+            return null;
+        }
+        log.debug("Opened live session for match {} with {} events", match.getId(), session.events().size());
+        return session;
+    }
+
+    /**
+     * Appends an event to the session and queues it for persistence. Returns
+     * the player's yellow card count in the match after this event.
+     */
+    public int record(LiveMatchSession session, LiveEvent event) {
+        Pending pending;
+        int yellowCards;
+        // Append and enqueue together so the queue keeps each match's log order
+        synchronized (session) {
+            yellowCards = session.append(event);
+            pending = new Pending(session, event, session.sequence(), session.homeScore(), session.awayScore(), 0);
+            session.unpersisted().incrementAndGet();
+            if (queue.offer(pending)) {
+                return yellowCards;
+            }
+        }
+        // Queue full: the scorer waits for a synchronous flush rather than losing the event
+        log.warn("Live write-behind queue full, flushing on the request thread");
+        writeLock.lock();
+        try {
+            List<Pending> batch = drain();
+            batch.add(pending);
+            write(batch);
+        } finally {
+            writeLock.unlock();
+        }
+        return yellowCards;
+    }
+
+    /**
+     * Persists everything queued for the match and closes its session, so
+     * that status and score changes read the committed state. Must be called
+     * before the caller loads or locks the match row.
+     */
+    public void close(UUID matchId) {
+        LiveMatchSession session = sessions.get(matchId);
+        if (session == null) {
+            return;
+        }
+        flush(session);
+        sessions.remove(matchId, session);
+        log.debug("Closed live session for match {}", matchId);
+    }
+
+    /**
+     * Closes the match's session and keeps it closed until the current
+     * transaction completes, for writes that change the match's events in the
+     * database directly. Live writes in the meantime take the non-live path,
+     * and the next one after the commit reopens the session with those
+     * changes.
+     */
+    public void closeUntilCommit(UUID matchId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            held.merge(matchId, 1, Integer::sum);
+            holds.incrementAndGet();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    held.computeIfPresent(matchId, (id, count) -> count > 1 ? count - 1 : null);
+                }
+            });
+        }
+        close(matchId);
+    }
+
+    /**
+     * Writes everything that is queued, for all matches.
+     */
+    public void flushAll() {
+        writeLock.lock();
+        try {
+            write(drain());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultChanged(MatchResultChangedEvent event) {
+        // Safety net for status changes made without closing the session first
+        if (event.status() != MatchStatus.ONGOING && sessions.containsKey(event.matchId())) {
+            close(event.matchId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        writeLock.lock();
+        try {
+            wakeUp.signalAll();
+        } finally {
+            writeLock.unlock();
+        }
+        try {
+            writerThread.join(flushIntervalMillis + TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flushAll();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush live match events on shutdown", e);
+        }
+        log.info("Live match writer stopped ({} events lost since startup)", lost.get());
+    }
+
+    private void flush(LiveMatchSession session) {
+        writeLock.lock();
+        try {
+            write(drain());
+            // Rows of this match still being retried use up their attempts now,
+            // so the session closes with each of them either saved or given up
+            for (int pass = 1; pass < maxAttempts && session.unpersisted().get() > 0; pass++) {
+                List<Pending> own = new ArrayList<>();
+                retry.removeIf(pending -> pending.session() == session && own.add(pending));
+                write(own);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        if (session.unpersisted().get() > 0) {
+            throw new IllegalStateException("Live events for match " + session.getMatchId()
+                    + " could not be saved");
+        }
+    }
+
+    private void run() {
+        while (running) {
+            writeLock.lock();
+            try {
+                if (queue.isEmpty()) {
+                    // Releases the lock while waiting, so flushes from callers can run;
+                    // rows being retried wait here too
+                    wakeUp.await(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                }
+                List<Pending> batch = drain();
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+            } catch (InterruptedException e) {
+                // Whatever is left is written by shutdown()
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Live match writer failed", e);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    // Caller holds writeLock
+    private List<Pending> drain() {
+        List<Pending> batch = new ArrayList<>(retry);
+        retry.clear();
+        queue.drainTo(batch);
+        return batch;
+    }
+
+    // Caller holds writeLock; rows of a failed chunk are retried one by one
+    private void write(List<Pending> batch) {
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            List<Pending> chunk = batch.subList(from, Math.min(from + batchSize, batch.size()));
+            try {
+                writeChunk(chunk);
+            } catch (RuntimeException e) {
+                if (chunk.size() == 1) {
+                    failed(chunk.get(0), e);
+                    continue;
+                }
+                log.warn("Failed to persist {} live match events, retrying one by one", chunk.size(), e);
+                for (Pending pending : chunk) {
+                    try {
+                        writeChunk(List.of(pending));
+                    } catch (RuntimeException rowFailure) {
+                        failed(pending, rowFailure);
+                    }
+                }
+            }
+        }
+    }
+
+    private void failed(Pending pending, RuntimeException cause) {
+        Pending failed = pending.failed();
+        if (failed.attempts() >= maxAttempts) {
+            giveUp(failed, cause);
+            return;
+        }
+        log.warn("Failed to persist live event {} for match {} (attempt {} of {})", pending.event().id(),
+                pending.session().getLabel(), failed.attempts(), maxAttempts, cause);
+        retry.add(failed);
+    }
+
+    /**
+     * Drops a row that keeps failing. The event is logged in full so it can be
+     * re-entered, and taken out of the session; if the written score already
+     * counts it, the score is corrected.
+     */
+    private void giveUp(Pending pending, RuntimeException cause) {
+        LiveMatchSession session = pending.session();
+        LiveEvent event = pending.event();
+        lost.incrementAndGet();
+        log.error("Live event lost after {} attempts: {} {} for team {} player {} at minute {} ({}) in match {}",
+                pending.attempts(), event.id(), event.eventType(), event.teamId(), event.playerId(),
+                event.minute(), event.notes(), session.getLabel(), cause);
+
+        int[] points = session.discard(event, pending.sequence());
+        session.unpersisted().decrementAndGet();
+        if (pending.sequence() > session.persistedSequence() || (points[0] == 0 && points[1] == 0)) {
+            // Later writes leave its points out
+            return;
+        }
+        Integer previousHome = session.persistedHomeScore();
+        Integer previousAway = session.persistedAwayScore();
+        int home = (previousHome != null ? previousHome : 0) - points[0];
+        int away = (previousAway != null ? previousAway : 0) - points[1];
+        try {
+            writeTransaction.executeWithoutResult(status -> writeScore(session, previousHome, previousAway,
+                    home, away));
+            session.markPersisted(home, away, session.persistedSequence());
+        } catch (RuntimeException e) {
+            log.error("Could not correct the score of match {} after losing event {}", session.getLabel(),
+                    event.id(), e);
+        }
+    }
+
+    private void writeChunk(List<Pending> chunk) {
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        // Latest score per match in this chunk; retried rows may arrive out of order
+        Map<LiveMatchSession, Pending> latest = new LinkedHashMap<>();
+        for (Pending pending : chunk) {
+            LiveEvent event = pending.event();
+            rows.add(new Object[] {
+                    event.id(),
+                    pending.session().getMatchId(),
+                    event.teamId(),
+                    event.playerId(),
+                    event.eventType().name(),
+                    event.minute(),
+                    event.notes(),
+                    Timestamp.valueOf(event.createdAt())
+            });
+            latest.merge(pending.session(), pending,
+                    (current, next) -> next.sequence() > current.sequence() ? next : current);
+        }
+        // A retried row must not take the score back to before rows already written
+        latest.values().removeIf(pending -> pending.sequence() <= pending.session().persistedSequence());
+
+        Map<LiveMatchSession, int[]> scores = new LinkedHashMap<>();
+        for (Pending pending : latest.values()) {
+            int[] lostPoints = pending.session().lostPointsBefore(pending.sequence());
+            scores.put(pending.session(),
+                    new int[] {pending.homeScore() - lostPoints[0], pending.awayScore() - lostPoints[1]});
+        }
+
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, rows);
+
+            for (Pending pending : chunk) {
+                LiveMatchSession session = pending.session();
+                LiveEvent event = pending.event();
+                eventPublisher.publishEvent(new MatchEventRecordedEvent(
+                        event.id(),
+                        session.getTournamentId(),
+                        session.getMatchId(),
+                        event.teamId(),
+                        session.teamName(event.teamId()),
+                        event.playerId(),
+                        event.playerFirstName(),
+                        event.playerLastName(),
+                        event.eventType(),
+                        event.minute()));
+            }
+
+            scores.forEach((session, score) -> writeScore(session, session.persistedHomeScore(),
+                    session.persistedAwayScore(), score[0], score[1]));
+        });
+
+        for (Pending pending : latest.values()) {
+            int[] score = scores.get(pending.session());
+            pending.session().markPersisted(score[0], score[1], pending.sequence());
+        }
+        for (Pending pending : chunk) {
+            pending.session().unpersisted().decrementAndGet();
+        }
+    }
+
+    // Runs inside a write transaction
+    private void writeScore(LiveMatchSession session, Integer previousHome, Integer previousAway, int home,
+            int away) {
+        if (Integer.valueOf(home).equals(previousHome) && Integer.valueOf(away).equals(previousAway)) {
+            return;
+        }
+        jdbcTemplate.update(UPDATE_SCORE_SQL, home, away, session.getMatchId());
+        eventPublisher.publishEvent(new MatchResultChangedEvent(
+                session.getTournamentId(),
+                session.getMatchId(),
+                session.getHomeTeamId(),
+                session.getAwayTeamId(),
+                MatchStatus.ONGOING,
+                previousHome,
+                previousAway,
+                MatchStatus.ONGOING,
+                home,
+                away));
+    }
+}
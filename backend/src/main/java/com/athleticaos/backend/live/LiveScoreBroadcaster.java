@@ -0,0 +1,258 @@
+package com.athleticaos.backend.live;
+
+import com.athleticaos.backend.dtos.public_api.PublicLiveUpdate;
+import com.athleticaos.backend.dtos.public_api.PublicMatchEventResponse;
+import com.athleticaos.backend.events.MatchEventRecordedEvent;
+import com.athleticaos.backend.events.MatchEventRemovedEvent;
+import com.athleticaos.backend.events.MatchResultChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-sent event fan-out for public live scores.
+ * Each committed score or event change is serialised once and pushed to every
+ * subscriber of the match and of its tournament, so viewer count no longer
+ * drives database load. Every subscriber has its own bounded outbox drained
+ * by a small pool, so a slow client only delays itself; one whose outbox
+ * fills up is disconnected and has to resubscribe.
+ */
+@Component
+@Slf4j
+public class LiveScoreBroadcaster {
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<UUID, Set<Subscriber>> matchSubscribers = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<Subscriber>> tournamentSubscribers = new ConcurrentHashMap<>();
+
+    // Sends happen off the committing request thread
+    private final ExecutorService fanOutExecutor;
+
+    @Value("${application.live.emitter-timeout:1800000}")
+    private long emitterTimeout;
+
+    @Value("${application.live.subscriber-queue-capacity:64}")
+    private int subscriberQueueCapacity;
+
+    public LiveScoreBroadcaster(ObjectMapper objectMapper,
+            @Value("${application.live.fanout-threads:4}") int fanOutThreads) {
+        this.objectMapper = objectMapper;
+        this.fanOutExecutor = Executors.newFixedThreadPool(fanOutThreads, r -> {
+            Thread thread = new Thread(r, "live-score-fanout");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * One SSE client with its own outbox. At most one pool thread drains it at
+     * a time, which keeps its messages in order.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> outbox;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.outbox = new ArrayBlockingQueue<>(subscriberQueueCapacity);
+        }
+
+        private void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> message) {
+            if (closed) {
+                return;
+            }
+            if (!outbox.offer(message)) {
+                // Too far behind to catch up; the client reloads on reconnect
+                log.debug("Dropping slow live score subscriber");
+                close(null);
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                fanOutExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            Set<ResponseBodyEmitter.DataWithMediaType> message;
+            while (!closed && (message = outbox.poll()) != null) {
+                try {
+                    emitter.send(message);
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away
+                    close(e);
+                }
+            }
+            draining.set(false);
+            // A message may have arrived after the last poll
+            if (!closed && !outbox.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void close(Throwable error) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            outbox.clear();
+            if (error != null) {
+                emitter.completeWithError(error);
+            } else {
+                emitter.complete();
+            }
+        }
+    }
+
+    public SseEmitter subscribeToMatch(UUID matchId) {
+        return register(matchSubscribers, matchId);
+    }
+
+    public SseEmitter subscribeToTournament(UUID tournamentId) {
+        return register(tournamentSubscribers, tournamentId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventRecorded(MatchEventRecordedEvent event) {
+        String playerName = event.playerId() != null
+                ? event.playerFirstName() + " " + event.playerLastName()
+                : null;
+
+        broadcast(PublicLiveUpdate.builder()
+                .type("EVENT_ADDED")
+                .tournamentId(event.tournamentId())
+                .matchId(event.matchId())
+                .eventId(event.eventId())
+                .event(PublicMatchEventResponse.builder()
+                        .minute(event.minute())
+                        .teamName(event.teamName())
+                        .playerName(playerName)
+                        .eventType(event.eventType().name())
+                        .points(event.eventType().getPoints())
+                        .build())
+                .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventRemoved(MatchEventRemovedEvent event) {
+        broadcast(PublicLiveUpdate.builder()
+                .type("EVENT_REMOVED")
+                .tournamentId(event.tournamentId())
+                .matchId(event.matchId())
+                .eventId(event.eventId())
+                .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultChanged(MatchResultChangedEvent event) {
+        broadcast(PublicLiveUpdate.builder()
+                .type("RESULT")
+                .tournamentId(event.tournamentId())
+                .matchId(event.matchId())
+                .status(event.status() != null ? event.status().name() : null)
+                .homeScore(event.homeScore())
+                .awayScore(event.awayScore())
+                .build());
+    }
+
+    @Scheduled(fixedRateString = "${application.live.heartbeat-interval:25000}")
+    public void sendHeartbeat() {
+        if (matchSubscribers.isEmpty() && tournamentSubscribers.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("keep-alive").build();
+        matchSubscribers.values().forEach(subscribers -> sendAll(subscribers, heartbeat));
+        tournamentSubscribers.values().forEach(subscribers -> sendAll(subscribers, heartbeat));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOutExecutor.shutdownNow();
+        matchSubscribers.values().forEach(subscribers -> subscribers.forEach(s -> s.close(null)));
+        tournamentSubscribers.values().forEach(subscribers -> subscribers.forEach(s -> s.close(null)));
+    }
+
+    private SseEmitter register(Map<UUID, Set<Subscriber>> subscribers, UUID key) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout);
+        Subscriber subscriber = new Subscriber(emitter);
+        // Add and remove under the map's lock for the key, so an emptied set is never added to after removal
+        subscribers.compute(key, (k, registered) -> {
+            Set<Subscriber> set = registered != null ? registered : new CopyOnWriteArraySet<>();
+            set.add(subscriber);
+            return set;
+        });
+
+        Runnable remove = () -> {
+            subscriber.closed = true;
+            subscribers.computeIfPresent(key, (k, registered) -> {
+                registered.remove(subscriber);
+                return registered.isEmpty() ? null : registered;
+            });
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+
+    private void broadcast(PublicLiveUpdate update) {
+        Set<Subscriber> byMatch = matchSubscribers.get(update.getMatchId());
+        Set<Subscriber> byTournament = tournamentSubscribers.get(update.getTournamentId());
+        if (byMatch == null && byTournament == null) {
+            return;
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(update);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialise live update for match {}", update.getMatchId(), e);
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> message = SseEmitter.event()
+                .name(update.getType())
+                .data(payload, MediaType.APPLICATION_JSON)
+                .build();
+
+        if (byMatch != null) {
+            sendAll(byMatch, message);
+        }
+        if (byTournament != null) {
+            sendAll(byTournament, message);
+        }
+    }
+
+    // Only queues; the pool does the blocking sends
+    private void sendAll(Set<Subscriber> subscribers, Set<ResponseBodyEmitter.DataWithMediaType> message) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(message);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.athleticaos.backend.repositories;
 
 import com.athleticaos.backend.entities.AuditLog;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
@@ -18,4 +22,18 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
     Page<AuditLog> findByActorUserIdOrderByTimestampDesc(UUID actorUserId, Pageable pageable);
 
     Page<AuditLog> findByEntityTypeAndEntityIdOrderByTimestampDesc(String entityType, UUID entityId, Pageable pageable);
+
+    // Keyset scrolling on (timestamp, id); the time range lets PostgreSQL prune partitions
+
+    Window<AuditLog> findByTimestampBetweenOrderByTimestampDescIdDesc(LocalDateTime from, LocalDateTime to,
+            ScrollPosition position, Limit limit);
+
+    Window<AuditLog> findByOrganisationIdAndTimestampBetweenOrderByTimestampDescIdDesc(UUID organisationId,
+            LocalDateTime from, LocalDateTime to, ScrollPosition position, Limit limit);
+
+    Window<AuditLog> findByActorUserIdAndTimestampBetweenOrderByTimestampDescIdDesc(UUID actorUserId,
+            LocalDateTime from, LocalDateTime to, ScrollPosition position, Limit limit);
+
+    Window<AuditLog> findByEntityTypeAndEntityIdAndTimestampBetweenOrderByTimestampDescIdDesc(String entityType,
+            UUID entityId, LocalDateTime from, LocalDateTime to, ScrollPosition position, Limit limit);
 }
@@ -1,9 +1,22 @@
 package com.athleticaos.backend.repositories;
 
+import com.athleticaos.backend.dashboard.KeyedCountRow;
 import com.athleticaos.backend.entities.MatchEvent;
+import com.athleticaos.backend.enums.MatchEventType;
+import com.athleticaos.backend.export.SeasonEventRow;
+import com.athleticaos.backend.live.LiveEvent;
+import com.athleticaos.backend.stats.EventRollupRow;
+import com.athleticaos.backend.stats.EventTypeCountRow;
+import com.athleticaos.backend.stats.MatchEventRow;
+import com.athleticaos.backend.stats.PlayerNameRow;
+import com.athleticaos.backend.stats.PlayerStatsRow;
+import com.athleticaos.backend.stats.TeamEventCountRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,7 +24,86 @@ import java.util.UUID;
 public interface MatchEventRepository extends JpaRepository<MatchEvent, UUID> {
     List<MatchEvent> findByMatchId(UUID matchId);
 
+    long countByMatchIdAndPlayerIdAndEventType(UUID matchId, UUID playerId,
+            com.athleticaos.backend.enums.MatchEventType eventType);
+
+    // Rebuilds a live match session in recording order
+    @Query("SELECT new com.athleticaos.backend.live.LiveEvent(e.id, e.team.id, p.id, p.firstName, p.lastName, "
+            + "e.eventType, e.minute, e.notes, e.createdAt) "
+            + "FROM MatchEvent e LEFT JOIN e.player p WHERE e.match.id = :matchId ORDER BY e.createdAt, e.id")
+    List<LiveEvent> findLiveEventsByMatchId(@Param("matchId") UUID matchId);
+
+    @Query("SELECT e.clientEventId FROM MatchEvent e WHERE e.match.id = :matchId "
+            + "AND e.clientEventId IN :clientEventIds")
+    List<String> findExistingClientEventIds(@Param("matchId") UUID matchId,
+            @Param("clientEventIds") Collection<String> clientEventIds);
+
+    @Query("SELECT new com.athleticaos.backend.dashboard.KeyedCountRow(e.player.id, COUNT(e)) "
+            + "FROM MatchEvent e WHERE e.match.id = :matchId AND e.eventType = :eventType "
+            + "AND e.player.id IN :playerIds GROUP BY e.player.id")
+    List<KeyedCountRow> countByPlayerForMatch(@Param("matchId") UUID matchId,
+            @Param("eventType") MatchEventType eventType, @Param("playerIds") Collection<UUID> playerIds);
+
     List<MatchEvent> findByMatch_Tournament_Id(UUID tournamentId);
 
+    @Query("SELECT DISTINCT e.player.id FROM MatchEvent e WHERE e.match.id IN :matchIds AND e.player IS NOT NULL")
+    List<UUID> findPlayerIdsByMatchIdIn(@Param("matchIds") Collection<UUID> matchIds);
+
     List<MatchEvent> findByPlayer_Id(UUID playerId);
+
+    // Ordered by match so per-player match runs are contiguous for the stats kernel
+    @Query("SELECT new com.athleticaos.backend.stats.MatchEventRow(e.match.id, e.team.id, p.id, e.eventType) "
+            + "FROM MatchEvent e LEFT JOIN e.player p WHERE e.match.tournament.id = :tournamentId ORDER BY e.match.id")
+    List<MatchEventRow> findEventRowsByTournamentId(@Param("tournamentId") UUID tournamentId);
+
+    @Query("SELECT new com.athleticaos.backend.export.SeasonEventRow(e.match.id, e.team.id, p.id, p.firstName, "
+            + "p.lastName, e.eventType, e.minute) "
+            + "FROM MatchEvent e LEFT JOIN e.player p WHERE e.match.tournament.id = :tournamentId")
+    List<SeasonEventRow> findSeasonExportRowsByTournamentId(@Param("tournamentId") UUID tournamentId);
+
+    @Query("SELECT DISTINCT new com.athleticaos.backend.stats.PlayerNameRow(p.id, p.firstName, p.lastName) "
+            + "FROM MatchEvent e JOIN e.player p WHERE e.match.tournament.id = :tournamentId")
+    List<PlayerNameRow> findPlayerNamesByTournamentId(@Param("tournamentId") UUID tournamentId);
+
+    @Query("SELECT new com.athleticaos.backend.stats.EventTypeCountRow(e.eventType, COUNT(e)) "
+            + "FROM MatchEvent e WHERE e.match.tournament.id = :tournamentId GROUP BY e.eventType")
+    List<EventTypeCountRow> countByEventTypeForTournament(@Param("tournamentId") UUID tournamentId);
+
+    @Query("SELECT new com.athleticaos.backend.stats.PlayerStatsRow(p.id, p.firstName, p.lastName, MIN(t.name), "
+            + "COUNT(DISTINCT e.match.id), "
+            + "SUM(CASE WHEN e.eventType = com.athleticaos.backend.enums.MatchEventType.TRY THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN e.eventType = com.athleticaos.backend.enums.MatchEventType.CONVERSION THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN e.eventType = com.athleticaos.backend.enums.MatchEventType.PENALTY THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN e.eventType = com.athleticaos.backend.enums.MatchEventType.DROP_GOAL THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN e.eventType = com.athleticaos.backend.enums.MatchEventType.YELLOW_CARD THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN e.eventType = com.athleticaos.backend.enums.MatchEventType.RED_CARD THEN 1 ELSE 0 END)) "
+            + "FROM MatchEvent e JOIN e.player p LEFT JOIN e.team t "
+            + "WHERE e.match.tournament.id = :tournamentId "
+            + "GROUP BY p.id, p.firstName, p.lastName")
+    List<PlayerStatsRow> aggregatePlayerStatsForTournament(@Param("tournamentId") UUID tournamentId);
+
+    @Query("SELECT new com.athleticaos.backend.stats.TeamEventCountRow(e.team.id, "
+            + "SUM(CASE WHEN e.eventType = com.athleticaos.backend.enums.MatchEventType.TRY THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN e.eventType = com.athleticaos.backend.enums.MatchEventType.YELLOW_CARD THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN e.eventType = com.athleticaos.backend.enums.MatchEventType.RED_CARD THEN 1 ELSE 0 END)) "
+            + "FROM MatchEvent e WHERE e.match.tournament.id = :tournamentId GROUP BY e.team.id")
+    List<TeamEventCountRow> aggregateTeamEventsForTournament(@Param("tournamentId") UUID tournamentId);
+
+    // Player, team and tournament totals in one scan; GROUPING gives 1, 2 and 3 respectively
+    @Query(value = "SELECT GROUPING(e.player_id, e.team_id) AS \"level\", "
+            + "e.player_id AS \"playerId\", u.first_name AS \"firstName\", u.last_name AS \"lastName\", "
+            + "e.team_id AS \"teamId\", MIN(t.name) AS \"teamName\", "
+            + "COUNT(DISTINCT e.match_id) AS \"matchesPlayed\", "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'TRY') AS \"tries\", "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'CONVERSION') AS \"conversions\", "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'PENALTY') AS \"penalties\", "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'DROP_GOAL') AS \"dropGoals\", "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'YELLOW_CARD') AS \"yellowCards\", "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'RED_CARD') AS \"redCards\" "
+            + "FROM match_events e JOIN matches m ON m.id = e.match_id "
+            + "LEFT JOIN users u ON u.id = e.player_id LEFT JOIN teams t ON t.id = e.team_id "
+            + "WHERE m.tournament_id = :tournamentId "
+            + "GROUP BY GROUPING SETS ((e.player_id, u.first_name, u.last_name), (e.team_id), ())",
+            nativeQuery = true)
+    List<EventRollupRow> aggregateEventRollupForTournament(@Param("tournamentId") UUID tournamentId);
 }
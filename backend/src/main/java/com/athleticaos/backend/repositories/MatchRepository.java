@@ -13,6 +13,66 @@ public interface MatchRepository extends JpaRepository<Match, UUID> {
 
     List<Match> findByStageId(UUID stageId);
 
+    // Everything the bracket view needs in one round trip; teams are null for TBD slots
+    @org.springframework.data.jpa.repository.Query("SELECT m FROM Match m "
+            + "JOIN FETCH m.tournament "
+            + "LEFT JOIN FETCH m.stage "
+            + "LEFT JOIN FETCH m.homeTeam "
+            + "LEFT JOIN FETCH m.awayTeam "
+            + "WHERE m.tournament.id = :tournamentId")
+    List<Match> findBracketMatchesByTournamentId(
+            @org.springframework.data.repository.query.Param("tournamentId") UUID tournamentId);
+
+    // Result entry for a round: everything publishing, standings and progression touch
+    @org.springframework.data.jpa.repository.Query("SELECT m FROM Match m "
+            + "JOIN FETCH m.tournament "
+            + "LEFT JOIN FETCH m.stage "
+            + "LEFT JOIN FETCH m.homeTeam "
+            + "LEFT JOIN FETCH m.awayTeam "
+            + "LEFT JOIN FETCH m.winnerNextMatch "
+            + "LEFT JOIN FETCH m.loserNextMatch "
+            + "WHERE m.id IN :ids")
+    List<Match> findResultMatchesByIdIn(
+            @org.springframework.data.repository.query.Param("ids") java.util.Collection<UUID> ids);
+
+    // Matches with their team and organisation names for the stats kernel, without loading entities
+    @org.springframework.data.jpa.repository.Query("SELECT new com.athleticaos.backend.stats.MatchStatsRow("
+            + "m.id, h.id, h.name, ho.name, a.id, a.name, ao.name, m.status, m.homeScore, m.awayScore) "
+            + "FROM Match m "
+            + "LEFT JOIN m.homeTeam h "
+            + "LEFT JOIN h.organisation ho "
+            + "LEFT JOIN m.awayTeam a "
+            + "LEFT JOIN a.organisation ao "
+            + "WHERE m.tournament.id = :tournamentId")
+    List<com.athleticaos.backend.stats.MatchStatsRow> findStatsRowsByTournamentId(
+            @org.springframework.data.repository.query.Param("tournamentId") UUID tournamentId);
+
+    // Flat rows for CSV export, read through a server-side cursor; the caller must hold a transaction
+    @org.springframework.data.jpa.repository.Query("SELECT new com.athleticaos.backend.export.MatchExportRow("
+            + "m.id, s.name, h.name, a.name, m.matchDate, m.kickOffTime, m.venue, m.status, m.homeScore, m.awayScore) "
+            + "FROM Match m "
+            + "LEFT JOIN m.stage s "
+            + "LEFT JOIN m.homeTeam h "
+            + "LEFT JOIN m.awayTeam a "
+            + "WHERE m.tournament.id = :tournamentId "
+            + "ORDER BY m.matchDate, m.kickOffTime, m.id")
+    @org.springframework.data.jpa.repository.QueryHints(@jakarta.persistence.QueryHint(
+            name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    java.util.stream.Stream<com.athleticaos.backend.export.MatchExportRow> streamExportRowsByTournamentId(
+            @org.springframework.data.repository.query.Param("tournamentId") UUID tournamentId);
+
+    @org.springframework.data.jpa.repository.Query("SELECT new com.athleticaos.backend.export.SeasonMatchRow("
+            + "m.id, m.matchCode, s.id, s.name, h.id, h.name, a.id, a.name, m.matchDate, m.kickOffTime, m.status, "
+            + "m.homeScore, m.awayScore) "
+            + "FROM Match m "
+            + "LEFT JOIN m.stage s "
+            + "LEFT JOIN m.homeTeam h "
+            + "LEFT JOIN m.awayTeam a "
+            + "WHERE m.tournament.id = :tournamentId "
+            + "ORDER BY m.matchDate, m.kickOffTime, m.id")
+    List<com.athleticaos.backend.export.SeasonMatchRow> findSeasonExportRowsByTournamentId(
+            @org.springframework.data.repository.query.Param("tournamentId") UUID tournamentId);
+
     // Find matches where the team is either home or away
     List<Match> findByHomeTeamIdOrAwayTeamId(UUID homeTeamId, UUID awayTeamId);
 
@@ -20,9 +80,69 @@ public interface MatchRepository extends JpaRepository<Match, UUID> {
 
     List<Match> findByStatus(com.athleticaos.backend.enums.MatchStatus status);
 
+    @org.springframework.data.jpa.repository.Query("SELECT m.status FROM Match m WHERE m.id = :id")
+    java.util.Optional<com.athleticaos.backend.enums.MatchStatus> findStatusById(
+            @org.springframework.data.repository.query.Param("id") UUID id);
+
+    @org.springframework.data.jpa.repository.Query("SELECT m.id FROM Match m WHERE m.id IN :ids AND m.status = :status")
+    List<UUID> findIdsByIdInAndStatus(
+            @org.springframework.data.repository.query.Param("ids") java.util.Collection<UUID> ids,
+            @org.springframework.data.repository.query.Param("status") com.athleticaos.backend.enums.MatchStatus status);
+
     long countByStatus(com.athleticaos.backend.enums.MatchStatus status);
 
     @org.springframework.data.jpa.repository.Query("SELECT m FROM Match m WHERE m.homeTeam.organisation.id IN :orgIds OR m.awayTeam.organisation.id IN :orgIds OR m.tournament.organiserOrg.id IN :orgIds")
     List<Match> findMatchesByOrganisationIds(
             @org.springframework.data.repository.query.Param("orgIds") java.util.Set<UUID> orgIds);
+
+    long countByTournamentId(UUID tournamentId);
+
+    long countByTournamentIdAndStatus(UUID tournamentId, com.athleticaos.backend.enums.MatchStatus status);
+
+    // Each match joins once to its home team and once to its away team; only
+    // completed matches with both scores contribute to W/D/L and points
+    @org.springframework.data.jpa.repository.Query("SELECT new com.athleticaos.backend.stats.TeamResultRow("
+            + "t.id, t.name, o.name, COUNT(m), "
+            + "SUM(CASE WHEN m.status = com.athleticaos.backend.enums.MatchStatus.COMPLETED "
+            + "AND m.homeScore IS NOT NULL AND m.awayScore IS NOT NULL "
+            + "AND ((m.homeTeam = t AND m.homeScore > m.awayScore) OR (m.awayTeam = t AND m.awayScore > m.homeScore)) "
+            + "THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN m.status = com.athleticaos.backend.enums.MatchStatus.COMPLETED "
+            + "AND m.homeScore IS NOT NULL AND m.awayScore IS NOT NULL AND m.homeScore = m.awayScore "
+            + "THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN m.status = com.athleticaos.backend.enums.MatchStatus.COMPLETED "
+            + "AND m.homeScore IS NOT NULL AND m.awayScore IS NOT NULL "
+            + "AND ((m.homeTeam = t AND m.homeScore < m.awayScore) OR (m.awayTeam = t AND m.awayScore < m.homeScore)) "
+            + "THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN m.status = com.athleticaos.backend.enums.MatchStatus.COMPLETED "
+            + "AND m.homeScore IS NOT NULL AND m.awayScore IS NOT NULL "
+            + "THEN (CASE WHEN m.homeTeam = t THEN m.homeScore ELSE m.awayScore END) ELSE 0 END), "
+            + "SUM(CASE WHEN m.status = com.athleticaos.backend.enums.MatchStatus.COMPLETED "
+            + "AND m.homeScore IS NOT NULL AND m.awayScore IS NOT NULL "
+            + "THEN (CASE WHEN m.homeTeam = t THEN m.awayScore ELSE m.homeScore END) ELSE 0 END)) "
+            + "FROM Match m JOIN Team t ON (m.homeTeam = t OR m.awayTeam = t) LEFT JOIN t.organisation o "
+            + "WHERE m.tournament.id = :tournamentId "
+            + "GROUP BY t.id, t.name, o.name")
+    List<com.athleticaos.backend.stats.TeamResultRow> aggregateTeamResultsForTournament(
+            @org.springframework.data.repository.query.Param("tournamentId") UUID tournamentId);
+
+    @org.springframework.data.jpa.repository.Query("SELECT new com.athleticaos.backend.season.SeasonMatchCountRow("
+            + "t.season.id, COUNT(m), "
+            + "SUM(CASE WHEN m.status = com.athleticaos.backend.enums.MatchStatus.COMPLETED THEN 1L ELSE 0L END)) "
+            + "FROM Match m JOIN m.tournament t "
+            + "WHERE t.season.id IN :seasonIds AND t.deleted = false "
+            + "GROUP BY t.season.id")
+    List<com.athleticaos.backend.season.SeasonMatchCountRow> countMatchesBySeasonIds(
+            @org.springframework.data.repository.query.Param("seasonIds") java.util.Collection<UUID> seasonIds);
+
+    @org.springframework.data.jpa.repository.Query("SELECT new com.athleticaos.backend.dashboard.MatchStatusCountRow("
+            + "m.tournament.id, m.status, COUNT(m)) "
+            + "FROM Match m GROUP BY m.tournament.id, m.status")
+    List<com.athleticaos.backend.dashboard.MatchStatusCountRow> countByTournamentAndStatus();
+
+    @org.springframework.data.jpa.repository.Query("SELECT new com.athleticaos.backend.dashboard.MatchStatusCountRow("
+            + "m.tournament.id, m.status, COUNT(m)) "
+            + "FROM Match m WHERE m.tournament.id = :tournamentId GROUP BY m.tournament.id, m.status")
+    List<com.athleticaos.backend.dashboard.MatchStatusCountRow> countByStatusForTournament(
+            @org.springframework.data.repository.query.Param("tournamentId") UUID tournamentId);
 }
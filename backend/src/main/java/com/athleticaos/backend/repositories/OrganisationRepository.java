@@ -2,6 +2,7 @@ package com.athleticaos.backend.repositories;
 
 import com.athleticaos.backend.entities.Organisation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
@@ -14,4 +15,8 @@ public interface OrganisationRepository extends JpaRepository<Organisation, UUID
 
     java.util.List<Organisation> findByOrgLevelAndParentOrgId(com.athleticaos.backend.enums.OrganisationLevel level,
             UUID parentId);
+
+    @Query("SELECT new com.athleticaos.backend.cache.OrganisationParentRow(o.id, p.id) " +
+            "FROM Organisation o LEFT JOIN o.parentOrg p")
+    java.util.List<com.athleticaos.backend.cache.OrganisationParentRow> findAllParentRows();
 }
@@ -15,4 +15,9 @@ public interface PlayerRepository extends JpaRepository<Player, UUID> {
     List<Player> findByStatus(String status);
 
     List<Player> findAllByOrderByCreatedAtDesc();
+
+    @org.springframework.data.jpa.repository.Query("SELECT p FROM Player p LEFT JOIN FETCH p.person "
+            + "WHERE p.id IN :ids")
+    List<Player> findAllWithPersonByIdIn(
+            @org.springframework.data.repository.query.Param("ids") java.util.Collection<UUID> ids);
 }
@@ -1,7 +1,11 @@
 package com.athleticaos.backend.repositories;
 
 import com.athleticaos.backend.entities.PlayerSuspension;
+import com.athleticaos.backend.suspension.ActiveSuspension;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +21,19 @@ public interface PlayerSuspensionRepository extends JpaRepository<PlayerSuspensi
     List<PlayerSuspension> findByTournamentIdAndIsActiveTrue(UUID tournamentId);
 
     List<PlayerSuspension> findByPlayerIdAndIsActiveTrue(UUID playerId);
+
+    @Query("SELECT new com.athleticaos.backend.suspension.ActiveSuspension(s.id, s.team.id, s.player.id, "
+            + "s.reason, s.matchesRemaining) FROM PlayerSuspension s "
+            + "WHERE s.tournament.id = :tournamentId AND s.isActive = true ORDER BY s.createdAt, s.id")
+    List<ActiveSuspension> findActiveLedgerRows(@Param("tournamentId") UUID tournamentId);
+
+    // Serves one match off every active suspension of the teams; both SET
+    // expressions see the pre-update value
+    @Modifying
+    @Query(value = "UPDATE player_suspensions SET matches_remaining = matches_remaining - 1, "
+            + "is_active = (matches_remaining > 1) "
+            + "WHERE tournament_id = :tournamentId AND team_id IN (:teamIds) AND is_active = true",
+            nativeQuery = true)
+    int serveOneMatch(@Param("tournamentId") UUID tournamentId,
+            @Param("teamIds") java.util.Collection<UUID> teamIds);
 }
@@ -30,4 +30,13 @@ public interface PlayerTeamRepository extends JpaRepository<PlayerTeam, UUID> {
     @Query("SELECT DISTINCT pt.player FROM PlayerTeam pt WHERE pt.team.organisation.id IN :orgIds AND pt.isActive = true ORDER BY pt.player.createdAt DESC")
     List<com.athleticaos.backend.entities.Player> findPlayersByOrganisationIds(
             @Param("orgIds") java.util.Set<UUID> orgIds);
+
+    @Query("SELECT new com.athleticaos.backend.dashboard.KeyedCountRow(pt.team.organisation.id, "
+            + "COUNT(DISTINCT pt.player.id)) FROM PlayerTeam pt WHERE pt.isActive = true "
+            + "GROUP BY pt.team.organisation.id")
+    List<com.athleticaos.backend.dashboard.KeyedCountRow> countActivePlayersByOrganisation();
+
+    @Query("SELECT pt FROM PlayerTeam pt WHERE pt.team.id IN :teamIds AND pt.player.id IN :playerIds")
+    List<PlayerTeam> findByTeamIdsAndPlayerIds(@Param("teamIds") java.util.Collection<UUID> teamIds,
+            @Param("playerIds") java.util.Collection<UUID> playerIds);
 }
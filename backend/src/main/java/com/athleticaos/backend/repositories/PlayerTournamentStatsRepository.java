@@ -0,0 +1,64 @@
+package com.athleticaos.backend.repositories;
+
+import com.athleticaos.backend.entities.PlayerTournamentStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PlayerTournamentStatsRepository extends JpaRepository<PlayerTournamentStats, UUID> {
+    // Most recent tournament first; updated_at is only the refresh time
+    @Query("SELECT s FROM PlayerTournamentStats s, Tournament t WHERE t.id = s.tournamentId "
+            + "AND s.playerId = :playerId ORDER BY t.startDate DESC NULLS LAST, t.createdAt DESC")
+    List<PlayerTournamentStats> findByPlayerIdOrderByTournamentDateDesc(@Param("playerId") UUID playerId);
+
+    @Modifying
+    @Query(value = "DELETE FROM player_tournament_stats WHERE tournament_id = :tournamentId", nativeQuery = true)
+    int deleteByTournament(@Param("tournamentId") UUID tournamentId);
+
+    @Modifying
+    @Query(value = "INSERT INTO player_tournament_stats (player_id, tournament_id, team_name, matches_played, "
+            + "tries, conversions, penalties, drop_goals, yellow_cards, red_cards, updated_at) "
+            + "SELECT e.player_id, m.tournament_id, MIN(t.name), COUNT(DISTINCT e.match_id), "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'TRY'), "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'CONVERSION'), "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'PENALTY'), "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'DROP_GOAL'), "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'YELLOW_CARD'), "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'RED_CARD'), "
+            + "CURRENT_TIMESTAMP "
+            + "FROM match_events e JOIN matches m ON m.id = e.match_id LEFT JOIN teams t ON t.id = e.team_id "
+            + "WHERE m.tournament_id = :tournamentId AND e.player_id IS NOT NULL "
+            + "GROUP BY e.player_id, m.tournament_id", nativeQuery = true)
+    int insertRollupForTournament(@Param("tournamentId") UUID tournamentId);
+
+    @Modifying
+    @Query(value = "DELETE FROM player_tournament_stats WHERE tournament_id = :tournamentId "
+            + "AND player_id IN (:playerIds)", nativeQuery = true)
+    int deleteByTournamentAndPlayers(@Param("tournamentId") UUID tournamentId,
+            @Param("playerIds") Collection<UUID> playerIds);
+
+    // Same rollup as insertRollupForTournament, for the given players only
+    @Modifying
+    @Query(value = "INSERT INTO player_tournament_stats (player_id, tournament_id, team_name, matches_played, "
+            + "tries, conversions, penalties, drop_goals, yellow_cards, red_cards, updated_at) "
+            + "SELECT e.player_id, m.tournament_id, MIN(t.name), COUNT(DISTINCT e.match_id), "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'TRY'), "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'CONVERSION'), "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'PENALTY'), "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'DROP_GOAL'), "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'YELLOW_CARD'), "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'RED_CARD'), "
+            + "CURRENT_TIMESTAMP "
+            + "FROM match_events e JOIN matches m ON m.id = e.match_id LEFT JOIN teams t ON t.id = e.team_id "
+            + "WHERE m.tournament_id = :tournamentId AND e.player_id IN (:playerIds) "
+            + "GROUP BY e.player_id, m.tournament_id", nativeQuery = true)
+    int insertRollupForPlayers(@Param("tournamentId") UUID tournamentId,
+            @Param("playerIds") Collection<UUID> playerIds);
+}
@@ -0,0 +1,82 @@
+package com.athleticaos.backend.repositories;
+
+import com.athleticaos.backend.entities.PoolStanding;
+import com.athleticaos.backend.standings.PoolStandingRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PoolStandingRepository extends JpaRepository<PoolStanding, UUID> {
+
+    // One round trip for every pool table of a tournament, with stage and team names
+    @Query("SELECT new com.athleticaos.backend.standings.PoolStandingRow(st.id, st.name, st.displayOrder, "
+            + "t.id, t.name, ps.played, ps.wins, ps.draws, ps.losses, ps.pointsFor, ps.pointsAgainst, "
+            + "ps.bonusPoints, ps.tablePoints) "
+            + "FROM PoolStanding ps, TournamentStage st, Team t "
+            + "WHERE st.id = ps.stageId AND t.id = ps.teamId AND ps.tournamentId = :tournamentId")
+    List<PoolStandingRow> findRowsByTournamentId(@Param("tournamentId") UUID tournamentId);
+
+    // Adds a signed delta to a team's row, creating it on first use
+    @Modifying
+    @Query(value = "INSERT INTO pool_standings (stage_id, team_id, tournament_id, played, wins, draws, losses, "
+            + "points_for, points_against, bonus_points, table_points, updated_at) "
+            + "VALUES (:stageId, :teamId, :tournamentId, :played, :wins, :draws, :losses, :pointsFor, "
+            + ":pointsAgainst, :bonusPoints, :tablePoints, CURRENT_TIMESTAMP) "
+            + "ON CONFLICT (stage_id, team_id) DO UPDATE SET "
+            + "played = pool_standings.played + EXCLUDED.played, "
+            + "wins = pool_standings.wins + EXCLUDED.wins, "
+            + "draws = pool_standings.draws + EXCLUDED.draws, "
+            + "losses = pool_standings.losses + EXCLUDED.losses, "
+            + "points_for = pool_standings.points_for + EXCLUDED.points_for, "
+            + "points_against = pool_standings.points_against + EXCLUDED.points_against, "
+            + "bonus_points = pool_standings.bonus_points + EXCLUDED.bonus_points, "
+            + "table_points = pool_standings.table_points + EXCLUDED.table_points, "
+            + "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int applyDelta(@Param("stageId") UUID stageId,
+            @Param("teamId") UUID teamId,
+            @Param("tournamentId") UUID tournamentId,
+            @Param("played") int played,
+            @Param("wins") int wins,
+            @Param("draws") int draws,
+            @Param("losses") int losses,
+            @Param("pointsFor") int pointsFor,
+            @Param("pointsAgainst") int pointsAgainst,
+            @Param("bonusPoints") int bonusPoints,
+            @Param("tablePoints") int tablePoints);
+
+    @Modifying
+    @Query(value = "DELETE FROM pool_standings WHERE tournament_id = :tournamentId", nativeQuery = true)
+    int deleteByTournament(@Param("tournamentId") UUID tournamentId);
+
+    // Same scoring as PoolStandingsWriter: win 4, draw 2, +1 bonus for 28 or more points
+    @Modifying
+    @Query(value = "INSERT INTO pool_standings (stage_id, team_id, tournament_id, played, wins, draws, losses, "
+            + "points_for, points_against, bonus_points, table_points, updated_at) "
+            + "SELECT x.stage_id, x.team_id, :tournamentId, "
+            + "COUNT(*) FILTER (WHERE x.done), "
+            + "COUNT(*) FILTER (WHERE x.done AND x.scored > x.conceded), "
+            + "COUNT(*) FILTER (WHERE x.done AND x.scored = x.conceded), "
+            + "COUNT(*) FILTER (WHERE x.done AND x.scored < x.conceded), "
+            + "COALESCE(SUM(x.scored) FILTER (WHERE x.done), 0), "
+            + "COALESCE(SUM(x.conceded) FILTER (WHERE x.done), 0), "
+            + "COUNT(*) FILTER (WHERE x.done AND x.scored >= 28), "
+            + "4 * COUNT(*) FILTER (WHERE x.done AND x.scored > x.conceded) "
+            + "+ 2 * COUNT(*) FILTER (WHERE x.done AND x.scored = x.conceded) "
+            + "+ COUNT(*) FILTER (WHERE x.done AND x.scored >= 28), CURRENT_TIMESTAMP "
+            + "FROM (SELECT m.stage_id, m.home_team_id AS team_id, m.home_score AS scored, m.away_score AS conceded, "
+            + "(m.status = 'COMPLETED' AND m.home_score IS NOT NULL AND m.away_score IS NOT NULL) AS done "
+            + "FROM matches m JOIN tournament_stages s ON s.id = m.stage_id "
+            + "WHERE m.tournament_id = :tournamentId AND s.is_group_stage AND m.home_team_id IS NOT NULL "
+            + "UNION ALL SELECT m.stage_id, m.away_team_id, m.away_score, m.home_score, "
+            + "(m.status = 'COMPLETED' AND m.home_score IS NOT NULL AND m.away_score IS NOT NULL) "
+            + "FROM matches m JOIN tournament_stages s ON s.id = m.stage_id "
+            + "WHERE m.tournament_id = :tournamentId AND s.is_group_stage AND m.away_team_id IS NOT NULL) x "
+            + "GROUP BY x.stage_id, x.team_id", nativeQuery = true)
+    int insertForTournament(@Param("tournamentId") UUID tournamentId);
+}
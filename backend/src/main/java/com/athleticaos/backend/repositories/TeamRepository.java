@@ -15,4 +15,13 @@ public interface TeamRepository extends JpaRepository<Team, UUID> {
     boolean existsBySlug(String slug);
 
     java.util.List<Team> findByOrganisation_IdIn(java.util.Set<UUID> orgIds);
+
+    @org.springframework.data.jpa.repository.Query("SELECT new com.athleticaos.backend.dashboard.KeyedCountRow("
+            + "t.organisation.id, COUNT(t)) FROM Team t GROUP BY t.organisation.id")
+    java.util.List<com.athleticaos.backend.dashboard.KeyedCountRow> countByOrganisation();
+
+    @org.springframework.data.jpa.repository.Query("SELECT t FROM Team t JOIN FETCH t.organisation "
+            + "WHERE t.id IN :ids")
+    java.util.List<Team> findAllWithOrganisationByIdIn(
+            @org.springframework.data.repository.query.Param("ids") java.util.Collection<UUID> ids);
 }
@@ -0,0 +1,84 @@
+package com.athleticaos.backend.repositories;
+
+import com.athleticaos.backend.entities.TeamTournamentStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TeamTournamentStatsRepository extends JpaRepository<TeamTournamentStats, UUID> {
+    List<TeamTournamentStats> findByTeamId(UUID teamId);
+
+    @Modifying
+    @Query(value = "DELETE FROM team_tournament_stats WHERE tournament_id = :tournamentId", nativeQuery = true)
+    int deleteByTournament(@Param("tournamentId") UUID tournamentId);
+
+    // Home and away sides are unioned so each team sees its own score as "for"
+    @Modifying
+    @Query(value = "INSERT INTO team_tournament_stats (team_id, tournament_id, matches_played, wins, draws, losses, "
+            + "points_for, points_against, tries_scored, yellow_cards, red_cards, updated_at) "
+            + "SELECT r.team_id, :tournamentId, r.played, r.wins, r.draws, r.losses, r.points_for, r.points_against, "
+            + "COALESCE(ev.tries, 0), COALESCE(ev.yellow_cards, 0), COALESCE(ev.red_cards, 0), CURRENT_TIMESTAMP "
+            + "FROM (SELECT x.team_id, COUNT(*) AS played, "
+            + "COUNT(*) FILTER (WHERE x.done AND x.scored > x.conceded) AS wins, "
+            + "COUNT(*) FILTER (WHERE x.done AND x.scored = x.conceded) AS draws, "
+            + "COUNT(*) FILTER (WHERE x.done AND x.scored < x.conceded) AS losses, "
+            + "COALESCE(SUM(x.scored) FILTER (WHERE x.done), 0) AS points_for, "
+            + "COALESCE(SUM(x.conceded) FILTER (WHERE x.done), 0) AS points_against "
+            + "FROM (SELECT home_team_id AS team_id, home_score AS scored, away_score AS conceded, "
+            + "(status = 'COMPLETED' AND home_score IS NOT NULL AND away_score IS NOT NULL) AS done "
+            + "FROM matches WHERE tournament_id = :tournamentId AND home_team_id IS NOT NULL "
+            + "UNION ALL SELECT away_team_id, away_score, home_score, "
+            + "(status = 'COMPLETED' AND home_score IS NOT NULL AND away_score IS NOT NULL) "
+            + "FROM matches WHERE tournament_id = :tournamentId AND away_team_id IS NOT NULL) x "
+            + "GROUP BY x.team_id) r "
+            + "LEFT JOIN (SELECT e.team_id, "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'TRY') AS tries, "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'YELLOW_CARD') AS yellow_cards, "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'RED_CARD') AS red_cards "
+            + "FROM match_events e JOIN matches m ON m.id = e.match_id "
+            + "WHERE m.tournament_id = :tournamentId GROUP BY e.team_id) ev ON ev.team_id = r.team_id",
+            nativeQuery = true)
+    int insertRollupForTournament(@Param("tournamentId") UUID tournamentId);
+
+    @Modifying
+    @Query(value = "DELETE FROM team_tournament_stats WHERE tournament_id = :tournamentId "
+            + "AND team_id IN (:teamIds)", nativeQuery = true)
+    int deleteByTournamentAndTeams(@Param("tournamentId") UUID tournamentId,
+            @Param("teamIds") Collection<UUID> teamIds);
+
+    // Same rollup as insertRollupForTournament, for the given teams only
+    @Modifying
+    @Query(value = "INSERT INTO team_tournament_stats (team_id, tournament_id, matches_played, wins, draws, losses, "
+            + "points_for, points_against, tries_scored, yellow_cards, red_cards, updated_at) "
+            + "SELECT r.team_id, :tournamentId, r.played, r.wins, r.draws, r.losses, r.points_for, r.points_against, "
+            + "COALESCE(ev.tries, 0), COALESCE(ev.yellow_cards, 0), COALESCE(ev.red_cards, 0), CURRENT_TIMESTAMP "
+            + "FROM (SELECT x.team_id, COUNT(*) AS played, "
+            + "COUNT(*) FILTER (WHERE x.done AND x.scored > x.conceded) AS wins, "
+            + "COUNT(*) FILTER (WHERE x.done AND x.scored = x.conceded) AS draws, "
+            + "COUNT(*) FILTER (WHERE x.done AND x.scored < x.conceded) AS losses, "
+            + "COALESCE(SUM(x.scored) FILTER (WHERE x.done), 0) AS points_for, "
+            + "COALESCE(SUM(x.conceded) FILTER (WHERE x.done), 0) AS points_against "
+            + "FROM (SELECT home_team_id AS team_id, home_score AS scored, away_score AS conceded, "
+            + "(status = 'COMPLETED' AND home_score IS NOT NULL AND away_score IS NOT NULL) AS done "
+            + "FROM matches WHERE tournament_id = :tournamentId AND home_team_id IN (:teamIds) "
+            + "UNION ALL SELECT away_team_id, away_score, home_score, "
+            + "(status = 'COMPLETED' AND home_score IS NOT NULL AND away_score IS NOT NULL) "
+            + "FROM matches WHERE tournament_id = :tournamentId AND away_team_id IN (:teamIds)) x "
+            + "GROUP BY x.team_id) r "
+            + "LEFT JOIN (SELECT e.team_id, "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'TRY') AS tries, "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'YELLOW_CARD') AS yellow_cards, "
+            + "COUNT(*) FILTER (WHERE e.event_type = 'RED_CARD') AS red_cards "
+            + "FROM match_events e JOIN matches m ON m.id = e.match_id "
+            + "WHERE m.tournament_id = :tournamentId AND e.team_id IN (:teamIds) GROUP BY e.team_id) ev ON ev.team_id = r.team_id",
+            nativeQuery = true)
+    int insertRollupForTeams(@Param("tournamentId") UUID tournamentId,
+            @Param("teamIds") Collection<UUID> teamIds);
+}
@@ -1,9 +1,15 @@
 package com.athleticaos.backend.repositories;
 
+import com.athleticaos.backend.dashboard.KeyedCountRow;
 import com.athleticaos.backend.entities.TournamentPlayer;
+import com.athleticaos.backend.export.SeasonRosterRow;
+import com.athleticaos.backend.season.SeasonCountRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,4 +26,32 @@ public interface TournamentPlayerRepository extends JpaRepository<TournamentPlay
     List<TournamentPlayer> findByTournamentIdAndIsActiveTrue(UUID tournamentId);
 
     List<TournamentPlayer> findByTournamentIdAndTeamIdAndIsActiveTrue(UUID tournamentId, UUID teamId);
+
+    @Query("SELECT new com.athleticaos.backend.export.SeasonRosterRow(t.id, t.name, p.id, pe.firstName, "
+            + "pe.lastName, tp.isActive, tp.isEligible) "
+            + "FROM TournamentPlayer tp JOIN tp.team t JOIN tp.player p JOIN p.person pe "
+            + "WHERE tp.tournament.id = :tournamentId")
+    List<SeasonRosterRow> findSeasonExportRowsByTournamentId(@Param("tournamentId") UUID tournamentId);
+
+    @Query("SELECT new com.athleticaos.backend.season.SeasonCountRow(t.season.id, COUNT(DISTINCT tp.player.id)) "
+            + "FROM TournamentPlayer tp JOIN tp.tournament t "
+            + "WHERE t.season.id IN :seasonIds AND t.deleted = false AND tp.isActive = true GROUP BY t.season.id")
+    List<SeasonCountRow> countActivePlayersBySeasonIds(@Param("seasonIds") Collection<UUID> seasonIds);
+
+    @Query("SELECT new com.athleticaos.backend.dashboard.KeyedCountRow(tp.tournament.id, COUNT(tp)) "
+            + "FROM TournamentPlayer tp WHERE tp.isActive = true GROUP BY tp.tournament.id")
+    List<KeyedCountRow> countActiveByTournament();
+
+    long countByTournamentIdAndIsActiveTrue(UUID tournamentId);
+
+    @Query("SELECT tp FROM TournamentPlayer tp JOIN FETCH tp.player p LEFT JOIN FETCH p.person "
+            + "JOIN FETCH tp.team t JOIN FETCH t.organisation "
+            + "WHERE tp.tournament.id = :tournamentId AND t.id = :teamId AND tp.isActive = true")
+    List<TournamentPlayer> findActiveRosterWithPlayers(@Param("tournamentId") UUID tournamentId,
+            @Param("teamId") UUID teamId);
+
+    @Query("SELECT tp FROM TournamentPlayer tp JOIN FETCH tp.player p LEFT JOIN FETCH p.person "
+            + "WHERE tp.tournament.id = :tournamentId AND tp.team.id IN :teamIds AND tp.isActive = true")
+    List<TournamentPlayer> findActiveRostersWithPlayers(@Param("tournamentId") UUID tournamentId,
+            @Param("teamIds") Collection<UUID> teamIds);
 }
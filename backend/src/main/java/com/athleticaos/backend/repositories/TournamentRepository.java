@@ -1,10 +1,17 @@
 package com.athleticaos.backend.repositories;
 
+import com.athleticaos.backend.dashboard.TournamentMetaRow;
 import com.athleticaos.backend.entities.Tournament;
 import com.athleticaos.backend.enums.CompetitionType;
+import com.athleticaos.backend.season.SeasonCountRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -16,4 +23,19 @@ public interface TournamentRepository extends JpaRepository<Tournament, UUID> {
     java.util.List<Tournament> findByCompetitionType(CompetitionType competitionType);
 
     java.util.List<Tournament> findByIsPublishedTrue();
+
+    @Query("SELECT t.season.id FROM Tournament t WHERE t.id = :tournamentId")
+    Optional<UUID> findSeasonIdById(@Param("tournamentId") UUID tournamentId);
+
+    @Query("SELECT new com.athleticaos.backend.season.SeasonCountRow(t.season.id, COUNT(t)) "
+            + "FROM Tournament t WHERE t.season.id IN :seasonIds AND t.deleted = false GROUP BY t.season.id")
+    List<SeasonCountRow> countBySeasonIds(@Param("seasonIds") Collection<UUID> seasonIds);
+
+    @Query("SELECT new com.athleticaos.backend.dashboard.TournamentMetaRow(t.id, t.organiserOrg.id, t.isPublished, "
+            + "t.startDate, t.endDate) FROM Tournament t WHERE t.deleted = false")
+    List<TournamentMetaRow> findDashboardMetaRows();
+
+    @Query("SELECT new com.athleticaos.backend.dashboard.TournamentMetaRow(t.id, t.organiserOrg.id, t.isPublished, "
+            + "t.startDate, t.endDate) FROM Tournament t WHERE t.id = :tournamentId AND t.deleted = false")
+    Optional<TournamentMetaRow> findDashboardMetaRow(@Param("tournamentId") UUID tournamentId);
 }
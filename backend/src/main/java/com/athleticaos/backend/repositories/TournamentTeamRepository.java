@@ -1,12 +1,29 @@
 package com.athleticaos.backend.repositories;
 
+import com.athleticaos.backend.dashboard.KeyedCountRow;
 import com.athleticaos.backend.entities.TournamentTeam;
+import com.athleticaos.backend.season.SeasonCountRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface TournamentTeamRepository extends JpaRepository<TournamentTeam, UUID> {
     java.util.List<TournamentTeam> findByTournamentId(UUID tournamentId);
+
+    @Query("SELECT new com.athleticaos.backend.season.SeasonCountRow(t.season.id, COUNT(DISTINCT tt.team.id)) "
+            + "FROM TournamentTeam tt JOIN tt.tournament t "
+            + "WHERE t.season.id IN :seasonIds AND t.deleted = false GROUP BY t.season.id")
+    List<SeasonCountRow> countTeamsBySeasonIds(@Param("seasonIds") Collection<UUID> seasonIds);
+
+    @Query("SELECT new com.athleticaos.backend.dashboard.KeyedCountRow(tt.tournament.id, COUNT(tt)) "
+            + "FROM TournamentTeam tt GROUP BY tt.tournament.id")
+    List<KeyedCountRow> countByTournament();
+
+    long countByTournamentId(UUID tournamentId);
 }
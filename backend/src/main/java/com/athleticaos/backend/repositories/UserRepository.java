@@ -2,6 +2,8 @@ package com.athleticaos.backend.repositories;
 
 import com.athleticaos.backend.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -16,4 +18,11 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     java.util.List<User> findByRoles_Name(String roleName);
 
     java.util.List<User> findByOrganisation_IdIn(java.util.Set<UUID> orgIds);
+
+    @Query("SELECT new com.athleticaos.backend.audit.AuditActor(u.id, u.email, MIN(r.name), o.id, o.name) " +
+            "FROM User u LEFT JOIN u.roles r LEFT JOIN u.organisation o " +
+            "WHERE u.email IN :emails " +
+            "GROUP BY u.id, u.email, o.id, o.name")
+    java.util.List<com.athleticaos.backend.audit.AuditActor> findAuditActorsByEmailIn(
+            @Param("emails") java.util.Collection<String> emails);
 }
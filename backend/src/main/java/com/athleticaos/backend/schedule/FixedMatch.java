@@ -0,0 +1,13 @@
+package com.athleticaos.backend.schedule;
+
+import com.athleticaos.backend.entities.Match;
+
+/**
+ * A match that already kicked off and keeps its place in the schedule.
+ *
+ * @param slot  kick-off slot, counted like {@link ScheduleSolution} slots;
+ *              negative before the first day
+ * @param pitch zero-based pitch, -1 when unknown
+ */
+public record FixedMatch(Match match, int slot, int pitch) {
+}
@@ -0,0 +1,70 @@
+package com.athleticaos.backend.schedule;
+
+/**
+ * A scheduling problem in index form. Match {@code i} is played by teams
+ * {@code homeTeam[i]} and {@code awayTeam[i]} (-1 for a slot whose team is not
+ * known yet) and belongs to stage level {@code level[i]}; every match of a
+ * level must finish before the next level starts.
+ * <p>
+ * Matches that already kicked off keep their slot and are described by the
+ * {@code fixed*} arrays in the same index form; they hold their pitch, count
+ * towards their teams' rest and hold back later levels.
+ *
+ * @param slotsPerDay kick-off slots per pitch per day
+ * @param restSlots   empty slots a team needs between two of its matches
+ * @param firstSlot   earliest slot a match may be placed in
+ * @param fixedPitch  pitch of a fixed match, -1 when unknown
+ */
+public record ScheduleProblem(
+        int[] homeTeam,
+        int[] awayTeam,
+        int[] level,
+        int teamCount,
+        int pitches,
+        int slotsPerDay,
+        int days,
+        int restSlots,
+        int firstSlot,
+        int[] fixedHomeTeam,
+        int[] fixedAwayTeam,
+        int[] fixedLevel,
+        int[] fixedSlot,
+        int[] fixedPitch) {
+
+    public ScheduleProblem {
+        if (homeTeam.length != awayTeam.length || homeTeam.length != level.length) {
+            throw new IllegalArgumentException("Match arrays must have the same length");
+        }
+        if (fixedHomeTeam.length != fixedAwayTeam.length || fixedHomeTeam.length != fixedLevel.length
+                || fixedHomeTeam.length != fixedSlot.length || fixedHomeTeam.length != fixedPitch.length) {
+            throw new IllegalArgumentException("Fixed match arrays must have the same length");
+        }
+        if (pitches < 1 || slotsPerDay < 1 || days < 1 || restSlots < 0) {
+            throw new IllegalArgumentException("Pitches, slots per day and days must be positive");
+        }
+        if (firstSlot < 0) {
+            throw new IllegalArgumentException("First slot cannot be negative");
+        }
+    }
+
+    /**
+     * A problem with nothing played yet, starting at the first slot.
+     */
+    public ScheduleProblem(int[] homeTeam, int[] awayTeam, int[] level, int teamCount, int pitches,
+            int slotsPerDay, int days, int restSlots) {
+        this(homeTeam, awayTeam, level, teamCount, pitches, slotsPerDay, days, restSlots, 0,
+                new int[0], new int[0], new int[0], new int[0], new int[0]);
+    }
+
+    public int matchCount() {
+        return level.length;
+    }
+
+    public int fixedCount() {
+        return fixedLevel.length;
+    }
+
+    public int totalSlots() {
+        return slotsPerDay * days;
+    }
+}
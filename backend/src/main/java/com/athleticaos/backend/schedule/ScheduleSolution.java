@@ -0,0 +1,16 @@
+package com.athleticaos.backend.schedule;
+
+/**
+ * Slot and pitch per match, indexed like the problem. Slots count across days:
+ * slot {@code s} is kick-off {@code s % slotsPerDay} on day {@code s / slotsPerDay}.
+ *
+ * @param slotsUsed one past the last used slot; above the problem's total the
+ *                  schedule does not fit
+ * @param cost      lower is better
+ */
+public record ScheduleSolution(int[] slot, int[] pitch, int slotsUsed, long cost) {
+
+    public boolean fits(ScheduleProblem problem) {
+        return slotsUsed <= problem.totalSlots();
+    }
+}
@@ -0,0 +1,359 @@
+package com.athleticaos.backend.schedule;
+
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Team;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Assigns every match a kick-off slot and pitch. A greedy pass places matches
+ * in priority order at the earliest slot with a free pitch where both teams
+ * have rested; local search then swaps matches of the same level in the
+ * priority order and keeps swaps that do not make the schedule worse.
+ * Independent seeds run in parallel on the common fork-join pool and the
+ * cheapest schedule wins.
+ */
+public final class TournamentScheduler {
+
+    // Finishing earlier always beats any amount of within-day compaction
+    private static final long MAKESPAN_WEIGHT = 1_000_000L;
+
+    private TournamentScheduler() {
+    }
+
+    /**
+     * Builds the index form of a set of matches with nothing played yet.
+     */
+    public static ScheduleProblem problemFor(List<Match> matches, int pitches, int slotsPerDay, int days,
+            int restSlots) {
+        return problemFor(matches, List.of(), pitches, slotsPerDay, days, restSlots, 0);
+    }
+
+    /**
+     * Builds the index form of a set of matches. Pool matches form level 0;
+     * a knockout match sits one level above the latest match feeding it, and
+     * first-round knockout matches wait for the pools. Fixed matches take part
+     * in the level and team numbering but keep their slot.
+     */
+    public static ScheduleProblem problemFor(List<Match> matches, List<FixedMatch> fixed, int pitches,
+            int slotsPerDay, int days, int restSlots, int firstSlot) {
+        int n = matches.size();
+        List<Match> all = new ArrayList<>(n + fixed.size());
+        all.addAll(matches);
+        fixed.forEach(f -> all.add(f.match()));
+        int total = all.size();
+
+        Map<Match, Integer> indexByInstance = new IdentityHashMap<>();
+        Map<UUID, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < total; i++) {
+            Match match = all.get(i);
+            indexByInstance.put(match, i);
+            if (match.getId() != null) {
+                indexById.put(match.getId(), i);
+            }
+        }
+
+        List<List<Integer>> feeders = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            feeders.add(new ArrayList<>(2));
+        }
+        boolean hasPools = false;
+        for (int i = 0; i < total; i++) {
+            Match match = all.get(i);
+            hasPools |= !isKnockout(match);
+            addFeeder(feeders, indexOf(match.getWinnerNextMatch(), indexByInstance, indexById), i);
+            addFeeder(feeders, indexOf(match.getLoserNextMatch(), indexByInstance, indexById), i);
+        }
+
+        int[] allLevels = new int[total];
+        Arrays.fill(allLevels, -1);
+        int firstKnockoutLevel = hasPools ? 1 : 0;
+        for (int i = 0; i < total; i++) {
+            resolveLevel(i, all, feeders, allLevels, firstKnockoutLevel);
+        }
+
+        Map<UUID, Integer> teamIndex = new HashMap<>();
+        int[] home = new int[n];
+        int[] away = new int[n];
+        for (int i = 0; i < n; i++) {
+            home[i] = teamIndex(matches.get(i).getHomeTeam(), teamIndex);
+            away[i] = teamIndex(matches.get(i).getAwayTeam(), teamIndex);
+        }
+
+        int f = fixed.size();
+        int[] fixedHome = new int[f];
+        int[] fixedAway = new int[f];
+        int[] fixedSlot = new int[f];
+        int[] fixedPitch = new int[f];
+        for (int i = 0; i < f; i++) {
+            FixedMatch fixedMatch = fixed.get(i);
+            fixedHome[i] = teamIndex(fixedMatch.match().getHomeTeam(), teamIndex);
+            fixedAway[i] = teamIndex(fixedMatch.match().getAwayTeam(), teamIndex);
+            fixedSlot[i] = fixedMatch.slot();
+            fixedPitch[i] = fixedMatch.pitch() < pitches ? fixedMatch.pitch() : -1;
+        }
+
+        return new ScheduleProblem(home, away, Arrays.copyOf(allLevels, n), teamIndex.size(), pitches,
+                slotsPerDay, days, restSlots, firstSlot, fixedHome, fixedAway,
+                Arrays.copyOfRange(allLevels, n, total), fixedSlot, fixedPitch);
+    }
+
+    /**
+     * @param seeds      independent searches, run in parallel
+     * @param iterations local search moves per seed
+     */
+    public static ScheduleSolution solve(ScheduleProblem problem, int seeds, int iterations) {
+        return IntStream.range(0, Math.max(1, seeds))
+                .parallel()
+                .mapToObj(seed -> search(problem, seed, iterations))
+                .min(Comparator.comparingLong(ScheduleSolution::cost))
+                .orElseThrow();
+    }
+
+    static ScheduleSolution search(ScheduleProblem problem, int seed, int iterations) {
+        int n = problem.matchCount();
+        if (n == 0) {
+            return new ScheduleSolution(new int[0], new int[0], 0, 0);
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            boxed[i] = i;
+        }
+        // Seed 0 keeps the given order within each level; others start shuffled
+        if (seed != 0) {
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                Integer tmp = boxed[i];
+                boxed[i] = boxed[j];
+                boxed[j] = tmp;
+            }
+        }
+        Arrays.sort(boxed, Comparator.comparingInt(i -> problem.level()[i]));
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = boxed[i];
+        }
+
+        // Positions [levelStart[p], levelEnd[p]) share the level of position p
+        int[] levelStart = new int[n];
+        int[] levelEnd = new int[n];
+        for (int p = 0, start = 0; p < n; p++) {
+            if (p > 0 && problem.level()[order[p]] != problem.level()[order[p - 1]]) {
+                start = p;
+            }
+            levelStart[p] = start;
+        }
+        for (int p = n - 1, end = n; p >= 0; p--) {
+            if (p < n - 1 && problem.level()[order[p]] != problem.level()[order[p + 1]]) {
+                end = p + 1;
+            }
+            levelEnd[p] = end;
+        }
+
+        Workspace workspace = new Workspace(problem);
+        ScheduleSolution best = workspace.greedy(order);
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            int a = random.nextInt(n);
+            int width = levelEnd[a] - levelStart[a];
+            if (width < 2) {
+                continue;
+            }
+            int b = levelStart[a] + random.nextInt(width);
+            swap(order, a, b);
+
+            ScheduleSolution candidate = workspace.greedy(order);
+            if (candidate.cost() <= best.cost()) {
+                best = candidate;
+            } else {
+                swap(order, a, b);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scratch arrays reused across greedy passes of one search.
+     */
+    private static final class Workspace {
+
+        private final ScheduleProblem problem;
+        private final int[] pitchesUsed;
+        // Slot-major pitch cells, so fixed matches can hold a specific pitch
+        private final boolean[] taken;
+        private final int[] teamLastSlot;
+        // Latest fixed slot below each level
+        private final int[] fixedBelow;
+
+        Workspace(ScheduleProblem problem) {
+            this.problem = problem;
+            int rest = problem.restSlots();
+            int levels = Math.max(Arrays.stream(problem.level()).max().orElse(0),
+                    Arrays.stream(problem.fixedLevel()).max().orElse(0)) + 1;
+            this.fixedBelow = new int[levels + 1];
+            Arrays.fill(fixedBelow, Integer.MIN_VALUE / 2);
+            int latestFixed = Integer.MIN_VALUE / 2;
+            for (int f = 0; f < problem.fixedCount(); f++) {
+                int slot = problem.fixedSlot()[f];
+                latestFixed = Math.max(latestFixed, slot);
+                for (int l = problem.fixedLevel()[f] + 1; l <= levels; l++) {
+                    fixedBelow[l] = Math.max(fixedBelow[l], slot);
+                }
+            }
+            // Worst case every match waits out a full rest period after the previous one
+            int base = Math.max(problem.totalSlots(), Math.max(problem.firstSlot(), latestFixed + 1 + rest));
+            this.pitchesUsed = new int[base + (problem.matchCount() + levels) * (rest + 1) + 1];
+            this.taken = new boolean[pitchesUsed.length * problem.pitches()];
+            this.teamLastSlot = new int[problem.teamCount()];
+        }
+
+        ScheduleSolution greedy(int[] order) {
+            int n = order.length;
+            int rest = problem.restSlots();
+            int pitches = problem.pitches();
+            seed();
+
+            int[] slot = new int[n];
+            int[] pitch = new int[n];
+            int currentLevel = problem.level()[order[0]];
+            int levelFloor = Math.max(problem.firstSlot(), fixedBelow[currentLevel] + 1 + rest);
+            int lastSlot = -1;
+            long slotSum = 0;
+
+            for (int match : order) {
+                if (problem.level()[match] != currentLevel) {
+                    // Later rounds start once the previous round is over and its teams have rested
+                    currentLevel = problem.level()[match];
+                    levelFloor = Math.max(levelFloor,
+                            Math.max(lastSlot, fixedBelow[currentLevel]) + 1 + rest);
+                }
+
+                int home = problem.homeTeam()[match];
+                int away = problem.awayTeam()[match];
+                int earliest = levelFloor;
+                if (home >= 0) {
+                    earliest = Math.max(earliest, teamLastSlot[home] + 1 + rest);
+                }
+                if (away >= 0) {
+                    earliest = Math.max(earliest, teamLastSlot[away] + 1 + rest);
+                }
+
+                int s = earliest;
+                while (pitchesUsed[s] >= pitches) {
+                    s++;
+                }
+
+                slot[match] = s;
+                pitch[match] = take(s, -1);
+                if (home >= 0) {
+                    teamLastSlot[home] = s;
+                }
+                if (away >= 0) {
+                    teamLastSlot[away] = s;
+                }
+                lastSlot = Math.max(lastSlot, s);
+                slotSum += s;
+            }
+
+            int slotsUsed = lastSlot + 1;
+            return new ScheduleSolution(slot, pitch, slotsUsed, slotsUsed * MAKESPAN_WEIGHT + slotSum);
+        }
+
+        private void seed() {
+            Arrays.fill(pitchesUsed, 0);
+            Arrays.fill(taken, false);
+            Arrays.fill(teamLastSlot, Integer.MIN_VALUE / 2);
+            // Known pitches first so an unknown one cannot claim them
+            for (int pass = 0; pass < 2; pass++) {
+                for (int f = 0; f < problem.fixedCount(); f++) {
+                    int s = problem.fixedSlot()[f];
+                    int p = problem.fixedPitch()[f];
+                    if ((p >= 0) == (pass == 0) && s >= problem.firstSlot() && s < pitchesUsed.length
+                            && pitchesUsed[s] < problem.pitches()) {
+                        take(s, p);
+                    }
+                }
+            }
+            for (int f = 0; f < problem.fixedCount(); f++) {
+                int s = problem.fixedSlot()[f];
+                int home = problem.fixedHomeTeam()[f];
+                int away = problem.fixedAwayTeam()[f];
+                if (home >= 0) {
+                    teamLastSlot[home] = Math.max(teamLastSlot[home], s);
+                }
+                if (away >= 0) {
+                    teamLastSlot[away] = Math.max(teamLastSlot[away], s);
+                }
+            }
+        }
+
+        // Claims the given pitch at a slot, or the lowest free one when it is -1 or taken
+        private int take(int s, int preferred) {
+            int base = s * problem.pitches();
+            int p = preferred >= 0 && !taken[base + preferred] ? preferred : 0;
+            while (taken[base + p]) {
+                p++;
+            }
+            taken[base + p] = true;
+            pitchesUsed[s]++;
+            return p;
+        }
+    }
+
+    private static void swap(int[] order, int a, int b) {
+        int tmp = order[a];
+        order[a] = order[b];
+        order[b] = tmp;
+    }
+
+    private static boolean isKnockout(Match match) {
+        return match.getStage() != null && Boolean.TRUE.equals(match.getStage().getIsKnockoutStage());
+    }
+
+    private static int indexOf(Match target, Map<Match, Integer> indexByInstance, Map<UUID, Integer> indexById) {
+        if (target == null) {
+            return -1;
+        }
+        // Links loaded from the database are proxies; their id is available without initialising them
+        Integer index = target.getId() != null ? indexById.get(target.getId()) : indexByInstance.get(target);
+        return index != null ? index : -1;
+    }
+
+    private static void addFeeder(List<List<Integer>> feeders, int target, int feeder) {
+        if (target >= 0) {
+            feeders.get(target).add(feeder);
+        }
+    }
+
+    private static int resolveLevel(int i, List<Match> matches, List<List<Integer>> feeders, int[] level,
+            int firstKnockoutLevel) {
+        if (level[i] >= 0) {
+            return level[i];
+        }
+        if (!isKnockout(matches.get(i))) {
+            return level[i] = 0;
+        }
+        int resolved = firstKnockoutLevel;
+        for (int feeder : feeders.get(i)) {
+            resolved = Math.max(resolved, resolveLevel(feeder, matches, feeders, level, firstKnockoutLevel) + 1);
+        }
+        return level[i] = resolved;
+    }
+
+    private static int teamIndex(Team team, Map<UUID, Integer> teamIndex) {
+        if (team == null || team.getId() == null) {
+            return -1;
+        }
+        return teamIndex.computeIfAbsent(team.getId(), id -> teamIndex.size());
+    }
+}
@@ -0,0 +1,9 @@
+package com.athleticaos.backend.season;
+
+import java.util.UUID;
+
+/**
+ * A single count grouped by season.
+ */
+public record SeasonCountRow(UUID seasonId, Long count) {
+}
@@ -0,0 +1,155 @@
+package com.athleticaos.backend.season;
+
+import com.athleticaos.backend.cache.WriteTracker;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.MatchResultChangedEvent;
+import com.athleticaos.backend.events.TournamentDetailsChangedEvent;
+import com.athleticaos.backend.events.TournamentRosterChangedEvent;
+import com.athleticaos.backend.events.TournamentStructureChangedEvent;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.TournamentPlayerRepository;
+import com.athleticaos.backend.repositories.TournamentRepository;
+import com.athleticaos.backend.repositories.TournamentTeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory per-season overview counters.
+ * A season's counters are built with grouped count queries on first read.
+ * Result writes then adjust the completed count in place; structure, roster
+ * and tournament detail writes drop the season so it is recounted lazily.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeasonCounterStore {
+
+    private final TournamentRepository tournamentRepository;
+    private final MatchRepository matchRepository;
+    private final TournamentTeamRepository tournamentTeamRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
+
+    private final Map<UUID, SeasonCounters> counters = new ConcurrentHashMap<>();
+    private final WriteTracker<UUID> writes = new WriteTracker<>(counters::containsKey);
+    private final Map<UUID, Optional<UUID>> seasonByTournament = new ConcurrentHashMap<>();
+
+    public SeasonCounters getCounters(UUID seasonId) {
+        SeasonCounters cached = counters.get(seasonId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = writes.stamp(seasonId);
+        SeasonCounters built = load(seasonId);
+
+        SeasonCounters existing = counters.putIfAbsent(seasonId, built);
+        if (existing != null) {
+            return existing;
+        }
+        // A write landed while we were counting; serve this build but don't keep it
+        if (!writes.unchangedSince(seasonId, stamp)) {
+            counters.remove(seasonId, built);
+            writes.release(seasonId);
+        }
+        return built;
+    }
+
+    public void invalidate(UUID seasonId) {
+        writes.written(seasonId);
+        counters.remove(seasonId);
+        writes.release(seasonId);
+    }
+
+    // In flight from publication, so a count that may already include the result is not kept
+    @EventListener
+    public void onResultChanging(MatchResultChangedEvent event) {
+        writes.begin(seasonOf(event.tournamentId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultChanged(MatchResultChangedEvent event) {
+        UUID seasonId = seasonOf(event.tournamentId());
+        if (seasonId == null) {
+            return;
+        }
+        writes.written(seasonId);
+        int delta = (event.status() == MatchStatus.COMPLETED ? 1 : 0)
+                - (event.previousStatus() == MatchStatus.COMPLETED ? 1 : 0);
+        SeasonCounters cached = counters.get(seasonId);
+        if (cached != null && delta != 0) {
+            cached.adjustCompleted(delta);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureChanged(TournamentStructureChangedEvent event) {
+        invalidateSeasonOf(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterChanged(TournamentRosterChangedEvent event) {
+        invalidateSeasonOf(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDetailsChanged(TournamentDetailsChangedEvent event) {
+        // The tournament may have been created, deleted or moved between seasons
+        seasonByTournament.put(event.tournamentId(), Optional.ofNullable(event.seasonId()));
+        if (event.previousSeasonId() != null) {
+            invalidate(event.previousSeasonId());
+        }
+        if (event.seasonId() != null && !event.seasonId().equals(event.previousSeasonId())) {
+            invalidate(event.seasonId());
+        }
+    }
+
+    private void invalidateSeasonOf(UUID tournamentId) {
+        UUID seasonId = seasonOf(tournamentId);
+        if (seasonId != null) {
+            invalidate(seasonId);
+        }
+    }
+
+    private UUID seasonOf(UUID tournamentId) {
+        return seasonByTournament
+                .computeIfAbsent(tournamentId, tournamentRepository::findSeasonIdById)
+                .orElse(null);
+    }
+
+    private SeasonCounters load(UUID seasonId) {
+        log.debug("Counting overview totals for season {}", seasonId);
+        List<UUID> seasonIds = List.of(seasonId);
+
+        long tournaments = countFor(seasonId, tournamentRepository.countBySeasonIds(seasonIds));
+        long teams = countFor(seasonId, tournamentTeamRepository.countTeamsBySeasonIds(seasonIds));
+        long players = countFor(seasonId, tournamentPlayerRepository.countActivePlayersBySeasonIds(seasonIds));
+
+        long totalMatches = 0;
+        long completedMatches = 0;
+        for (SeasonMatchCountRow row : matchRepository.countMatchesBySeasonIds(seasonIds)) {
+            if (seasonId.equals(row.seasonId())) {
+                totalMatches = row.totalMatches() != null ? row.totalMatches() : 0;
+                completedMatches = row.completedMatches() != null ? row.completedMatches() : 0;
+            }
+        }
+        return new SeasonCounters(tournaments, totalMatches, completedMatches, teams, players);
+    }
+
+    private static long countFor(UUID seasonId, List<SeasonCountRow> rows) {
+        for (SeasonCountRow row : rows) {
+            if (seasonId.equals(row.seasonId()) && row.count() != null) {
+                return row.count();
+            }
+        }
+        return 0;
+    }
+}
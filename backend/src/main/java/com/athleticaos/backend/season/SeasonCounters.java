@@ -0,0 +1,49 @@
+package com.athleticaos.backend.season;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cached overview counters for one season. Completed matches move with
+ * result writes; the distinct team and player counts are only rebuilt.
+ */
+public class SeasonCounters {
+
+    private final long totalTournaments;
+    private final long totalMatches;
+    private final AtomicLong completedMatches;
+    private final long totalTeams;
+    private final long totalPlayers;
+
+    public SeasonCounters(long totalTournaments, long totalMatches, long completedMatches, long totalTeams,
+            long totalPlayers) {
+        this.totalTournaments = totalTournaments;
+        this.totalMatches = totalMatches;
+        this.completedMatches = new AtomicLong(completedMatches);
+        this.totalTeams = totalTeams;
+        this.totalPlayers = totalPlayers;
+    }
+
+    public long getTotalTournaments() {
+        return totalTournaments;
+    }
+
+    public long getTotalMatches() {
+        return totalMatches;
+    }
+
+    public long getCompletedMatches() {
+        return completedMatches.get();
+    }
+
+    public long getTotalTeams() {
+        return totalTeams;
+    }
+
+    public long getTotalPlayers() {
+        return totalPlayers;
+    }
+
+    void adjustCompleted(int delta) {
+        completedMatches.addAndGet(delta);
+    }
+}
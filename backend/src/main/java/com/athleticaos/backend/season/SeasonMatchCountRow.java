@@ -0,0 +1,9 @@
+package com.athleticaos.backend.season;
+
+import java.util.UUID;
+
+/**
+ * Match totals grouped by season.
+ */
+public record SeasonMatchCountRow(UUID seasonId, Long totalMatches, Long completedMatches) {
+}
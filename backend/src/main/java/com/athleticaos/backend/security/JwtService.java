@@ -1,10 +1,12 @@
 package com.athleticaos.backend.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -29,10 +31,22 @@ public class JwtService {
     @Value("${application.security.jwt.refresh-token.expiration:604800000}")
     private long refreshExpiration;
 
+    // Built once; both are immutable and thread-safe
+    private Key signInKey;
+    private JwtParser jwtParser;
+
     public JwtService(com.athleticaos.backend.services.TokenGenerationService tokenGenerationService) {
         this.tokenGenerationService = tokenGenerationService;
     }
 
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -68,13 +82,22 @@ public class JwtService {
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token) && isGenerationValid(token);
+        return isTokenValid(extractAllClaims(token), userDetails);
     }
 
-    private boolean isGenerationValid(String token) {
+    /**
+     * Validates already-parsed claims, so callers that needed the subject
+     * first do not parse and verify the signature a second time.
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject())
+                && !isTokenExpired(claims)
+                && isGenerationValid(claims);
+    }
+
+    private boolean isGenerationValid(Claims claims) {
         try {
-            Long tokenGeneration = extractClaim(token, claims -> claims.get("generation", Long.class));
+            Long tokenGeneration = claims.get("generation", Long.class);
             Long currentGeneration = tokenGenerationService.getCurrentGeneration();
             return tokenGeneration != null && tokenGeneration.equals(currentGeneration);
         } catch (Exception e) {
@@ -82,24 +105,17 @@ public class JwtService {
         }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+    public Claims extractAllClaims(String token) {
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signInKey;
     }
 }
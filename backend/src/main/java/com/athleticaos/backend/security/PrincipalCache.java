@@ -0,0 +1,74 @@
+package com.athleticaos.backend.security;
+
+import com.athleticaos.backend.events.UserAccountChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of loaded {@link UserDetails} keyed by email, so an
+ * authenticated request does not have to load the user and roles from
+ * PostgreSQL each time. Entries expire after a TTL and are evicted as soon as
+ * a change to the account commits.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${application.security.principal-cache.ttl:60000}")
+    private long ttlMillis;
+
+    @Value("${application.security.principal-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private record Entry(UserDetails userDetails, long expiresAt) {
+    }
+
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(email);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.userDetails();
+        }
+
+        UserDetails userDetails = loader.apply(email);
+        if (entries.size() >= maxEntries) {
+            purgeExpired(now);
+            if (entries.size() >= maxEntries) {
+                log.debug("Principal cache full ({} entries), clearing", entries.size());
+                entries.clear();
+            }
+        }
+        entries.put(email, new Entry(userDetails, now + ttlMillis));
+        return userDetails;
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            entries.remove(email);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        // Tokens issued for the old email must stop authenticating too
+        evict(event.email());
+        evict(event.previousEmail());
+    }
+
+    private void purgeExpired(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+}
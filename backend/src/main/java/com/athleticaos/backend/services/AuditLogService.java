@@ -1,17 +1,24 @@
 package com.athleticaos.backend.services;
 
+import com.athleticaos.backend.audit.AsyncAuditWriter;
+import com.athleticaos.backend.audit.AuditActor;
+import com.athleticaos.backend.audit.AuditActorCache;
+import com.athleticaos.backend.audit.AuditCursor;
+import com.athleticaos.backend.audit.AuditRecord;
 import com.athleticaos.backend.dtos.audit.AuditLogEntry;
 import com.athleticaos.backend.dtos.audit.AuditLogResponse;
+import com.athleticaos.backend.dtos.audit.AuditLogScrollResponse;
 import com.athleticaos.backend.entities.AuditLog;
-import com.athleticaos.backend.entities.User;
 import com.athleticaos.backend.repositories.AuditLogRepository;
-import com.athleticaos.backend.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -22,46 +29,36 @@ import java.util.UUID;
 public class AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
-    private final UserRepository userRepository;
+    private final AsyncAuditWriter asyncAuditWriter;
+    private final AuditActorCache auditActorCache;
 
     /**
-     * Creates an audit log entry.
-     * Automatically populates actor information from SecurityContext.
+     * Queues an audit log entry for the background writer.
+     * The actor's role and organisation are captured here, from a short-lived
+     * cache, so the row shows who the actor was when they acted.
      * 
      * @param entry     The audit log entry details
      * @param ipAddress The IP address of the request (nullable)
      * @param userAgent The user agent of the request (nullable)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @SuppressWarnings("null")
     public void log(AuditLogEntry entry, String ipAddress, String userAgent) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email).orElse(null);
-
-        if (user != null) {
-            String actorRole = user.getRoles().stream()
-                    .findFirst()
-                    .map(role -> role.getName())
-                    .orElse("UNKNOWN");
-
-            AuditLog log = AuditLog.builder()
-                    .timestamp(LocalDateTime.now())
-                    .actorUserId(user.getId())
-                    .actorEmail(user.getEmail())
-                    .actorRole(actorRole)
-                    .organisationId(user.getOrganisation() != null ? user.getOrganisation().getId() : null)
-                    .organisationName(user.getOrganisation() != null ? user.getOrganisation().getName() : null)
-                    .actionType(entry.getActionType())
-                    .entityType(entry.getEntityType())
-                    .entityId(entry.getEntityId())
-                    .entitySummary(entry.getEntitySummary())
-                    .detailsJson(entry.getDetailsJson())
-                    .ipAddress(ipAddress)
-                    .userAgent(userAgent)
-                    .build();
-
-            auditLogRepository.save(log);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return;
         }
+
+        AuditActor actor = auditActorCache.get(authentication.getName());
+        if (actor == null) {
+            // Entries without a known actor are not recorded
+            return;
+        }
+
+        asyncAuditWriter.enqueue(new AuditRecord(
+                LocalDateTime.now(),
+                actor,
+                entry,
+                ipAddress,
+                userAgent));
     }
 
     /**
@@ -101,6 +98,59 @@ public class AuditLogService {
         return logs.map(this::mapToResponse);
     }
 
+    /**
+     * Scrolls audit logs globally, newest first, within an optional time range.
+     */
+    @Transactional(readOnly = true)
+    public AuditLogScrollResponse scrollGlobal(LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        return toScrollResponse(auditLogRepository.findByTimestampBetweenOrderByTimestampDescIdDesc(
+                fromOrMin(from), toOrMax(to), AuditCursor.decode(cursor), Limit.of(size)));
+    }
+
+    @Transactional(readOnly = true)
+    public AuditLogScrollResponse scrollForOrg(UUID orgId, LocalDateTime from, LocalDateTime to, String cursor,
+            int size) {
+        return toScrollResponse(auditLogRepository.findByOrganisationIdAndTimestampBetweenOrderByTimestampDescIdDesc(
+                orgId, fromOrMin(from), toOrMax(to), AuditCursor.decode(cursor), Limit.of(size)));
+    }
+
+    @Transactional(readOnly = true)
+    public AuditLogScrollResponse scrollForUser(UUID userId, LocalDateTime from, LocalDateTime to, String cursor,
+            int size) {
+        return toScrollResponse(auditLogRepository.findByActorUserIdAndTimestampBetweenOrderByTimestampDescIdDesc(
+                userId, fromOrMin(from), toOrMax(to), AuditCursor.decode(cursor), Limit.of(size)));
+    }
+
+    @Transactional(readOnly = true)
+    public AuditLogScrollResponse scrollForEntity(String entityType, UUID entityId, LocalDateTime from,
+            LocalDateTime to, String cursor, int size) {
+        return toScrollResponse(
+                auditLogRepository.findByEntityTypeAndEntityIdAndTimestampBetweenOrderByTimestampDescIdDesc(
+                        entityType, entityId, fromOrMin(from), toOrMax(to), AuditCursor.decode(cursor),
+                        Limit.of(size)));
+    }
+
+    private AuditLogScrollResponse toScrollResponse(Window<AuditLog> window) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            ScrollPosition last = window.positionAt(window.size() - 1);
+            nextCursor = AuditCursor.encode(last);
+        }
+        return AuditLogScrollResponse.builder()
+                .items(window.map(this::mapToResponse).getContent())
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    private static LocalDateTime fromOrMin(LocalDateTime from) {
+        return from != null ? from : LocalDateTime.of(1970, 1, 1, 0, 0);
+    }
+
+    private static LocalDateTime toOrMax(LocalDateTime to) {
+        return to != null ? to : LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    }
+
     private AuditLogResponse mapToResponse(AuditLog log) {
         return AuditLogResponse.builder()
                 .id(log.getId())
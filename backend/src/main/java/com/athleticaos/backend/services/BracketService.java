@@ -2,7 +2,9 @@ package com.athleticaos.backend.services;
 
 import com.athleticaos.backend.dtos.tournament.BracketGenerationRequest;
 import com.athleticaos.backend.dtos.tournament.BracketViewResponse;
+import com.athleticaos.backend.standings.PoolTable;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface BracketService {
@@ -30,4 +32,12 @@ public interface BracketService {
      * @param tournamentId the tournament ID
      */
     void progressPoolsToKnockout(UUID tournamentId);
+
+    /**
+     * Get the current pool tables for a tournament, in finishing order
+     * 
+     * @param tournamentId the tournament ID
+     * @return one table per pool stage
+     */
+    List<PoolTable> getPoolStandings(UUID tournamentId);
 }
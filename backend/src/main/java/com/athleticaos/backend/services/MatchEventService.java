@@ -1,5 +1,7 @@
 package com.athleticaos.backend.services;
 
+import com.athleticaos.backend.dtos.match.MatchEventBatchRequest;
+import com.athleticaos.backend.dtos.match.MatchEventBatchResponse;
 import com.athleticaos.backend.dtos.match.MatchEventCreateRequest;
 import com.athleticaos.backend.dtos.match.MatchEventResponse;
 
@@ -12,5 +14,12 @@ public interface MatchEventService {
     MatchEventResponse addEventToMatch(UUID matchId, MatchEventCreateRequest request,
             jakarta.servlet.http.HttpServletRequest httpRequest);
 
+    /**
+     * Records a client's buffered events in one transaction, skipping any
+     * whose client event id was already recorded for the match.
+     */
+    MatchEventBatchResponse addEventsToMatch(UUID matchId, MatchEventBatchRequest request,
+            jakarta.servlet.http.HttpServletRequest httpRequest);
+
     UUID deleteEvent(UUID eventId);
 }
@@ -1,5 +1,6 @@
 package com.athleticaos.backend.services;
 
+import com.athleticaos.backend.dtos.match.BulkMatchResultRequest;
 import com.athleticaos.backend.dtos.match.MatchCreateRequest;
 import com.athleticaos.backend.dtos.match.MatchResponse;
 import com.athleticaos.backend.dtos.match.MatchUpdateRequest;
@@ -19,6 +20,13 @@ public interface MatchService {
         MatchResponse updateMatch(UUID id, MatchUpdateRequest request,
                         jakarta.servlet.http.HttpServletRequest httpRequest);
 
+        /**
+         * Applies final scores for a set of matches, e.g. a whole round, in one
+         * transaction.
+         */
+        List<MatchResponse> updateMatchResults(BulkMatchResultRequest request,
+                        jakarta.servlet.http.HttpServletRequest httpRequest);
+
         void deleteMatch(UUID id);
 
         List<MatchResponse> getMatchesByStatus(String status);
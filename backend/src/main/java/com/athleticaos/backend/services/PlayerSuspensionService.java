@@ -7,6 +7,7 @@ import com.athleticaos.backend.entities.Team;
 import com.athleticaos.backend.entities.Tournament;
 import com.athleticaos.backend.entities.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,6 +23,12 @@ public interface PlayerSuspensionService {
      */
     void decrementSuspensions(Match match);
 
+    /**
+     * Decrements suspensions for all teams involved in a set of completed
+     * matches, with one update per tournament.
+     */
+    void decrementSuspensions(Collection<Match> matches);
+
     /**
      * Gets all active suspensions for a tournament.
      */
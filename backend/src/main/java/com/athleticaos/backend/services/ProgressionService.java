@@ -1,5 +1,8 @@
 package com.athleticaos.backend.services;
 
+import com.athleticaos.backend.entities.Match;
+
+import java.util.Collection;
 import java.util.UUID;
 
 public interface ProgressionService {
@@ -11,6 +14,15 @@ public interface ProgressionService {
      */
     void processMatchCompletion(UUID matchId);
 
+    /**
+     * Advance the winners of a set of matches completed together, one
+     * knockout stage at a time
+     * 
+     * @param matches the completed matches, with their feeder links loaded
+     * @return number of matches progressed
+     */
+    int processMatchCompletions(Collection<Match> matches);
+
     /**
      * Automatically progress all completed matches in a tournament
      * 
@@ -0,0 +1,19 @@
+package com.athleticaos.backend.services;
+
+import com.athleticaos.backend.dtos.tournament.ScheduleGenerationRequest;
+import com.athleticaos.backend.dtos.tournament.ScheduleResponse;
+
+import java.util.UUID;
+
+public interface SchedulingService {
+
+    /**
+     * Assign date, kick-off time and pitch to every scheduled match of a
+     * tournament, respecting pitch count, rest time and stage order
+     * 
+     * @param tournamentId the tournament ID
+     * @param request      pitches, slot length, rest time and daily window
+     * @return summary of the generated schedule
+     */
+    ScheduleResponse scheduleTournament(UUID tournamentId, ScheduleGenerationRequest request);
+}
@@ -1,8 +1,10 @@
 package com.athleticaos.backend.services;
 
+import com.athleticaos.backend.dtos.season.SeasonExportStatusResponse;
 import com.athleticaos.backend.dtos.season.SeasonOverviewResponse;
 import com.athleticaos.backend.entities.Season;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,4 +22,10 @@ public interface SeasonService {
     Season updateStatus(UUID id, String status);
 
     SeasonOverviewResponse getSeasonOverview(UUID seasonId);
+
+    SeasonExportStatusResponse startExport(UUID seasonId);
+
+    SeasonExportStatusResponse getExportStatus(UUID jobId);
+
+    Path getExportFile(UUID jobId);
 }
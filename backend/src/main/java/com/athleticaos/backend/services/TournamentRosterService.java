@@ -1,8 +1,12 @@
 package com.athleticaos.backend.services;
 
+import com.athleticaos.backend.dtos.roster.BulkRosterResponse;
 import com.athleticaos.backend.dtos.roster.LineupHintsDTO;
+import com.athleticaos.backend.dtos.roster.TeamRosterEntry;
 import com.athleticaos.backend.dtos.roster.TournamentPlayerDTO;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,6 +17,17 @@ public interface TournamentRosterService {
      */
     List<TournamentPlayerDTO> addPlayersToRoster(UUID tournamentId, UUID teamId, List<UUID> playerIds);
 
+    /**
+     * Adds players to the rosters of several teams in one pass. Existing
+     * inactive entries are reactivated; active ones are left unchanged.
+     */
+    BulkRosterResponse addRosterEntries(UUID tournamentId, List<TeamRosterEntry> entries);
+
+    /**
+     * Imports a whole-tournament roster from CSV with {@code team_id,player_id} rows.
+     */
+    BulkRosterResponse importRosterCsv(UUID tournamentId, InputStream csv) throws IOException;
+
     /**
      * Removes a player from a tournament roster.
      */
@@ -28,7 +28,14 @@ public interface TournamentService {
         TournamentResponse updatePublishStatus(UUID id, boolean publish,
                         jakarta.servlet.http.HttpServletRequest httpRequest);
 
-        byte[] exportMatches(UUID tournamentId);
-
-        byte[] exportResults(UUID tournamentId);
+        /**
+         * Writes the tournament's matches as CSV to {@code out}, reading rows
+         * through a cursor so memory stays constant. Does not close the stream.
+         */
+        void exportMatches(UUID tournamentId, java.io.OutputStream out) throws java.io.IOException;
+
+        /**
+         * As {@link #exportMatches}, with home and away score columns.
+         */
+        void exportResults(UUID tournamentId, java.io.OutputStream out) throws java.io.IOException;
 }
@@ -8,7 +8,9 @@ import com.athleticaos.backend.dtos.user.UserResponse;
 import com.athleticaos.backend.dtos.user.UserRolesResponse;
 import com.athleticaos.backend.dtos.user.UserUpdateRequest;
 import com.athleticaos.backend.audit.AuditLogger;
+import com.athleticaos.backend.cache.OrganisationHierarchyIndex;
 import com.athleticaos.backend.entities.Role;
+import com.athleticaos.backend.events.UserAccountChangedEvent;
 import com.athleticaos.backend.repositories.RoleRepository;
 import com.athleticaos.backend.services.PlayerTeamService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +20,7 @@ import com.athleticaos.backend.repositories.OrganisationRepository;
 import com.athleticaos.backend.repositories.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,9 +36,11 @@ public class UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final OrganisationRepository organisationRepository;
+    private final OrganisationHierarchyIndex organisationHierarchyIndex;
     private final PasswordEncoder passwordEncoder;
     private final PlayerTeamService playerTeamService;
     private final AuditLogger auditLogger;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
@@ -69,6 +74,7 @@ public class UserService {
     public UserResponse updateUser(UUID id, UserUpdateRequest request, HttpServletRequest httpRequest) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        String previousEmail = user.getEmail();
 
         if (request.getPhone() != null) {
             user.setPhone(request.getPhone());
@@ -79,6 +85,7 @@ public class UserService {
 
         User savedUser = userRepository.save(user);
         auditLogger.logUserUpdated(savedUser, httpRequest);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(savedUser.getEmail(), previousEmail));
         return mapToResponse(savedUser);
     }
 
@@ -117,11 +124,14 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
+        String previousEmail = user.getEmail();
+
         boolean isActive = "ACTIVE".equalsIgnoreCase(status) || "Active".equalsIgnoreCase(status);
         user.setActive(isActive);
 
         User savedUser = userRepository.save(user);
         auditLogger.logUserStatusChanged(savedUser, isActive, httpRequest);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(savedUser.getEmail(), previousEmail));
         return mapToResponse(savedUser);
     }
 
@@ -305,25 +315,8 @@ public class UserService {
             return Collections.emptySet();
         }
 
-        java.util.Set<UUID> accessibleIds = new java.util.HashSet<>();
-        java.util.Queue<UUID> queue = new java.util.LinkedList<>();
-
-        UUID rootId = currentUser.getOrganisation().getId();
-        queue.add(rootId);
-        accessibleIds.add(rootId);
-
-        while (!queue.isEmpty()) {
-            UUID currentId = queue.poll();
-            java.util.List<com.athleticaos.backend.entities.Organisation> children = organisationRepository
-                    .findByParentOrgId(currentId);
-            for (com.athleticaos.backend.entities.Organisation child : children) {
-                if (!accessibleIds.contains(child.getId())) {
-                    accessibleIds.add(child.getId());
-                    queue.add(child.getId());
-                }
-            }
-        }
-        return accessibleIds;
+        // One in-memory lookup instead of a query per node
+        return organisationHierarchyIndex.getSubtree(currentUser.getOrganisation().getId());
     }
 
     public java.util.Set<UUID> getAccessibleOrgIdsForCurrentUser() {
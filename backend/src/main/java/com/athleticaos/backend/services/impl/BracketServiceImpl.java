@@ -1,26 +1,31 @@
 package com.athleticaos.backend.services.impl;
 
+import com.athleticaos.backend.bracket.BracketPlan;
+import com.athleticaos.backend.bracket.BracketPlanner;
+import com.athleticaos.backend.cache.TournamentVersionRegistry;
+import com.athleticaos.backend.cache.VersionedViewCache;
 import com.athleticaos.backend.dtos.match.MatchResponse;
 import com.athleticaos.backend.dtos.tournament.*;
 import com.athleticaos.backend.entities.*;
 import com.athleticaos.backend.enums.MatchStatus;
 import com.athleticaos.backend.enums.TournamentFormat;
-import com.athleticaos.backend.enums.TournamentStageType;
+import com.athleticaos.backend.events.TournamentStructureChangedEvent;
 import com.athleticaos.backend.repositories.*;
 import com.athleticaos.backend.services.BracketService;
+import com.athleticaos.backend.standings.PoolStandingRow;
+import com.athleticaos.backend.standings.PoolTable;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class BracketServiceImpl implements BracketService {
 
@@ -28,11 +33,54 @@ public class BracketServiceImpl implements BracketService {
     private final TournamentStageRepository stageRepository;
     private final MatchRepository matchRepository;
     private final TeamRepository teamRepository;
+    private final PoolStandingRepository poolStandingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VersionedViewCache<BracketViewResponse> bracketViewCache;
+
+    public BracketServiceImpl(TournamentRepository tournamentRepository,
+            TournamentStageRepository stageRepository,
+            MatchRepository matchRepository,
+            TeamRepository teamRepository,
+            PoolStandingRepository poolStandingRepository,
+            ApplicationEventPublisher eventPublisher,
+            TournamentVersionRegistry versionRegistry,
+            @Value("${application.bracket.view-cache.max-entries:1000}") int maxCachedViews) {
+        this.tournamentRepository = tournamentRepository;
+        this.stageRepository = stageRepository;
+        this.matchRepository = matchRepository;
+        this.teamRepository = teamRepository;
+        this.poolStandingRepository = poolStandingRepository;
+        this.eventPublisher = eventPublisher;
+        this.bracketViewCache = new VersionedViewCache<>(versionRegistry, maxCachedViews);
+    }
 
     @Override
     @Transactional(readOnly = true)
-    @SuppressWarnings("null")
     public BracketViewResponse getBracketForTournament(UUID tournamentId) {
+        // Rebuilt only after a result, progression or structure write commits
+        return copyOf(bracketViewCache.get(tournamentId, () -> buildBracketView(tournamentId)));
+    }
+
+    /**
+     * Deep copy of a cached view, so a caller mutating its response cannot
+     * change what other callers are served.
+     */
+    private static BracketViewResponse copyOf(BracketViewResponse view) {
+        return view.toBuilder()
+                .tournament(view.getTournament() != null ? view.getTournament().toBuilder().build() : null)
+                .stages(view.getStages().stream()
+                        .map(bracket -> bracket.toBuilder()
+                                .stage(bracket.getStage() != null ? bracket.getStage().toBuilder().build() : null)
+                                .matches(bracket.getMatches().stream()
+                                        .map(match -> match.toBuilder().build())
+                                        .collect(Collectors.toList()))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @SuppressWarnings("null")
+    private BracketViewResponse buildBracketView(UUID tournamentId) {
         log.info("Getting bracket for tournament: {}", tournamentId);
 
         Tournament tournament = tournamentRepository.findById(tournamentId)
@@ -41,18 +89,20 @@ public class BracketServiceImpl implements BracketService {
 
         List<TournamentStage> stages = stageRepository.findByTournamentIdOrderByDisplayOrderAsc(tournamentId);
 
+        // One fetch-joined query for all matches, grouped by stage in memory
+        Map<UUID, List<MatchResponse>> matchesByStage = new HashMap<>();
+        for (Match match : matchRepository.findBracketMatchesByTournamentId(tournamentId)) {
+            if (match.getStage() != null) {
+                matchesByStage.computeIfAbsent(match.getStage().getId(), id -> new ArrayList<>())
+                        .add(mapMatchToResponse(match));
+            }
+        }
+
         List<TournamentStageBracket> stageBrackets = stages.stream()
-                .map(stage -> {
-                    List<Match> matches = matchRepository.findByStageId(stage.getId());
-                    List<MatchResponse> matchResponses = matches.stream()
-                            .map(this::mapMatchToResponse)
-                            .collect(Collectors.toList());
-
-                    return TournamentStageBracket.builder()
-                            .stage(mapStageToResponse(stage))
-                            .matches(matchResponses)
-                            .build();
-                })
+                .map(stage -> TournamentStageBracket.builder()
+                        .stage(mapStageToResponse(stage))
+                        .matches(matchesByStage.getOrDefault(stage.getId(), Collections.emptyList()))
+                        .build())
                 .collect(Collectors.toList());
 
         return BracketViewResponse.builder()
@@ -88,31 +138,26 @@ public class BracketServiceImpl implements BracketService {
                 request.getIncludePlacementStages() != null ? request.getIncludePlacementStages() : false);
         tournamentRepository.save(tournament);
 
-        // Generate bracket based on format
-        switch (request.getFormat()) {
-            case ROUND_ROBIN:
-                generateRoundRobinBracket(tournament, teams, request.getNumberOfPools());
-                break;
-            case KNOCKOUT:
-                generateKnockoutBracket(tournament, teams);
-                // Generate placement stages if requested
-                if (Boolean.TRUE.equals(tournament.getHasPlacementStages())) {
-                    generatePlacementStages(tournament, teams.size());
-                }
-                break;
-            case MIXED:
-                generateMixedFormatBracket(tournament, teams, request.getNumberOfPools());
-                // Generate placement stages if requested
-                if (Boolean.TRUE.equals(tournament.getHasPlacementStages())) {
-                    generatePlacementStages(tournament, teams.size());
-                }
-                break;
-            default:
-                throw new IllegalArgumentException("Unsupported tournament format: " + request.getFormat());
+        if (request.getFormat() == TournamentFormat.KNOCKOUT && !isPowerOfTwo(teams.size())) {
+            log.warn("Team count {} is not a power of 2. Some teams will receive BYEs.", teams.size());
+            // TODO: Implement BYE logic for non-power-of-2 team counts
         }
 
-        // Return the generated bracket
-        return getBracketForTournament(tournamentId);
+        // Plan the whole bracket in memory, then write it in two batched saves
+        BracketPlan plan = BracketPlanner.plan(tournament, teams, request.getFormat(), request.getNumberOfPools(),
+                Boolean.TRUE.equals(tournament.getHasPlacementStages()));
+        stageRepository.saveAll(plan.stages());
+        // Later rounds first so every feeder link points at a row that is already inserted
+        List<Match> persistOrder = new ArrayList<>(plan.matches());
+        Collections.reverse(persistOrder);
+        matchRepository.saveAll(persistOrder);
+        log.info("Generated {} stages and {} matches for tournament {}", plan.stages().size(),
+                plan.matches().size(), tournamentId);
+
+        eventPublisher.publishEvent(new TournamentStructureChangedEvent(tournamentId));
+
+        // Return the generated bracket; not cached, as this transaction has not committed yet
+        return buildBracketView(tournamentId);
     }
 
     private List<Team> getTeamsForBracket(BracketGenerationRequest request) {
@@ -122,9 +167,18 @@ public class BracketServiceImpl implements BracketService {
             return Collections.emptyList();
         }
 
+        Map<UUID, Team> teamsById = teamRepository.findAllById(request.getTeamIds()).stream()
+                .collect(Collectors.toMap(Team::getId, team -> team));
+
+        // Keep the requested order, which drives pool allocation and seeding
         return request.getTeamIds().stream()
-                .map(teamId -> teamRepository.findById(teamId)
-                        .orElseThrow(() -> new EntityNotFoundException("Team not found: " + teamId)))
+                .map(teamId -> {
+                    Team team = teamsById.get(teamId);
+                    if (team == null) {
+                        throw new EntityNotFoundException("Team not found: " + teamId);
+                    }
+                    return team;
+                })
                 .collect(Collectors.toList());
     }
 
@@ -140,216 +194,10 @@ public class BracketServiceImpl implements BracketService {
         stageRepository.deleteByTournamentId(tournamentId);
     }
 
-    private void generateRoundRobinBracket(Tournament tournament, List<Team> teams, Integer numberOfPools) {
-        log.info("Generating round-robin bracket with {} pools for {} teams", numberOfPools, teams.size());
-
-        if (numberOfPools == null || numberOfPools < 1) {
-            numberOfPools = 1;
-        }
-
-        // Partition teams into pools
-        List<List<Team>> pools = partitionTeamsIntoPools(teams, numberOfPools);
-
-        int stageOrder = 1;
-        for (int i = 0; i < pools.size(); i++) {
-            List<Team> poolTeams = pools.get(i);
-            String poolName = "Pool " + (char) ('A' + i);
-
-            // Create stage
-            TournamentStage stage = TournamentStage.builder()
-                    .tournament(tournament)
-                    .name(poolName)
-                    .stageType(TournamentStageType.POOL)
-                    .displayOrder(stageOrder++)
-                    .isGroupStage(true)
-                    .isKnockoutStage(false)
-                    .build();
-            stage = stageRepository.save(stage);
-
-            // Generate all round-robin pairings for this pool
-            generateRoundRobinMatches(tournament, stage, poolTeams, poolName);
-        }
-    }
-
-    private List<List<Team>> partitionTeamsIntoPools(List<Team> teams, int numberOfPools) {
-        List<List<Team>> pools = new ArrayList<>();
-        for (int i = 0; i < numberOfPools; i++) {
-            pools.add(new ArrayList<>());
-        }
-
-        // Distribute teams evenly across pools
-        for (int i = 0; i < teams.size(); i++) {
-            pools.get(i % numberOfPools).add(teams.get(i));
-        }
-
-        return pools;
-    }
-
-    private void generateRoundRobinMatches(Tournament tournament, TournamentStage stage, List<Team> teams,
-            String poolName) {
-        // Generate all possible pairings (each team plays every other team once)
-        for (int i = 0; i < teams.size(); i++) {
-            for (int j = i + 1; j < teams.size(); j++) {
-                Team homeTeam = teams.get(i);
-                Team awayTeam = teams.get(j);
-
-                Match match = Match.builder()
-                        .tournament(tournament)
-                        .stage(stage)
-                        .homeTeam(homeTeam)
-                        .awayTeam(awayTeam)
-                        .matchDate(tournament.getStartDate())
-                        .kickOffTime(LocalTime.of(10, 0)) // Default kick-off time
-                        .venue(tournament.getVenue())
-                        .status(MatchStatus.SCHEDULED)
-                        .phase(poolName)
-                        .matchCode(String.format("%s-M%d", poolName.replace(" ", ""), i * teams.size() + j))
-                        .build();
-
-                matchRepository.save(match);
-            }
-        }
-    }
-
-    private void generateKnockoutBracket(Tournament tournament, List<Team> teams) {
-        log.info("Generating knockout bracket for {} teams", teams.size());
-
-        int teamCount = teams.size();
-
-        // Check if team count is power of 2
-        if (!isPowerOfTwo(teamCount)) {
-            log.warn("Team count {} is not a power of 2. Some teams will receive BYEs.", teamCount);
-            // TODO: Implement BYE logic for non-power-of-2 team counts
-        }
-
-        // Determine knockout stages needed
-        List<KnockoutStageInfo> stages = determineKnockoutStages(teamCount);
-
-        int stageOrder = 1;
-        int currentTeamCount = teamCount;
-        List<Team> currentRoundTeams = new ArrayList<>(teams);
-
-        for (KnockoutStageInfo stageInfo : stages) {
-            TournamentStage stage = TournamentStage.builder()
-                    .tournament(tournament)
-                    .name(stageInfo.name)
-                    .stageType(stageInfo.type)
-                    .displayOrder(stageOrder++)
-                    .isGroupStage(false)
-                    .isKnockoutStage(true)
-                    .build();
-            stage = stageRepository.save(stage);
-
-            // Generate matches for this knockout round
-            int matchesInRound = currentTeamCount / 2;
-            for (int i = 0; i < matchesInRound; i++) {
-                Team homeTeam = currentRoundTeams.get(i * 2);
-                Team awayTeam = currentRoundTeams.get(i * 2 + 1);
-
-                Match match = Match.builder()
-                        .tournament(tournament)
-                        .stage(stage)
-                        .homeTeam(homeTeam)
-                        .awayTeam(awayTeam)
-                        .matchDate(tournament.getStartDate())
-                        .kickOffTime(LocalTime.of(14, 0)) // Default afternoon kick-off
-                        .venue(tournament.getVenue())
-                        .status(MatchStatus.SCHEDULED)
-                        .phase(stageInfo.name)
-                        .matchCode(String.format("%s-M%d", stageInfo.abbreviation, i + 1))
-                        .build();
-
-                matchRepository.save(match);
-            }
-
-            currentTeamCount = matchesInRound;
-        }
-
-        // TODO: Add third-place playoff if needed
-        log.info("Knockout bracket generated. Progression logic is a TODO for future implementation.");
-    }
-
     private boolean isPowerOfTwo(int n) {
         return n > 0 && (n & (n - 1)) == 0;
     }
 
-    private List<KnockoutStageInfo> determineKnockoutStages(int teamCount) {
-        List<KnockoutStageInfo> stages = new ArrayList<>();
-
-        if (teamCount >= 8) {
-            stages.add(new KnockoutStageInfo("Quarter Finals", TournamentStageType.QUARTER_FINAL, "QF"));
-        }
-        if (teamCount >= 4) {
-            stages.add(new KnockoutStageInfo("Semi Finals", TournamentStageType.SEMI_FINAL, "SF"));
-        }
-        if (teamCount >= 2) {
-            stages.add(new KnockoutStageInfo("Final", TournamentStageType.FINAL, "F"));
-        }
-
-        return stages;
-    }
-
-    private void generateMixedFormatBracket(Tournament tournament, List<Team> teams, Integer numberOfPools) {
-        log.info("Generating mixed format bracket with {} pools for {} teams", numberOfPools, teams.size());
-
-        if (numberOfPools == null || numberOfPools < 2) {
-            numberOfPools = 2; // Default to 2 pools for mixed format
-        }
-
-        // Step 1: Generate pool stage (round-robin within pools)
-        generateRoundRobinBracket(tournament, teams, numberOfPools);
-
-        // Step 2: Create knockout stages for pool winners/runners-up
-        // Note: Teams will be assigned to knockout matches via pool progression logic
-        int teamsAdvancingPerPool = 2; // Top 2 from each pool
-        int knockoutTeamCount = numberOfPools * teamsAdvancingPerPool;
-
-        // Determine knockout stages needed
-        List<KnockoutStageInfo> knockoutStages = determineKnockoutStages(knockoutTeamCount);
-
-        // Get current highest display order from pool stages
-        List<TournamentStage> existingStages = stageRepository
-                .findByTournamentIdOrderByDisplayOrderAsc(tournament.getId());
-        int nextDisplayOrder = existingStages.stream()
-                .mapToInt(TournamentStage::getDisplayOrder)
-                .max()
-                .orElse(0) + 1;
-
-        // Create knockout stages with placeholder teams
-        for (KnockoutStageInfo stageInfo : knockoutStages) {
-            TournamentStage stage = TournamentStage.builder()
-                    .tournament(tournament)
-                    .name(stageInfo.name)
-                    .stageType(stageInfo.type)
-                    .displayOrder(nextDisplayOrder++)
-                    .isGroupStage(false)
-                    .isKnockoutStage(true)
-                    .build();
-            stage = stageRepository.save(stage);
-
-            // Create matches with TBD teams (will be filled after pool stage completes)
-            int matchesInRound = knockoutTeamCount / 2;
-            for (int i = 0; i < matchesInRound; i++) {
-                Match match = Match.builder()
-                        .tournament(tournament)
-                        .stage(stage)
-                        .matchDate(tournament.getStartDate().plusDays(3)) // Schedule after pool stage
-                        .kickOffTime(LocalTime.of(14, 0))
-                        .venue(tournament.getVenue())
-                        .status(MatchStatus.SCHEDULED)
-                        .phase(stageInfo.name)
-                        .matchCode(String.format("%s-M%d", stageInfo.abbreviation, i + 1))
-                        .build();
-
-                matchRepository.save(match);
-            }
-
-            knockoutTeamCount = matchesInRound;
-        }
-
-        log.info("Mixed format bracket generated. Pool winners/runners-up will be assigned via progression logic.");
-    }
-
     /**
      * Calculate pool standings and progress top teams to knockout stage.
      * This should be called after all pool matches are completed.
@@ -362,23 +210,17 @@ public class BracketServiceImpl implements BracketService {
                 .filter(t -> !t.isDeleted())
                 .orElseThrow(() -> new EntityNotFoundException("Tournament not found"));
 
-        // Get all pool stages
-        List<TournamentStage> poolStages = stageRepository.findByTournamentIdOrderByDisplayOrderAsc(tournamentId)
-                .stream()
-                .filter(TournamentStage::getIsGroupStage)
-                .toList();
-
-        if (poolStages.isEmpty()) {
+        // Standings are maintained incrementally as results come in
+        List<PoolTable> tables = getPoolStandings(tournamentId);
+        if (tables.isEmpty()) {
             log.warn("No pool stages found for tournament {}", tournamentId);
             return;
         }
 
-        // Calculate standings for each pool
-        List<PoolStanding> allStandings = new ArrayList<>();
-        for (TournamentStage poolStage : poolStages) {
-            List<PoolStanding> poolStandings = calculatePoolStandings(poolStage);
-            allStandings.addAll(poolStandings);
-        }
+        List<UUID> seededTeamIds = tables.stream()
+                .flatMap(table -> table.standings().stream())
+                .map(PoolStandingRow::teamId)
+                .toList();
 
         // Get first knockout stage
         TournamentStage firstKnockoutStage = stageRepository.findByTournamentIdOrderByDisplayOrderAsc(tournamentId)
@@ -393,191 +235,33 @@ public class BracketServiceImpl implements BracketService {
         }
 
         // Seed teams into knockout bracket
-        seedKnockoutBracket(firstKnockoutStage, allStandings);
+        seedKnockoutBracket(firstKnockoutStage, seededTeamIds);
+        eventPublisher.publishEvent(new TournamentStructureChangedEvent(tournamentId));
     }
 
-    private List<PoolStanding> calculatePoolStandings(TournamentStage poolStage) {
-        List<Match> poolMatches = matchRepository.findByStageId(poolStage.getId());
-        Map<UUID, PoolStanding> standingsMap = new HashMap<>();
-
-        // Initialize standings for all teams in pool
-        for (Match match : poolMatches) {
-            standingsMap.putIfAbsent(match.getHomeTeam().getId(),
-                    new PoolStanding(match.getHomeTeam(), poolStage.getName()));
-            standingsMap.putIfAbsent(match.getAwayTeam().getId(),
-                    new PoolStanding(match.getAwayTeam(), poolStage.getName()));
-        }
-
-        // Calculate points from completed matches
-        for (Match match : poolMatches) {
-            if (match.getStatus() != MatchStatus.COMPLETED ||
-                    match.getHomeScore() == null ||
-                    match.getAwayScore() == null) {
-                continue;
-            }
-
-            PoolStanding homeStanding = standingsMap.get(match.getHomeTeam().getId());
-            PoolStanding awayStanding = standingsMap.get(match.getAwayTeam().getId());
-
-            homeStanding.played++;
-            awayStanding.played++;
-            homeStanding.pointsFor += match.getHomeScore();
-            homeStanding.pointsAgainst += match.getAwayScore();
-            awayStanding.pointsFor += match.getAwayScore();
-            awayStanding.pointsAgainst += match.getHomeScore();
-
-            if (match.getHomeScore() > match.getAwayScore()) {
-                homeStanding.wins++;
-                homeStanding.points += 4; // 4 points for win
-                awayStanding.losses++;
-            } else if (match.getAwayScore() > match.getHomeScore()) {
-                awayStanding.wins++;
-                awayStanding.points += 4;
-                homeStanding.losses++;
-            } else {
-                homeStanding.draws++;
-                awayStanding.draws++;
-                homeStanding.points += 2; // 2 points for draw
-                awayStanding.points += 2;
-            }
-
-            // Bonus point for scoring 4+ tries (simplified - using score threshold)
-            if (match.getHomeScore() >= 28)
-                homeStanding.points++;
-            if (match.getAwayScore() >= 28)
-                awayStanding.points++;
-        }
-
-        // Sort by points, then point differential
-        return standingsMap.values().stream()
-                .sorted(Comparator.comparing(PoolStanding::getPoints).reversed()
-                        .thenComparing(s -> s.pointsFor - s.pointsAgainst, Comparator.reverseOrder())
-                        .thenComparing(s -> s.pointsFor, Comparator.reverseOrder()))
-                .toList();
+    @Override
+    @Transactional(readOnly = true)
+    public List<PoolTable> getPoolStandings(UUID tournamentId) {
+        return PoolTable.build(poolStandingRepository.findRowsByTournamentId(tournamentId));
     }
 
-    private void seedKnockoutBracket(TournamentStage firstKnockoutStage, List<PoolStanding> standings) {
+    private void seedKnockoutBracket(TournamentStage firstKnockoutStage, List<UUID> seededTeamIds) {
         List<Match> knockoutMatches = matchRepository.findByStageId(firstKnockoutStage.getId());
 
         // Seed teams: Pool A winner vs Pool B runner-up, Pool B winner vs Pool A
         // runner-up, etc.
         int matchIndex = 0;
-        for (int i = 0; i < standings.size() && matchIndex < knockoutMatches.size(); i += 2) {
-            if (i + 1 < standings.size()) {
+        for (int i = 0; i < seededTeamIds.size() && matchIndex < knockoutMatches.size(); i += 2) {
+            if (i + 1 < seededTeamIds.size()) {
                 Match match = knockoutMatches.get(matchIndex);
-                match.setHomeTeam(standings.get(i).team); // Higher seed
-                match.setAwayTeam(standings.get(i + 1).team); // Lower seed
-                matchRepository.save(match);
+                match.setHomeTeam(teamRepository.getReferenceById(seededTeamIds.get(i))); // Higher seed
+                match.setAwayTeam(teamRepository.getReferenceById(seededTeamIds.get(i + 1))); // Lower seed
                 matchIndex++;
             }
         }
+        matchRepository.saveAll(knockoutMatches);
 
-        log.info("Seeded {} teams into knockout bracket", standings.size());
-    }
-
-    // Helper class for pool standings
-    private static class PoolStanding {
-        Team team;
-        String poolName;
-        int played = 0;
-        int wins = 0;
-        int draws = 0;
-        int losses = 0;
-        int pointsFor = 0;
-        int pointsAgainst = 0;
-        int points = 0;
-
-        PoolStanding(Team team, String poolName) {
-            this.team = team;
-            this.poolName = poolName;
-        }
-
-        int getPoints() {
-            return points;
-        }
-    }
-
-    /**
-     * Generate placement stages (Plate, Bowl, Shield) for losers in knockout
-     * stages.
-     * This creates parallel brackets for teams that lose in various rounds.
-     */
-    private void generatePlacementStages(Tournament tournament, int totalTeams) {
-        log.info("Generating placement stages for tournament with {} teams", totalTeams);
-
-        // Get the highest display order from main knockout stages
-        List<TournamentStage> existingStages = stageRepository
-                .findByTournamentIdOrderByDisplayOrderAsc(tournament.getId());
-        int nextDisplayOrder = existingStages.stream()
-                .mapToInt(TournamentStage::getDisplayOrder)
-                .max()
-                .orElse(0) + 1;
-
-        // Determine which placement stages to create based on team count
-        if (totalTeams >= 16) {
-            // Plate (for QF losers), Bowl (for SF losers in lower bracket), Shield (for
-            // early losers)
-            createPlacementStage(tournament, "Plate Semi Finals", TournamentStageType.PLATE, nextDisplayOrder++, 2);
-            createPlacementStage(tournament, "Plate Final", TournamentStageType.PLATE, nextDisplayOrder++, 1);
-            createPlacementStage(tournament, "Bowl Semi Finals", TournamentStageType.BOWL, nextDisplayOrder++, 2);
-            createPlacementStage(tournament, "Bowl Final", TournamentStageType.BOWL, nextDisplayOrder++, 1);
-            createPlacementStage(tournament, "Shield Final", TournamentStageType.SHIELD, nextDisplayOrder++, 1);
-        } else if (totalTeams >= 8) {
-            // Plate (for SF losers), Bowl (for QF losers)
-            createPlacementStage(tournament, "Plate Final", TournamentStageType.PLATE, nextDisplayOrder++, 1);
-            createPlacementStage(tournament, "Bowl Final", TournamentStageType.BOWL, nextDisplayOrder++, 1);
-        } else if (totalTeams >= 4) {
-            // Just Plate (for SF losers - 3rd place playoff)
-            createPlacementStage(tournament, "3rd Place Playoff", TournamentStageType.THIRD_PLACE, nextDisplayOrder++,
-                    1);
-        }
-
-        log.info("Placement stages created. Teams will be assigned via progression logic when matches complete.");
-    }
-
-    private void createPlacementStage(Tournament tournament, String stageName, TournamentStageType stageType,
-            int displayOrder, int numberOfMatches) {
-        TournamentStage stage = TournamentStage.builder()
-                .tournament(tournament)
-                .name(stageName)
-                .stageType(stageType)
-                .displayOrder(displayOrder)
-                .isGroupStage(false)
-                .isKnockoutStage(true) // Placement stages are also knockout format
-                .build();
-        stage = stageRepository.save(stage);
-
-        // Create placeholder matches (teams will be assigned when losers are
-        // determined)
-        for (int i = 0; i < numberOfMatches; i++) {
-            Match match = Match.builder()
-                    .tournament(tournament)
-                    .stage(stage)
-                    .matchDate(tournament.getEndDate()) // Schedule for end of tournament
-                    .kickOffTime(LocalTime.of(12, 0))
-                    .venue(tournament.getVenue())
-                    .status(MatchStatus.SCHEDULED)
-                    .phase(stageName)
-                    .matchCode(String.format("%s-M%d", getStageAbbreviation(stageType), i + 1))
-                    .build();
-
-            matchRepository.save(match);
-        }
-
-        log.info("Created placement stage: {} with {} matches", stageName, numberOfMatches);
-    }
-
-    private String getStageAbbreviation(TournamentStageType stageType) {
-        return switch (stageType) {
-            case QUARTER_FINAL -> "QF";
-            case SEMI_FINAL -> "SF";
-            case FINAL -> "F";
-            case THIRD_PLACE -> "3P";
-            case PLATE -> "PL";
-            case BOWL -> "BW";
-            case SHIELD -> "SH";
-            default -> stageType.name().substring(0, 2);
-        };
+        log.info("Seeded {} teams into knockout bracket", seededTeamIds.size());
     }
 
     // Mapping methods
@@ -624,10 +308,11 @@ public class BracketServiceImpl implements BracketService {
         return MatchResponse.builder()
                 .id(match.getId())
                 .tournamentId(match.getTournament().getId())
-                .homeTeamId(match.getHomeTeam().getId())
-                .homeTeamName(match.getHomeTeam().getName())
-                .awayTeamId(match.getAwayTeam().getId())
-                .awayTeamName(match.getAwayTeam().getName())
+                // Teams are not yet known for TBD knockout and placement slots
+                .homeTeamId(match.getHomeTeam() != null ? match.getHomeTeam().getId() : null)
+                .homeTeamName(match.getHomeTeam() != null ? match.getHomeTeam().getName() : null)
+                .awayTeamId(match.getAwayTeam() != null ? match.getAwayTeam().getId() : null)
+                .awayTeamName(match.getAwayTeam() != null ? match.getAwayTeam().getName() : null)
                 .matchDate(match.getMatchDate())
                 .kickOffTime(match.getKickOffTime())
                 .venue(match.getVenue())
@@ -639,17 +324,4 @@ public class BracketServiceImpl implements BracketService {
                 .matchCode(match.getMatchCode())
                 .build();
     }
-
-    // Helper class for knockout stage information
-    private static class KnockoutStageInfo {
-        String name;
-        TournamentStageType type;
-        String abbreviation;
-
-        KnockoutStageInfo(String name, TournamentStageType type, String abbreviation) {
-            this.name = name;
-            this.type = type;
-            this.abbreviation = abbreviation;
-        }
-    }
 }
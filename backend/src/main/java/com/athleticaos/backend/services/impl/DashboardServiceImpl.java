@@ -1,50 +1,41 @@
 package com.athleticaos.backend.services.impl;
 
+import com.athleticaos.backend.dashboard.DashboardMetricsStore;
 import com.athleticaos.backend.dtos.dashboard.DashboardStatsResponse;
-import com.athleticaos.backend.enums.MatchStatus;
-import com.athleticaos.backend.repositories.*;
 import com.athleticaos.backend.services.DashboardService;
+import com.athleticaos.backend.services.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DashboardServiceImpl implements DashboardService {
 
-    private final UserRepository userRepository;
-    private final TeamRepository teamRepository;
-    private final MatchRepository matchRepository;
-    private final OrganisationRepository organisationRepository;
-    private final TournamentRepository tournamentRepository;
+    private final DashboardMetricsStore dashboardMetricsStore;
+    private final UserService userService;
 
     @Override
-    @Transactional(readOnly = true)
     public DashboardStatsResponse getDashboardStats() {
         log.info("Fetching dashboard statistics");
 
-        long totalPlayers = userRepository.count();
-        long totalTeams = teamRepository.count();
-        long totalMatches = matchRepository.count();
-        long totalOrganisations = organisationRepository.count();
-
-        // Count active tournaments (assuming there's a status field)
-        long activeTournaments = tournamentRepository.count(); // TODO: filter by active status if available
-
-        // Count upcoming matches (scheduled status)
-        long upcomingMatches = matchRepository.countByStatus(MatchStatus.SCHEDULED);
+        // Null means the caller can see every organisation
+        Set<UUID> accessibleOrgIds = userService.getAccessibleOrgIdsForCurrentUser();
+        DashboardMetricsStore.Totals totals = dashboardMetricsStore.getTotals(accessibleOrgIds);
 
         return DashboardStatsResponse.builder()
-                .totalPlayers(totalPlayers)
-                .totalTeams(totalTeams)
-                .totalMatches(totalMatches)
-                .totalOrganisations(totalOrganisations)
-                .activeTournaments(activeTournaments)
-                .upcomingMatches(upcomingMatches)
+                .totalPlayers(totals.players())
+                .totalTeams(totals.teams())
+                .totalMatches(totals.totalMatches())
+                .totalOrganisations(totals.organisations())
+                .activeTournaments(totals.liveTournaments())
+                .upcomingMatches(totals.scheduledMatches())
+                .liveMatches(totals.ongoingMatches())
+                .completedMatches(totals.completedMatches())
                 .build();
     }
 }
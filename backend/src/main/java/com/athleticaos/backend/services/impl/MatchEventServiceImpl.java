@@ -1,28 +1,49 @@
 package com.athleticaos.backend.services.impl;
 
+import com.athleticaos.backend.dashboard.KeyedCountRow;
+import com.athleticaos.backend.dtos.match.MatchEventBatchItem;
+import com.athleticaos.backend.dtos.match.MatchEventBatchRequest;
+import com.athleticaos.backend.dtos.match.MatchEventBatchResponse;
 import com.athleticaos.backend.dtos.match.MatchEventCreateRequest;
 import com.athleticaos.backend.dtos.match.MatchEventResponse;
-import com.athleticaos.backend.dtos.roster.PlayerSuspensionDTO;
 import com.athleticaos.backend.entities.Match;
 import com.athleticaos.backend.entities.MatchEvent;
 import com.athleticaos.backend.entities.PlayerSuspension;
 import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.Tournament;
 import com.athleticaos.backend.entities.User;
 import com.athleticaos.backend.enums.MatchEventType;
+import com.athleticaos.backend.events.MatchEventRecordedEvent;
+import com.athleticaos.backend.events.MatchEventRemovedEvent;
+import com.athleticaos.backend.live.LiveEvent;
+import com.athleticaos.backend.live.LiveMatchSession;
+import com.athleticaos.backend.live.LiveMatchSessions;
 import com.athleticaos.backend.repositories.MatchEventRepository;
 import com.athleticaos.backend.repositories.MatchRepository;
 import com.athleticaos.backend.repositories.TeamRepository;
+import com.athleticaos.backend.repositories.TournamentRepository;
 import com.athleticaos.backend.repositories.UserRepository;
 import com.athleticaos.backend.audit.AuditLogger;
 import com.athleticaos.backend.services.MatchEventService;
 import com.athleticaos.backend.services.PlayerSuspensionService;
+import com.athleticaos.backend.suspension.SuspensionLedger;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,16 +51,32 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MatchEventServiceImpl implements MatchEventService {
 
+    // Replays racing each other on the same key insert once
+    private static final String INSERT_BATCH_EVENT_SQL = "INSERT INTO match_events (id, match_id, team_id, "
+            + "player_id, event_type, minute, notes, client_event_id, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (match_id, client_event_id) DO NOTHING";
+
     private final MatchEventRepository matchEventRepository;
     private final MatchRepository matchRepository;
     private final TeamRepository teamRepository;
+    private final TournamentRepository tournamentRepository;
     private final UserRepository userRepository;
     private final AuditLogger auditLogger;
     private final PlayerSuspensionService suspensionService;
+    private final SuspensionLedger suspensionLedger;
+    private final LiveMatchSessions liveMatchSessions;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
     public List<MatchEventResponse> getEventsForMatch(UUID matchId) {
+        LiveMatchSession session = liveMatchSessions.find(matchId);
+        if (session != null) {
+            return session.events().stream()
+                    .map(event -> mapToResponse(matchId, event))
+                    .collect(Collectors.toList());
+        }
         if (!matchRepository.existsById(matchId)) {
             throw new EntityNotFoundException("Match not found with ID: " + matchId);
         }
@@ -52,9 +89,81 @@ public class MatchEventServiceImpl implements MatchEventService {
     @Transactional
     public MatchEventResponse addEventToMatch(UUID matchId, MatchEventCreateRequest request,
             HttpServletRequest httpRequest) {
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new EntityNotFoundException("Match not found with ID: " + matchId));
+        LiveMatchSession session = liveMatchSessions.find(matchId);
+        if (session == null) {
+            Match match = matchRepository.findById(matchId)
+                    .orElseThrow(() -> new EntityNotFoundException("Match not found with ID: " + matchId));
+            session = liveMatchSessions.open(match);
+            if (session == null) {
+                return addPersistedEvent(match, request, httpRequest);
+            }
+        }
+        return addLiveEvent(session, request, httpRequest);
+    }
+
+    /**
+     * Records an event for a match in progress: the session's log and score are
+     * updated in memory and the write is left to the live writer.
+     */
+    private MatchEventResponse addLiveEvent(LiveMatchSession session, MatchEventCreateRequest request,
+            HttpServletRequest httpRequest) {
+        if (!session.involves(request.getTeamId())) {
+            throw new IllegalArgumentException("Team is not part of this match.");
+        }
+
+        User player = null;
+        LiveMatchSession.PlayerName playerName = null;
+        if (request.getPlayerId() != null) {
+            playerName = session.player(request.getPlayerId());
+            if (playerName == null) {
+                player = userRepository.findById(request.getPlayerId())
+                        .orElseThrow(() -> new EntityNotFoundException(
+                                "Player not found with ID: " + request.getPlayerId()));
+                playerName = new LiveMatchSession.PlayerName(player.getFirstName(), player.getLastName());
+                session.rememberPlayer(player.getId(), playerName);
+            }
+        }
+
+        LiveEvent event = new LiveEvent(
+                UUID.randomUUID(),
+                request.getTeamId(),
+                request.getPlayerId(),
+                playerName != null ? playerName.firstName() : null,
+                playerName != null ? playerName.lastName() : null,
+                request.getEventType(),
+                request.getMinute(),
+                request.getNotes(),
+                LocalDateTime.now());
+        int yellowCards = liveMatchSessions.record(session, event);
+
+        auditLogger.logMatchEventAdded(MatchEvent.builder()
+                .id(event.id())
+                .eventType(event.eventType())
+                .minute(event.minute())
+                .build(), httpRequest);
+
+        if (event.playerId() != null && (event.eventType() == MatchEventType.RED_CARD
+                || (event.eventType() == MatchEventType.YELLOW_CARD && yellowCards >= 2))) {
+            if (player == null) {
+                player = userRepository.findById(event.playerId())
+                        .orElseThrow(() -> new EntityNotFoundException(
+                                "Player not found with ID: " + event.playerId()));
+            }
+            handleSuspensions(
+                    tournamentRepository.getReferenceById(session.getTournamentId()),
+                    teamRepository.getReferenceById(event.teamId()),
+                    player,
+                    session.getLabel(),
+                    event.eventType(),
+                    yellowCards,
+                    httpRequest);
+        }
+
+        return mapToResponse(session.getMatchId(), event);
+    }
 
+    private MatchEventResponse addPersistedEvent(Match match, MatchEventCreateRequest request,
+            HttpServletRequest httpRequest) {
         Team team = teamRepository.findById(request.getTeamId())
                 .orElseThrow(() -> new EntityNotFoundException("Team not found with ID: " + request.getTeamId()));
 
@@ -66,7 +175,9 @@ public class MatchEventServiceImpl implements MatchEventService {
         }
 
         // Validate that the team is part of the match
-        if (!match.getHomeTeam().getId().equals(team.getId()) && !match.getAwayTeam().getId().equals(team.getId())) {
+        boolean isHome = match.getHomeTeam() != null && match.getHomeTeam().getId().equals(team.getId());
+        boolean isAway = match.getAwayTeam() != null && match.getAwayTeam().getId().equals(team.getId());
+        if (!isHome && !isAway) {
             throw new IllegalArgumentException("Team is not part of this match.");
         }
 
@@ -81,63 +192,205 @@ public class MatchEventServiceImpl implements MatchEventService {
 
         MatchEvent savedEvent = matchEventRepository.saveAndFlush(event);
         auditLogger.logMatchEventAdded(savedEvent, httpRequest);
+        eventPublisher.publishEvent(new MatchEventRecordedEvent(
+                savedEvent.getId(),
+                match.getTournament().getId(),
+                match.getId(),
+                team.getId(),
+                team.getName(),
+                player != null ? player.getId() : null,
+                player != null ? player.getFirstName() : null,
+                player != null ? player.getLastName() : null,
+                savedEvent.getEventType(),
+                savedEvent.getMinute()));
 
         // Handle suspensions for disciplinary cards
-        handleSuspensions(savedEvent, httpRequest);
+        if (player != null) {
+            long yellowCount = savedEvent.getEventType() == MatchEventType.YELLOW_CARD
+                    ? matchEventRepository.countByMatchIdAndPlayerIdAndEventType(
+                            match.getId(), player.getId(), MatchEventType.YELLOW_CARD)
+                    : 0;
+            handleSuspensions(match.getTournament(), team, player,
+                    match.getMatchCode() != null ? match.getMatchCode() : match.getId().toString(),
+                    savedEvent.getEventType(), yellowCount, httpRequest);
+        }
 
         return mapToResponse(savedEvent);
     }
 
-    /**
-     * Creates suspensions for red cards and two yellow cards.
-     */
-    private void handleSuspensions(MatchEvent event, HttpServletRequest httpRequest) {
-        if (event.getPlayer() == null) {
-            return; // No player involved, skip suspension logic
+    @Override
+    @Transactional
+    public MatchEventBatchResponse addEventsToMatch(UUID matchId, MatchEventBatchRequest request,
+            HttpServletRequest httpRequest) {
+        // Events still queued by a live session land before the batch, and the
+        // session stays closed until the batch commits
+        liveMatchSessions.closeUntilCommit(matchId);
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new EntityNotFoundException("Match not found with ID: " + matchId));
+
+        Map<UUID, Team> teams = new HashMap<>(2);
+        if (match.getHomeTeam() != null) {
+            teams.put(match.getHomeTeam().getId(), match.getHomeTeam());
+        }
+        if (match.getAwayTeam() != null) {
+            teams.put(match.getAwayTeam().getId(), match.getAwayTeam());
+        }
+        List<MatchEventBatchItem> items = request.getEvents();
+        for (MatchEventBatchItem item : items) {
+            if (!teams.containsKey(item.getTeamId())) {
+                throw new IllegalArgumentException("Team " + item.getTeamId() + " is not part of this match.");
+            }
         }
 
-        Match match = event.getMatch();
-        Team team = event.getTeam();
-        User player = event.getPlayer();
-        MatchEventType eventType = event.getEventType();
+        // Replays: keys already stored for the match, then repeats within the batch
+        Set<String> existing = new HashSet<>(matchEventRepository.findExistingClientEventIds(matchId,
+                items.stream().map(MatchEventBatchItem::getClientEventId).collect(Collectors.toSet())));
+        Set<String> seen = new HashSet<>();
+        List<MatchEventBatchItem> fresh = new ArrayList<>(items.size());
+        List<String> duplicates = new ArrayList<>();
+        for (MatchEventBatchItem item : items) {
+            if (existing.contains(item.getClientEventId()) || !seen.add(item.getClientEventId())) {
+                duplicates.add(item.getClientEventId());
+            } else {
+                fresh.add(item);
+            }
+        }
 
+        Set<UUID> playerIds = fresh.stream()
+                .map(MatchEventBatchItem::getPlayerId)
+                .filter(java.util.Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, User> players = userRepository.findAllById(playerIds).stream()
+                .collect(Collectors.toMap(User::getId, u -> u));
+        for (UUID playerId : playerIds) {
+            if (!players.containsKey(playerId)) {
+                throw new EntityNotFoundException("Player not found with ID: " + playerId);
+            }
+        }
+
+        // Consecutive microseconds keep the client's order for readers sorting by created_at
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> ids = new ArrayList<>(fresh.size());
+        List<Object[]> rows = new ArrayList<>(fresh.size());
+        for (int i = 0; i < fresh.size(); i++) {
+            MatchEventBatchItem item = fresh.get(i);
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            rows.add(new Object[] {
+                    id,
+                    matchId,
+                    item.getTeamId(),
+                    item.getPlayerId(),
+                    item.getEventType().name(),
+                    item.getMinute(),
+                    item.getNotes(),
+                    item.getClientEventId(),
+                    Timestamp.valueOf(now.plusNanos(i * 1000L))
+            });
+        }
+        int[] counts = rows.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(INSERT_BATCH_EVENT_SQL, rows);
+
+        List<MatchEventResponse> recorded = new ArrayList<>(fresh.size());
+        // Players carded in this batch, with the team they were carded for
+        Map<UUID, UUID> yellowCarded = new LinkedHashMap<>();
+        List<MatchEventBatchItem> redCards = new ArrayList<>();
+        for (int i = 0; i < fresh.size(); i++) {
+            MatchEventBatchItem item = fresh.get(i);
+            if (counts[i] == 0) {
+                // Lost the race to a concurrent replay of the same key
+                duplicates.add(item.getClientEventId());
+                continue;
+            }
+            User player = item.getPlayerId() != null ? players.get(item.getPlayerId()) : null;
+            Team team = teams.get(item.getTeamId());
+            eventPublisher.publishEvent(new MatchEventRecordedEvent(
+                    ids.get(i),
+                    match.getTournament().getId(),
+                    matchId,
+                    team.getId(),
+                    team.getName(),
+                    player != null ? player.getId() : null,
+                    player != null ? player.getFirstName() : null,
+                    player != null ? player.getLastName() : null,
+                    item.getEventType(),
+                    item.getMinute()));
+            recorded.add(MatchEventResponse.builder()
+                    .id(ids.get(i))
+                    .matchId(matchId)
+                    .teamId(item.getTeamId())
+                    .playerId(item.getPlayerId())
+                    .eventType(item.getEventType().name())
+                    .minute(item.getMinute())
+                    .notes(item.getNotes())
+                    .clientEventId(item.getClientEventId())
+                    .build());
+
+            if (player != null && item.getEventType() == MatchEventType.RED_CARD) {
+                redCards.add(item);
+            } else if (player != null && item.getEventType() == MatchEventType.YELLOW_CARD) {
+                yellowCarded.put(player.getId(), item.getTeamId());
+            }
+        }
+        auditLogger.logMatchEventsImported(match, recorded.size(), duplicates.size(), httpRequest);
+
+        // Suspensions once over the batch, with yellow counts for the whole match
+        String matchLabel = match.getMatchCode() != null ? match.getMatchCode() : match.getId().toString();
+        for (MatchEventBatchItem item : redCards) {
+            handleSuspensions(match.getTournament(), teams.get(item.getTeamId()), players.get(item.getPlayerId()),
+                    matchLabel, MatchEventType.RED_CARD, 0, httpRequest);
+        }
+        if (!yellowCarded.isEmpty()) {
+            Map<UUID, Long> yellowCounts = matchEventRepository
+                    .countByPlayerForMatch(matchId, MatchEventType.YELLOW_CARD, yellowCarded.keySet()).stream()
+                    .collect(Collectors.toMap(KeyedCountRow::id, KeyedCountRow::count));
+            yellowCarded.forEach((playerId, teamId) -> handleSuspensions(match.getTournament(), teams.get(teamId),
+                    players.get(playerId), matchLabel, MatchEventType.YELLOW_CARD,
+                    yellowCounts.getOrDefault(playerId, 0L), httpRequest));
+        }
+
+        return MatchEventBatchResponse.builder()
+                .received(items.size())
+                .inserted(recorded.size())
+                .duplicates(duplicates.size())
+                .events(recorded)
+                .duplicateClientEventIds(duplicates)
+                .build();
+    }
+
+    /**
+     * Creates suspensions for red cards and two yellow cards.
+     */
+    private void handleSuspensions(Tournament tournament, Team team, User player, String matchLabel,
+            MatchEventType eventType, long yellowCount, HttpServletRequest httpRequest) {
         // Red card = immediate 1 match suspension
         if (eventType == MatchEventType.RED_CARD) {
             PlayerSuspension suspension = suspensionService.createSuspension(
-                    match.getTournament(),
+                    tournament,
                     team,
                     player,
-                    "Red card in match " + (match.getMatchCode() != null ? match.getMatchCode() : match.getId()),
+                    "Red card in match " + matchLabel,
                     1 // MVP: 1 match suspension
             );
             auditLogger.logSuspensionCreated(suspension, httpRequest);
         }
 
         // Two yellow cards in same match = 1 match suspension
-        if (eventType == MatchEventType.YELLOW_CARD) {
-            long yellowCount = matchEventRepository.findByMatchId(match.getId()).stream()
-                    .filter(e -> e.getPlayer() != null &&
-                            e.getPlayer().getId().equals(player.getId()) &&
-                            e.getEventType() == MatchEventType.YELLOW_CARD)
-                    .count();
-
-            if (yellowCount >= 2) {
-                // Check if suspension already created for this match
-                boolean alreadySuspended = suspensionService.getPlayerActiveSuspensions(
-                        match.getTournament().getId(),
-                        player.getId()).stream()
-                        .anyMatch(s -> s.getReason().contains(match.getId().toString()));
-
-                if (!alreadySuspended) {
-                    PlayerSuspension suspension = suspensionService.createSuspension(
-                            match.getTournament(),
-                            team,
-                            player,
-                            "Two yellow cards in match "
-                                    + (match.getMatchCode() != null ? match.getMatchCode() : match.getId()),
-                            1);
-                    auditLogger.logSuspensionCreated(suspension, httpRequest);
-                }
+        if (eventType == MatchEventType.YELLOW_CARD && yellowCount >= 2) {
+            String reason = "Two yellow cards in match " + matchLabel;
+
+            // Check if suspension already created for this match
+            boolean alreadySuspended = suspensionLedger.getActive(tournament.getId(), player.getId())
+                    .stream()
+                    .anyMatch(s -> s.reason().equals(reason));
+
+            if (!alreadySuspended) {
+                PlayerSuspension suspension = suspensionService.createSuspension(
+                        tournament,
+                        team,
+                        player,
+                        reason,
+                        1);
+                auditLogger.logSuspensionCreated(suspension, httpRequest);
             }
         }
     }
@@ -145,10 +398,21 @@ public class MatchEventServiceImpl implements MatchEventService {
     @Override
     @Transactional
     public UUID deleteEvent(UUID eventId) {
+        // The event may still be queued by a live session
+        liveMatchSessions.flushAll();
         MatchEvent event = matchEventRepository.findById(eventId)
                 .orElseThrow(() -> new EntityNotFoundException("Match Event not found with ID: " + eventId));
         UUID matchId = event.getMatch().getId();
         matchEventRepository.deleteById(eventId);
+        // Reopened from the database on the first live write after the commit
+        liveMatchSessions.closeUntilCommit(matchId);
+        eventPublisher.publishEvent(new MatchEventRemovedEvent(
+                eventId,
+                event.getMatch().getTournament().getId(),
+                matchId,
+                event.getTeam() != null ? event.getTeam().getId() : null,
+                event.getPlayer() != null ? event.getPlayer().getId() : null,
+                event.getEventType()));
         return matchId;
     }
 
@@ -161,6 +425,19 @@ public class MatchEventServiceImpl implements MatchEventService {
                 .eventType(event.getEventType().name())
                 .minute(event.getMinute())
                 .notes(event.getNotes())
+                .clientEventId(event.getClientEventId())
+                .build();
+    }
+
+    private MatchEventResponse mapToResponse(UUID matchId, LiveEvent event) {
+        return MatchEventResponse.builder()
+                .id(event.id())
+                .matchId(matchId)
+                .teamId(event.teamId())
+                .playerId(event.playerId())
+                .eventType(event.eventType().name())
+                .minute(event.minute())
+                .notes(event.notes())
                 .build();
     }
 }
@@ -1,12 +1,18 @@
 package com.athleticaos.backend.services.impl;
 
+import com.athleticaos.backend.dtos.match.BulkMatchResultRequest;
 import com.athleticaos.backend.dtos.match.MatchCreateRequest;
 import com.athleticaos.backend.dtos.match.MatchResponse;
+import com.athleticaos.backend.dtos.match.MatchResultEntry;
 import com.athleticaos.backend.dtos.match.MatchUpdateRequest;
 import com.athleticaos.backend.entities.Match;
 import com.athleticaos.backend.entities.Team;
 import com.athleticaos.backend.entities.Tournament;
 import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.MatchResultChangedEvent;
+import com.athleticaos.backend.events.MatchScheduleChangedEvent;
+import com.athleticaos.backend.events.TournamentStructureChangedEvent;
+import com.athleticaos.backend.live.LiveMatchSessions;
 import com.athleticaos.backend.repositories.MatchRepository;
 import com.athleticaos.backend.repositories.TeamRepository;
 import com.athleticaos.backend.repositories.TournamentRepository;
@@ -14,13 +20,18 @@ import com.athleticaos.backend.audit.AuditLogger;
 import com.athleticaos.backend.services.MatchService;
 import com.athleticaos.backend.services.PlayerSuspensionService;
 import com.athleticaos.backend.services.UserService;
+import com.athleticaos.backend.standings.PoolStandingsWriter;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -35,6 +46,9 @@ public class MatchServiceImpl implements MatchService {
     private final UserService userService;
     private final AuditLogger auditLogger;
     private final PlayerSuspensionService suspensionService;
+    private final PoolStandingsWriter poolStandingsWriter;
+    private final LiveMatchSessions liveMatchSessions;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -117,15 +131,22 @@ public class MatchServiceImpl implements MatchService {
 
         Match savedMatch = matchRepository.save(match);
         auditLogger.logMatchCreated(savedMatch, httpRequest);
+        eventPublisher.publishEvent(new TournamentStructureChangedEvent(tournament.getId()));
         return mapToResponse(savedMatch);
     }
 
     @Override
     @Transactional
     public MatchResponse updateMatch(UUID id, MatchUpdateRequest request, HttpServletRequest httpRequest) {
+        // Persist queued live events first so the update starts from the committed score
+        liveMatchSessions.close(id);
         Match match = matchRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Match not found with ID: " + id));
 
+        MatchStatus previousStatus = match.getStatus();
+        Integer previousHomeScore = match.getHomeScore();
+        Integer previousAwayScore = match.getAwayScore();
+
         if (request.getMatchDate() != null) {
             match.setMatchDate(request.getMatchDate());
         }
@@ -181,28 +202,125 @@ public class MatchServiceImpl implements MatchService {
 
         Match updatedMatch = matchRepository.save(match);
         auditLogger.logMatchUpdated(updatedMatch, httpRequest);
+        publishResultChange(updatedMatch, previousStatus, previousHomeScore, previousAwayScore);
+        if (request.getMatchDate() != null || request.getKickOffTime() != null || request.getVenue() != null
+                || request.getPitch() != null || request.getPhase() != null || request.getMatchCode() != null) {
+            eventPublisher.publishEvent(new MatchScheduleChangedEvent(
+                    updatedMatch.getTournament().getId(), updatedMatch.getId()));
+        }
         return mapToResponse(updatedMatch);
     }
 
+    @Override
+    @Transactional
+    public List<MatchResponse> updateMatchResults(BulkMatchResultRequest request, HttpServletRequest httpRequest) {
+        Map<UUID, MatchResultEntry> entries = new LinkedHashMap<>();
+        for (MatchResultEntry entry : request.getResults()) {
+            if (entries.put(entry.getMatchId(), entry) != null) {
+                throw new IllegalArgumentException("Duplicate result for match: " + entry.getMatchId());
+            }
+        }
+        for (UUID id : entries.keySet()) {
+            liveMatchSessions.close(id);
+        }
+
+        Map<UUID, Match> matches = matchRepository.findResultMatchesByIdIn(entries.keySet()).stream()
+                .collect(Collectors.toMap(Match::getId, match -> match));
+        for (UUID id : entries.keySet()) {
+            if (!matches.containsKey(id)) {
+                throw new EntityNotFoundException("Match not found with ID: " + id);
+            }
+        }
+
+        List<Match> updated = new ArrayList<>(entries.size());
+        List<Match> completed = new ArrayList<>();
+        List<MatchStatus> previousStatuses = new ArrayList<>(entries.size());
+        List<Integer> previousHomeScores = new ArrayList<>(entries.size());
+        List<Integer> previousAwayScores = new ArrayList<>(entries.size());
+        for (MatchResultEntry entry : entries.values()) {
+            Match match = matches.get(entry.getMatchId());
+            previousStatuses.add(match.getStatus());
+            previousHomeScores.add(match.getHomeScore());
+            previousAwayScores.add(match.getAwayScore());
+
+            MatchStatus status = entry.getStatus() != null ? entry.getStatus() : MatchStatus.COMPLETED;
+            // Corrections to an already completed match must not serve suspensions twice
+            if (status == MatchStatus.COMPLETED && match.getStatus() != MatchStatus.COMPLETED) {
+                completed.add(match);
+            }
+            match.setStatus(status);
+            match.setHomeScore(entry.getHomeScore());
+            match.setAwayScore(entry.getAwayScore());
+            updated.add(match);
+        }
+
+        if (!completed.isEmpty()) {
+            suspensionService.decrementSuspensions(completed);
+        }
+        matchRepository.saveAll(updated);
+
+        for (int i = 0; i < updated.size(); i++) {
+            Match match = updated.get(i);
+            auditLogger.logMatchScoreUpdated(match, httpRequest);
+            publishResultChange(match, previousStatuses.get(i), previousHomeScores.get(i),
+                    previousAwayScores.get(i));
+        }
+        // Progression picks the completions up from the published changes, once, after commit
+
+        return updated.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public void deleteMatch(UUID id) {
-        if (!matchRepository.existsById(id)) {
-            throw new EntityNotFoundException("Match not found with ID: " + id);
+        liveMatchSessions.close(id);
+        Match match = matchRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Match not found with ID: " + id));
+        UUID tournamentId = match.getTournament().getId();
+        matchRepository.delete(match);
+        eventPublisher.publishEvent(new TournamentStructureChangedEvent(tournamentId));
+    }
+
+    /**
+     * Applies a result change to the pool table and publishes it, if the status
+     * or either score moved.
+     */
+    private void publishResultChange(Match match, MatchStatus previousStatus, Integer previousHomeScore,
+            Integer previousAwayScore) {
+        if (match.getStatus() == previousStatus
+                && java.util.Objects.equals(match.getHomeScore(), previousHomeScore)
+                && java.util.Objects.equals(match.getAwayScore(), previousAwayScore)) {
+            return;
         }
-        matchRepository.deleteById(id);
+        poolStandingsWriter.applyResultChange(match, previousStatus, previousHomeScore, previousAwayScore);
+        eventPublisher.publishEvent(new MatchResultChangedEvent(
+                match.getTournament().getId(),
+                match.getId(),
+                match.getHomeTeam() != null ? match.getHomeTeam().getId() : null,
+                match.getAwayTeam() != null ? match.getAwayTeam().getId() : null,
+                previousStatus,
+                previousHomeScore,
+                previousAwayScore,
+                match.getStatus(),
+                match.getHomeScore(),
+                match.getAwayScore()));
     }
 
     private MatchResponse mapToResponse(Match match) {
+        Team home = match.getHomeTeam();
+        Team away = match.getAwayTeam();
         return MatchResponse.builder()
                 .id(match.getId())
                 .tournamentId(match.getTournament().getId())
-                .homeTeamId(match.getHomeTeam().getId())
-                .homeTeamOrgId(match.getHomeTeam().getOrganisation().getId())
-                .homeTeamName(match.getHomeTeam().getName())
-                .awayTeamId(match.getAwayTeam().getId())
-                .awayTeamOrgId(match.getAwayTeam().getOrganisation().getId())
-                .awayTeamName(match.getAwayTeam().getName())
+                // Knockout slots have no team until the feeder match is decided
+                .homeTeamId(home != null ? home.getId() : null)
+                .homeTeamOrgId(home != null ? home.getOrganisation().getId() : null)
+                .homeTeamName(home != null ? home.getName() : "TBD")
+                .awayTeamId(away != null ? away.getId() : null)
+                .awayTeamOrgId(away != null ? away.getOrganisation().getId() : null)
+                .awayTeamName(away != null ? away.getName() : "TBD")
                 .matchDate(match.getMatchDate())
                 .kickOffTime(match.getKickOffTime())
                 .venue(match.getVenue())
@@ -227,16 +345,22 @@ public class MatchServiceImpl implements MatchService {
     @Override
     @Transactional
     public void recalculateMatchScores(UUID matchId) {
+        if (liveMatchSessions.find(matchId) != null) {
+            // The live session keeps the running score and writes it with its events
+            return;
+        }
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new EntityNotFoundException("Match not found with ID: " + matchId));
 
         List<com.athleticaos.backend.entities.MatchEvent> events = matchEventRepository.findByMatchId(matchId);
 
+        Integer previousHomeScore = match.getHomeScore();
+        Integer previousAwayScore = match.getAwayScore();
         int homeScore = 0;
         int awayScore = 0;
 
         for (com.athleticaos.backend.entities.MatchEvent event : events) {
-            int points = getPointsForEventType(event.getEventType());
+            int points = event.getEventType() != null ? event.getEventType().getPoints() : 0;
             if (event.getTeam().getId().equals(match.getHomeTeam().getId())) {
                 homeScore += points;
             } else if (event.getTeam().getId().equals(match.getAwayTeam().getId())) {
@@ -247,31 +371,17 @@ public class MatchServiceImpl implements MatchService {
         match.setHomeScore(homeScore);
         match.setAwayScore(awayScore);
         matchRepository.save(match);
-    }
-
-    private int getPointsForEventType(com.athleticaos.backend.enums.MatchEventType eventType) {
-        if (eventType == null)
-            return 0;
-        switch (eventType) {
-            case TRY:
-                return 5;
-            case CONVERSION:
-                return 2;
-            case PENALTY:
-                return 3;
-            case DROP_GOAL:
-                return 3;
-            default:
-                return 0;
-        }
+        publishResultChange(match, match.getStatus(), previousHomeScore, previousAwayScore);
     }
 
     @Override
     @Transactional
     public MatchResponse updateMatchStatus(UUID id, String status, HttpServletRequest httpRequest) {
+        liveMatchSessions.close(id);
         Match match = matchRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Match not found with ID: " + id));
 
+        MatchStatus previousStatus = match.getStatus();
         MatchStatus matchStatus;
         try {
             matchStatus = MatchStatus.valueOf(status.toUpperCase());
@@ -287,6 +397,7 @@ public class MatchServiceImpl implements MatchService {
         }
 
         Match updatedMatch = matchRepository.save(match);
+        publishResultChange(updatedMatch, previousStatus, updatedMatch.getHomeScore(), updatedMatch.getAwayScore());
         return mapToResponse(updatedMatch);
     }
 }
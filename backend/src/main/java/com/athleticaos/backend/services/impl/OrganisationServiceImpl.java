@@ -6,6 +6,7 @@ import com.athleticaos.backend.dtos.org.OrganisationTreeNode;
 import com.athleticaos.backend.dtos.org.OrganisationUpdateRequest;
 import com.athleticaos.backend.entities.Organisation;
 import com.athleticaos.backend.enums.OrganisationLevel;
+import com.athleticaos.backend.events.OrganisationHierarchyChangedEvent;
 import com.athleticaos.backend.repositories.OrganisationRepository;
 
 import com.athleticaos.backend.services.OrganisationService;
@@ -13,6 +14,7 @@ import com.athleticaos.backend.services.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class OrganisationServiceImpl implements OrganisationService {
 
     private final OrganisationRepository organisationRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<OrganisationResponse> getAllOrganisations() {
         java.util.Set<UUID> accessibleIds = userService.getAccessibleOrgIdsForCurrentUser();
@@ -77,7 +80,9 @@ public class OrganisationServiceImpl implements OrganisationService {
 
         validateHierarchy(org);
 
-        return mapToResponse(organisationRepository.save(org));
+        Organisation saved = organisationRepository.save(org);
+        eventPublisher.publishEvent(new OrganisationHierarchyChangedEvent(saved.getId()));
+        return mapToResponse(saved);
     }
 
     @Transactional
@@ -117,7 +122,9 @@ public class OrganisationServiceImpl implements OrganisationService {
 
         validateHierarchy(org);
 
-        return mapToResponse(organisationRepository.save(org));
+        Organisation saved = organisationRepository.save(org);
+        eventPublisher.publishEvent(new OrganisationHierarchyChangedEvent(saved.getId()));
+        return mapToResponse(saved);
     }
 
     private OrganisationResponse mapToResponse(Organisation org) {
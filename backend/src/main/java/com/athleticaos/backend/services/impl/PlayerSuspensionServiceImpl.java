@@ -2,14 +2,22 @@ package com.athleticaos.backend.services.impl;
 
 import com.athleticaos.backend.dtos.roster.PlayerSuspensionDTO;
 import com.athleticaos.backend.entities.*;
+import com.athleticaos.backend.events.PlayerSuspendedEvent;
+import com.athleticaos.backend.events.PlayerSuspensionChangedEvent;
 import com.athleticaos.backend.repositories.PlayerSuspensionRepository;
 import com.athleticaos.backend.services.PlayerSuspensionService;
+import com.athleticaos.backend.suspension.SuspensionLedger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -19,6 +27,8 @@ import java.util.stream.Collectors;
 public class PlayerSuspensionServiceImpl implements PlayerSuspensionService {
 
     private final PlayerSuspensionRepository suspensionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SuspensionLedger suspensionLedger;
 
     @Override
     @Transactional
@@ -36,39 +46,55 @@ public class PlayerSuspensionServiceImpl implements PlayerSuspensionService {
                 .isActive(true)
                 .build();
 
-        return suspensionRepository.save(suspension);
+        PlayerSuspension saved = suspensionRepository.save(suspension);
+        eventPublisher.publishEvent(new PlayerSuspendedEvent(tournament.getId(), team.getId(), saved.getId(),
+                player.getId(), reason, matches));
+        return saved;
     }
 
     @Override
     @Transactional
     public void decrementSuspensions(Match match) {
         log.info("Decrementing suspensions for match {}", match.getId());
-
-        Tournament tournament = match.getTournament();
-        Team homeTeam = match.getHomeTeam();
-        Team awayTeam = match.getAwayTeam();
-
-        // Get active suspensions for both teams
-        List<PlayerSuspension> homeTeamSuspensions = suspensionRepository
-                .findByTournamentIdAndTeamIdAndIsActiveTrue(tournament.getId(), homeTeam.getId());
-        List<PlayerSuspension> awayTeamSuspensions = suspensionRepository
-                .findByTournamentIdAndTeamIdAndIsActiveTrue(tournament.getId(), awayTeam.getId());
-
-        // Decrement and update
-        decrementAndUpdate(homeTeamSuspensions);
-        decrementAndUpdate(awayTeamSuspensions);
+        decrementSuspensions(List.of(match));
     }
 
-    private void decrementAndUpdate(List<PlayerSuspension> suspensions) {
-        for (PlayerSuspension suspension : suspensions) {
-            suspension.setMatchesRemaining(suspension.getMatchesRemaining() - 1);
-
-            if (suspension.getMatchesRemaining() <= 0) {
-                suspension.setActive(false);
-                log.info("Suspension {} cleared for player {}", suspension.getId(), suspension.getPlayer().getId());
+    @Override
+    @Transactional
+    public void decrementSuspensions(Collection<Match> matches) {
+        // Matches played per team, per tournament
+        Map<UUID, Map<UUID, Integer>> played = new LinkedHashMap<>();
+        for (Match match : matches) {
+            UUID tournamentId = match.getTournament().getId();
+            for (Team team : new Team[] { match.getHomeTeam(), match.getAwayTeam() }) {
+                if (team != null) {
+                    played.computeIfAbsent(tournamentId, id -> new LinkedHashMap<>())
+                            .merge(team.getId(), 1, Integer::sum);
+                }
             }
+        }
 
-            suspensionRepository.save(suspension);
+        for (Map.Entry<UUID, Map<UUID, Integer>> entry : played.entrySet()) {
+            UUID tournamentId = entry.getKey();
+            Map<UUID, Integer> remaining = new LinkedHashMap<>(entry.getValue());
+            int served = 0;
+            // One update per tournament; another only for teams that played twice in the batch
+            while (!remaining.isEmpty()) {
+                List<UUID> teamIds = new ArrayList<>(remaining.keySet());
+                int servedNow = suspensionRepository.serveOneMatch(tournamentId, teamIds);
+                // One event per team per pass, since listeners take one match off per event
+                if (servedNow > 0) {
+                    for (UUID teamId : teamIds) {
+                        eventPublisher.publishEvent(new PlayerSuspensionChangedEvent(tournamentId, teamId));
+                    }
+                }
+                served += servedNow;
+                remaining.replaceAll((teamId, count) -> count - 1);
+                remaining.values().removeIf(count -> count == 0);
+            }
+            if (served > 0) {
+                log.info("Served {} suspension matches in tournament {}", served, tournamentId);
+            }
         }
     }
 
@@ -92,10 +118,8 @@ public class PlayerSuspensionServiceImpl implements PlayerSuspensionService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean hasActiveSuspension(UUID tournamentId, UUID playerId) {
-        List<PlayerSuspensionDTO> suspensions = getPlayerActiveSuspensions(tournamentId, playerId);
-        return !suspensions.isEmpty();
+        return suspensionLedger.isSuspended(tournamentId, playerId);
     }
 
     private PlayerSuspensionDTO toDTO(PlayerSuspension suspension) {
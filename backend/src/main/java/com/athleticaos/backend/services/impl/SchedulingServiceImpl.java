@@ -0,0 +1,178 @@
+package com.athleticaos.backend.services.impl;
+
+import com.athleticaos.backend.dtos.tournament.ScheduleGenerationRequest;
+import com.athleticaos.backend.dtos.tournament.ScheduleResponse;
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.MatchScheduleChangedEvent;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.TournamentRepository;
+import com.athleticaos.backend.schedule.FixedMatch;
+import com.athleticaos.backend.schedule.ScheduleProblem;
+import com.athleticaos.backend.schedule.ScheduleSolution;
+import com.athleticaos.backend.schedule.TournamentScheduler;
+import com.athleticaos.backend.services.SchedulingService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulingServiceImpl implements SchedulingService {
+
+    private static final int DEFAULT_SLOT_MINUTES = 30;
+    private static final int DEFAULT_REST_MINUTES = 60;
+    private static final LocalTime DEFAULT_DAY_START = LocalTime.of(9, 0);
+    private static final LocalTime DEFAULT_DAY_END = LocalTime.of(18, 0);
+    private static final Pattern PITCH_LABEL = Pattern.compile("Pitch (\\d{1,4})");
+
+    private final TournamentRepository tournamentRepository;
+    private final MatchRepository matchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 0 runs one search per available core
+    @Value("${application.scheduling.seeds:0}")
+    private int seeds;
+
+    @Value("${application.scheduling.iterations:400}")
+    private int iterations;
+
+    @Override
+    @Transactional
+    public ScheduleResponse scheduleTournament(UUID tournamentId, ScheduleGenerationRequest request) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .filter(t -> !t.isDeleted())
+                .orElseThrow(() -> new EntityNotFoundException("Tournament not found"));
+
+        int slotMinutes = request.getSlotMinutes() != null ? request.getSlotMinutes() : DEFAULT_SLOT_MINUTES;
+        int restMinutes = request.getMinRestMinutes() != null ? request.getMinRestMinutes() : DEFAULT_REST_MINUTES;
+        LocalTime dayStart = request.getDayStart() != null ? request.getDayStart() : DEFAULT_DAY_START;
+        LocalTime dayEnd = request.getDayEnd() != null ? request.getDayEnd() : DEFAULT_DAY_END;
+
+        if (tournament.getStartDate() == null || tournament.getEndDate() == null) {
+            throw new IllegalArgumentException("Tournament start and end dates are required for scheduling");
+        }
+        int slotsPerDay = (int) (Duration.between(dayStart, dayEnd).toMinutes() / slotMinutes);
+        if (slotsPerDay < 1) {
+            throw new IllegalArgumentException("The daily window must fit at least one match slot");
+        }
+        int days = (int) ChronoUnit.DAYS.between(tournament.getStartDate(), tournament.getEndDate()) + 1;
+        int restSlots = (restMinutes + slotMinutes - 1) / slotMinutes;
+
+        // Completed and in-progress matches keep their slots; the rest go from the next free slot on
+        int firstSlot = firstFutureSlot(tournament.getStartDate(), dayStart, slotMinutes, slotsPerDay,
+                LocalDateTime.now());
+        List<Match> matches = new ArrayList<>();
+        List<FixedMatch> fixed = new ArrayList<>();
+        for (Match match : matchRepository.findBracketMatchesByTournamentId(tournamentId)) {
+            if (match.getStatus() == MatchStatus.SCHEDULED) {
+                matches.add(match);
+            } else if (match.getStatus() == MatchStatus.ONGOING || match.getStatus() == MatchStatus.COMPLETED) {
+                fixed.add(new FixedMatch(match,
+                        slotOf(match, tournament.getStartDate(), dayStart, slotMinutes, slotsPerDay, firstSlot),
+                        pitchOf(match)));
+            }
+        }
+        if (matches.isEmpty()) {
+            return ScheduleResponse.builder().build();
+        }
+        if (firstSlot >= slotsPerDay * days) {
+            throw new IllegalArgumentException("No kick-off slots are left before the tournament ends");
+        }
+
+        long started = System.nanoTime();
+        ScheduleProblem problem = TournamentScheduler.problemFor(matches, fixed, request.getPitches(), slotsPerDay,
+                days, restSlots, firstSlot);
+        int searches = seeds > 0 ? seeds : Runtime.getRuntime().availableProcessors();
+        ScheduleSolution solution = TournamentScheduler.solve(problem, searches, iterations);
+        log.info("Scheduled {} matches for tournament {} in {} ms ({} searches)", matches.size(), tournamentId,
+                (System.nanoTime() - started) / 1_000_000, searches);
+
+        if (!solution.fits(problem)) {
+            throw new IllegalArgumentException(String.format(
+                    "Schedule needs %d kick-off slots per pitch but only %d fit between %s and %s; "
+                            + "add pitches or days, or shorten the slot length",
+                    solution.slotsUsed(), problem.totalSlots(), tournament.getStartDate(), tournament.getEndDate()));
+        }
+
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            int slot = solution.slot()[i];
+            match.setMatchDate(tournament.getStartDate().plusDays(slot / slotsPerDay));
+            match.setKickOffTime(dayStart.plusMinutes((long) (slot % slotsPerDay) * slotMinutes));
+            match.setPitch("Pitch " + (solution.pitch()[i] + 1));
+        }
+        matchRepository.saveAll(matches);
+        eventPublisher.publishEvent(new MatchScheduleChangedEvent(tournamentId, null));
+
+        int lastSlot = solution.slotsUsed() - 1;
+        LocalDate lastDate = tournament.getStartDate().plusDays(lastSlot / slotsPerDay);
+        return ScheduleResponse.builder()
+                .matchesScheduled(matches.size())
+                .pitchesUsed(Arrays.stream(solution.pitch()).max().orElse(-1) + 1)
+                .daysUsed(lastSlot / slotsPerDay + 1)
+                .lastMatchDate(lastDate)
+                .lastKickOffTime(dayStart.plusMinutes((long) (lastSlot % slotsPerDay) * slotMinutes))
+                .build();
+    }
+
+    /**
+     * The first slot whose kick-off is still ahead, counted from the first
+     * tournament day.
+     */
+    static int firstFutureSlot(LocalDate startDate, LocalTime dayStart, int slotMinutes, int slotsPerDay,
+            LocalDateTime now) {
+        long day = ChronoUnit.DAYS.between(startDate, now.toLocalDate());
+        if (day < 0) {
+            return 0;
+        }
+        long minutes = Duration.between(dayStart, now.toLocalTime()).toMinutes();
+        if (minutes <= 0) {
+            return (int) (day * slotsPerDay);
+        }
+        long slot = (minutes + slotMinutes - 1) / slotMinutes;
+        if (slot >= slotsPerDay) {
+            return (int) ((day + 1) * slotsPerDay);
+        }
+        return (int) (day * slotsPerDay + slot);
+    }
+
+    /**
+     * The slot a match kicked off in. One in progress without a kick-off time
+     * is taken to be playing now.
+     */
+    private static int slotOf(Match match, LocalDate startDate, LocalTime dayStart, int slotMinutes,
+            int slotsPerDay, int firstSlot) {
+        if (match.getMatchDate() == null || match.getKickOffTime() == null) {
+            return match.getStatus() == MatchStatus.ONGOING ? firstSlot - 1 : Integer.MIN_VALUE / 2;
+        }
+        long day = ChronoUnit.DAYS.between(startDate, match.getMatchDate());
+        long minutes = Duration.between(dayStart, match.getKickOffTime()).toMinutes();
+        long slot = Math.max(0, Math.min(slotsPerDay - 1, Math.floorDiv(minutes, slotMinutes)));
+        return (int) (day * slotsPerDay + slot);
+    }
+
+    // Reads back the "Pitch n" labels written below
+    private static int pitchOf(Match match) {
+        Matcher matcher = match.getPitch() != null ? PITCH_LABEL.matcher(match.getPitch()) : null;
+        return matcher != null && matcher.matches() ? Integer.parseInt(matcher.group(1)) - 1 : -1;
+    }
+}
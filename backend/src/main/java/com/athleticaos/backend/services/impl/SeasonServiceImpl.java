@@ -1,12 +1,15 @@
 package com.athleticaos.backend.services.impl;
 
+import com.athleticaos.backend.dtos.season.SeasonExportStatusResponse;
 import com.athleticaos.backend.dtos.season.SeasonOverviewResponse;
 import com.athleticaos.backend.entities.Organisation;
 import com.athleticaos.backend.entities.Season;
 import com.athleticaos.backend.enums.SeasonStatus;
+import com.athleticaos.backend.export.SeasonExporter;
 import com.athleticaos.backend.repositories.OrganisationRepository;
 import com.athleticaos.backend.repositories.SeasonRepository;
-import com.athleticaos.backend.repositories.TournamentRepository;
+import com.athleticaos.backend.season.SeasonCounterStore;
+import com.athleticaos.backend.season.SeasonCounters;
 import com.athleticaos.backend.services.SeasonService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,8 +27,9 @@ import java.util.UUID;
 public class SeasonServiceImpl implements SeasonService {
 
     private final SeasonRepository seasonRepository;
-    private final TournamentRepository tournamentRepository;
+    private final SeasonCounterStore seasonCounterStore;
     private final OrganisationRepository organisationRepository;
+    private final SeasonExporter seasonExporter;
 
     @Override
     public List<Season> getAllSeasons() {
@@ -88,13 +93,7 @@ public class SeasonServiceImpl implements SeasonService {
     @Override
     public SeasonOverviewResponse getSeasonOverview(UUID seasonId) {
         Season season = getSeasonById(seasonId);
-        var tournaments = tournamentRepository.findBySeasonId(seasonId);
-
-        long totalTournaments = tournaments.size();
-        // For MVP, we'll set 0 for deeper stats or implement aggregation if
-        // repositories support it easily.
-        // Assuming we need to fetch matches/teams from tournaments.
-        // This can be expensive if not optimized. keeping it simple for now.
+        SeasonCounters counters = seasonCounterStore.getCounters(seasonId);
 
         return SeasonOverviewResponse.builder()
                 .id(season.getId())
@@ -104,11 +103,30 @@ public class SeasonServiceImpl implements SeasonService {
                 .status(season.getStatus())
                 .startDate(season.getStartDate())
                 .endDate(season.getEndDate())
-                .totalTournaments(totalTournaments)
-                .totalMatches(0) // TODO: Implement aggregation
-                .completedMatches(0) // TODO: Implement aggregation
-                .totalTeams(0) // TODO: Implement aggregation
-                .totalPlayers(0) // TODO: Implement aggregation
+                .totalTournaments(counters.getTotalTournaments())
+                .totalMatches(counters.getTotalMatches())
+                .completedMatches(counters.getCompletedMatches())
+                .totalTeams(counters.getTotalTeams())
+                .totalPlayers(counters.getTotalPlayers())
                 .build();
     }
+
+    @Override
+    public SeasonExportStatusResponse startExport(UUID seasonId) {
+        if (!seasonRepository.existsById(seasonId)) {
+            throw new EntityNotFoundException("Season not found");
+        }
+        log.info("Starting export for season: {}", seasonId);
+        return seasonExporter.start(seasonId);
+    }
+
+    @Override
+    public SeasonExportStatusResponse getExportStatus(UUID jobId) {
+        return seasonExporter.status(jobId);
+    }
+
+    @Override
+    public Path getExportFile(UUID jobId) {
+        return seasonExporter.file(jobId);
+    }
 }
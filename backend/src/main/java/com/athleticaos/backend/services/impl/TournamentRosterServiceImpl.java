@@ -1,19 +1,36 @@
 package com.athleticaos.backend.services.impl;
 
+import com.athleticaos.backend.cache.LineupHintsCache;
 import com.athleticaos.backend.dtos.roster.*;
 import com.athleticaos.backend.entities.*;
+import com.athleticaos.backend.events.TournamentRosterChangedEvent;
 import com.athleticaos.backend.repositories.*;
 import com.athleticaos.backend.services.EligibilityService;
-import com.athleticaos.backend.services.PlayerSuspensionService;
 import com.athleticaos.backend.services.TournamentRosterService;
+import com.athleticaos.backend.suspension.ActiveSuspension;
+import com.athleticaos.backend.suspension.SuspensionLedger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,7 +45,10 @@ public class TournamentRosterServiceImpl implements TournamentRosterService {
         private final MatchRepository matchRepository;
         private final PlayerTeamRepository playerTeamRepository;
         private final EligibilityService eligibilityService;
-        private final PlayerSuspensionService suspensionService;
+        private final SuspensionLedger suspensionLedger;
+        private final ApplicationEventPublisher eventPublisher;
+        private final LineupHintsCache lineupHintsCache;
+        private final TransactionTemplate transactionTemplate;
 
         @Override
         @Transactional
@@ -36,56 +56,113 @@ public class TournamentRosterServiceImpl implements TournamentRosterService {
                 log.info("Adding {} players to roster for tournament {} team {}", playerIds.size(), tournamentId,
                                 teamId);
 
+                return addRosterEntries(tournamentId, List.of(new TeamRosterEntry(teamId, playerIds))).getPlayers();
+        }
+
+        @Override
+        @Transactional
+        public BulkRosterResponse addRosterEntries(UUID tournamentId, List<TeamRosterEntry> entries) {
                 Tournament tournament = tournamentRepository.findById(tournamentId)
                                 .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
 
-                Team team = teamRepository.findById(teamId)
-                                .orElseThrow(() -> new IllegalArgumentException("Team not found"));
-
-                List<TournamentPlayerDTO> addedPlayers = new ArrayList<>();
-
-                for (UUID playerId : playerIds) {
-                        Player player = playerRepository.findById(playerId)
-                                        .orElseThrow(() -> new IllegalArgumentException(
-                                                        "Player not found: " + playerId));
-
-                        // Check if already in roster
-                        var existing = tournamentPlayerRepository.findByTournamentIdAndTeamIdAndPlayerId(
-                                        tournamentId, teamId, playerId);
-
-                        if (existing.isPresent()) {
-                                TournamentPlayer tp = existing.get();
-                                if (!tp.isActive()) {
-                                        // Reactivate
-                                        tp.setActive(true);
-                                        tournamentPlayerRepository.save(tp);
-                                        log.info("Reactivated player {} in roster", playerId);
-                                } else {
-                                        log.info("Player {} already in active roster", playerId);
-                                }
-                                addedPlayers.add(toDTO(tp));
-                                continue;
+                // Merge duplicate teams and players, keeping request order
+                Map<UUID, Set<UUID>> requested = new LinkedHashMap<>();
+                for (TeamRosterEntry entry : entries) {
+                        requested.computeIfAbsent(entry.getTeamId(), id -> new LinkedHashSet<>())
+                                        .addAll(entry.getPlayerIds());
+                }
+                Set<UUID> allPlayerIds = requested.values().stream()
+                                .flatMap(Set::stream)
+                                .collect(Collectors.toCollection(HashSet::new));
+
+                Map<UUID, Team> teams = teamRepository.findAllWithOrganisationByIdIn(requested.keySet()).stream()
+                                .collect(Collectors.toMap(Team::getId, Function.identity()));
+                for (UUID teamId : requested.keySet()) {
+                        if (!teams.containsKey(teamId)) {
+                                throw new IllegalArgumentException("Team not found: " + teamId);
+                        }
+                }
+
+                Map<UUID, Player> players = playerRepository.findAllWithPersonByIdIn(allPlayerIds).stream()
+                                .collect(Collectors.toMap(Player::getId, Function.identity()));
+                for (UUID playerId : allPlayerIds) {
+                        if (!players.containsKey(playerId)) {
+                                throw new IllegalArgumentException("Player not found: " + playerId);
                         }
+                }
 
-                        // Check eligibility
-                        EligibilityResult eligibility = eligibilityService.checkPlayerEligibility(tournament, player);
+                Map<RosterKey, TournamentPlayer> existing = new HashMap<>();
+                for (TournamentPlayer tp : tournamentPlayerRepository.findByTournamentId(tournamentId)) {
+                        existing.put(new RosterKey(tp.getTeam().getId(), tp.getPlayer().getId()), tp);
+                }
 
-                        // Create roster entry
-                        TournamentPlayer tournamentPlayer = TournamentPlayer.builder()
-                                        .tournament(tournament)
-                                        .team(team)
-                                        .player(player)
-                                        .isActive(true)
-                                        .isEligible(eligibility.isEligible())
-                                        .eligibilityNote(eligibility.getReason())
-                                        .build();
+                List<TournamentPlayer> result = new ArrayList<>();
+                List<TournamentPlayer> toSave = new ArrayList<>();
+                Set<UUID> changedTeams = new LinkedHashSet<>();
+                int added = 0;
+                int reactivated = 0;
+                int unchanged = 0;
+
+                for (Map.Entry<UUID, Set<UUID>> entry : requested.entrySet()) {
+                        Team team = teams.get(entry.getKey());
+                        for (UUID playerId : entry.getValue()) {
+                                Player player = players.get(playerId);
+                                TournamentPlayer tp = existing.get(new RosterKey(team.getId(), playerId));
+
+                                if (tp != null) {
+                                        if (!tp.isActive()) {
+                                                tp.setActive(true);
+                                                toSave.add(tp);
+                                                changedTeams.add(team.getId());
+                                                reactivated++;
+                                        } else {
+                                                unchanged++;
+                                        }
+                                        result.add(tp);
+                                        continue;
+                                }
 
-                        tournamentPlayerRepository.save(tournamentPlayer);
-                        addedPlayers.add(toDTO(tournamentPlayer));
-                        log.info("Added player {} to roster with eligibility: {}", playerId, eligibility.isEligible());
+                                EligibilityResult eligibility = eligibilityService.checkPlayerEligibility(tournament,
+                                                player);
+                                tp = TournamentPlayer.builder()
+                                                .tournament(tournament)
+                                                .team(team)
+                                                .player(player)
+                                                .isActive(true)
+                                                .isEligible(eligibility.isEligible())
+                                                .eligibilityNote(eligibility.getReason())
+                                                .build();
+                                toSave.add(tp);
+                                changedTeams.add(team.getId());
+                                result.add(tp);
+                                added++;
+                        }
                 }
 
-                return addedPlayers;
+                tournamentPlayerRepository.saveAll(toSave);
+                log.info("Roster update for tournament {}: {} added, {} reactivated, {} unchanged across {} teams",
+                                tournamentId, added, reactivated, unchanged, requested.size());
+
+                for (UUID teamId : changedTeams) {
+                        eventPublisher.publishEvent(new TournamentRosterChangedEvent(tournamentId, teamId));
+                }
+
+                return BulkRosterResponse.builder()
+                                .added(added)
+                                .reactivated(reactivated)
+                                .unchanged(unchanged)
+                                .players(toDTOs(tournamentId, result))
+                                .build();
+        }
+
+        @Override
+        @Transactional
+        public BulkRosterResponse importRosterCsv(UUID tournamentId, InputStream csv) throws IOException {
+                List<TeamRosterEntry> entries = parseRosterCsv(csv);
+                if (entries.isEmpty()) {
+                        throw new IllegalArgumentException("Roster file contains no players");
+                }
+                return addRosterEntries(tournamentId, entries);
         }
 
         @Override
@@ -98,6 +175,8 @@ public class TournamentRosterServiceImpl implements TournamentRosterService {
 
                 tournamentPlayer.setActive(false);
                 tournamentPlayerRepository.save(tournamentPlayer);
+                eventPublisher.publishEvent(new TournamentRosterChangedEvent(
+                                tournamentPlayer.getTournament().getId(), tournamentPlayer.getTeam().getId()));
                 log.info("Successfully removed player from roster");
         }
 
@@ -106,76 +185,103 @@ public class TournamentRosterServiceImpl implements TournamentRosterService {
         public List<TournamentPlayerDTO> getRoster(UUID tournamentId, UUID teamId) {
                 log.info("Getting roster for tournament {} team {}", tournamentId, teamId);
 
-                List<TournamentPlayer> roster = tournamentPlayerRepository.findByTournamentIdAndTeamIdAndIsActiveTrue(
+                List<TournamentPlayer> roster = tournamentPlayerRepository.findActiveRosterWithPlayers(
                                 tournamentId, teamId);
 
-                return roster.stream()
-                                .map(this::toDTO)
-                                .collect(Collectors.toList());
+                return toDTOs(tournamentId, roster);
         }
 
         @Override
-        @Transactional(readOnly = true)
         public LineupHintsDTO getLineupHints(UUID matchId) {
+                return lineupHintsCache.get(matchId, () -> transactionTemplate.execute(
+                                status -> loadLineupHints(matchId)));
+        }
+
+        /**
+         * Builds hints for both squads from two set-based queries (rosters with
+         * persons, jersey numbers) plus suspension lookups in the ledger.
+         */
+        private LineupHintsCache.Loaded loadLineupHints(UUID matchId) {
                 log.info("Getting lineup hints for match {}", matchId);
 
                 Match match = matchRepository.findById(matchId)
                                 .orElseThrow(() -> new IllegalArgumentException("Match not found"));
 
-                Tournament tournament = match.getTournament();
-                Team homeTeam = match.getHomeTeam();
-                Team awayTeam = match.getAwayTeam();
-
-                // Get rosters for both teams
-                List<TournamentPlayer> homeRoster = tournamentPlayerRepository
-                                .findByTournamentIdAndTeamIdAndIsActiveTrue(
-                                                tournament.getId(), homeTeam.getId());
-                List<TournamentPlayer> awayRoster = tournamentPlayerRepository
-                                .findByTournamentIdAndTeamIdAndIsActiveTrue(
-                                                tournament.getId(), awayTeam.getId());
-
-                // Convert to lineup player DTOs
-                List<LineupPlayerDTO> homePlayers = homeRoster.stream()
-                                .map(tp -> toLineupPlayerDTO(tp, tournament.getId()))
-                                .collect(Collectors.toList());
+                UUID tournamentId = match.getTournament().getId();
+                UUID homeTeamId = match.getHomeTeam() != null ? match.getHomeTeam().getId() : null;
+                UUID awayTeamId = match.getAwayTeam() != null ? match.getAwayTeam().getId() : null;
 
-                List<LineupPlayerDTO> awayPlayers = awayRoster.stream()
-                                .map(tp -> toLineupPlayerDTO(tp, tournament.getId()))
-                                .collect(Collectors.toList());
+                Set<UUID> teamIds = new HashSet<>();
+                if (homeTeamId != null) {
+                        teamIds.add(homeTeamId);
+                }
+                if (awayTeamId != null) {
+                        teamIds.add(awayTeamId);
+                }
+
+                List<TournamentPlayer> roster = teamIds.isEmpty()
+                                ? List.of()
+                                : tournamentPlayerRepository.findActiveRostersWithPlayers(tournamentId, teamIds);
+                Set<UUID> playerIds = roster.stream()
+                                .map(tp -> tp.getPlayer().getId())
+                                .collect(Collectors.toSet());
+
+                Map<RosterKey, Integer> jerseyNumbers = loadJerseyNumbers(teamIds, playerIds);
+                Map<UUID, ActiveSuspension> suspensions = suspensionLedger.getFirstActive(tournamentId, playerIds);
+
+                List<LineupPlayerDTO> homePlayers = new ArrayList<>();
+                List<LineupPlayerDTO> awayPlayers = new ArrayList<>();
+                for (TournamentPlayer tp : roster) {
+                        UUID teamId = tp.getTeam().getId();
+                        UUID playerId = tp.getPlayer().getId();
+                        LineupPlayerDTO dto = toLineupPlayerDTO(tp,
+                                        jerseyNumbers.get(new RosterKey(teamId, playerId)),
+                                        suspensions.get(playerId));
+                        if (teamId.equals(homeTeamId)) {
+                                homePlayers.add(dto);
+                        }
+                        if (teamId.equals(awayTeamId)) {
+                                awayPlayers.add(dto);
+                        }
+                }
 
-                return LineupHintsDTO.builder()
+                return new LineupHintsCache.Loaded(tournamentId, LineupHintsDTO.builder()
                                 .homeTeamPlayers(homePlayers)
                                 .awayTeamPlayers(awayPlayers)
-                                .build();
+                                .build());
         }
 
-        private TournamentPlayerDTO toDTO(TournamentPlayer tp) {
-                Player player = tp.getPlayer();
-                Person person = player.getPerson();
+        /**
+         * Maps roster rows with one jersey-number query for the whole batch and
+         * suspensions from the ledger.
+         */
+        private List<TournamentPlayerDTO> toDTOs(UUID tournamentId, List<TournamentPlayer> roster) {
+                if (roster.isEmpty()) {
+                        return new ArrayList<>();
+                }
 
-                // Get jersey number from PlayerTeam if exists
-                Integer jerseyNumber = null;
-                var playerTeam = playerTeamRepository.findByPlayerIdAndTeamId(player.getId(), tp.getTeam().getId());
-                if (playerTeam.isPresent()) {
-                        jerseyNumber = playerTeam.get().getJerseyNumber();
-                }
-
-                // Check for active suspensions
-                boolean hasSuspension = suspensionService.hasActiveSuspension(tp.getTournament().getId(),
-                                player.getId());
-                String suspensionReason = null;
-                Integer suspensionMatches = null;
-
-                if (hasSuspension) {
-                        List<PlayerSuspensionDTO> suspensions = suspensionService.getPlayerActiveSuspensions(
-                                        tp.getTournament().getId(), player.getId());
-                        if (!suspensions.isEmpty()) {
-                                PlayerSuspensionDTO suspension = suspensions.get(0);
-                                suspensionReason = suspension.getReason();
-                                suspensionMatches = suspension.getMatchesRemaining();
-                        }
+                Set<UUID> teamIds = new HashSet<>();
+                Set<UUID> playerIds = new HashSet<>();
+                for (TournamentPlayer tp : roster) {
+                        teamIds.add(tp.getTeam().getId());
+                        playerIds.add(tp.getPlayer().getId());
                 }
 
+                Map<RosterKey, Integer> jerseyNumbers = loadJerseyNumbers(teamIds, playerIds);
+                Map<UUID, ActiveSuspension> suspensions = suspensionLedger.getFirstActive(tournamentId, playerIds);
+
+                return roster.stream()
+                                .map(tp -> toDTO(tp,
+                                                jerseyNumbers.get(new RosterKey(tp.getTeam().getId(),
+                                                                tp.getPlayer().getId())),
+                                                suspensions.get(tp.getPlayer().getId())))
+                                .collect(Collectors.toList());
+        }
+
+        private TournamentPlayerDTO toDTO(TournamentPlayer tp, Integer jerseyNumber, ActiveSuspension suspension) {
+                Player player = tp.getPlayer();
+                Person person = player.getPerson();
+
                 return TournamentPlayerDTO.builder()
                                 .id(tp.getId())
                                 .playerId(player.getId())
@@ -184,38 +290,30 @@ public class TournamentRosterServiceImpl implements TournamentRosterService {
                                 .organisationName(tp.getTeam().getOrganisation().getName())
                                 .isEligible(tp.isEligible())
                                 .eligibilityNote(tp.getEligibilityNote())
-                                .hasActiveSuspension(hasSuspension)
-                                .suspensionReason(suspensionReason)
-                                .suspensionMatchesRemaining(suspensionMatches)
+                                .hasActiveSuspension(suspension != null)
+                                .suspensionReason(suspension != null ? suspension.reason() : null)
+                                .suspensionMatchesRemaining(suspension != null ? suspension.matchesRemaining() : null)
                                 .build();
         }
 
-        private LineupPlayerDTO toLineupPlayerDTO(TournamentPlayer tp, UUID tournamentId) {
-                Player player = tp.getPlayer();
-                Person person = player.getPerson();
-
-                // Get jersey number
-                Integer jerseyNumber = null;
-                var playerTeam = playerTeamRepository.findByPlayerIdAndTeamId(player.getId(), tp.getTeam().getId());
-                if (playerTeam.isPresent()) {
-                        jerseyNumber = playerTeam.get().getJerseyNumber();
-                }
-
-                // Check for active suspensions
-                boolean hasSuspension = suspensionService.hasActiveSuspension(tournamentId, player.getId());
-                String suspensionReason = null;
-                Integer suspensionMatches = null;
-
-                if (hasSuspension) {
-                        List<PlayerSuspensionDTO> suspensions = suspensionService.getPlayerActiveSuspensions(
-                                        tournamentId,
-                                        player.getId());
-                        if (!suspensions.isEmpty()) {
-                                PlayerSuspensionDTO suspension = suspensions.get(0);
-                                suspensionReason = suspension.getReason();
-                                suspensionMatches = suspension.getMatchesRemaining();
+        private Map<RosterKey, Integer> loadJerseyNumbers(Set<UUID> teamIds, Set<UUID> playerIds) {
+                Map<RosterKey, Integer> jerseyNumbers = new HashMap<>();
+                if (teamIds.isEmpty() || playerIds.isEmpty()) {
+                        return jerseyNumbers;
+                }
+                for (PlayerTeam pt : playerTeamRepository.findByTeamIdsAndPlayerIds(teamIds, playerIds)) {
+                        if (pt.getJerseyNumber() != null) {
+                                jerseyNumbers.put(new RosterKey(pt.getTeam().getId(), pt.getPlayer().getId()),
+                                                pt.getJerseyNumber());
                         }
                 }
+                return jerseyNumbers;
+        }
+
+        private LineupPlayerDTO toLineupPlayerDTO(TournamentPlayer tp, Integer jerseyNumber,
+                        ActiveSuspension suspension) {
+                Player player = tp.getPlayer();
+                Person person = player.getPerson();
 
                 return LineupPlayerDTO.builder()
                                 .playerId(player.getId())
@@ -223,9 +321,55 @@ public class TournamentRosterServiceImpl implements TournamentRosterService {
                                 .playerNumber(jerseyNumber != null ? jerseyNumber.toString() : null)
                                 .isEligible(tp.isEligible())
                                 .eligibilityNote(tp.getEligibilityNote())
-                                .isSuspended(hasSuspension)
-                                .suspensionReason(suspensionReason)
-                                .suspensionMatchesRemaining(suspensionMatches)
+                                .isSuspended(suspension != null)
+                                .suspensionReason(suspension != null ? suspension.reason() : null)
+                                .suspensionMatchesRemaining(suspension != null ? suspension.matchesRemaining() : null)
                                 .build();
         }
+
+        /**
+         * Reads {@code team_id,player_id} lines; a header row and blank lines
+         * are skipped.
+         */
+        private static List<TeamRosterEntry> parseRosterCsv(InputStream csv) throws IOException {
+                Map<UUID, List<UUID>> byTeam = new LinkedHashMap<>();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                        lineNumber++;
+                        if (line.isBlank()) {
+                                continue;
+                        }
+                        String[] cells = line.split(",", -1);
+                        if (lineNumber == 1 && cells[0].replace("\uFEFF", "").trim().equalsIgnoreCase("team_id")) {
+                                continue;
+                        }
+                        if (cells.length < 2) {
+                                throw new IllegalArgumentException(
+                                                "Line " + lineNumber + ": expected team_id,player_id");
+                        }
+                        byTeam.computeIfAbsent(parseId(cells[0], lineNumber), id -> new ArrayList<>())
+                                        .add(parseId(cells[1], lineNumber));
+                }
+
+                List<TeamRosterEntry> entries = new ArrayList<>();
+                byTeam.forEach((teamId, playerIds) -> entries.add(new TeamRosterEntry(teamId, playerIds)));
+                return entries;
+        }
+
+        private static UUID parseId(String cell, int lineNumber) {
+                String value = cell.trim();
+                if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                        value = value.substring(1, value.length() - 1).trim();
+                }
+                try {
+                        return UUID.fromString(value);
+                } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Line " + lineNumber + ": invalid id '" + value + "'");
+                }
+        }
+
+        private record RosterKey(UUID teamId, UUID playerId) {
+        }
 }
@@ -1,5 +1,6 @@
 package com.athleticaos.backend.services.impl;
 
+import com.athleticaos.backend.dashboard.DashboardMetricsStore;
 import com.athleticaos.backend.dtos.tournament.TournamentCreateRequest;
 import com.athleticaos.backend.dtos.tournament.TournamentDashboardResponse;
 import com.athleticaos.backend.dtos.tournament.TournamentResponse;
@@ -7,6 +8,9 @@ import com.athleticaos.backend.dtos.tournament.TournamentUpdateRequest;
 import com.athleticaos.backend.entities.Match;
 import com.athleticaos.backend.entities.Organisation;
 import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.events.TournamentDetailsChangedEvent;
+import com.athleticaos.backend.export.CsvWriter;
+import com.athleticaos.backend.export.MatchExportRow;
 import com.athleticaos.backend.repositories.MatchRepository;
 import com.athleticaos.backend.repositories.OrganisationRepository;
 import com.athleticaos.backend.repositories.SeasonRepository;
@@ -18,13 +22,20 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -37,6 +48,8 @@ public class TournamentServiceImpl implements TournamentService {
     private final UserService userService;
     private final MatchRepository matchRepository;
     private final AuditLogger auditLogger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DashboardMetricsStore dashboardMetricsStore;
 
     public List<TournamentResponse> getAllTournaments() {
         java.util.Set<UUID> accessibleIds = userService.getAccessibleOrgIdsForCurrentUser();
@@ -77,7 +90,16 @@ public class TournamentServiceImpl implements TournamentService {
                 .filter(t -> !t.isDeleted())
                 .orElseThrow(() -> new EntityNotFoundException("Tournament not found"));
 
-        // TODO: Populate stats from Match/Team repositories
+        java.util.Set<UUID> accessibleIds = userService.getAccessibleOrgIdsForCurrentUser();
+        if (accessibleIds != null && !accessibleIds.contains(tournament.getOrganiserOrg().getId())) {
+            throw new EntityNotFoundException("Tournament not found");
+        }
+
+        DashboardMetricsStore.TournamentTotals totals = dashboardMetricsStore.getTournamentTotals(id);
+        if (totals == null) {
+            throw new EntityNotFoundException("Tournament not found");
+        }
+
         return TournamentDashboardResponse.builder()
                 .id(tournament.getId())
                 .name(tournament.getName())
@@ -88,10 +110,10 @@ public class TournamentServiceImpl implements TournamentService {
                 .startDate(tournament.getStartDate())
                 .endDate(tournament.getEndDate())
                 .venue(tournament.getVenue())
-                .totalMatches(0)
-                .completedMatches(0)
-                .totalTeams(0)
-                .totalPlayers(0)
+                .totalMatches(totals.totalMatches())
+                .completedMatches(totals.completedMatches())
+                .totalTeams(totals.teams())
+                .totalPlayers(totals.players())
                 .status(mapToResponse(tournament).getStatus())
                 .build();
     }
@@ -134,6 +156,8 @@ public class TournamentServiceImpl implements TournamentService {
 
         Tournament savedTournament = tournamentRepository.save(tournament);
         auditLogger.logTournamentCreated(savedTournament, httpRequest);
+        eventPublisher.publishEvent(new TournamentDetailsChangedEvent(savedTournament.getId(), null,
+                seasonIdOf(savedTournament)));
         return mapToResponse(savedTournament);
     }
 
@@ -145,6 +169,7 @@ public class TournamentServiceImpl implements TournamentService {
         Tournament tournament = tournamentRepository.findById(id)
                 .filter(t -> !t.isDeleted())
                 .orElseThrow(() -> new EntityNotFoundException("Tournament not found"));
+        UUID previousSeasonId = seasonIdOf(tournament);
 
         // Update fields if provided
         if (request.getName() != null) {
@@ -176,6 +201,8 @@ public class TournamentServiceImpl implements TournamentService {
 
         Tournament savedTournament = tournamentRepository.save(tournament);
         auditLogger.logTournamentUpdated(savedTournament, httpRequest);
+        eventPublisher.publishEvent(new TournamentDetailsChangedEvent(savedTournament.getId(), previousSeasonId,
+                seasonIdOf(savedTournament)));
         return mapToResponse(savedTournament);
     }
 
@@ -189,6 +216,8 @@ public class TournamentServiceImpl implements TournamentService {
 
         tournament.setDeleted(true);
         tournamentRepository.save(tournament);
+        UUID seasonId = seasonIdOf(tournament);
+        eventPublisher.publishEvent(new TournamentDetailsChangedEvent(id, seasonId, seasonId));
     }
 
     @Transactional
@@ -202,62 +231,58 @@ public class TournamentServiceImpl implements TournamentService {
         tournament.setPublished(publish);
         Tournament savedTournament = tournamentRepository.save(tournament);
         auditLogger.logTournamentUpdated(savedTournament, httpRequest);
+        UUID seasonId = seasonIdOf(savedTournament);
+        eventPublisher.publishEvent(
+                new TournamentDetailsChangedEvent(savedTournament.getId(), seasonId, seasonId));
         return mapToResponse(savedTournament);
     }
 
     @Override
-    public byte[] exportMatches(UUID tournamentId) {
-        return generateCsv(tournamentId, false);
+    @Transactional(readOnly = true)
+    public void exportMatches(UUID tournamentId, OutputStream out) throws IOException {
+        writeCsv(tournamentId, false, out);
     }
 
     @Override
-    public byte[] exportResults(UUID tournamentId) {
-        return generateCsv(tournamentId, true);
+    @Transactional(readOnly = true)
+    public void exportResults(UUID tournamentId, OutputStream out) throws IOException {
+        writeCsv(tournamentId, true, out);
     }
 
-    private byte[] generateCsv(UUID tournamentId, boolean includeResults) {
+    private void writeCsv(UUID tournamentId, boolean includeResults, OutputStream out) throws IOException {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new EntityNotFoundException("Tournament not found"));
+        String tournamentName = tournament.getName();
 
-        List<Match> matches = matchRepository.findByTournamentId(tournamentId);
-
-        StringBuilder csv = new StringBuilder();
-        csv.append("MatchCode,TournamentName,Stage,HomeTeam,AwayTeam,Date,Time,Venue,Status");
+        // Not closed here: the caller owns the stream (and any gzip wrapper around it)
+        CsvWriter csv = new CsvWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16384));
+        csv.cell("MatchCode").cell("TournamentName").cell("Stage").cell("HomeTeam").cell("AwayTeam")
+                .cell("Date").cell("Time").cell("Venue").cell("Status");
         if (includeResults) {
-            csv.append(",HomeScore,AwayScore");
+            csv.cell("HomeScore").cell("AwayScore");
         }
-        csv.append("\n");
-
-        for (Match match : matches) {
-            csv.append(escape(match.getId().toString())).append(","); // Using ID as code for now if code missing
-            csv.append(escape(tournament.getName())).append(",");
-            csv.append(escape(match.getStage() != null ? match.getStage().getName() : "")).append(",");
-            csv.append(escape(match.getHomeTeam() != null ? match.getHomeTeam().getName() : "TBD")).append(",");
-            csv.append(escape(match.getAwayTeam() != null ? match.getAwayTeam().getName() : "TBD")).append(",");
-            csv.append(match.getMatchDate() != null ? match.getMatchDate().toString() : "").append(",");
-            csv.append(match.getKickOffTime() != null ? match.getKickOffTime().toString() : "").append(",");
-            csv.append(escape(match.getVenue() != null ? match.getVenue() : "")).append(",");
-            csv.append(match.getStatus()).append(",");
-
-            if (includeResults) {
-                csv.append(match.getHomeScore() != null ? match.getHomeScore() : "").append(",");
-                csv.append(match.getAwayScore() != null ? match.getAwayScore() : "");
+        csv.endRow();
+
+        try (Stream<MatchExportRow> rows = matchRepository.streamExportRowsByTournamentId(tournamentId)) {
+            Iterator<MatchExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                MatchExportRow row = iterator.next();
+                csv.cell(row.matchId()) // Using ID as code for now if code missing
+                        .cell(tournamentName)
+                        .cell(row.stageName() != null ? row.stageName() : "")
+                        .cell(row.homeTeamName() != null ? row.homeTeamName() : "TBD")
+                        .cell(row.awayTeamName() != null ? row.awayTeamName() : "TBD")
+                        .cell(row.matchDate())
+                        .cell(row.kickOffTime())
+                        .cell(row.venue())
+                        .cell(row.status());
+                if (includeResults) {
+                    csv.cell(row.homeScore()).cell(row.awayScore());
+                }
+                csv.endRow();
             }
-            csv.append("\n");
         }
-
-        return csv.toString().getBytes(StandardCharsets.UTF_8);
-    }
-
-    private String escape(String data) {
-        if (data == null)
-            return "";
-        String escapedData = data.replaceAll("\\R", " ");
-        if (data.contains(",") || data.contains("\"") || data.contains("'")) {
-            data = data.replace("\"", "\"\"");
-            escapedData = "\"" + data + "\"";
-        }
-        return escapedData;
+        csv.flush();
     }
 
     private void validateDates(java.time.LocalDate startDate, java.time.LocalDate endDate) {
@@ -266,6 +291,10 @@ public class TournamentServiceImpl implements TournamentService {
         }
     }
 
+    private static UUID seasonIdOf(Tournament tournament) {
+        return tournament.getSeason() != null ? tournament.getSeason().getId() : null;
+    }
+
     private TournamentResponse mapToResponse(Tournament tournament) {
         String status;
         java.time.LocalDate now = java.time.LocalDate.now();
@@ -0,0 +1,26 @@
+package com.athleticaos.backend.standings;
+
+import java.util.UUID;
+
+/**
+ * A stored pool standing joined with its stage and team names.
+ */
+public record PoolStandingRow(
+        UUID stageId,
+        String poolName,
+        Integer displayOrder,
+        UUID teamId,
+        String teamName,
+        int played,
+        int wins,
+        int draws,
+        int losses,
+        int pointsFor,
+        int pointsAgainst,
+        int bonusPoints,
+        int tablePoints) {
+
+    public int pointsDifference() {
+        return pointsFor - pointsAgainst;
+    }
+}
@@ -0,0 +1,124 @@
+package com.athleticaos.backend.standings;
+
+import com.athleticaos.backend.cache.AfterCommitBatch;
+import com.athleticaos.backend.cache.TournamentLocks;
+import com.athleticaos.backend.cache.TournamentVersionRegistry;
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.TournamentStructureChangedEvent;
+import com.athleticaos.backend.repositories.PoolStandingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * Keeps the pool_standings table current. A result entry or correction is
+ * applied as a signed delta in the same transaction as the match update: the
+ * old result is reversed, then the new one added. Structural changes that can
+ * touch pool matches (bracket regeneration, deleted matches) rebuild the
+ * tournament's rows set-based, once per transaction after it commits. Deltas
+ * share a per-tournament advisory lock that a rebuild takes exclusively.
+ */
+@Component
+@Slf4j
+public class PoolStandingsWriter {
+
+    public static final int WIN_POINTS = 4;
+    public static final int DRAW_POINTS = 2;
+    // Simplified try bonus: scoring 28 or more
+    public static final int BONUS_THRESHOLD = 28;
+
+    private static final String LOCK_SCOPE = "pool-standings";
+
+    private final PoolStandingRepository poolStandingRepository;
+    private final TournamentVersionRegistry versionRegistry;
+    private final TournamentLocks tournamentLocks;
+    private final TransactionTemplate rebuildTransaction;
+    private final AfterCommitBatch<UUID> pendingRebuilds = new AfterCommitBatch<>("pool standings rebuild",
+            tournamentIds -> tournamentIds.forEach(this::rebuild));
+
+    public PoolStandingsWriter(PoolStandingRepository poolStandingRepository,
+            TournamentVersionRegistry versionRegistry,
+            TournamentLocks tournamentLocks,
+            PlatformTransactionManager transactionManager) {
+        this.poolStandingRepository = poolStandingRepository;
+        this.versionRegistry = versionRegistry;
+        this.tournamentLocks = tournamentLocks;
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Applies a pool match's change of result. Must run inside the transaction
+     * that updates the match; no-op for knockout matches and unchanged results.
+     */
+    public void applyResultChange(Match match, MatchStatus previousStatus, Integer previousHomeScore,
+            Integer previousAwayScore) {
+        if (match.getStage() == null || !match.getStage().getIsGroupStage()
+                || match.getHomeTeam() == null || match.getAwayTeam() == null) {
+            return;
+        }
+
+        boolean countedBefore = counts(previousStatus, previousHomeScore, previousAwayScore);
+        boolean countsNow = counts(match.getStatus(), match.getHomeScore(), match.getAwayScore());
+        if (countedBefore && countsNow
+                && previousHomeScore.equals(match.getHomeScore())
+                && previousAwayScore.equals(match.getAwayScore())) {
+            return;
+        }
+
+        tournamentLocks.lockShared(LOCK_SCOPE, match.getTournament().getId());
+        if (countedBefore) {
+            applyResult(match, previousHomeScore, previousAwayScore, -1);
+        }
+        if (countsNow) {
+            applyResult(match, match.getHomeScore(), match.getAwayScore(), 1);
+        }
+    }
+
+    @EventListener
+    public void onStructureChanged(TournamentStructureChangedEvent event) {
+        if (event.poolMatchesChanged()) {
+            pendingRebuilds.add(event.tournamentId());
+        }
+    }
+
+    public void rebuild(UUID tournamentId) {
+        Integer rows = rebuildTransaction.execute(status -> {
+            tournamentLocks.lock(LOCK_SCOPE, tournamentId);
+            poolStandingRepository.deleteByTournament(tournamentId);
+            return poolStandingRepository.insertForTournament(tournamentId);
+        });
+        // Bump after the rebuild commits so cached tables built before it are dropped
+        versionRegistry.bump(tournamentId);
+        log.debug("Rebuilt pool standings for tournament {}: {} rows", tournamentId, rows);
+    }
+
+    private void applyResult(Match match, int homeScore, int awayScore, int sign) {
+        UUID stageId = match.getStage().getId();
+        UUID tournamentId = match.getTournament().getId();
+        applySide(stageId, match.getHomeTeam().getId(), tournamentId, homeScore, awayScore, sign);
+        applySide(stageId, match.getAwayTeam().getId(), tournamentId, awayScore, homeScore, sign);
+    }
+
+    private void applySide(UUID stageId, UUID teamId, UUID tournamentId, int scored, int conceded, int sign) {
+        int win = scored > conceded ? 1 : 0;
+        int draw = scored == conceded ? 1 : 0;
+        int loss = scored < conceded ? 1 : 0;
+        int bonus = scored >= BONUS_THRESHOLD ? 1 : 0;
+        int tablePoints = win * WIN_POINTS + draw * DRAW_POINTS + bonus;
+
+        poolStandingRepository.applyDelta(stageId, teamId, tournamentId,
+                sign, sign * win, sign * draw, sign * loss, sign * scored, sign * conceded,
+                sign * bonus, sign * tablePoints);
+    }
+
+    private static boolean counts(MatchStatus status, Integer homeScore, Integer awayScore) {
+        return status == MatchStatus.COMPLETED && homeScore != null && awayScore != null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.athleticaos.backend.standings;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One pool's standings in finishing order.
+ */
+public record PoolTable(UUID stageId, String poolName, List<PoolStandingRow> standings) {
+
+    // Offsets keep each packed field non-negative; 21 bits per field is far beyond rugby scores
+    private static final long FIELD_OFFSET = 1L << 20;
+
+    private record Ranked(PoolStandingRow row, long key) {
+    }
+
+    /**
+     * Groups rows into tables ordered by stage display order. Each row's
+     * tie-break key (table points, then points difference, then points for) is
+     * packed into one long up front, so sorting is a single comparison per pair.
+     */
+    public static List<PoolTable> build(List<PoolStandingRow> rows) {
+        List<PoolStandingRow> byStage = new ArrayList<>(rows);
+        byStage.sort(Comparator.comparing(PoolStandingRow::displayOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(PoolStandingRow::poolName));
+
+        Map<UUID, List<Ranked>> grouped = new LinkedHashMap<>();
+        Map<UUID, String> names = new LinkedHashMap<>();
+        for (PoolStandingRow row : byStage) {
+            grouped.computeIfAbsent(row.stageId(), id -> new ArrayList<>()).add(new Ranked(row, rankKey(row)));
+            names.putIfAbsent(row.stageId(), row.poolName());
+        }
+
+        List<PoolTable> tables = new ArrayList<>(grouped.size());
+        for (Map.Entry<UUID, List<Ranked>> entry : grouped.entrySet()) {
+            List<Ranked> ranked = entry.getValue();
+            ranked.sort(Comparator.comparingLong(Ranked::key).reversed()
+                    .thenComparing(r -> r.row().teamName(), Comparator.nullsLast(Comparator.naturalOrder())));
+            tables.add(new PoolTable(entry.getKey(), names.get(entry.getKey()),
+                    ranked.stream().map(Ranked::row).toList()));
+        }
+        return tables;
+    }
+
+    private static long rankKey(PoolStandingRow row) {
+        return ((row.tablePoints() + FIELD_OFFSET) << 42)
+                | ((row.pointsDifference() + FIELD_OFFSET) << 21)
+                | (row.pointsFor() + FIELD_OFFSET);
+    }
+}
@@ -0,0 +1,41 @@
+package com.athleticaos.backend.stats;
+
+import java.util.UUID;
+
+/**
+ * One row of the grouping-sets event aggregate: a player, a team or the
+ * tournament total, as told by {@link #getLevel()}. Columns that do not
+ * apply to the level are null.
+ */
+public interface EventRollupRow {
+
+    int PLAYER = 1;
+    int TEAM = 2;
+    int TOTAL = 3;
+
+    Integer getLevel();
+
+    UUID getPlayerId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    UUID getTeamId();
+
+    String getTeamName();
+
+    Long getMatchesPlayed();
+
+    Long getTries();
+
+    Long getConversions();
+
+    Long getPenalties();
+
+    Long getDropGoals();
+
+    Long getYellowCards();
+
+    Long getRedCards();
+}
@@ -0,0 +1,11 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.enums.MatchEventType;
+
+/**
+ * Number of events of one type within a tournament.
+ */
+public record EventTypeCountRow(
+        MatchEventType eventType,
+        Long count) {
+}
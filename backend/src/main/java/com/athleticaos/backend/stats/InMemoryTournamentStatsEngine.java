@@ -0,0 +1,46 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.dtos.stats.PlayerStatsResponse;
+import com.athleticaos.backend.dtos.stats.TeamStatsResponse;
+import com.athleticaos.backend.dtos.stats.TournamentStatsSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Serves statistics from the incrementally maintained {@link TournamentStatsStore}.
+ */
+@Component
+@ConditionalOnProperty(name = "application.stats.engine", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InMemoryTournamentStatsEngine implements TournamentStatsEngine {
+
+    private final TournamentStatsStore tournamentStatsStore;
+
+    @Override
+    public TournamentStatsSummaryResponse getSummary(UUID tournamentId) {
+        return tournamentStatsStore.getSnapshot(tournamentId).toSummary();
+    }
+
+    @Override
+    public List<PlayerStatsResponse> getPlayerStats(UUID tournamentId) {
+        return tournamentStatsStore.getSnapshot(tournamentId).toPlayerStats();
+    }
+
+    @Override
+    public List<TeamStatsResponse> getTeamStats(UUID tournamentId) {
+        return tournamentStatsStore.getSnapshot(tournamentId).toTeamStats();
+    }
+
+    @Override
+    public TournamentStats getAll(UUID tournamentId) {
+        TournamentStatsSnapshot snapshot = tournamentStatsStore.getSnapshot(tournamentId);
+        // Held across all three so no delta lands in between
+        synchronized (snapshot) {
+            return new TournamentStats(snapshot.toSummary(), snapshot.toPlayerStats(), snapshot.toTeamStats());
+        }
+    }
+}
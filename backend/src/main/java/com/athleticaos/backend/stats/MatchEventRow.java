@@ -0,0 +1,16 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.enums.MatchEventType;
+
+import java.util.UUID;
+
+/**
+ * Slim projection of a match event used by the statistics kernel; avoids
+ * hydrating full {@code MatchEvent} entities and their associations.
+ */
+public record MatchEventRow(
+        UUID matchId,
+        UUID teamId,
+        UUID playerId,
+        MatchEventType eventType) {
+}
@@ -0,0 +1,22 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.enums.MatchStatus;
+
+import java.util.UUID;
+
+/**
+ * Flat projection of a match with its teams' display names, used by the
+ * statistics kernel; team ids are null for knockout slots not yet decided.
+ */
+public record MatchStatsRow(
+        UUID matchId,
+        UUID homeTeamId,
+        String homeTeamName,
+        String homeOrgName,
+        UUID awayTeamId,
+        String awayTeamName,
+        String awayOrgName,
+        MatchStatus status,
+        Integer homeScore,
+        Integer awayScore) {
+}
@@ -0,0 +1,12 @@
+package com.athleticaos.backend.stats;
+
+import java.util.UUID;
+
+/**
+ * Display name of a player appearing in a tournament's match events.
+ */
+public record PlayerNameRow(
+        UUID playerId,
+        String firstName,
+        String lastName) {
+}
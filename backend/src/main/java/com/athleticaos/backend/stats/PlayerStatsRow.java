@@ -0,0 +1,20 @@
+package com.athleticaos.backend.stats;
+
+import java.util.UUID;
+
+/**
+ * Per-player event counts aggregated in the database.
+ */
+public record PlayerStatsRow(
+        UUID playerId,
+        String firstName,
+        String lastName,
+        String teamName,
+        Long matchesPlayed,
+        Long tries,
+        Long conversions,
+        Long penalties,
+        Long dropGoals,
+        Long yellowCards,
+        Long redCards) {
+}
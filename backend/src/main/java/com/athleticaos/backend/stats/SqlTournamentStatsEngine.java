@@ -0,0 +1,196 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.dashboard.MatchStatusCountRow;
+import com.athleticaos.backend.dtos.stats.PlayerStatsResponse;
+import com.athleticaos.backend.dtos.stats.TeamStatsResponse;
+import com.athleticaos.backend.dtos.stats.TournamentStatsSummaryResponse;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.enums.MatchEventType;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.repositories.MatchEventRepository;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.TournamentRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Computes statistics with GROUP BY aggregate queries so PostgreSQL does the
+ * counting and no entity graphs are loaded.
+ */
+@Component
+@ConditionalOnProperty(name = "application.stats.engine", havingValue = "sql")
+@RequiredArgsConstructor
+public class SqlTournamentStatsEngine implements TournamentStatsEngine {
+
+    private final TournamentRepository tournamentRepository;
+    private final MatchRepository matchRepository;
+    private final MatchEventRepository matchEventRepository;
+
+    @Override
+    public TournamentStatsSummaryResponse getSummary(UUID tournamentId) {
+        Tournament tournament = findTournament(tournamentId);
+
+        Map<MatchEventType, Long> counts = new EnumMap<>(MatchEventType.class);
+        for (EventTypeCountRow row : matchEventRepository.countByEventTypeForTournament(tournamentId)) {
+            counts.put(row.eventType(), row.count());
+        }
+        return toSummary(tournament, counts);
+    }
+
+    @Override
+    public List<PlayerStatsResponse> getPlayerStats(UUID tournamentId) {
+        return toPlayerStats(matchEventRepository.aggregatePlayerStatsForTournament(tournamentId));
+    }
+
+    @Override
+    public List<TeamStatsResponse> getTeamStats(UUID tournamentId) {
+        return toTeamStats(matchEventRepository.aggregateTeamEventsForTournament(tournamentId),
+                matchRepository.aggregateTeamResultsForTournament(tournamentId));
+    }
+
+    /**
+     * One grouping-sets pass over the events yields the player, team and
+     * tournament totals; results come from one aggregate over the matches.
+     */
+    @Override
+    public TournamentStats getAll(UUID tournamentId) {
+        Tournament tournament = findTournament(tournamentId);
+
+        List<PlayerStatsRow> playerRows = new ArrayList<>();
+        List<TeamEventCountRow> teamEventRows = new ArrayList<>();
+        Map<MatchEventType, Long> counts = new EnumMap<>(MatchEventType.class);
+        for (EventRollupRow row : matchEventRepository.aggregateEventRollupForTournament(tournamentId)) {
+            int level = row.getLevel() != null ? row.getLevel() : -1;
+            if (level == EventRollupRow.PLAYER && row.getPlayerId() != null) {
+                playerRows.add(new PlayerStatsRow(row.getPlayerId(), row.getFirstName(), row.getLastName(),
+                        row.getTeamName(), row.getMatchesPlayed(), row.getTries(), row.getConversions(),
+                        row.getPenalties(), row.getDropGoals(), row.getYellowCards(), row.getRedCards()));
+            } else if (level == EventRollupRow.TEAM && row.getTeamId() != null) {
+                teamEventRows.add(new TeamEventCountRow(row.getTeamId(), row.getTries(), row.getYellowCards(),
+                        row.getRedCards()));
+            } else if (level == EventRollupRow.TOTAL) {
+                counts.put(MatchEventType.TRY, row.getTries());
+                counts.put(MatchEventType.CONVERSION, row.getConversions());
+                counts.put(MatchEventType.PENALTY, row.getPenalties());
+                counts.put(MatchEventType.DROP_GOAL, row.getDropGoals());
+                counts.put(MatchEventType.YELLOW_CARD, row.getYellowCards());
+                counts.put(MatchEventType.RED_CARD, row.getRedCards());
+            }
+        }
+
+        return new TournamentStats(
+                toSummary(tournament, counts),
+                toPlayerStats(playerRows),
+                toTeamStats(teamEventRows, matchRepository.aggregateTeamResultsForTournament(tournamentId)));
+    }
+
+    private Tournament findTournament(UUID tournamentId) {
+        return tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new EntityNotFoundException("Tournament not found"));
+    }
+
+    private TournamentStatsSummaryResponse toSummary(Tournament tournament, Map<MatchEventType, Long> counts) {
+        int totalPoints = 0;
+        for (Map.Entry<MatchEventType, Long> entry : counts.entrySet()) {
+            totalPoints += entry.getKey().getPoints() * asInt(entry.getValue());
+        }
+
+        int totalMatches = 0;
+        int completedMatches = 0;
+        for (MatchStatusCountRow row : matchRepository.countByStatusForTournament(tournament.getId())) {
+            totalMatches += asInt(row.count());
+            if (row.status() == MatchStatus.COMPLETED) {
+                completedMatches += asInt(row.count());
+            }
+        }
+
+        return new TournamentStatsSummaryResponse(
+                tournament.getId(),
+                tournament.getName(),
+                totalMatches,
+                completedMatches,
+                asInt(counts.get(MatchEventType.TRY)),
+                totalPoints,
+                asInt(counts.get(MatchEventType.YELLOW_CARD)),
+                asInt(counts.get(MatchEventType.RED_CARD)));
+    }
+
+    private static List<PlayerStatsResponse> toPlayerStats(List<PlayerStatsRow> rows) {
+        List<PlayerStatsResponse> stats = new ArrayList<>(rows.size());
+
+        for (PlayerStatsRow row : rows) {
+            int tries = asInt(row.tries());
+            int conversions = asInt(row.conversions());
+            int penalties = asInt(row.penalties());
+            int dropGoals = asInt(row.dropGoals());
+            int totalPoints = tries * MatchEventType.TRY.getPoints()
+                    + conversions * MatchEventType.CONVERSION.getPoints()
+                    + penalties * MatchEventType.PENALTY.getPoints()
+                    + dropGoals * MatchEventType.DROP_GOAL.getPoints();
+
+            stats.add(new PlayerStatsResponse(
+                    row.playerId(),
+                    row.firstName(),
+                    row.lastName(),
+                    row.teamName(),
+                    asInt(row.matchesPlayed()),
+                    tries,
+                    conversions,
+                    penalties,
+                    dropGoals,
+                    asInt(row.yellowCards()),
+                    asInt(row.redCards()),
+                    totalPoints));
+        }
+        return stats;
+    }
+
+    private static List<TeamStatsResponse> toTeamStats(List<TeamEventCountRow> teamEventRows,
+            List<TeamResultRow> rows) {
+        Map<UUID, TeamEventCountRow> eventsByTeam = new HashMap<>();
+        for (TeamEventCountRow row : teamEventRows) {
+            eventsByTeam.put(row.teamId(), row);
+        }
+
+        List<TeamStatsResponse> stats = new ArrayList<>(rows.size());
+
+        for (TeamResultRow row : rows) {
+            TeamEventCountRow events = eventsByTeam.get(row.teamId());
+            int wins = asInt(row.wins());
+            int draws = asInt(row.draws());
+            int pointsFor = asInt(row.pointsFor());
+            int pointsAgainst = asInt(row.pointsAgainst());
+
+            stats.add(new TeamStatsResponse(
+                    row.teamId(),
+                    row.teamName(),
+                    row.organisationName(),
+                    asInt(row.matchesPlayed()),
+                    wins,
+                    draws,
+                    asInt(row.losses()),
+                    pointsFor,
+                    pointsAgainst,
+                    pointsFor - pointsAgainst,
+                    events != null ? asInt(events.tries()) : 0,
+                    events != null ? asInt(events.yellowCards()) : 0,
+                    events != null ? asInt(events.redCards()) : 0,
+                    // Table points: Win=4, Draw=2, Loss=0
+                    (wins * 4) + (draws * 2)));
+        }
+        return stats;
+    }
+
+    private static int asInt(Long value) {
+        return value != null ? value.intValue() : 0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.athleticaos.backend.stats;
+
+import java.util.UUID;
+
+/**
+ * Per-team event counts aggregated in the database.
+ */
+public record TeamEventCountRow(
+        UUID teamId,
+        Long tries,
+        Long yellowCards,
+        Long redCards) {
+}
@@ -0,0 +1,19 @@
+package com.athleticaos.backend.stats;
+
+import java.util.UUID;
+
+/**
+ * Per-team match results aggregated in the database, with home and away
+ * scores folded into for/against.
+ */
+public record TeamResultRow(
+        UUID teamId,
+        String teamName,
+        String organisationName,
+        Long matchesPlayed,
+        Long wins,
+        Long draws,
+        Long losses,
+        Long pointsFor,
+        Long pointsAgainst) {
+}
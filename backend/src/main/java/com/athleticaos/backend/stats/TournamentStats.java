@@ -0,0 +1,16 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.dtos.stats.PlayerStatsResponse;
+import com.athleticaos.backend.dtos.stats.TeamStatsResponse;
+import com.athleticaos.backend.dtos.stats.TournamentStatsSummaryResponse;
+
+import java.util.List;
+
+/**
+ * Summary, player and team statistics of one tournament, computed together.
+ */
+public record TournamentStats(
+        TournamentStatsSummaryResponse summary,
+        List<PlayerStatsResponse> playerStats,
+        List<TeamStatsResponse> teamStats) {
+}
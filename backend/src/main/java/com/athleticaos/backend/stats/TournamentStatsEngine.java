@@ -0,0 +1,26 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.dtos.stats.PlayerStatsResponse;
+import com.athleticaos.backend.dtos.stats.TeamStatsResponse;
+import com.athleticaos.backend.dtos.stats.TournamentStatsSummaryResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Strategy for computing per-tournament statistics.
+ * Selected with {@code application.stats.engine} ({@code memory} or {@code sql}).
+ */
+public interface TournamentStatsEngine {
+
+    TournamentStatsSummaryResponse getSummary(UUID tournamentId);
+
+    List<PlayerStatsResponse> getPlayerStats(UUID tournamentId);
+
+    List<TeamStatsResponse> getTeamStats(UUID tournamentId);
+
+    /**
+     * All three views from one snapshot or one aggregate pass, for callers that need them together.
+     */
+    TournamentStats getAll(UUID tournamentId);
+}
@@ -0,0 +1,168 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.enums.MatchEventType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Single-pass aggregation of a tournament's match events.
+ * Events are first copied into int columns (match, team, player, event type)
+ * keyed by dense indexes, then accumulated into flat counter arrays in one
+ * loop. The result seeds a {@link TournamentStatsSnapshot}, from which the
+ * summary, player and team responses are all produced.
+ */
+public final class TournamentStatsKernel {
+
+    private static final MatchEventType[] TYPES = MatchEventType.values();
+    private static final int TYPE_COUNT = TYPES.length;
+    private static final int[] POINTS = new int[TYPE_COUNT];
+
+    static {
+        for (MatchEventType type : TYPES) {
+            POINTS[type.ordinal()] = type.getPoints();
+        }
+    }
+
+    private TournamentStatsKernel() {
+    }
+
+    /**
+     * Builds a snapshot from the tournament's match and event rows.
+     * Rows ordered by match (as returned by the repository) keep the per-player
+     * match bookkeeping to one map write per player per match.
+     */
+    public static TournamentStatsSnapshot aggregate(UUID tournamentId, String tournamentName,
+            List<MatchStatsRow> matches, List<MatchEventRow> events, List<PlayerNameRow> playerNames) {
+        TournamentStatsSnapshot snapshot = new TournamentStatsSnapshot(tournamentId, tournamentName);
+
+        // Dense indexes for matches and teams
+        Map<UUID, Integer> matchIndex = new HashMap<>(matches.size() * 2);
+        UUID[] matchIds = new UUID[matches.size()];
+        Map<UUID, Integer> teamIndex = new HashMap<>();
+        List<UUID> teamIds = new ArrayList<>();
+        List<String> teamNames = new ArrayList<>();
+
+        for (MatchStatsRow m : matches) {
+            matchIds[matchIndex.size()] = m.matchId();
+            matchIndex.put(m.matchId(), matchIndex.size());
+            registerTeam(snapshot, teamIndex, teamIds, teamNames, m.homeTeamId(), m.homeTeamName(), m.homeOrgName());
+            registerTeam(snapshot, teamIndex, teamIds, teamNames, m.awayTeamId(), m.awayTeamName(), m.awayOrgName());
+        }
+        for (MatchStatsRow m : matches) {
+            snapshot.registerMatch(m.matchId(), m.homeTeamId(), m.awayTeamId(), m.status(), m.homeScore(),
+                    m.awayScore());
+        }
+
+        // Columnarise event rows
+        int n = events.size();
+        int[] matchCol = new int[n];
+        int[] teamCol = new int[n];
+        int[] playerCol = new int[n];
+        int[] typeCol = new int[n];
+        Map<UUID, Integer> playerIndex = new HashMap<>();
+        List<UUID> playerIds = new ArrayList<>();
+
+        for (int i = 0; i < n; i++) {
+            MatchEventRow row = events.get(i);
+            matchCol[i] = matchIndex.getOrDefault(row.matchId(), -1);
+            teamCol[i] = row.teamId() != null ? teamIndex.getOrDefault(row.teamId(), -1) : -1;
+            typeCol[i] = row.eventType().ordinal();
+            if (row.playerId() == null) {
+                playerCol[i] = -1;
+            } else {
+                Integer p = playerIndex.get(row.playerId());
+                if (p == null) {
+                    p = playerIds.size();
+                    playerIndex.put(row.playerId(), p);
+                    playerIds.add(row.playerId());
+                }
+                playerCol[i] = p;
+            }
+        }
+
+        // One pass over the columns
+        int teams = teamIds.size();
+        int players = playerIds.size();
+        int[] totals = new int[TYPE_COUNT];
+        int[] teamCounts = new int[teams * TYPE_COUNT];
+        int[] playerCounts = new int[players * TYPE_COUNT];
+        int[] playerPoints = new int[players];
+        int[] playerEvents = new int[players];
+        int[] playerFirstTeam = new int[players];
+        int[] runMatch = new int[players];
+        int[] runCount = new int[players];
+        @SuppressWarnings("unchecked")
+        Map<UUID, Integer>[] perMatch = new Map[players];
+        int totalPoints = 0;
+
+        for (int i = 0; i < n; i++) {
+            int type = typeCol[i];
+            totals[type]++;
+            totalPoints += POINTS[type];
+
+            int t = teamCol[i];
+            if (t >= 0) {
+                teamCounts[t * TYPE_COUNT + type]++;
+            }
+
+            int p = playerCol[i];
+            if (p < 0) {
+                continue;
+            }
+            playerCounts[p * TYPE_COUNT + type]++;
+            playerPoints[p] += POINTS[type];
+            if (playerEvents[p]++ == 0) {
+                playerFirstTeam[p] = t;
+                runMatch[p] = matchCol[i];
+                runCount[p] = 1;
+                perMatch[p] = new HashMap<>();
+            } else if (runMatch[p] == matchCol[i]) {
+                runCount[p]++;
+            } else {
+                flushRun(perMatch[p], matchIds, runMatch[p], runCount[p]);
+                runMatch[p] = matchCol[i];
+                runCount[p] = 1;
+            }
+        }
+
+        // Emit into the snapshot
+        snapshot.seedEventTotals(totals, totalPoints);
+        for (int t = 0; t < teams; t++) {
+            snapshot.seedTeamEvents(teamIds.get(t), teamCounts, t * TYPE_COUNT);
+        }
+
+        Map<UUID, PlayerNameRow> names = new HashMap<>(playerNames.size() * 2);
+        for (PlayerNameRow name : playerNames) {
+            names.put(name.playerId(), name);
+        }
+        for (int p = 0; p < players; p++) {
+            flushRun(perMatch[p], matchIds, runMatch[p], runCount[p]);
+            PlayerNameRow name = names.get(playerIds.get(p));
+            snapshot.seedPlayer(playerIds.get(p),
+                    name != null ? name.firstName() : null,
+                    name != null ? name.lastName() : null,
+                    playerFirstTeam[p] >= 0 ? teamNames.get(playerFirstTeam[p]) : null,
+                    playerCounts, p * TYPE_COUNT, playerPoints[p], playerEvents[p], perMatch[p]);
+        }
+        return snapshot;
+    }
+
+    private static void registerTeam(TournamentStatsSnapshot snapshot, Map<UUID, Integer> teamIndex,
+            List<UUID> teamIds, List<String> teamNames, UUID teamId, String name, String orgName) {
+        if (teamId != null && teamIndex.putIfAbsent(teamId, teamIds.size()) == null) {
+            teamIds.add(teamId);
+            teamNames.add(name);
+            snapshot.registerTeam(teamId, name, orgName);
+        }
+    }
+
+    private static void flushRun(Map<UUID, Integer> perMatch, UUID[] matchIds, int match, int count) {
+        if (match >= 0) {
+            perMatch.merge(matchIds[match], count, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.cache.AfterCommitBatch;
+import com.athleticaos.backend.cache.TournamentLocks;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.MatchEventRecordedEvent;
+import com.athleticaos.backend.events.MatchEventRemovedEvent;
+import com.athleticaos.backend.events.MatchResultChangedEvent;
+import com.athleticaos.backend.events.TournamentStructureChangedEvent;
+import com.athleticaos.backend.repositories.MatchEventRepository;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.PlayerTournamentStatsRepository;
+import com.athleticaos.backend.repositories.TeamTournamentStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps the player and team rollup rows current. Changes are collected while
+ * a transaction publishes them and applied once after it commits: only the
+ * players and teams of the changed matches are rewritten, and a structural
+ * change rewrites the whole tournament. Each rewrite is a delete and a
+ * set-based insert per table, serialised per tournament by an advisory lock.
+ */
+@Component
+@Slf4j
+public class TournamentStatsRollupWriter {
+
+    private static final String LOCK_SCOPE = "stats-rollup";
+
+    private final PlayerTournamentStatsRepository playerTournamentStatsRepository;
+    private final TeamTournamentStatsRepository teamTournamentStatsRepository;
+    private final MatchRepository matchRepository;
+    private final MatchEventRepository matchEventRepository;
+    private final TournamentLocks tournamentLocks;
+    private final TransactionTemplate refreshTransaction;
+    private final AfterCommitBatch<Change> pending = new AfterCommitBatch<>("stats rollup refresh", this::apply);
+
+    private enum Kind { RESULT, EVENT, STRUCTURE }
+
+    /**
+     * One affected row source. Result changes carry a team and are checked
+     * for player rows through the match's events; event changes only count
+     * once their match is completed.
+     */
+    private record Change(Kind kind, UUID tournamentId, UUID matchId, UUID teamId, UUID playerId) {
+    }
+
+    public TournamentStatsRollupWriter(PlayerTournamentStatsRepository playerTournamentStatsRepository,
+            TeamTournamentStatsRepository teamTournamentStatsRepository,
+            MatchRepository matchRepository,
+            MatchEventRepository matchEventRepository,
+            TournamentLocks tournamentLocks,
+            PlatformTransactionManager transactionManager) {
+        this.playerTournamentStatsRepository = playerTournamentStatsRepository;
+        this.teamTournamentStatsRepository = teamTournamentStatsRepository;
+        this.matchRepository = matchRepository;
+        this.matchEventRepository = matchEventRepository;
+        this.tournamentLocks = tournamentLocks;
+        this.refreshTransaction = new TransactionTemplate(transactionManager);
+        this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener
+    public void onResultChanged(MatchResultChangedEvent event) {
+        if (event.status() == MatchStatus.COMPLETED || event.previousStatus() == MatchStatus.COMPLETED) {
+            pending.add(new Change(Kind.RESULT, event.tournamentId(), event.matchId(), event.homeTeamId(), null));
+            pending.add(new Change(Kind.RESULT, event.tournamentId(), event.matchId(), event.awayTeamId(), null));
+        }
+    }
+
+    @EventListener
+    public void onEventRecorded(MatchEventRecordedEvent event) {
+        pending.add(new Change(Kind.EVENT, event.tournamentId(), event.matchId(), event.teamId(), event.playerId()));
+    }
+
+    @EventListener
+    public void onEventRemoved(MatchEventRemovedEvent event) {
+        pending.add(new Change(Kind.EVENT, event.tournamentId(), event.matchId(), event.teamId(), event.playerId()));
+    }
+
+    @EventListener
+    public void onStructureChanged(TournamentStructureChangedEvent event) {
+        pending.add(new Change(Kind.STRUCTURE, event.tournamentId(), null, null, null));
+    }
+
+    /**
+     * Rewrites all of a tournament's rollup rows.
+     */
+    public void refresh(UUID tournamentId) {
+        refreshTransaction.executeWithoutResult(status -> refreshTournament(tournamentId));
+    }
+
+    private void apply(Set<Change> changes) {
+        Map<UUID, List<Change>> byTournament = new LinkedHashMap<>();
+        for (Change change : changes) {
+            byTournament.computeIfAbsent(change.tournamentId(), id -> new ArrayList<>()).add(change);
+        }
+        for (Map.Entry<UUID, List<Change>> entry : byTournament.entrySet()) {
+            refreshTransaction.executeWithoutResult(status -> refreshChanged(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private void refreshChanged(UUID tournamentId, List<Change> changes) {
+        if (changes.stream().anyMatch(change -> change.kind() == Kind.STRUCTURE)) {
+            refreshTournament(tournamentId);
+            return;
+        }
+
+        // Events on matches still being played are picked up when the match completes
+        Set<UUID> eventMatchIds = new HashSet<>();
+        Set<UUID> resultMatchIds = new HashSet<>();
+        for (Change change : changes) {
+            (change.kind() == Kind.RESULT ? resultMatchIds : eventMatchIds).add(change.matchId());
+        }
+        Set<UUID> completed = eventMatchIds.isEmpty() ? Set.of()
+                : new HashSet<>(matchRepository.findIdsByIdInAndStatus(eventMatchIds, MatchStatus.COMPLETED));
+
+        Set<UUID> playerIds = new LinkedHashSet<>();
+        Set<UUID> teamIds = new LinkedHashSet<>();
+        for (Change change : changes) {
+            if (change.kind() == Kind.EVENT && !completed.contains(change.matchId())) {
+                continue;
+            }
+            if (change.teamId() != null) {
+                teamIds.add(change.teamId());
+            }
+            if (change.playerId() != null) {
+                playerIds.add(change.playerId());
+            }
+        }
+        if (!resultMatchIds.isEmpty()) {
+            playerIds.addAll(matchEventRepository.findPlayerIdsByMatchIdIn(resultMatchIds));
+        }
+        if (playerIds.isEmpty() && teamIds.isEmpty()) {
+            return;
+        }
+
+        tournamentLocks.lock(LOCK_SCOPE, tournamentId);
+        int players = 0;
+        int teams = 0;
+        if (!playerIds.isEmpty()) {
+            playerTournamentStatsRepository.deleteByTournamentAndPlayers(tournamentId, playerIds);
+            players = playerTournamentStatsRepository.insertRollupForPlayers(tournamentId, playerIds);
+        }
+        if (!teamIds.isEmpty()) {
+            teamTournamentStatsRepository.deleteByTournamentAndTeams(tournamentId, teamIds);
+            teams = teamTournamentStatsRepository.insertRollupForTeams(tournamentId, teamIds);
+        }
+        log.debug("Refreshed stats rollups for tournament {}: {} players, {} teams", tournamentId, players, teams);
+    }
+
+    private void refreshTournament(UUID tournamentId) {
+        tournamentLocks.lock(LOCK_SCOPE, tournamentId);
+        playerTournamentStatsRepository.deleteByTournament(tournamentId);
+        int players = playerTournamentStatsRepository.insertRollupForTournament(tournamentId);
+        teamTournamentStatsRepository.deleteByTournament(tournamentId);
+        int teams = teamTournamentStatsRepository.insertRollupForTournament(tournamentId);
+        log.debug("Refreshed stats rollups for tournament {}: {} players, {} teams", tournamentId, players, teams);
+    }
+}
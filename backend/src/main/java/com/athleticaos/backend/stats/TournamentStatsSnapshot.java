@@ -0,0 +1,292 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.dtos.stats.PlayerStatsResponse;
+import com.athleticaos.backend.dtos.stats.TeamStatsResponse;
+import com.athleticaos.backend.dtos.stats.TournamentStatsSummaryResponse;
+import com.athleticaos.backend.enums.MatchEventType;
+import com.athleticaos.backend.enums.MatchStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Materialised statistics counters for a single tournament.
+ * Built once from the database and then kept current by applying deltas as
+ * events and results are written, so reads never re-scan match events.
+ */
+public class TournamentStatsSnapshot {
+
+    private static final int EVENT_TYPES = MatchEventType.values().length;
+
+    private final UUID tournamentId;
+    private final String tournamentName;
+
+    private final Map<UUID, MatchTally> matches = new HashMap<>();
+    private final Map<UUID, TeamTally> teams = new LinkedHashMap<>();
+    private final Map<UUID, PlayerTally> players = new LinkedHashMap<>();
+
+    private final int[] eventTotals = new int[EVENT_TYPES];
+    private int totalPoints;
+    private int completedMatches;
+
+    public TournamentStatsSnapshot(UUID tournamentId, String tournamentName) {
+        this.tournamentId = tournamentId;
+        this.tournamentName = tournamentName;
+    }
+
+    public UUID getTournamentId() {
+        return tournamentId;
+    }
+
+    public synchronized void registerTeam(UUID teamId, String teamName, String organisationName) {
+        teams.putIfAbsent(teamId, new TeamTally(teamId, teamName, organisationName));
+    }
+
+    public synchronized void registerMatch(UUID matchId, UUID homeTeamId, UUID awayTeamId, MatchStatus status,
+            Integer homeScore, Integer awayScore) {
+        MatchTally match = new MatchTally(homeTeamId, awayTeamId);
+        matches.put(matchId, match);
+
+        TeamTally home = homeTeamId != null ? teams.get(homeTeamId) : null;
+        TeamTally away = awayTeamId != null ? teams.get(awayTeamId) : null;
+        if (home != null) {
+            home.matchesPlayed++;
+        }
+        if (away != null) {
+            away.matchesPlayed++;
+        }
+
+        match.status = status;
+        match.homeScore = homeScore;
+        match.awayScore = awayScore;
+        applyResultContribution(match, 1);
+    }
+
+    /**
+     * Applies a new status/score to a known match, reversing its previous
+     * contribution first.
+     *
+     * @return false if the match is not part of this snapshot (caller should
+     *         discard the snapshot)
+     */
+    public synchronized boolean applyResult(UUID matchId, MatchStatus status, Integer homeScore, Integer awayScore) {
+        MatchTally match = matches.get(matchId);
+        if (match == null) {
+            return false;
+        }
+        applyResultContribution(match, -1);
+        match.status = status;
+        match.homeScore = homeScore;
+        match.awayScore = awayScore;
+        applyResultContribution(match, 1);
+        return true;
+    }
+
+    /**
+     * Adds (delta = 1) or removes (delta = -1) a single match event.
+     */
+    public synchronized void applyEvent(UUID matchId, UUID teamId, UUID playerId, String firstName,
+            String lastName, String teamName, MatchEventType eventType, int delta) {
+        int type = eventType.ordinal();
+        int points = eventType.getPoints() * delta;
+
+        eventTotals[type] += delta;
+        totalPoints += points;
+
+        TeamTally team = teamId != null ? teams.get(teamId) : null;
+        if (team != null) {
+            team.eventCounts[type] += delta;
+        }
+
+        if (playerId == null) {
+            return;
+        }
+
+        PlayerTally player = players.get(playerId);
+        if (player == null) {
+            if (delta < 0) {
+                return;
+            }
+            player = new PlayerTally(playerId, firstName, lastName, teamName);
+            players.put(playerId, player);
+        }
+
+        player.eventCounts[type] += delta;
+        player.totalPoints += points;
+        player.totalEvents += delta;
+        player.eventsPerMatch.merge(matchId, delta, Integer::sum);
+        if (player.eventsPerMatch.getOrDefault(matchId, 0) <= 0) {
+            player.eventsPerMatch.remove(matchId);
+        }
+        if (player.totalEvents <= 0) {
+            players.remove(playerId);
+        }
+    }
+
+    /**
+     * Bulk-loads event totals computed by {@link TournamentStatsKernel}.
+     */
+    synchronized void seedEventTotals(int[] totals, int points) {
+        System.arraycopy(totals, 0, eventTotals, 0, EVENT_TYPES);
+        totalPoints = points;
+    }
+
+    synchronized void seedTeamEvents(UUID teamId, int[] counts, int offset) {
+        TeamTally team = teams.get(teamId);
+        if (team != null) {
+            System.arraycopy(counts, offset, team.eventCounts, 0, EVENT_TYPES);
+        }
+    }
+
+    synchronized void seedPlayer(UUID playerId, String firstName, String lastName, String teamName,
+            int[] counts, int offset, int points, int events, Map<UUID, Integer> eventsPerMatch) {
+        PlayerTally player = new PlayerTally(playerId, firstName, lastName, teamName);
+        System.arraycopy(counts, offset, player.eventCounts, 0, EVENT_TYPES);
+        player.totalPoints = points;
+        player.totalEvents = events;
+        player.eventsPerMatch.putAll(eventsPerMatch);
+        players.put(playerId, player);
+    }
+
+    public synchronized TournamentStatsSummaryResponse toSummary() {
+        return new TournamentStatsSummaryResponse(
+                tournamentId,
+                tournamentName,
+                matches.size(),
+                completedMatches,
+                eventTotals[MatchEventType.TRY.ordinal()],
+                totalPoints,
+                eventTotals[MatchEventType.YELLOW_CARD.ordinal()],
+                eventTotals[MatchEventType.RED_CARD.ordinal()]);
+    }
+
+    public synchronized List<PlayerStatsResponse> toPlayerStats() {
+        List<PlayerStatsResponse> stats = new ArrayList<>(players.size());
+        for (PlayerTally p : players.values()) {
+            stats.add(new PlayerStatsResponse(
+                    p.playerId,
+                    p.firstName,
+                    p.lastName,
+                    p.teamName,
+                    p.eventsPerMatch.size(),
+                    p.eventCounts[MatchEventType.TRY.ordinal()],
+                    p.eventCounts[MatchEventType.CONVERSION.ordinal()],
+                    p.eventCounts[MatchEventType.PENALTY.ordinal()],
+                    p.eventCounts[MatchEventType.DROP_GOAL.ordinal()],
+                    p.eventCounts[MatchEventType.YELLOW_CARD.ordinal()],
+                    p.eventCounts[MatchEventType.RED_CARD.ordinal()],
+                    p.totalPoints));
+        }
+        return stats;
+    }
+
+    public synchronized List<TeamStatsResponse> toTeamStats() {
+        List<TeamStatsResponse> stats = new ArrayList<>(teams.size());
+        for (TeamTally t : teams.values()) {
+            // Table points: Win=4, Draw=2, Loss=0
+            int tablePoints = (t.wins * 4) + (t.draws * 2);
+            stats.add(new TeamStatsResponse(
+                    t.teamId,
+                    t.teamName,
+                    t.organisationName,
+                    t.matchesPlayed,
+                    t.wins,
+                    t.draws,
+                    t.losses,
+                    t.pointsFor,
+                    t.pointsAgainst,
+                    t.pointsFor - t.pointsAgainst,
+                    t.eventCounts[MatchEventType.TRY.ordinal()],
+                    t.eventCounts[MatchEventType.YELLOW_CARD.ordinal()],
+                    t.eventCounts[MatchEventType.RED_CARD.ordinal()],
+                    tablePoints));
+        }
+        return stats;
+    }
+
+    private void applyResultContribution(MatchTally match, int sign) {
+        if (match.status != MatchStatus.COMPLETED) {
+            return;
+        }
+        completedMatches += sign;
+
+        if (match.homeScore == null || match.awayScore == null) {
+            return;
+        }
+
+        int home = match.homeScore;
+        int away = match.awayScore;
+        applyTeamResult(match.homeTeamId, home, away, sign);
+        applyTeamResult(match.awayTeamId, away, home, sign);
+    }
+
+    private void applyTeamResult(UUID teamId, int scoreFor, int scoreAgainst, int sign) {
+        TeamTally team = teamId != null ? teams.get(teamId) : null;
+        if (team == null) {
+            return;
+        }
+        team.pointsFor += scoreFor * sign;
+        team.pointsAgainst += scoreAgainst * sign;
+        if (scoreFor > scoreAgainst) {
+            team.wins += sign;
+        } else if (scoreFor == scoreAgainst) {
+            team.draws += sign;
+        } else {
+            team.losses += sign;
+        }
+    }
+
+    private static class MatchTally {
+        final UUID homeTeamId;
+        final UUID awayTeamId;
+        MatchStatus status;
+        Integer homeScore;
+        Integer awayScore;
+
+        MatchTally(UUID homeTeamId, UUID awayTeamId) {
+            this.homeTeamId = homeTeamId;
+            this.awayTeamId = awayTeamId;
+        }
+    }
+
+    private static class TeamTally {
+        final UUID teamId;
+        final String teamName;
+        final String organisationName;
+        final int[] eventCounts = new int[EVENT_TYPES];
+        int matchesPlayed;
+        int wins;
+        int draws;
+        int losses;
+        int pointsFor;
+        int pointsAgainst;
+
+        TeamTally(UUID teamId, String teamName, String organisationName) {
+            this.teamId = teamId;
+            this.teamName = teamName;
+            this.organisationName = organisationName;
+        }
+    }
+
+    private static class PlayerTally {
+        final UUID playerId;
+        final String firstName;
+        final String lastName;
+        final String teamName;
+        final int[] eventCounts = new int[EVENT_TYPES];
+        final Map<UUID, Integer> eventsPerMatch = new HashMap<>();
+        int totalEvents;
+        int totalPoints;
+
+        PlayerTally(UUID playerId, String firstName, String lastName, String teamName) {
+            this.playerId = playerId;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.teamName = teamName;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.cache.WriteTracker;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.events.MatchEventRecordedEvent;
+import com.athleticaos.backend.events.MatchEventRemovedEvent;
+import com.athleticaos.backend.events.MatchResultChangedEvent;
+import com.athleticaos.backend.events.TournamentStructureChangedEvent;
+import com.athleticaos.backend.repositories.MatchEventRepository;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.TournamentRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory store of per-tournament statistics counters.
+ * A tournament's snapshot is built from the database on first read and then
+ * updated incrementally from committed match event and result writes, so the
+ * stats endpoints read in O(1) instead of re-scanning every event. At most
+ * {@code application.stats.snapshot-max-entries} snapshots are kept; the least
+ * recently read one makes room for a new build.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TournamentStatsStore {
+
+    private final TournamentRepository tournamentRepository;
+    private final MatchRepository matchRepository;
+    private final MatchEventRepository matchEventRepository;
+
+    private final Map<UUID, TournamentStatsSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> lastRead = new ConcurrentHashMap<>();
+    private final WriteTracker<UUID> writes = new WriteTracker<>(snapshots::containsKey);
+
+    @Value("${application.stats.snapshot-max-entries:500}")
+    private int maxSnapshots;
+
+    /**
+     * Returns the snapshot for a tournament, building it if necessary.
+     * Must be called inside a transaction when the snapshot is not yet loaded.
+     */
+    public TournamentStatsSnapshot getSnapshot(UUID tournamentId) {
+        TournamentStatsSnapshot snapshot = snapshots.get(tournamentId);
+        if (snapshot != null) {
+            lastRead.put(tournamentId, System.nanoTime());
+            return snapshot;
+        }
+
+        long stamp = writes.stamp(tournamentId);
+        TournamentStatsSnapshot built = load(tournamentId);
+
+        evictIfFull();
+        TournamentStatsSnapshot existing = snapshots.putIfAbsent(tournamentId, built);
+        if (existing != null) {
+            return existing;
+        }
+        lastRead.put(tournamentId, System.nanoTime());
+        // A write landed while we were loading; serve this build but don't keep it
+        if (!writes.unchangedSince(tournamentId, stamp)) {
+            if (snapshots.remove(tournamentId, built)) {
+                lastRead.remove(tournamentId);
+            }
+            writes.release(tournamentId);
+        }
+        return built;
+    }
+
+    public void invalidate(UUID tournamentId) {
+        writes.written(tournamentId);
+        snapshots.remove(tournamentId);
+        lastRead.remove(tournamentId);
+        writes.release(tournamentId);
+    }
+
+    // A scan is fine here: it only runs when a snapshot is built
+    private void evictIfFull() {
+        while (snapshots.size() >= maxSnapshots && !lastRead.isEmpty()) {
+            lastRead.entrySet().stream()
+                    .min(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .ifPresent(tournamentId -> {
+                        log.debug("Statistics snapshots full ({} entries), evicting {}", snapshots.size(),
+                                tournamentId);
+                        snapshots.remove(tournamentId);
+                        lastRead.remove(tournamentId);
+                        writes.release(tournamentId);
+                    });
+        }
+    }
+
+    // Writes count as in flight from publication, so a load that may see them is not kept
+    @EventListener
+    public void onEventRecording(MatchEventRecordedEvent event) {
+        writes.begin(event.tournamentId());
+    }
+
+    @EventListener
+    public void onEventRemoving(MatchEventRemovedEvent event) {
+        writes.begin(event.tournamentId());
+    }
+
+    @EventListener
+    public void onResultChanging(MatchResultChangedEvent event) {
+        writes.begin(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventRecorded(MatchEventRecordedEvent event) {
+        writes.written(event.tournamentId());
+        TournamentStatsSnapshot snapshot = snapshots.get(event.tournamentId());
+        if (snapshot != null) {
+            snapshot.applyEvent(event.matchId(), event.teamId(), event.playerId(), event.playerFirstName(),
+                    event.playerLastName(), event.teamName(), event.eventType(), 1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventRemoved(MatchEventRemovedEvent event) {
+        writes.written(event.tournamentId());
+        TournamentStatsSnapshot snapshot = snapshots.get(event.tournamentId());
+        if (snapshot != null) {
+            snapshot.applyEvent(event.matchId(), event.teamId(), event.playerId(), null, null, null,
+                    event.eventType(), -1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultChanged(MatchResultChangedEvent event) {
+        writes.written(event.tournamentId());
+        TournamentStatsSnapshot snapshot = snapshots.get(event.tournamentId());
+        if (snapshot != null
+                && !snapshot.applyResult(event.matchId(), event.status(), event.homeScore(), event.awayScore())) {
+            invalidate(event.tournamentId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureChanged(TournamentStructureChangedEvent event) {
+        invalidate(event.tournamentId());
+    }
+
+    private TournamentStatsSnapshot load(UUID tournamentId) {
+        log.debug("Building statistics snapshot for tournament {}", tournamentId);
+
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new EntityNotFoundException("Tournament not found"));
+
+        List<MatchStatsRow> matches = matchRepository.findStatsRowsByTournamentId(tournamentId);
+        List<MatchEventRow> events = matchEventRepository.findEventRowsByTournamentId(tournamentId);
+        List<PlayerNameRow> playerNames = matchEventRepository.findPlayerNamesByTournamentId(tournamentId);
+
+        return TournamentStatsKernel.aggregate(tournament.getId(), tournament.getName(), matches, events,
+                playerNames);
+    }
+}
@@ -0,0 +1,9 @@
+package com.athleticaos.backend.suspension;
+
+import java.util.UUID;
+
+/**
+ * An active suspension as held in the ledger.
+ */
+public record ActiveSuspension(UUID id, UUID teamId, UUID playerId, String reason, int matchesRemaining) {
+}
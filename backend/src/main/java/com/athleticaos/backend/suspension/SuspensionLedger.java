@@ -0,0 +1,151 @@
+package com.athleticaos.backend.suspension;
+
+import com.athleticaos.backend.cache.WriteTracker;
+import com.athleticaos.backend.events.PlayerSuspendedEvent;
+import com.athleticaos.backend.events.PlayerSuspensionChangedEvent;
+import com.athleticaos.backend.repositories.PlayerSuspensionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of active suspensions per tournament, keyed by player.
+ * A tournament is loaded with one query on first use and then kept current
+ * from committed create and serve-down writes, so suspension checks on the
+ * bench and in lineup hints are map lookups.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SuspensionLedger {
+
+    private final PlayerSuspensionRepository suspensionRepository;
+
+    private final Map<UUID, Map<UUID, List<ActiveSuspension>>> ledgers = new ConcurrentHashMap<>();
+    private final WriteTracker<UUID> writes = new WriteTracker<>(ledgers::containsKey);
+
+    public boolean isSuspended(UUID tournamentId, UUID playerId) {
+        return ledger(tournamentId).containsKey(playerId);
+    }
+
+    /**
+     * Active suspensions for a player, oldest first.
+     */
+    public List<ActiveSuspension> getActive(UUID tournamentId, UUID playerId) {
+        return ledger(tournamentId).getOrDefault(playerId, List.of());
+    }
+
+    /**
+     * The oldest active suspension of each given player that has one.
+     */
+    public Map<UUID, ActiveSuspension> getFirstActive(UUID tournamentId, Collection<UUID> playerIds) {
+        Map<UUID, List<ActiveSuspension>> ledger = ledger(tournamentId);
+        Map<UUID, ActiveSuspension> result = new HashMap<>();
+        for (UUID playerId : playerIds) {
+            List<ActiveSuspension> active = ledger.get(playerId);
+            if (active != null) {
+                result.put(playerId, active.get(0));
+            }
+        }
+        return result;
+    }
+
+    public void invalidate(UUID tournamentId) {
+        writes.written(tournamentId);
+        ledgers.remove(tournamentId);
+        writes.release(tournamentId);
+    }
+
+    // In flight from publication, so a load that may already see the write is not kept
+    @EventListener
+    public void onSuspending(PlayerSuspendedEvent event) {
+        writes.begin(event.tournamentId());
+    }
+
+    @EventListener
+    public void onServing(PlayerSuspensionChangedEvent event) {
+        writes.begin(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSuspended(PlayerSuspendedEvent event) {
+        writes.written(event.tournamentId());
+        Map<UUID, List<ActiveSuspension>> ledger = ledgers.get(event.tournamentId());
+        if (ledger == null || event.matchesRemaining() <= 0) {
+            return;
+        }
+        ActiveSuspension added = new ActiveSuspension(event.suspensionId(), event.teamId(), event.playerId(),
+                event.reason(), event.matchesRemaining());
+        ledger.compute(event.playerId(), (playerId, active) -> {
+            List<ActiveSuspension> updated = active != null ? new ArrayList<>(active) : new ArrayList<>();
+            updated.add(added);
+            return List.copyOf(updated);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServed(PlayerSuspensionChangedEvent event) {
+        writes.written(event.tournamentId());
+        Map<UUID, List<ActiveSuspension>> ledger = ledgers.get(event.tournamentId());
+        if (ledger == null) {
+            return;
+        }
+        // Mirrors the bulk UPDATE: every active suspension of the team loses one match
+        for (UUID playerId : List.copyOf(ledger.keySet())) {
+            ledger.computeIfPresent(playerId, (id, active) -> {
+                List<ActiveSuspension> updated = new ArrayList<>(active.size());
+                for (ActiveSuspension suspension : active) {
+                    if (!suspension.teamId().equals(event.teamId())) {
+                        updated.add(suspension);
+                    } else if (suspension.matchesRemaining() > 1) {
+                        updated.add(new ActiveSuspension(suspension.id(), suspension.teamId(),
+                                suspension.playerId(), suspension.reason(), suspension.matchesRemaining() - 1));
+                    }
+                }
+                return updated.isEmpty() ? null : List.copyOf(updated);
+            });
+        }
+    }
+
+    private Map<UUID, List<ActiveSuspension>> ledger(UUID tournamentId) {
+        Map<UUID, List<ActiveSuspension>> ledger = ledgers.get(tournamentId);
+        if (ledger != null) {
+            return ledger;
+        }
+
+        long stamp = writes.stamp(tournamentId);
+        Map<UUID, List<ActiveSuspension>> built = load(tournamentId);
+
+        Map<UUID, List<ActiveSuspension>> existing = ledgers.putIfAbsent(tournamentId, built);
+        if (existing != null) {
+            return existing;
+        }
+        // A write landed while we were loading; serve this build but don't keep it
+        if (!writes.unchangedSince(tournamentId, stamp)) {
+            ledgers.remove(tournamentId, built);
+            writes.release(tournamentId);
+        }
+        return built;
+    }
+
+    private Map<UUID, List<ActiveSuspension>> load(UUID tournamentId) {
+        Map<UUID, List<ActiveSuspension>> grouped = new HashMap<>();
+        for (ActiveSuspension suspension : suspensionRepository.findActiveLedgerRows(tournamentId)) {
+            grouped.computeIfAbsent(suspension.playerId(), id -> new ArrayList<>()).add(suspension);
+        }
+        Map<UUID, List<ActiveSuspension>> ledger = new ConcurrentHashMap<>();
+        grouped.forEach((playerId, active) -> ledger.put(playerId, List.copyOf(active)));
+        log.debug("Loaded {} suspended players for tournament {}", ledger.size(), tournamentId);
+        return ledger;
+    }
+}
@@ -0,0 +1,84 @@
+-- Per-tournament rollups backing the cross-tournament (career) stats endpoints
+CREATE TABLE player_tournament_stats (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    player_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    tournament_id UUID NOT NULL REFERENCES tournaments(id) ON DELETE CASCADE,
+    team_name VARCHAR(255),
+    matches_played INT NOT NULL DEFAULT 0,
+    tries INT NOT NULL DEFAULT 0,
+    conversions INT NOT NULL DEFAULT 0,
+    penalties INT NOT NULL DEFAULT 0,
+    drop_goals INT NOT NULL DEFAULT 0,
+    yellow_cards INT NOT NULL DEFAULT 0,
+    red_cards INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_player_tournament_stats UNIQUE (player_id, tournament_id)
+);
+
+CREATE TABLE team_tournament_stats (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    team_id UUID NOT NULL REFERENCES teams(id) ON DELETE CASCADE,
+    tournament_id UUID NOT NULL REFERENCES tournaments(id) ON DELETE CASCADE,
+    matches_played INT NOT NULL DEFAULT 0,
+    wins INT NOT NULL DEFAULT 0,
+    draws INT NOT NULL DEFAULT 0,
+    losses INT NOT NULL DEFAULT 0,
+    points_for INT NOT NULL DEFAULT 0,
+    points_against INT NOT NULL DEFAULT 0,
+    tries_scored INT NOT NULL DEFAULT 0,
+    yellow_cards INT NOT NULL DEFAULT 0,
+    red_cards INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_team_tournament_stats UNIQUE (team_id, tournament_id)
+);
+
+CREATE INDEX idx_player_tournament_stats_tournament ON player_tournament_stats(tournament_id);
+CREATE INDEX idx_team_tournament_stats_tournament ON team_tournament_stats(tournament_id);
+
+-- Backfill from existing events and results
+INSERT INTO player_tournament_stats (player_id, tournament_id, team_name, matches_played, tries, conversions,
+        penalties, drop_goals, yellow_cards, red_cards)
+SELECT e.player_id, m.tournament_id, MIN(t.name), COUNT(DISTINCT e.match_id),
+       COUNT(*) FILTER (WHERE e.event_type = 'TRY'),
+       COUNT(*) FILTER (WHERE e.event_type = 'CONVERSION'),
+       COUNT(*) FILTER (WHERE e.event_type = 'PENALTY'),
+       COUNT(*) FILTER (WHERE e.event_type = 'DROP_GOAL'),
+       COUNT(*) FILTER (WHERE e.event_type = 'YELLOW_CARD'),
+       COUNT(*) FILTER (WHERE e.event_type = 'RED_CARD')
+FROM match_events e
+JOIN matches m ON m.id = e.match_id
+LEFT JOIN teams t ON t.id = e.team_id
+WHERE e.player_id IS NOT NULL
+GROUP BY e.player_id, m.tournament_id;
+
+INSERT INTO team_tournament_stats (team_id, tournament_id, matches_played, wins, draws, losses, points_for,
+        points_against, tries_scored, yellow_cards, red_cards)
+SELECT r.team_id, r.tournament_id, r.played, r.wins, r.draws, r.losses, r.points_for, r.points_against,
+       COALESCE(ev.tries, 0), COALESCE(ev.yellow_cards, 0), COALESCE(ev.red_cards, 0)
+FROM (
+    SELECT x.team_id, x.tournament_id, COUNT(*) AS played,
+           COUNT(*) FILTER (WHERE x.done AND x.scored > x.conceded) AS wins,
+           COUNT(*) FILTER (WHERE x.done AND x.scored = x.conceded) AS draws,
+           COUNT(*) FILTER (WHERE x.done AND x.scored < x.conceded) AS losses,
+           COALESCE(SUM(x.scored) FILTER (WHERE x.done), 0) AS points_for,
+           COALESCE(SUM(x.conceded) FILTER (WHERE x.done), 0) AS points_against
+    FROM (
+        SELECT home_team_id AS team_id, tournament_id, home_score AS scored, away_score AS conceded,
+               (status = 'COMPLETED' AND home_score IS NOT NULL AND away_score IS NOT NULL) AS done
+        FROM matches WHERE home_team_id IS NOT NULL
+        UNION ALL
+        SELECT away_team_id, tournament_id, away_score, home_score,
+               (status = 'COMPLETED' AND home_score IS NOT NULL AND away_score IS NOT NULL)
+        FROM matches WHERE away_team_id IS NOT NULL
+    ) x
+    GROUP BY x.team_id, x.tournament_id
+) r
+LEFT JOIN (
+    SELECT e.team_id, m.tournament_id,
+           COUNT(*) FILTER (WHERE e.event_type = 'TRY') AS tries,
+           COUNT(*) FILTER (WHERE e.event_type = 'YELLOW_CARD') AS yellow_cards,
+           COUNT(*) FILTER (WHERE e.event_type = 'RED_CARD') AS red_cards
+    FROM match_events e
+    JOIN matches m ON m.id = e.match_id
+    GROUP BY e.team_id, m.tournament_id
+) ev ON ev.team_id = r.team_id AND ev.tournament_id = r.tournament_id;
@@ -0,0 +1,51 @@
+-- Monthly range partitions for audit_log; later months are created by AuditPartitionManager
+ALTER TABLE audit_log RENAME TO audit_log_unpartitioned;
+ALTER INDEX idx_audit_timestamp RENAME TO idx_audit_unpartitioned_timestamp;
+ALTER INDEX idx_audit_org RENAME TO idx_audit_unpartitioned_org;
+ALTER INDEX idx_audit_actor RENAME TO idx_audit_unpartitioned_actor;
+ALTER INDEX idx_audit_composite RENAME TO idx_audit_unpartitioned_composite;
+
+CREATE TABLE audit_log (
+    id UUID NOT NULL,
+    timestamp TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    actor_user_id UUID NOT NULL,
+    actor_email VARCHAR(255) NOT NULL,
+    actor_role VARCHAR(255) NOT NULL,
+    organisation_id UUID,
+    organisation_name VARCHAR(255),
+    action_type VARCHAR(255) NOT NULL,
+    entity_type VARCHAR(255) NOT NULL,
+    entity_id UUID NOT NULL,
+    entity_summary VARCHAR(500),
+    details_json TEXT,
+    ip_address VARCHAR(255),
+    user_agent VARCHAR(500),
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+-- Safety net for rows outside any monthly partition
+CREATE TABLE audit_log_default PARTITION OF audit_log DEFAULT;
+
+-- One partition per month from the oldest existing row through three months ahead
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT MIN(timestamp) FROM audit_log_unpartitioned), now()));
+    last_month DATE := date_trunc('month', now()) + INTERVAL '3 months';
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE audit_log_y%sm%s PARTITION OF audit_log FOR VALUES FROM (%L) TO (%L)',
+            to_char(month_start, 'YYYY'), to_char(month_start, 'MM'),
+            month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+CREATE INDEX idx_audit_timestamp_id ON audit_log (timestamp DESC, id DESC);
+CREATE INDEX idx_audit_org ON audit_log (organisation_id, timestamp DESC, id DESC);
+CREATE INDEX idx_audit_actor ON audit_log (actor_user_id, timestamp DESC, id DESC);
+CREATE INDEX idx_audit_entity ON audit_log (entity_type, entity_id, timestamp DESC, id DESC);
+
+INSERT INTO audit_log SELECT * FROM audit_log_unpartitioned;
+
+DROP TABLE audit_log_unpartitioned;
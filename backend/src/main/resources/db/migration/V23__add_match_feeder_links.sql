@@ -0,0 +1,12 @@
+-- Bracket topology: where a knockout match's winner and loser go next
+ALTER TABLE matches ADD COLUMN winner_next_match_id UUID REFERENCES matches(id) ON DELETE SET NULL;
+ALTER TABLE matches ADD COLUMN winner_next_slot VARCHAR(10);
+ALTER TABLE matches ADD COLUMN loser_next_match_id UUID REFERENCES matches(id) ON DELETE SET NULL;
+ALTER TABLE matches ADD COLUMN loser_next_slot VARCHAR(10);
+
+-- Later-round and placement matches start with TBD teams
+ALTER TABLE matches ALTER COLUMN home_team_id DROP NOT NULL;
+ALTER TABLE matches ALTER COLUMN away_team_id DROP NOT NULL;
+
+CREATE INDEX idx_matches_winner_next ON matches (winner_next_match_id);
+CREATE INDEX idx_matches_loser_next ON matches (loser_next_match_id);
@@ -0,0 +1,46 @@
+-- Pool tables maintained by delta as results are entered
+CREATE TABLE pool_standings (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    stage_id UUID NOT NULL REFERENCES tournament_stages(id) ON DELETE CASCADE,
+    team_id UUID NOT NULL REFERENCES teams(id) ON DELETE CASCADE,
+    tournament_id UUID NOT NULL REFERENCES tournaments(id) ON DELETE CASCADE,
+    played INT NOT NULL DEFAULT 0,
+    wins INT NOT NULL DEFAULT 0,
+    draws INT NOT NULL DEFAULT 0,
+    losses INT NOT NULL DEFAULT 0,
+    points_for INT NOT NULL DEFAULT 0,
+    points_against INT NOT NULL DEFAULT 0,
+    bonus_points INT NOT NULL DEFAULT 0,
+    table_points INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_pool_standings UNIQUE (stage_id, team_id)
+);
+
+CREATE INDEX idx_pool_standings_tournament ON pool_standings(tournament_id);
+
+-- Backfill from existing pool matches (win 4, draw 2, +1 bonus for 28 or more points)
+INSERT INTO pool_standings (stage_id, team_id, tournament_id, played, wins, draws, losses, points_for,
+        points_against, bonus_points, table_points)
+SELECT x.stage_id, x.team_id, x.tournament_id,
+       COUNT(*) FILTER (WHERE x.done),
+       COUNT(*) FILTER (WHERE x.done AND x.scored > x.conceded),
+       COUNT(*) FILTER (WHERE x.done AND x.scored = x.conceded),
+       COUNT(*) FILTER (WHERE x.done AND x.scored < x.conceded),
+       COALESCE(SUM(x.scored) FILTER (WHERE x.done), 0),
+       COALESCE(SUM(x.conceded) FILTER (WHERE x.done), 0),
+       COUNT(*) FILTER (WHERE x.done AND x.scored >= 28),
+       4 * COUNT(*) FILTER (WHERE x.done AND x.scored > x.conceded)
+           + 2 * COUNT(*) FILTER (WHERE x.done AND x.scored = x.conceded)
+           + COUNT(*) FILTER (WHERE x.done AND x.scored >= 28)
+FROM (
+    SELECT m.stage_id, m.home_team_id AS team_id, m.tournament_id, m.home_score AS scored, m.away_score AS conceded,
+           (m.status = 'COMPLETED' AND m.home_score IS NOT NULL AND m.away_score IS NOT NULL) AS done
+    FROM matches m JOIN tournament_stages s ON s.id = m.stage_id
+    WHERE s.is_group_stage AND m.home_team_id IS NOT NULL
+    UNION ALL
+    SELECT m.stage_id, m.away_team_id, m.tournament_id, m.away_score, m.home_score,
+           (m.status = 'COMPLETED' AND m.home_score IS NOT NULL AND m.away_score IS NOT NULL)
+    FROM matches m JOIN tournament_stages s ON s.id = m.stage_id
+    WHERE s.is_group_stage AND m.away_team_id IS NOT NULL
+) x
+GROUP BY x.stage_id, x.team_id, x.tournament_id;
@@ -0,0 +1,5 @@
+-- Idempotency key supplied by scoring clients when replaying buffered events
+ALTER TABLE match_events ADD COLUMN client_event_id VARCHAR(100);
+
+-- NULLs stay distinct, so events recorded without a key are unaffected
+ALTER TABLE match_events ADD CONSTRAINT uq_match_events_client_event UNIQUE (match_id, client_event_id);
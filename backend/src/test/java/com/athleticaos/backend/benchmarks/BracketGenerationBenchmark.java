@@ -0,0 +1,87 @@
+package com.athleticaos.backend.benchmarks;
+
+import com.athleticaos.backend.bracket.BracketPlan;
+import com.athleticaos.backend.bracket.BracketPlanner;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.enums.TournamentFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to plan a bracket in memory against team count, for pool-only,
+ * pools-plus-knockout (8 pools, as in a 40-team festival) and knockout with
+ * placement stages. Persistence is two batched saveAll calls on top of this.
+ * Run via {@link #main} on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BracketGenerationBenchmark {
+
+    @Param({ "8", "16", "40", "64", "128" })
+    public int teamCount;
+
+    private Tournament tournament;
+    private List<Team> teams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tournament = Tournament.builder()
+                .id(UUID.randomUUID())
+                .name("Festival")
+                .startDate(LocalDate.of(2026, 3, 1))
+                .endDate(LocalDate.of(2026, 3, 5))
+                .venue("Stadium")
+                .build();
+
+        teams = new ArrayList<>(teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            teams.add(Team.builder().id(UUID.randomUUID()).name("Team " + i).build());
+        }
+    }
+
+    @Benchmark
+    public BracketPlan roundRobinPools() {
+        return BracketPlanner.plan(tournament, teams, TournamentFormat.ROUND_ROBIN, Math.max(1, teamCount / 5),
+                false);
+    }
+
+    @Benchmark
+    public BracketPlan mixedEightPools() {
+        return BracketPlanner.plan(tournament, teams, TournamentFormat.MIXED, 8, true);
+    }
+
+    @Benchmark
+    public BracketPlan knockoutWithPlacement() {
+        return BracketPlanner.plan(tournament, teams, TournamentFormat.KNOCKOUT, null, true);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BracketGenerationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,147 @@
+package com.athleticaos.backend.benchmarks;
+
+import com.athleticaos.backend.bracket.BracketPlan;
+import com.athleticaos.backend.bracket.BracketPlanner;
+import com.athleticaos.backend.bracket.BracketProgression;
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.entities.TournamentStage;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.enums.TournamentFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays out a 64-team knockout with placement brackets, completing every
+ * match with a random score. Compares following the precomputed feeder links
+ * with the old lookup model, which rescanned the stage lists and used
+ * {@code indexOf} to find each winner's next match (winners only).
+ * Both sides include planning a fresh bracket per invocation.
+ * Run via {@link #main} on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KnockoutProgressionBenchmark {
+
+    private static final int TEAMS = 64;
+
+    private Tournament tournament;
+    private List<Team> teams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tournament = Tournament.builder()
+                .id(UUID.randomUUID())
+                .name("Cup")
+                .startDate(LocalDate.of(2026, 3, 1))
+                .endDate(LocalDate.of(2026, 3, 5))
+                .venue("Stadium")
+                .build();
+
+        teams = new ArrayList<>(TEAMS);
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(Team.builder().id(UUID.randomUUID()).name("Team " + i).build());
+        }
+    }
+
+    @Benchmark
+    public void linkedProgression(Blackhole bh) {
+        BracketPlan plan = BracketPlanner.plan(tournament, teams, TournamentFormat.KNOCKOUT, null, true);
+        Random random = new Random(7);
+
+        // Plan order is already feeder-first
+        for (Match match : plan.matches()) {
+            if (complete(match, random)) {
+                bh.consume(BracketProgression.advance(match));
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacyScanProgression(Blackhole bh) {
+        BracketPlan plan = BracketPlanner.plan(tournament, teams, TournamentFormat.KNOCKOUT, null, true);
+        List<TournamentStage> stages = plan.stages();
+        List<Match> allMatches = plan.matches();
+        Random random = new Random(7);
+
+        for (Match match : allMatches) {
+            if (!complete(match, random)) {
+                continue;
+            }
+
+            // What findByStageId plus indexOf did for every completed match
+            List<Match> stageMatches = matchesInStage(allMatches, match.getStage());
+            int stageIndex = stages.indexOf(match.getStage());
+            if (stageIndex + 1 >= stages.size()) {
+                continue;
+            }
+            List<Match> nextStageMatches = matchesInStage(allMatches, stages.get(stageIndex + 1));
+            if (nextStageMatches.size() != (stageMatches.size() + 1) / 2) {
+                continue;
+            }
+
+            int position = stageMatches.indexOf(match);
+            Match target = nextStageMatches.get(position / 2);
+            Team winner = match.getHomeScore() > match.getAwayScore() ? match.getHomeTeam() : match.getAwayTeam();
+            if (position % 2 == 0) {
+                target.setHomeTeam(winner);
+            } else {
+                target.setAwayTeam(winner);
+            }
+            bh.consume(target);
+        }
+    }
+
+    private static List<Match> matchesInStage(List<Match> matches, TournamentStage stage) {
+        List<Match> result = new ArrayList<>();
+        for (Match match : matches) {
+            if (match.getStage() == stage) {
+                result.add(match);
+            }
+        }
+        return result;
+    }
+
+    private static boolean complete(Match match, Random random) {
+        if (match.getHomeTeam() == null || match.getAwayTeam() == null) {
+            return false;
+        }
+        int home = random.nextInt(60);
+        int away = random.nextInt(60);
+        match.setHomeScore(home);
+        match.setAwayScore(away == home ? away + 1 : away);
+        match.setStatus(MatchStatus.COMPLETED);
+        return true;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(KnockoutProgressionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
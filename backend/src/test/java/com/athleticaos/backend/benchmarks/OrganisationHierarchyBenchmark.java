@@ -0,0 +1,120 @@
+package com.athleticaos.backend.benchmarks;
+
+import com.athleticaos.backend.cache.OrganisationHierarchy;
+import com.athleticaos.backend.cache.OrganisationParentRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves a national union's accessible organisations at 10k organisations:
+ * the original BFS issuing one children lookup per node (modelled as a scan,
+ * as each is a query against the whole table), building the index, and a
+ * lookup against a built index.
+ * Run via {@link #main} on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrganisationHierarchyBenchmark {
+
+    private static final int STATES = 16;
+    private static final int DIVISIONS_PER_STATE = 4;
+    private static final int DISTRICTS_PER_DIVISION = 5;
+
+    @Param({ "10000" })
+    public int organisations;
+
+    private UUID countryId;
+    private List<OrganisationParentRow> rows;
+    private OrganisationHierarchy hierarchy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rows = new ArrayList<>(organisations);
+        countryId = UUID.randomUUID();
+        rows.add(new OrganisationParentRow(countryId, null));
+
+        List<UUID> districts = new ArrayList<>();
+        for (int s = 0; s < STATES; s++) {
+            UUID state = add(countryId);
+            for (int d = 0; d < DIVISIONS_PER_STATE; d++) {
+                UUID division = add(state);
+                for (int t = 0; t < DISTRICTS_PER_DIVISION; t++) {
+                    districts.add(add(division));
+                }
+            }
+        }
+        // Clubs and schools fill the rest
+        for (int i = 0; rows.size() < organisations; i++) {
+            add(districts.get(i % districts.size()));
+        }
+
+        hierarchy = OrganisationHierarchy.build(rows);
+        hierarchy.subtree(countryId);
+    }
+
+    private UUID add(UUID parentId) {
+        UUID id = UUID.randomUUID();
+        rows.add(new OrganisationParentRow(id, parentId));
+        return id;
+    }
+
+    @Benchmark
+    public Set<UUID> legacyQueryPerNode() {
+        Set<UUID> accessibleIds = new HashSet<>();
+        Queue<UUID> queue = new LinkedList<>();
+        queue.add(countryId);
+        accessibleIds.add(countryId);
+
+        while (!queue.isEmpty()) {
+            UUID currentId = queue.poll();
+            for (OrganisationParentRow row : rows) {
+                if (currentId.equals(row.parentId()) && accessibleIds.add(row.id())) {
+                    queue.add(row.id());
+                }
+            }
+        }
+        return accessibleIds;
+    }
+
+    @Benchmark
+    public Set<UUID> buildAndResolve() {
+        return OrganisationHierarchy.build(rows).subtree(countryId);
+    }
+
+    @Benchmark
+    public Set<UUID> indexedLookup() {
+        return hierarchy.subtree(countryId);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OrganisationHierarchyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.athleticaos.backend.benchmarks;
+
+import com.athleticaos.backend.bracket.BracketPlan;
+import com.athleticaos.backend.bracket.BracketPlanner;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.enums.TournamentFormat;
+import com.athleticaos.backend.schedule.ScheduleProblem;
+import com.athleticaos.backend.schedule.ScheduleSolution;
+import com.athleticaos.backend.schedule.TournamentScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules a 100-team festival (20 pools of 5, knockout with placement) on
+ * 6 pitches over 3 days of 20-minute slots from 09:00 to 18:00, with 40
+ * minutes of rest. The target is well under a second for the parallel search.
+ * Run via {@link #main} on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulingBenchmark {
+
+    private static final int TEAMS = 100;
+    private static final int POOLS = 20;
+    private static final int PITCHES = 6;
+    private static final int DAYS = 3;
+    private static final int SLOTS_PER_DAY = 27;
+    private static final int REST_SLOTS = 2;
+    private static final int ITERATIONS = 400;
+
+    private ScheduleProblem problem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Tournament tournament = Tournament.builder()
+                .id(UUID.randomUUID())
+                .name("Festival")
+                .startDate(LocalDate.of(2026, 3, 1))
+                .endDate(LocalDate.of(2026, 3, 3))
+                .venue("Stadium")
+                .build();
+
+        List<Team> teams = new ArrayList<>(TEAMS);
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(Team.builder().id(UUID.randomUUID()).name("Team " + i).build());
+        }
+
+        BracketPlan plan = BracketPlanner.plan(tournament, teams, TournamentFormat.MIXED, POOLS, true);
+        problem = TournamentScheduler.problemFor(plan.matches(), PITCHES, SLOTS_PER_DAY, DAYS, REST_SLOTS);
+    }
+
+    @Benchmark
+    public ScheduleSolution greedyOnly() {
+        return TournamentScheduler.solve(problem, 1, 0);
+    }
+
+    @Benchmark
+    public ScheduleSolution singleSeedLocalSearch() {
+        return TournamentScheduler.solve(problem, 1, ITERATIONS);
+    }
+
+    @Benchmark
+    public ScheduleSolution parallelSeedsLocalSearch() {
+        return TournamentScheduler.solve(problem, Runtime.getRuntime().availableProcessors(), ITERATIONS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SchedulingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
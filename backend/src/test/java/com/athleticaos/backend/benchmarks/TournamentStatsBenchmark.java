@@ -0,0 +1,194 @@
+package com.athleticaos.backend.benchmarks;
+
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.MatchEvent;
+import com.athleticaos.backend.entities.Organisation;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.User;
+import com.athleticaos.backend.enums.MatchEventType;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.stats.MatchEventRow;
+import com.athleticaos.backend.stats.MatchStatsRow;
+import com.athleticaos.backend.stats.PlayerNameRow;
+import com.athleticaos.backend.stats.TournamentStatsKernel;
+import com.athleticaos.backend.stats.TournamentStatsSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the original per-endpoint stream aggregation over {@code MatchEvent}
+ * entities with the single-pass columnar kernel, at 10k/100k/1M events.
+ * Run via {@link #main} on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TournamentStatsBenchmark {
+
+    private static final int TEAMS = 64;
+    private static final int PLAYERS_PER_TEAM = 30;
+    private static final int EVENTS_PER_MATCH = 40;
+
+    @Param({ "10000", "100000", "1000000" })
+    public int events;
+
+    private UUID tournamentId;
+    private List<Match> matches;
+    private List<MatchStatsRow> matchRows;
+    private List<MatchEvent> eventEntities;
+    private List<MatchEventRow> eventRows;
+    private List<PlayerNameRow> playerNames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        tournamentId = UUID.randomUUID();
+        Organisation org = Organisation.builder().id(UUID.randomUUID()).name("Union").build();
+
+        List<Team> teams = new ArrayList<>();
+        List<List<User>> squads = new ArrayList<>();
+        playerNames = new ArrayList<>();
+        for (int t = 0; t < TEAMS; t++) {
+            teams.add(Team.builder().id(UUID.randomUUID()).name("Team " + t).organisation(org).build());
+            List<User> squad = new ArrayList<>();
+            for (int p = 0; p < PLAYERS_PER_TEAM; p++) {
+                User user = User.builder().id(UUID.randomUUID()).firstName("F" + p).lastName("L" + t).build();
+                squad.add(user);
+                playerNames.add(new PlayerNameRow(user.getId(), user.getFirstName(), user.getLastName()));
+            }
+            squads.add(squad);
+        }
+
+        int matchCount = Math.max(1, events / EVENTS_PER_MATCH);
+        matches = new ArrayList<>(matchCount);
+        matchRows = new ArrayList<>(matchCount);
+        for (int m = 0; m < matchCount; m++) {
+            int home = random.nextInt(TEAMS);
+            int away = (home + 1 + random.nextInt(TEAMS - 1)) % TEAMS;
+            matches.add(Match.builder()
+                    .id(UUID.randomUUID())
+                    .homeTeam(teams.get(home))
+                    .awayTeam(teams.get(away))
+                    .status(MatchStatus.COMPLETED)
+                    .homeScore(random.nextInt(50))
+                    .awayScore(random.nextInt(50))
+                    .build());
+            Match match = matches.get(m);
+            matchRows.add(new MatchStatsRow(match.getId(),
+                    match.getHomeTeam().getId(), match.getHomeTeam().getName(), org.getName(),
+                    match.getAwayTeam().getId(), match.getAwayTeam().getName(), org.getName(),
+                    match.getStatus(), match.getHomeScore(), match.getAwayScore()));
+        }
+
+        MatchEventType[] types = MatchEventType.values();
+        eventEntities = new ArrayList<>(events);
+        eventRows = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            Match match = matches.get(Math.min(i / EVENTS_PER_MATCH, matchCount - 1));
+            boolean homeSide = random.nextBoolean();
+            Team team = homeSide ? match.getHomeTeam() : match.getAwayTeam();
+            int teamIdx = teams.indexOf(team);
+            User player = squads.get(teamIdx).get(random.nextInt(PLAYERS_PER_TEAM));
+            MatchEventType type = types[random.nextInt(types.length)];
+
+            eventEntities.add(MatchEvent.builder()
+                    .id(UUID.randomUUID())
+                    .match(match)
+                    .team(team)
+                    .player(player)
+                    .eventType(type)
+                    .build());
+            eventRows.add(new MatchEventRow(match.getId(), team.getId(), player.getId(), type));
+        }
+    }
+
+    @Benchmark
+    public void legacyEntityStreams(Blackhole bh) {
+        // Summary
+        bh.consume(matches.stream().filter(m -> m.getStatus() == MatchStatus.COMPLETED).count());
+        bh.consume(countEvents(eventEntities, MatchEventType.TRY));
+        bh.consume(countEvents(eventEntities, MatchEventType.YELLOW_CARD));
+        bh.consume(countEvents(eventEntities, MatchEventType.RED_CARD));
+        bh.consume(eventEntities.stream().mapToInt(e -> e.getEventType().getPoints()).sum());
+
+        // Players
+        Map<UUID, List<MatchEvent>> byPlayer = eventEntities.stream()
+                .filter(e -> e.getPlayer() != null)
+                .collect(Collectors.groupingBy(e -> e.getPlayer().getId()));
+        for (List<MatchEvent> playerEvents : byPlayer.values()) {
+            bh.consume(countEvents(playerEvents, MatchEventType.TRY));
+            bh.consume(countEvents(playerEvents, MatchEventType.CONVERSION));
+            bh.consume(countEvents(playerEvents, MatchEventType.PENALTY));
+            bh.consume(countEvents(playerEvents, MatchEventType.DROP_GOAL));
+            bh.consume(countEvents(playerEvents, MatchEventType.YELLOW_CARD));
+            bh.consume(countEvents(playerEvents, MatchEventType.RED_CARD));
+            bh.consume(playerEvents.stream().mapToInt(e -> e.getEventType().getPoints()).sum());
+            bh.consume(playerEvents.stream().map(e -> e.getMatch().getId()).distinct().count());
+        }
+
+        // Teams
+        Set<Team> teams = new HashSet<>();
+        matches.forEach(m -> {
+            teams.add(m.getHomeTeam());
+            teams.add(m.getAwayTeam());
+        });
+        for (Team team : teams) {
+            UUID teamId = team.getId();
+            bh.consume(matches.stream()
+                    .filter(m -> m.getHomeTeam().getId().equals(teamId) || m.getAwayTeam().getId().equals(teamId))
+                    .count());
+            List<MatchEvent> teamEvents = eventEntities.stream()
+                    .filter(e -> e.getTeam().getId().equals(teamId))
+                    .toList();
+            bh.consume(countEvents(teamEvents, MatchEventType.TRY));
+            bh.consume(countEvents(teamEvents, MatchEventType.YELLOW_CARD));
+            bh.consume(countEvents(teamEvents, MatchEventType.RED_CARD));
+        }
+    }
+
+    @Benchmark
+    public void columnarKernel(Blackhole bh) {
+        TournamentStatsSnapshot snapshot = TournamentStatsKernel.aggregate(
+                tournamentId, "Benchmark", matchRows, eventRows, playerNames);
+        bh.consume(snapshot.toSummary());
+        bh.consume(snapshot.toPlayerStats());
+        bh.consume(snapshot.toTeamStats());
+    }
+
+    private static long countEvents(List<MatchEvent> events, MatchEventType type) {
+        return events.stream().filter(e -> e.getEventType() == type).count();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TournamentStatsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
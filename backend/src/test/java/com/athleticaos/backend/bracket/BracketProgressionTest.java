@@ -0,0 +1,107 @@
+package com.athleticaos.backend.bracket;
+
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.enums.MatchSlot;
+import com.athleticaos.backend.enums.MatchStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BracketProgressionTest {
+
+    private final Team home = team("Home");
+    private final Team away = team("Away");
+
+    @Test
+    void advance_DecidedMatch_ShouldPlaceWinnerAndLoser() {
+        Match cupFinal = scheduled();
+        Match plateFinal = scheduled();
+        Match semi = completed(24, 10);
+        semi.setWinnerNextMatch(cupFinal);
+        semi.setWinnerNextSlot(MatchSlot.AWAY);
+        semi.setLoserNextMatch(plateFinal);
+        semi.setLoserNextSlot(MatchSlot.HOME);
+
+        List<Match> changed = BracketProgression.advance(semi);
+
+        assertThat(changed).containsExactly(cupFinal, plateFinal);
+        assertThat(cupFinal.getAwayTeam()).isSameAs(home);
+        assertThat(plateFinal.getHomeTeam()).isSameAs(away);
+    }
+
+    @Test
+    void advance_Draw_ShouldNotProgress() {
+        Match next = scheduled();
+        Match semi = completed(12, 12);
+        semi.setWinnerNextMatch(next);
+        semi.setWinnerNextSlot(MatchSlot.HOME);
+
+        assertThat(BracketProgression.isDecided(semi)).isFalse();
+        assertThat(BracketProgression.advance(semi)).isEmpty();
+        assertThat(next.getHomeTeam()).isNull();
+    }
+
+    @Test
+    void advance_SameTeamAlreadyPlaced_ShouldReportNoChange() {
+        Match next = scheduled();
+        next.setHomeTeam(home);
+        Match semi = completed(20, 5);
+        semi.setWinnerNextMatch(next);
+        semi.setWinnerNextSlot(MatchSlot.HOME);
+
+        assertThat(BracketProgression.advance(semi)).isEmpty();
+    }
+
+    @Test
+    void advance_CorrectedResult_ShouldReplacePreviousWinner() {
+        Match next = scheduled();
+        next.setHomeTeam(home);
+        Match semi = completed(5, 20);
+        semi.setWinnerNextMatch(next);
+        semi.setWinnerNextSlot(MatchSlot.HOME);
+
+        assertThat(BracketProgression.advance(semi)).containsExactly(next);
+        assertThat(next.getHomeTeam()).isSameAs(away);
+    }
+
+    @Test
+    void advance_TargetAlreadyStarted_ShouldLeaveItAlone() {
+        Match next = scheduled();
+        next.setStatus(MatchStatus.ONGOING);
+        Match semi = completed(20, 5);
+        semi.setWinnerNextMatch(next);
+        semi.setWinnerNextSlot(MatchSlot.HOME);
+
+        assertThat(BracketProgression.advance(semi)).isEmpty();
+        assertThat(next.getHomeTeam()).isNull();
+    }
+
+    private Match completed(int homeScore, int awayScore) {
+        return Match.builder()
+                .id(UUID.randomUUID())
+                .homeTeam(home)
+                .awayTeam(away)
+                .status(MatchStatus.COMPLETED)
+                .homeScore(homeScore)
+                .awayScore(awayScore)
+                .build();
+    }
+
+    private static Match scheduled() {
+        return Match.builder()
+                .id(UUID.randomUUID())
+                .status(MatchStatus.SCHEDULED)
+                .build();
+    }
+
+    private static Team team(String name) {
+        return Team.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.athleticaos.backend.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AfterCommitBatchTest {
+
+    private final List<Set<String>> flushed = new ArrayList<>();
+    private final AfterCommitBatch<String> batch = new AfterCommitBatch<>("test", flushed::add);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void add_WithoutTransaction_ShouldFlushImmediately() {
+        batch.add("a");
+
+        assertThat(flushed).containsExactly(Set.of("a"));
+    }
+
+    @Test
+    void add_ManyInOneTransaction_ShouldFlushOnceAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        batch.add("a");
+        batch.add("b");
+        batch.add("a");
+
+        assertThat(flushed).isEmpty();
+        commit();
+
+        assertThat(flushed).containsExactly(Set.of("a", "b"));
+    }
+
+    @Test
+    void add_RolledBack_ShouldNotFlush() {
+        TransactionSynchronizationManager.initSynchronization();
+        batch.add("a");
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(flushed).isEmpty();
+    }
+
+    @Test
+    void add_AfterFlush_ShouldFlushImmediately() {
+        TransactionSynchronizationManager.initSynchronization();
+        batch.add("a");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        batch.add("b");
+
+        assertThat(flushed).containsExactly(Set.of("a"), Set.of("b"));
+    }
+
+    @Test
+    void add_FlushFails_ShouldNotPropagate() {
+        AfterCommitBatch<String> failing = new AfterCommitBatch<>("test", items -> {
+            throw new IllegalStateException("boom");
+        });
+
+        failing.add("a");
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
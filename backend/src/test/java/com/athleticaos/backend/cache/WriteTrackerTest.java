@@ -0,0 +1,120 @@
+package com.athleticaos.backend.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WriteTrackerTest {
+
+    private final WriteTracker<UUID> writes = new WriteTracker<>();
+    private final UUID key = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void unchangedSince_NoWrites_ShouldKeepLoad() {
+        long stamp = writes.stamp(key);
+
+        assertThat(writes.unchangedSince(key, stamp)).isTrue();
+    }
+
+    @Test
+    void unchangedSince_WriteCommittedDuringLoad_ShouldDropLoad() {
+        long stamp = writes.stamp(key);
+        writes.written(key);
+
+        assertThat(writes.unchangedSince(key, stamp)).isFalse();
+    }
+
+    @Test
+    void unchangedSince_CommittedButListenerNotRun_ShouldDropLoad() {
+        TransactionSynchronizationManager.initSynchronization();
+        writes.begin(key);
+
+        // The load starts after the commit but before the after-commit listener
+        long stamp = writes.stamp(key);
+
+        assertThat(writes.unchangedSince(key, stamp)).isFalse();
+    }
+
+    @Test
+    void unchangedSince_TransactionCompleted_ShouldKeepLaterLoad() {
+        TransactionSynchronizationManager.initSynchronization();
+        writes.begin(key);
+        writes.written(key);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        long stamp = writes.stamp(key);
+
+        assertThat(writes.unchangedSince(key, stamp)).isTrue();
+    }
+
+    @Test
+    void unchangedSince_RolledBack_ShouldKeepLoad() {
+        long stamp = writes.stamp(key);
+        TransactionSynchronizationManager.initSynchronization();
+        writes.begin(key);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(writes.unchangedSince(key, stamp)).isTrue();
+    }
+
+    @Test
+    void begin_WithoutTransaction_ShouldNotBlockLoads() {
+        writes.begin(key);
+
+        assertThat(writes.unchangedSince(key, writes.stamp(key))).isTrue();
+    }
+
+    @Test
+    void written_NoViewHeld_ShouldDropStateButStillRefuseOlderLoad() {
+        long stamp = writes.stamp(key);
+        writes.written(key);
+
+        assertThat(writes.trackedKeys()).isZero();
+        assertThat(writes.unchangedSince(key, stamp)).isFalse();
+        assertThat(writes.unchangedSince(key, writes.stamp(key))).isTrue();
+    }
+
+    @Test
+    void written_ViewHeld_ShouldKeepStateUntilReleased() {
+        Set<UUID> views = new HashSet<>(Set.of(key));
+        WriteTracker<UUID> tracked = new WriteTracker<>(views::contains);
+
+        tracked.written(key);
+        assertThat(tracked.trackedKeys()).isEqualTo(1);
+
+        views.remove(key);
+        tracked.release(key);
+        assertThat(tracked.trackedKeys()).isZero();
+    }
+
+    @Test
+    void begin_InFlight_ShouldKeepStateUntilCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        writes.begin(key);
+        writes.written(key);
+
+        assertThat(writes.trackedKeys()).isEqualTo(1);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(writes.trackedKeys()).isZero();
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -141,4 +141,42 @@ public class AuditControllerTest {
         mockMvc.perform(get("/api/v1/audit/recent/user/" + targetUserId))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ORG_ADMIN")
+    void getRecentForUser_OtherUserOutsideAccessibleOrgs_ShouldFail() throws Exception {
+        UUID targetUserId = UUID.randomUUID();
+
+        User currentUser = new User();
+        currentUser.setId(UUID.randomUUID());
+
+        UserResponse targetUserResponse = UserResponse.builder()
+                .id(targetUserId)
+                .organisationId(UUID.randomUUID())
+                .build();
+
+        when(userService.getCurrentUser()).thenReturn(currentUser);
+        when(userService.getUserById(targetUserId)).thenReturn(targetUserResponse);
+        when(userService.getAccessibleOrgIdsForCurrentUser()).thenReturn(Set.of(UUID.randomUUID()));
+
+        mockMvc.perform(get("/api/v1/audit/recent/user/" + targetUserId))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "root", roles = "SUPER_ADMIN")
+    void getRecentForUser_SuperAdmin_ShouldSucceed() throws Exception {
+        UUID targetUserId = UUID.randomUUID();
+
+        User currentUser = new User();
+        currentUser.setId(UUID.randomUUID());
+
+        when(userService.getCurrentUser()).thenReturn(currentUser);
+        when(userService.getAccessibleOrgIdsForCurrentUser()).thenReturn(null);
+        when(auditLogService.getRecentForUser(eq(targetUserId), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        mockMvc.perform(get("/api/v1/audit/recent/user/" + targetUserId))
+                .andExpect(status().isOk());
+    }
 }
@@ -0,0 +1,226 @@
+package com.athleticaos.backend.live;
+
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.enums.MatchEventType;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.repositories.MatchEventRepository;
+import com.athleticaos.backend.repositories.MatchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LiveMatchSessionsTest {
+
+    private static final String INSERT = "INSERT INTO match_events";
+    private static final String UPDATE = "UPDATE matches";
+
+    private final Team home = Team.builder().id(UUID.randomUUID()).name("Home").build();
+    private final Team away = Team.builder().id(UUID.randomUUID()).name("Away").build();
+    private final Match match = Match.builder()
+            .id(UUID.randomUUID())
+            .tournament(Tournament.builder().id(UUID.randomUUID()).name("Cup").build())
+            .homeTeam(home)
+            .awayTeam(away)
+            .status(MatchStatus.ONGOING)
+            .homeScore(0)
+            .awayScore(0)
+            .build();
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private MatchEventRepository matchEventRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LiveMatchSessions sessions;
+
+    @BeforeEach
+    void setUp() {
+        sessions = new LiveMatchSessions(matchRepository, matchEventRepository, jdbcTemplate, eventPublisher,
+                transactionManager);
+        // No writer thread: batches are written by explicit flushes only
+        ReflectionTestUtils.setField(sessions, "queue", new ArrayBlockingQueue<>(100));
+        ReflectionTestUtils.setField(sessions, "batchSize", 200);
+        ReflectionTestUtils.setField(sessions, "maxAttempts", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void closeUntilCommit_ShouldKeepSessionClosedUntilTransactionCompletes() {
+        when(matchEventRepository.findLiveEventsByMatchId(match.getId())).thenReturn(List.of());
+        sessions.open(match);
+        TransactionSynchronizationManager.initSynchronization();
+
+        sessions.closeUntilCommit(match.getId());
+
+        assertThat(sessions.find(match.getId())).isNull();
+        assertThat(sessions.open(match)).isNull();
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(sessions.open(match)).isNotNull();
+        verify(matchEventRepository, times(2)).findLiveEventsByMatchId(match.getId());
+    }
+
+    @Test
+    void close_RecordedEvents_ShouldWriteEventsThenScoreAndCloseSession() {
+        when(matchEventRepository.findLiveEventsByMatchId(match.getId())).thenReturn(List.of());
+        LiveMatchSession session = sessions.open(match);
+
+        sessions.record(session, event(home, MatchEventType.TRY));
+        sessions.record(session, event(home, MatchEventType.CONVERSION));
+        verify(jdbcTemplate, never()).batchUpdate(any(String.class), anyList());
+
+        sessions.close(match.getId());
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).batchUpdate(startsWith(INSERT), anyList());
+        order.verify(jdbcTemplate).update(startsWith(UPDATE), eq(7), eq(0), eq(match.getId()));
+        assertThat(sessions.find(match.getId())).isNull();
+        assertThat(session.unpersisted().get()).isZero();
+    }
+
+    @Test
+    void flushAll_ScoreUnchanged_ShouldOnlyWriteEvents() {
+        when(matchEventRepository.findLiveEventsByMatchId(match.getId())).thenReturn(List.of());
+        LiveMatchSession session = sessions.open(match);
+
+        sessions.record(session, event(home, MatchEventType.TRY));
+        sessions.flushAll();
+        sessions.record(session, event(away, MatchEventType.YELLOW_CARD));
+        sessions.flushAll();
+
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith(INSERT), anyList());
+        verify(jdbcTemplate, times(1)).update(startsWith(UPDATE), anyInt(), anyInt(), any(UUID.class));
+        assertThat(session.persistedHomeScore()).isEqualTo(5);
+        assertThat(sessions.find(match.getId())).isSameAs(session);
+    }
+
+    @Test
+    void recover_OngoingMatch_ShouldRebuildSessionFromMatchEvents() {
+        when(matchRepository.findByStatus(MatchStatus.ONGOING)).thenReturn(List.of(match));
+        when(matchRepository.findById(match.getId())).thenReturn(Optional.of(match));
+        when(matchEventRepository.findLiveEventsByMatchId(match.getId())).thenReturn(List.of(
+                event(home, MatchEventType.TRY),
+                event(away, MatchEventType.PENALTY),
+                event(home, MatchEventType.CONVERSION)));
+
+        sessions.recover();
+
+        LiveMatchSession session = sessions.find(match.getId());
+        assertThat(session).isNotNull();
+        assertThat(session.events()).hasSize(3);
+        assertThat(session.homeScore()).isEqualTo(7);
+        assertThat(session.awayScore()).isEqualTo(3);
+        // Lazy teams are read inside a transaction
+        verify(transactionManager, atLeastOnce()).getTransaction(any());
+    }
+
+    @Test
+    void close_RowKeepsFailing_ShouldGiveUpOnItAndSaveTheRest() {
+        when(matchEventRepository.findLiveEventsByMatchId(match.getId())).thenReturn(List.of());
+        LiveMatchSession session = sessions.open(match);
+        LiveEvent bad = event(away, MatchEventType.TRY);
+        when(jdbcTemplate.batchUpdate(startsWith(INSERT), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            if (rows.stream().anyMatch(row -> bad.id().equals(row[0]))) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            return new int[rows.size()];
+        });
+
+        sessions.record(session, event(home, MatchEventType.TRY));
+        sessions.record(session, bad);
+        sessions.record(session, event(home, MatchEventType.CONVERSION));
+        sessions.close(match.getId());
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update(startsWith(UPDATE), eq(5), eq(0), eq(match.getId()));
+        order.verify(jdbcTemplate).update(startsWith(UPDATE), eq(7), eq(5), eq(match.getId()));
+        // The lost try is taken back out of the written score
+        order.verify(jdbcTemplate).update(startsWith(UPDATE), eq(7), eq(0), eq(match.getId()));
+        assertThat(session.events()).extracting(LiveEvent::id).doesNotContain(bad.id());
+        assertThat(session.awayScore()).isZero();
+        assertThat(session.unpersisted().get()).isZero();
+        assertThat(sessions.find(match.getId())).isNull();
+    }
+
+    @Test
+    void flushAll_FailedRow_ShouldNotHoldBackLaterRows() {
+        when(matchEventRepository.findLiveEventsByMatchId(match.getId())).thenReturn(List.of());
+        LiveMatchSession session = sessions.open(match);
+        LiveEvent bad = event(home, MatchEventType.OTHER);
+        when(jdbcTemplate.batchUpdate(startsWith(INSERT), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            if (rows.stream().anyMatch(row -> bad.id().equals(row[0]))) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            return new int[rows.size()];
+        });
+
+        sessions.record(session, bad);
+        sessions.flushAll();
+        sessions.record(session, event(away, MatchEventType.TRY));
+        sessions.flushAll();
+        sessions.flushAll();
+
+        verify(jdbcTemplate).update(startsWith(UPDATE), eq(0), eq(5), eq(match.getId()));
+        assertThat(session.events()).hasSize(1);
+        assertThat(session.unpersisted().get()).isZero();
+    }
+
+    private static LiveEvent event(Team team, MatchEventType type) {
+        return new LiveEvent(UUID.randomUUID(), team.getId(), null, null, null, type, 10, null,
+                LocalDateTime.now());
+    }
+}
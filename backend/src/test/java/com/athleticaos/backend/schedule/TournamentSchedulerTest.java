@@ -0,0 +1,129 @@
+package com.athleticaos.backend.schedule;
+
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.TournamentStage;
+import com.athleticaos.backend.enums.MatchSlot;
+import com.athleticaos.backend.enums.MatchStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TournamentSchedulerTest {
+
+    private static final int SLOTS_PER_DAY = 10;
+    private static final int DAYS = 2;
+    private static final int REST_SLOTS = 2;
+
+    private final Team a = team("A");
+    private final Team b = team("B");
+    private final Team c = team("C");
+    private final Team d = team("D");
+
+    @Test
+    void solve_NothingPlayed_ShouldStartAtFirstSlot() {
+        ScheduleProblem problem = TournamentScheduler.problemFor(List.of(pool(a, b), pool(c, d)), List.of(), 2,
+                SLOTS_PER_DAY, DAYS, REST_SLOTS, 4);
+
+        ScheduleSolution solution = TournamentScheduler.solve(problem, 1, 0);
+
+        assertThat(solution.slot()).containsExactly(4, 4);
+        assertThat(solution.pitch()).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    void solve_OngoingMatch_ShouldHoldItsPitch() {
+        Match ongoing = pool(a, b);
+        ongoing.setStatus(MatchStatus.ONGOING);
+        ScheduleProblem problem = TournamentScheduler.problemFor(List.of(pool(c, d)),
+                List.of(new FixedMatch(ongoing, 4, 0)), 2, SLOTS_PER_DAY, DAYS, REST_SLOTS, 4);
+
+        ScheduleSolution solution = TournamentScheduler.solve(problem, 1, 0);
+
+        assertThat(solution.slot()).containsExactly(4);
+        assertThat(solution.pitch()).containsExactly(1);
+    }
+
+    @Test
+    void solve_AllPitchesHeld_ShouldMoveToNextSlot() {
+        ScheduleProblem problem = TournamentScheduler.problemFor(List.of(pool(c, d)),
+                List.of(new FixedMatch(ongoing(a, b), 4, -1)), 1, SLOTS_PER_DAY, DAYS, REST_SLOTS, 4);
+
+        ScheduleSolution solution = TournamentScheduler.solve(problem, 1, 0);
+
+        assertThat(solution.slot()).containsExactly(5);
+    }
+
+    @Test
+    void solve_TeamPlayedRecently_ShouldRespectRestGap() {
+        ScheduleProblem problem = TournamentScheduler.problemFor(List.of(pool(a, c), pool(b, d)),
+                List.of(new FixedMatch(ongoing(a, b), 3, 0)), 4, SLOTS_PER_DAY, DAYS, REST_SLOTS, 4);
+
+        ScheduleSolution solution = TournamentScheduler.solve(problem, 1, 0);
+
+        assertThat(solution.slot()).containsExactly(6, 6);
+    }
+
+    @Test
+    void solve_PoolStillPlaying_ShouldHoldBackKnockout() {
+        Match ongoing = ongoing(a, b);
+        Match semi = knockout(null, null);
+        ScheduleProblem problem = TournamentScheduler.problemFor(List.of(semi),
+                List.of(new FixedMatch(ongoing, 5, 0)), 2, SLOTS_PER_DAY, DAYS, REST_SLOTS, 4);
+
+        ScheduleSolution solution = TournamentScheduler.solve(problem, 1, 0);
+
+        assertThat(solution.slot()).containsExactly(8);
+    }
+
+    @Test
+    void solve_CompletedFeeder_ShouldKeepKnockoutLevels() {
+        Match semi = knockout(a, b);
+        semi.setStatus(MatchStatus.COMPLETED);
+        Match cupFinal = knockout(a, null);
+        semi.setWinnerNextMatch(cupFinal);
+        semi.setWinnerNextSlot(MatchSlot.HOME);
+
+        ScheduleProblem problem = TournamentScheduler.problemFor(List.of(cupFinal),
+                List.of(new FixedMatch(semi, 2, 0)), 1, SLOTS_PER_DAY, DAYS, REST_SLOTS, 4);
+
+        assertThat(problem.level()).containsExactly(1);
+        assertThat(problem.fixedLevel()).containsExactly(0);
+        assertThat(TournamentScheduler.solve(problem, 1, 0).slot()).containsExactly(5);
+    }
+
+    private static Match pool(Team home, Team away) {
+        return Match.builder()
+                .id(UUID.randomUUID())
+                .homeTeam(home)
+                .awayTeam(away)
+                .stage(poolStage())
+                .build();
+    }
+
+    private static Match ongoing(Team home, Team away) {
+        Match match = pool(home, away);
+        match.setStatus(MatchStatus.ONGOING);
+        return match;
+    }
+
+    private static Match knockout(Team home, Team away) {
+        return Match.builder()
+                .id(UUID.randomUUID())
+                .homeTeam(home)
+                .awayTeam(away)
+                .stage(TournamentStage.builder().isGroupStage(false).isKnockoutStage(true).build())
+                .build();
+    }
+
+    private static TournamentStage poolStage() {
+        return TournamentStage.builder().isGroupStage(true).isKnockoutStage(false).build();
+    }
+
+    private static Team team(String name) {
+        return Team.builder().id(UUID.randomUUID()).name(name).build();
+    }
+}
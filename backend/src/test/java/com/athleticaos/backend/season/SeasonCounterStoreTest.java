@@ -0,0 +1,110 @@
+package com.athleticaos.backend.season;
+
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.MatchResultChangedEvent;
+import com.athleticaos.backend.events.TournamentDetailsChangedEvent;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.TournamentPlayerRepository;
+import com.athleticaos.backend.repositories.TournamentRepository;
+import com.athleticaos.backend.repositories.TournamentTeamRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SeasonCounterStoreTest {
+
+    private final UUID seasonId = UUID.randomUUID();
+    private final UUID tournamentId = UUID.randomUUID();
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private TournamentTeamRepository tournamentTeamRepository;
+
+    @Mock
+    private TournamentPlayerRepository tournamentPlayerRepository;
+
+    @InjectMocks
+    private SeasonCounterStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void onResultChanged_Completion_ShouldAdjustCachedCount() {
+        stubCounts(2);
+        when(tournamentRepository.findSeasonIdById(tournamentId)).thenReturn(Optional.of(seasonId));
+        store.getCounters(seasonId);
+
+        store.onResultChanged(result(MatchStatus.SCHEDULED, MatchStatus.COMPLETED));
+
+        assertThat(store.getCounters(seasonId).getCompletedMatches()).isEqualTo(3);
+        verify(matchRepository, times(1)).countMatchesBySeasonIds(anyCollection());
+    }
+
+    @Test
+    void getCounters_ResultInFlight_ShouldNotKeepCount() {
+        stubCounts(3);
+        when(tournamentRepository.findSeasonIdById(tournamentId)).thenReturn(Optional.of(seasonId));
+        TransactionSynchronizationManager.initSynchronization();
+        MatchResultChangedEvent event = result(MatchStatus.SCHEDULED, MatchStatus.COMPLETED);
+        store.onResultChanging(event);
+
+        // Counted after the commit, before the after-commit listener ran
+        assertThat(store.getCounters(seasonId).getCompletedMatches()).isEqualTo(3);
+        store.onResultChanged(event);
+
+        assertThat(store.getCounters(seasonId).getCompletedMatches()).isEqualTo(3);
+        verify(matchRepository, times(2)).countMatchesBySeasonIds(anyCollection());
+    }
+
+    @Test
+    void onDetailsChanged_MovedSeason_ShouldRecountBothSeasons() {
+        UUID newSeasonId = UUID.randomUUID();
+        stubCounts(0);
+        store.getCounters(seasonId);
+        store.getCounters(newSeasonId);
+
+        store.onDetailsChanged(new TournamentDetailsChangedEvent(tournamentId, seasonId, newSeasonId));
+        store.getCounters(seasonId);
+        store.getCounters(newSeasonId);
+
+        verify(matchRepository, times(4)).countMatchesBySeasonIds(anyCollection());
+    }
+
+    private void stubCounts(long completed) {
+        when(tournamentRepository.countBySeasonIds(anyCollection())).thenReturn(List.of());
+        when(tournamentTeamRepository.countTeamsBySeasonIds(anyCollection())).thenReturn(List.of());
+        when(tournamentPlayerRepository.countActivePlayersBySeasonIds(anyCollection())).thenReturn(List.of());
+        when(matchRepository.countMatchesBySeasonIds(anyCollection()))
+                .thenReturn(List.of(new SeasonMatchCountRow(seasonId, 10L, completed)));
+    }
+
+    private MatchResultChangedEvent result(MatchStatus previous, MatchStatus status) {
+        return new MatchResultChangedEvent(tournamentId, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                previous, null, null, status, 20, 10);
+    }
+}
@@ -0,0 +1,51 @@
+package com.athleticaos.backend.security;
+
+import com.athleticaos.backend.events.UserAccountChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, UserDetails> loader = email -> {
+        loads.incrementAndGet();
+        return new User(email, "hash", List.of());
+    };
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache();
+        ReflectionTestUtils.setField(principalCache, "ttlMillis", 60_000L);
+        ReflectionTestUtils.setField(principalCache, "maxEntries", 100);
+    }
+
+    @Test
+    void get_Cached_ShouldNotReload() {
+        principalCache.get("a@example.com", loader);
+        principalCache.get("a@example.com", loader);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void onUserAccountChanged_EmailChanged_ShouldEvictBothEmails() {
+        principalCache.get("old@example.com", loader);
+        principalCache.get("new@example.com", loader);
+
+        principalCache.onUserAccountChanged(new UserAccountChangedEvent("new@example.com", "old@example.com"));
+        principalCache.get("old@example.com", loader);
+        principalCache.get("new@example.com", loader);
+
+        assertThat(loads).hasValue(4);
+    }
+}
@@ -0,0 +1,65 @@
+package com.athleticaos.backend.services;
+
+import com.athleticaos.backend.cache.OrganisationHierarchyIndex;
+import com.athleticaos.backend.entities.Organisation;
+import com.athleticaos.backend.entities.Role;
+import com.athleticaos.backend.entities.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UserServiceTest {
+
+    @Mock
+    private OrganisationHierarchyIndex organisationHierarchyIndex;
+
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    void resolveAccessibleOrganisationIds_SuperAdmin_ShouldReturnNull() {
+        User user = userWithRole("ROLE_SUPER_ADMIN", UUID.randomUUID());
+
+        assertThat(userService.resolveAccessibleOrganisationIds(user)).isNull();
+        verifyNoInteractions(organisationHierarchyIndex);
+    }
+
+    @Test
+    void resolveAccessibleOrganisationIds_NoOrganisation_ShouldReturnEmpty() {
+        User user = userWithRole("ROLE_ORG_ADMIN", null);
+
+        assertThat(userService.resolveAccessibleOrganisationIds(user)).isEmpty();
+    }
+
+    @Test
+    void resolveAccessibleOrganisationIds_OrgAdmin_ShouldReturnSubtree() {
+        UUID orgId = UUID.randomUUID();
+        UUID childOrgId = UUID.randomUUID();
+        User user = userWithRole("ROLE_ORG_ADMIN", orgId);
+        when(organisationHierarchyIndex.getSubtree(orgId)).thenReturn(Set.of(orgId, childOrgId));
+
+        assertThat(userService.resolveAccessibleOrganisationIds(user)).containsExactlyInAnyOrder(orgId, childOrgId);
+    }
+
+    private User userWithRole(String roleName, UUID orgId) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setRoles(Set.of(Role.builder().name(roleName).build()));
+        if (orgId != null) {
+            Organisation organisation = new Organisation();
+            organisation.setId(orgId);
+            user.setOrganisation(organisation);
+        }
+        return user;
+    }
+}
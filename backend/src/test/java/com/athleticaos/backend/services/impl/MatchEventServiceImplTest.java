@@ -0,0 +1,171 @@
+package com.athleticaos.backend.services.impl;
+
+import com.athleticaos.backend.audit.AuditLogger;
+import com.athleticaos.backend.dtos.match.MatchEventBatchItem;
+import com.athleticaos.backend.dtos.match.MatchEventBatchRequest;
+import com.athleticaos.backend.dtos.match.MatchEventBatchResponse;
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.enums.MatchEventType;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.MatchEventRecordedEvent;
+import com.athleticaos.backend.live.LiveMatchSessions;
+import com.athleticaos.backend.repositories.MatchEventRepository;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.TeamRepository;
+import com.athleticaos.backend.repositories.TournamentRepository;
+import com.athleticaos.backend.repositories.UserRepository;
+import com.athleticaos.backend.services.PlayerSuspensionService;
+import com.athleticaos.backend.suspension.SuspensionLedger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MatchEventServiceImplTest {
+
+    private final Team home = Team.builder().id(UUID.randomUUID()).name("Home").build();
+    private final Team away = Team.builder().id(UUID.randomUUID()).name("Away").build();
+    private final Match match = Match.builder()
+            .id(UUID.randomUUID())
+            .tournament(Tournament.builder().id(UUID.randomUUID()).name("Cup").build())
+            .homeTeam(home)
+            .awayTeam(away)
+            .status(MatchStatus.ONGOING)
+            .build();
+
+    @Mock
+    private MatchEventRepository matchEventRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AuditLogger auditLogger;
+
+    @Mock
+    private PlayerSuspensionService suspensionService;
+
+    @Mock
+    private SuspensionLedger suspensionLedger;
+
+    @Mock
+    private LiveMatchSessions liveMatchSessions;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private MatchEventServiceImpl matchEventService;
+
+    @Test
+    void addEventsToMatch_ReplayedAndRepeatedKeys_ShouldInsertOnlyNewEvents() {
+        when(matchRepository.findById(match.getId())).thenReturn(Optional.of(match));
+        when(matchEventRepository.findExistingClientEventIds(eq(match.getId()), anySet())).thenReturn(List.of("b"));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1, 1});
+
+        MatchEventBatchResponse response = matchEventService.addEventsToMatch(match.getId(),
+                request(item("a", home), item("b", away), item("a", home), item("c", away)), null);
+
+        assertThat(response.getReceived()).isEqualTo(4);
+        assertThat(response.getInserted()).isEqualTo(2);
+        assertThat(response.getDuplicateClientEventIds()).containsExactly("b", "a");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).extracting(row -> row[7]).containsExactly("a", "c");
+        verify(eventPublisher, times(2)).publishEvent(any(MatchEventRecordedEvent.class));
+    }
+
+    @Test
+    void addEventsToMatch_LostRaceOnKey_ShouldReportDuplicate() {
+        when(matchRepository.findById(match.getId())).thenReturn(Optional.of(match));
+        when(matchEventRepository.findExistingClientEventIds(eq(match.getId()), anySet())).thenReturn(List.of());
+        // A concurrent replay stored "a" between the lookup and the insert
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {0, 1});
+
+        MatchEventBatchResponse response = matchEventService.addEventsToMatch(match.getId(),
+                request(item("a", home), item("b", away)), null);
+
+        assertThat(response.getInserted()).isEqualTo(1);
+        assertThat(response.getEvents()).extracting("clientEventId").containsExactly("b");
+        assertThat(response.getDuplicateClientEventIds()).containsExactly("a");
+        verify(eventPublisher, times(1)).publishEvent(any(MatchEventRecordedEvent.class));
+    }
+
+    @Test
+    void addEventsToMatch_FullReplay_ShouldNotInsert() {
+        when(matchRepository.findById(match.getId())).thenReturn(Optional.of(match));
+        when(matchEventRepository.findExistingClientEventIds(eq(match.getId()), anySet()))
+                .thenReturn(List.of("a", "b"));
+
+        MatchEventBatchResponse response = matchEventService.addEventsToMatch(match.getId(),
+                request(item("a", home), item("b", away)), null);
+
+        assertThat(response.getInserted()).isZero();
+        assertThat(response.getDuplicates()).isEqualTo(2);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(eventPublisher, never()).publishEvent(any(MatchEventRecordedEvent.class));
+    }
+
+    @Test
+    void addEventsToMatch_LiveMatch_ShouldHoldSessionBeforeReadingMatch() {
+        when(matchRepository.findById(match.getId())).thenReturn(Optional.of(match));
+        when(matchEventRepository.findExistingClientEventIds(eq(match.getId()), anySet())).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1});
+
+        matchEventService.addEventsToMatch(match.getId(), request(item("a", home)), null);
+
+        InOrder order = inOrder(liveMatchSessions, matchRepository);
+        order.verify(liveMatchSessions).closeUntilCommit(match.getId());
+        order.verify(matchRepository).findById(match.getId());
+    }
+
+    private static MatchEventBatchRequest request(MatchEventBatchItem... items) {
+        return MatchEventBatchRequest.builder().events(List.of(items)).build();
+    }
+
+    private static MatchEventBatchItem item(String clientEventId, Team team) {
+        return MatchEventBatchItem.builder()
+                .clientEventId(clientEventId)
+                .teamId(team.getId())
+                .eventType(MatchEventType.TRY)
+                .minute(10)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.athleticaos.backend.services.impl;
+
+import com.athleticaos.backend.audit.AuditLogger;
+import com.athleticaos.backend.dtos.match.BulkMatchResultRequest;
+import com.athleticaos.backend.dtos.match.MatchResponse;
+import com.athleticaos.backend.dtos.match.MatchResultEntry;
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Organisation;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.MatchResultChangedEvent;
+import com.athleticaos.backend.live.LiveMatchSessions;
+import com.athleticaos.backend.repositories.MatchEventRepository;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.TeamRepository;
+import com.athleticaos.backend.repositories.TournamentRepository;
+import com.athleticaos.backend.services.PlayerSuspensionService;
+import com.athleticaos.backend.services.UserService;
+import com.athleticaos.backend.standings.PoolStandingsWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MatchServiceImplTest {
+
+    private final Organisation organisation = Organisation.builder().id(UUID.randomUUID()).build();
+    private final Tournament tournament = Tournament.builder().id(UUID.randomUUID()).name("Cup").build();
+    private final Team teamA = Team.builder().id(UUID.randomUUID()).name("A").organisation(organisation).build();
+    private final Team teamB = Team.builder().id(UUID.randomUUID()).name("B").organisation(organisation).build();
+    private final Team teamC = Team.builder().id(UUID.randomUUID()).name("C").organisation(organisation).build();
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private MatchEventRepository matchEventRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private AuditLogger auditLogger;
+
+    @Mock
+    private PlayerSuspensionService suspensionService;
+
+    @Mock
+    private PoolStandingsWriter poolStandingsWriter;
+
+    @Mock
+    private LiveMatchSessions liveMatchSessions;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private MatchServiceImpl matchService;
+
+    @Test
+    void updateMatchResults_TeamPlaysTwice_ShouldServeBothMatchesInOneCall() {
+        Match first = match(teamA, teamB, MatchStatus.SCHEDULED);
+        Match second = match(teamA, teamC, MatchStatus.SCHEDULED);
+        when(matchRepository.findResultMatchesByIdIn(anyCollection())).thenReturn(List.of(first, second));
+
+        List<MatchResponse> responses = matchService.updateMatchResults(request(
+                entry(first, 10, 5), entry(second, 7, 7)), null);
+
+        assertThat(responses).extracting(MatchResponse::getStatus).containsOnly("COMPLETED");
+        verify(liveMatchSessions).close(first.getId());
+        verify(liveMatchSessions).close(second.getId());
+        verify(suspensionService).decrementSuspensions(List.of(first, second));
+        verify(eventPublisher, times(2)).publishEvent(any(MatchResultChangedEvent.class));
+    }
+
+    @Test
+    void updateMatchResults_CorrectionOfCompletedMatch_ShouldNotServeSuspensionsAgain() {
+        Match corrected = match(teamA, teamB, MatchStatus.COMPLETED);
+        Match fresh = match(teamA, teamC, MatchStatus.ONGOING);
+        when(matchRepository.findResultMatchesByIdIn(anyCollection())).thenReturn(List.of(corrected, fresh));
+
+        matchService.updateMatchResults(request(entry(corrected, 12, 5), entry(fresh, 3, 0)), null);
+
+        verify(suspensionService).decrementSuspensions(List.of(fresh));
+    }
+
+    @Test
+    void updateMatchResults_UnchangedResult_ShouldNotPublish() {
+        Match unchanged = match(teamA, teamB, MatchStatus.COMPLETED);
+        unchanged.setHomeScore(10);
+        unchanged.setAwayScore(5);
+        when(matchRepository.findResultMatchesByIdIn(anyCollection())).thenReturn(List.of(unchanged));
+
+        matchService.updateMatchResults(request(entry(unchanged, 10, 5)), null);
+
+        verify(suspensionService, never()).decrementSuspensions(anyCollection());
+        verify(poolStandingsWriter, never()).applyResultChange(any(), any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updateMatchResults_DuplicateMatch_ShouldRejectBeforeLoading() {
+        Match match = match(teamA, teamB, MatchStatus.SCHEDULED);
+
+        assertThatThrownBy(() -> matchService.updateMatchResults(request(entry(match, 10, 5), entry(match, 5, 10)),
+                null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(match.getId().toString());
+
+        verify(liveMatchSessions, never()).close(any());
+        verify(matchRepository, never()).findResultMatchesByIdIn(anyCollection());
+    }
+
+    private Match match(Team home, Team away, MatchStatus status) {
+        return Match.builder()
+                .id(UUID.randomUUID())
+                .tournament(tournament)
+                .homeTeam(home)
+                .awayTeam(away)
+                .status(status)
+                .build();
+    }
+
+    private MatchResultEntry entry(Match match, int homeScore, int awayScore) {
+        return MatchResultEntry.builder()
+                .matchId(match.getId())
+                .homeScore(homeScore)
+                .awayScore(awayScore)
+                .build();
+    }
+
+    private BulkMatchResultRequest request(MatchResultEntry... entries) {
+        return BulkMatchResultRequest.builder().results(List.of(entries)).build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.athleticaos.backend.services.impl;
+
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.events.PlayerSuspensionChangedEvent;
+import com.athleticaos.backend.repositories.PlayerSuspensionRepository;
+import com.athleticaos.backend.suspension.SuspensionLedger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PlayerSuspensionServiceImplTest {
+
+    private final Tournament tournament = Tournament.builder().id(UUID.randomUUID()).name("Cup").build();
+    private final Team teamA = Team.builder().id(UUID.randomUUID()).name("A").build();
+    private final Team teamB = Team.builder().id(UUID.randomUUID()).name("B").build();
+    private final Team teamC = Team.builder().id(UUID.randomUUID()).name("C").build();
+
+    @Mock
+    private PlayerSuspensionRepository suspensionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SuspensionLedger suspensionLedger;
+
+    @InjectMocks
+    private PlayerSuspensionServiceImpl suspensionService;
+
+    @Test
+    void decrementSuspensions_TeamPlayedTwice_ShouldPublishOneChangePerServePass() {
+        when(suspensionRepository.serveOneMatch(eq(tournament.getId()), anyCollection())).thenReturn(1);
+
+        suspensionService.decrementSuspensions(List.of(match(teamA, teamB), match(teamA, teamC)));
+
+        verify(suspensionRepository).serveOneMatch(tournament.getId(), List.of(teamA.getId(), teamB.getId(),
+                teamC.getId()));
+        verify(suspensionRepository).serveOneMatch(tournament.getId(), List.of(teamA.getId()));
+
+        ArgumentCaptor<PlayerSuspensionChangedEvent> events = ArgumentCaptor.forClass(PlayerSuspensionChangedEvent.class);
+        verify(eventPublisher, times(4)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(PlayerSuspensionChangedEvent::teamId)
+                .containsExactly(teamA.getId(), teamB.getId(), teamC.getId(), teamA.getId());
+    }
+
+    @Test
+    void decrementSuspensions_NothingServedOnSecondPass_ShouldOnlyPublishFirstPass() {
+        when(suspensionRepository.serveOneMatch(eq(tournament.getId()), anyCollection())).thenReturn(2, 0);
+
+        suspensionService.decrementSuspensions(List.of(match(teamA, teamB), match(teamA, teamC)));
+
+        verify(eventPublisher, times(3)).publishEvent(any(PlayerSuspensionChangedEvent.class));
+    }
+
+    @Test
+    void decrementSuspensions_NothingServed_ShouldNotPublish() {
+        when(suspensionRepository.serveOneMatch(eq(tournament.getId()), anyCollection())).thenReturn(0);
+
+        suspensionService.decrementSuspensions(List.of(match(teamA, teamB)));
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private Match match(Team home, Team away) {
+        return Match.builder()
+                .id(UUID.randomUUID())
+                .tournament(tournament)
+                .homeTeam(home)
+                .awayTeam(away)
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.athleticaos.backend.services.impl;
+
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.entities.TournamentStage;
+import com.athleticaos.backend.enums.MatchSlot;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.MatchResultChangedEvent;
+import com.athleticaos.backend.events.TournamentStructureChangedEvent;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ProgressionServiceImplTest {
+
+    private final Tournament tournament = Tournament.builder().id(UUID.randomUUID()).name("Cup").build();
+    private final TournamentStage semis = TournamentStage.builder()
+            .id(UUID.randomUUID()).name("Semi Finals").displayOrder(1).isKnockoutStage(true).build();
+    private final Match cupFinal = match(null, null, MatchStatus.SCHEDULED, null, null);
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProgressionServiceImpl progressionService;
+
+    @BeforeEach
+    void setUp() {
+        progressionService = new ProgressionServiceImpl(matchRepository, tournamentRepository, eventPublisher,
+                transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void onResultChanged_BulkCompletions_ShouldProgressOnceAfterCommit() {
+        Match first = semi(24, 10, MatchSlot.HOME);
+        Match second = semi(5, 17, MatchSlot.AWAY);
+        when(matchRepository.findResultMatchesByIdIn(Set.of(first.getId(), second.getId())))
+                .thenReturn(List.of(first, second));
+
+        TransactionSynchronizationManager.initSynchronization();
+        progressionService.onResultChanged(completed(first));
+        progressionService.onResultChanged(completed(second));
+
+        verify(matchRepository, never()).findResultMatchesByIdIn(anyCollection());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(matchRepository, times(1)).findResultMatchesByIdIn(anyCollection());
+        assertThat(cupFinal.getHomeTeam()).isSameAs(first.getHomeTeam());
+        assertThat(cupFinal.getAwayTeam()).isSameAs(second.getAwayTeam());
+
+        ArgumentCaptor<TournamentStructureChangedEvent> changed =
+                ArgumentCaptor.forClass(TournamentStructureChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(changed.capture());
+        assertThat(changed.getValue().poolMatchesChanged()).isFalse();
+    }
+
+    @Test
+    void onResultChanged_NotCompleted_ShouldNotProgress() {
+        Match semi = semi(24, 10, MatchSlot.HOME);
+        semi.setStatus(MatchStatus.ONGOING);
+
+        progressionService.onResultChanged(new MatchResultChangedEvent(tournament.getId(), semi.getId(),
+                semi.getHomeTeam().getId(), semi.getAwayTeam().getId(), MatchStatus.SCHEDULED, null, null,
+                MatchStatus.ONGOING, 24, 10));
+
+        verify(matchRepository, never()).findResultMatchesByIdIn(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private MatchResultChangedEvent completed(Match match) {
+        return new MatchResultChangedEvent(tournament.getId(), match.getId(),
+                match.getHomeTeam().getId(), match.getAwayTeam().getId(), MatchStatus.ONGOING,
+                match.getHomeScore(), match.getAwayScore(), MatchStatus.COMPLETED,
+                match.getHomeScore(), match.getAwayScore());
+    }
+
+    private Match semi(int homeScore, int awayScore, MatchSlot slot) {
+        Match semi = match(team(), team(), MatchStatus.COMPLETED, homeScore, awayScore);
+        semi.setStage(semis);
+        semi.setWinnerNextMatch(cupFinal);
+        semi.setWinnerNextSlot(slot);
+        return semi;
+    }
+
+    private Match match(Team home, Team away, MatchStatus status, Integer homeScore, Integer awayScore) {
+        return Match.builder()
+                .id(UUID.randomUUID())
+                .tournament(tournament)
+                .homeTeam(home)
+                .awayTeam(away)
+                .status(status)
+                .homeScore(homeScore)
+                .awayScore(awayScore)
+                .build();
+    }
+
+    private static Team team() {
+        UUID id = UUID.randomUUID();
+        return Team.builder().id(id).name("Team " + id).build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.athleticaos.backend.services.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchedulingServiceImplTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+    private static final LocalTime DAY_START = LocalTime.of(9, 0);
+
+    @Test
+    void firstFutureSlot_BeforeTournament_ShouldStartAtFirstSlot() {
+        assertThat(firstFutureSlot(LocalDateTime.of(2026, 2, 20, 12, 0))).isZero();
+    }
+
+    @Test
+    void firstFutureSlot_BeforeDayStart_ShouldStartAtFirstSlotOfDay() {
+        assertThat(firstFutureSlot(LocalDateTime.of(2026, 3, 2, 7, 30))).isEqualTo(18);
+    }
+
+    @Test
+    void firstFutureSlot_DuringDay_ShouldRoundUpToNextKickOff() {
+        assertThat(firstFutureSlot(LocalDateTime.of(2026, 3, 1, 10, 0))).isEqualTo(2);
+        assertThat(firstFutureSlot(LocalDateTime.of(2026, 3, 1, 10, 10))).isEqualTo(3);
+    }
+
+    @Test
+    void firstFutureSlot_AfterLastKickOff_ShouldMoveToNextDay() {
+        assertThat(firstFutureSlot(LocalDateTime.of(2026, 3, 1, 17, 45))).isEqualTo(18);
+    }
+
+    // 30-minute slots from 09:00 to 18:00
+    private static int firstFutureSlot(LocalDateTime now) {
+        return SchedulingServiceImpl.firstFutureSlot(START, DAY_START, 30, 18, now);
+    }
+}
@@ -0,0 +1,168 @@
+package com.athleticaos.backend.standings;
+
+import com.athleticaos.backend.cache.TournamentLocks;
+import com.athleticaos.backend.cache.TournamentVersionRegistry;
+import com.athleticaos.backend.entities.Match;
+import com.athleticaos.backend.entities.Team;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.entities.TournamentStage;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.TournamentStructureChangedEvent;
+import com.athleticaos.backend.repositories.PoolStandingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class PoolStandingsWriterTest {
+
+    @Mock
+    private PoolStandingRepository poolStandingRepository;
+
+    @Mock
+    private TournamentVersionRegistry versionRegistry;
+
+    @Mock
+    private TournamentLocks tournamentLocks;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PoolStandingsWriter writer;
+
+    private final UUID tournamentId = UUID.randomUUID();
+    private final UUID stageId = UUID.randomUUID();
+    private final UUID homeId = UUID.randomUUID();
+    private final UUID awayId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        writer = new PoolStandingsWriter(poolStandingRepository, versionRegistry, tournamentLocks, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void applyResultChange_NewCompletion_ShouldAddBothSides() {
+        Match match = poolMatch(MatchStatus.COMPLETED, 30, 10);
+
+        writer.applyResultChange(match, MatchStatus.ONGOING, 30, 10);
+
+        // Home: win with try bonus; away: loss
+        verify(tournamentLocks).lockShared(anyString(), eq(tournamentId));
+        verify(poolStandingRepository).applyDelta(stageId, homeId, tournamentId, 1, 1, 0, 0, 30, 10, 1, 5);
+        verify(poolStandingRepository).applyDelta(stageId, awayId, tournamentId, 1, 0, 0, 1, 10, 30, 0, 0);
+    }
+
+    @Test
+    void applyResultChange_Correction_ShouldReverseOldResultThenAddNew() {
+        Match match = poolMatch(MatchStatus.COMPLETED, 10, 10);
+
+        writer.applyResultChange(match, MatchStatus.COMPLETED, 15, 10);
+
+        InOrder order = inOrder(poolStandingRepository);
+        order.verify(poolStandingRepository).applyDelta(stageId, homeId, tournamentId, -1, -1, 0, 0, -15, -10, 0, -4);
+        order.verify(poolStandingRepository).applyDelta(stageId, awayId, tournamentId, -1, 0, 0, -1, -10, -15, 0, 0);
+        order.verify(poolStandingRepository).applyDelta(stageId, homeId, tournamentId, 1, 0, 1, 0, 10, 10, 0, 2);
+        order.verify(poolStandingRepository).applyDelta(stageId, awayId, tournamentId, 1, 0, 1, 0, 10, 10, 0, 2);
+    }
+
+    @Test
+    void applyResultChange_Reopened_ShouldOnlyReverse() {
+        Match match = poolMatch(MatchStatus.ONGOING, 15, 10);
+
+        writer.applyResultChange(match, MatchStatus.COMPLETED, 15, 10);
+
+        verify(poolStandingRepository).applyDelta(stageId, homeId, tournamentId, -1, -1, 0, 0, -15, -10, 0, -4);
+        verify(poolStandingRepository).applyDelta(stageId, awayId, tournamentId, -1, 0, 0, -1, -10, -15, 0, 0);
+        verify(poolStandingRepository, never()).applyDelta(any(), any(), any(), eq(1), anyInt(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void applyResultChange_UnchangedOrLiveScore_ShouldDoNothing() {
+        writer.applyResultChange(poolMatch(MatchStatus.COMPLETED, 15, 10), MatchStatus.COMPLETED, 15, 10);
+        writer.applyResultChange(poolMatch(MatchStatus.ONGOING, 7, 0), MatchStatus.ONGOING, 0, 0);
+
+        verify(poolStandingRepository, never()).applyDelta(any(), any(), any(), anyInt(), anyInt(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void applyResultChange_KnockoutMatch_ShouldDoNothing() {
+        Match match = poolMatch(MatchStatus.COMPLETED, 15, 10);
+        match.getStage().setIsGroupStage(false);
+
+        writer.applyResultChange(match, MatchStatus.ONGOING, 15, 10);
+
+        verify(poolStandingRepository, never()).applyDelta(any(), any(), any(), anyInt(), anyInt(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void rebuild_ShouldLockTournamentBeforeRewriting() {
+        writer.rebuild(tournamentId);
+
+        InOrder order = inOrder(tournamentLocks, poolStandingRepository, versionRegistry);
+        order.verify(tournamentLocks).lock(anyString(), eq(tournamentId));
+        order.verify(poolStandingRepository).deleteByTournament(tournamentId);
+        order.verify(poolStandingRepository).insertForTournament(tournamentId);
+        order.verify(versionRegistry).bump(tournamentId);
+    }
+
+    @Test
+    void onStructureChanged_SeveralInOneTransaction_ShouldRebuildOnceAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        writer.onStructureChanged(new TournamentStructureChangedEvent(tournamentId));
+        writer.onStructureChanged(new TournamentStructureChangedEvent(tournamentId));
+
+        verify(poolStandingRepository, never()).deleteByTournament(any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(poolStandingRepository, times(1)).deleteByTournament(tournamentId);
+    }
+
+    @Test
+    void onStructureChanged_KnockoutOnly_ShouldNotRebuild() {
+        writer.onStructureChanged(new TournamentStructureChangedEvent(tournamentId, false));
+
+        verify(tournamentLocks, never()).lock(anyString(), any());
+        verify(poolStandingRepository, never()).deleteByTournament(any());
+    }
+
+    private Match poolMatch(MatchStatus status, int homeScore, int awayScore) {
+        return Match.builder()
+                .id(UUID.randomUUID())
+                .tournament(Tournament.builder().id(tournamentId).build())
+                .stage(TournamentStage.builder().id(stageId).isGroupStage(true).isKnockoutStage(false).build())
+                .homeTeam(Team.builder().id(homeId).build())
+                .awayTeam(Team.builder().id(awayId).build())
+                .status(status)
+                .homeScore(homeScore)
+                .awayScore(awayScore)
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.dashboard.MatchStatusCountRow;
+import com.athleticaos.backend.dtos.stats.PlayerStatsResponse;
+import com.athleticaos.backend.dtos.stats.TeamStatsResponse;
+import com.athleticaos.backend.dtos.stats.TournamentStatsSummaryResponse;
+import com.athleticaos.backend.entities.Tournament;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.repositories.MatchEventRepository;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.TournamentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SqlTournamentStatsEngineTest {
+
+    private final Tournament tournament = Tournament.builder().id(UUID.randomUUID()).name("Cup").build();
+    private final UUID playerId = UUID.randomUUID();
+    private final UUID teamId = UUID.randomUUID();
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private MatchEventRepository matchEventRepository;
+
+    @InjectMocks
+    private SqlTournamentStatsEngine engine;
+
+    @Test
+    void getAll_ShouldSplitOneEventPassIntoAllThreeViews() {
+        UUID id = tournament.getId();
+        when(tournamentRepository.findById(id)).thenReturn(Optional.of(tournament));
+        when(matchEventRepository.aggregateEventRollupForTournament(id)).thenReturn(List.of(
+                row(EventRollupRow.PLAYER, playerId, null, 2, 1, 1, 0, 0, 0),
+                // Events without a player still count for the team and the tournament
+                row(EventRollupRow.PLAYER, null, null, 1, 0, 0, 0, 1, 0),
+                row(EventRollupRow.TEAM, null, teamId, 2, 1, 1, 0, 1, 0),
+                row(EventRollupRow.TOTAL, null, null, 2, 1, 1, 0, 1, 0)));
+        when(matchRepository.countByStatusForTournament(id)).thenReturn(List.of(
+                new MatchStatusCountRow(id, MatchStatus.COMPLETED, 3L),
+                new MatchStatusCountRow(id, MatchStatus.SCHEDULED, 2L)));
+        when(matchRepository.aggregateTeamResultsForTournament(id)).thenReturn(List.of(
+                new TeamResultRow(teamId, "Home", "Union", 3L, 2L, 1L, 0L, 60L, 30L)));
+
+        TournamentStats stats = engine.getAll(id);
+
+        TournamentStatsSummaryResponse summary = stats.summary();
+        assertThat(summary.totalMatches()).isEqualTo(5);
+        assertThat(summary.completedMatches()).isEqualTo(3);
+        assertThat(summary.totalTries()).isEqualTo(2);
+        // 2 tries, 1 conversion and 1 penalty
+        assertThat(summary.totalPoints()).isEqualTo(15);
+        assertThat(summary.totalYellowCards()).isEqualTo(1);
+
+        assertThat(stats.playerStats()).extracting(PlayerStatsResponse::playerId).containsExactly(playerId);
+        assertThat(stats.playerStats().get(0).totalPoints()).isEqualTo(15);
+
+        TeamStatsResponse team = stats.teamStats().get(0);
+        assertThat(team.triesScored()).isEqualTo(2);
+        assertThat(team.yellowCards()).isEqualTo(1);
+        assertThat(team.tablePoints()).isEqualTo(10);
+
+        verify(matchEventRepository, never()).aggregatePlayerStatsForTournament(any());
+        verify(matchEventRepository, never()).aggregateTeamEventsForTournament(any());
+        verify(matchEventRepository, never()).countByEventTypeForTournament(any());
+    }
+
+    private static EventRollupRow row(int level, UUID playerId, UUID teamId, long tries, long conversions,
+            long penalties, long dropGoals, long yellowCards, long redCards) {
+        return new EventRollupRow() {
+            @Override
+            public Integer getLevel() {
+                return level;
+            }
+
+            @Override
+            public UUID getPlayerId() {
+                return playerId;
+            }
+
+            @Override
+            public String getFirstName() {
+                return playerId != null ? "First" : null;
+            }
+
+            @Override
+            public String getLastName() {
+                return playerId != null ? "Last" : null;
+            }
+
+            @Override
+            public UUID getTeamId() {
+                return teamId;
+            }
+
+            @Override
+            public String getTeamName() {
+                return "Home";
+            }
+
+            @Override
+            public Long getMatchesPlayed() {
+                return 1L;
+            }
+
+            @Override
+            public Long getTries() {
+                return tries;
+            }
+
+            @Override
+            public Long getConversions() {
+                return conversions;
+            }
+
+            @Override
+            public Long getPenalties() {
+                return penalties;
+            }
+
+            @Override
+            public Long getDropGoals() {
+                return dropGoals;
+            }
+
+            @Override
+            public Long getYellowCards() {
+                return yellowCards;
+            }
+
+            @Override
+            public Long getRedCards() {
+                return redCards;
+            }
+        };
+    }
+}
@@ -0,0 +1,151 @@
+package com.athleticaos.backend.stats;
+
+import com.athleticaos.backend.cache.TournamentLocks;
+import com.athleticaos.backend.enums.MatchEventType;
+import com.athleticaos.backend.enums.MatchStatus;
+import com.athleticaos.backend.events.MatchEventRecordedEvent;
+import com.athleticaos.backend.events.MatchResultChangedEvent;
+import com.athleticaos.backend.events.TournamentStructureChangedEvent;
+import com.athleticaos.backend.repositories.MatchEventRepository;
+import com.athleticaos.backend.repositories.MatchRepository;
+import com.athleticaos.backend.repositories.PlayerTournamentStatsRepository;
+import com.athleticaos.backend.repositories.TeamTournamentStatsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TournamentStatsRollupWriterTest {
+
+    @Mock
+    private PlayerTournamentStatsRepository playerTournamentStatsRepository;
+
+    @Mock
+    private TeamTournamentStatsRepository teamTournamentStatsRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private MatchEventRepository matchEventRepository;
+
+    @Mock
+    private TournamentLocks tournamentLocks;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TournamentStatsRollupWriter writer;
+
+    private final UUID tournamentId = UUID.randomUUID();
+    private final UUID matchId = UUID.randomUUID();
+    private final UUID homeId = UUID.randomUUID();
+    private final UUID awayId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        writer = new TournamentStatsRollupWriter(playerTournamentStatsRepository, teamTournamentStatsRepository,
+                matchRepository, matchEventRepository, tournamentLocks, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void onEventRecorded_BatchOnCompletedMatch_ShouldRefreshAffectedRowsOnce() {
+        UUID firstPlayer = UUID.randomUUID();
+        UUID secondPlayer = UUID.randomUUID();
+        when(matchRepository.findIdsByIdInAndStatus(Set.of(matchId), MatchStatus.COMPLETED))
+                .thenReturn(List.of(matchId));
+
+        TransactionSynchronizationManager.initSynchronization();
+        writer.onEventRecorded(recorded(homeId, firstPlayer));
+        writer.onEventRecorded(recorded(homeId, secondPlayer));
+        writer.onEventRecorded(recorded(awayId, null));
+        commit();
+
+        InOrder order = inOrder(tournamentLocks, playerTournamentStatsRepository, teamTournamentStatsRepository);
+        order.verify(tournamentLocks).lock(anyString(), eq(tournamentId));
+        order.verify(playerTournamentStatsRepository).deleteByTournamentAndPlayers(tournamentId,
+                Set.of(firstPlayer, secondPlayer));
+        order.verify(playerTournamentStatsRepository).insertRollupForPlayers(tournamentId,
+                Set.of(firstPlayer, secondPlayer));
+        order.verify(teamTournamentStatsRepository).deleteByTournamentAndTeams(tournamentId, Set.of(homeId, awayId));
+        order.verify(teamTournamentStatsRepository).insertRollupForTeams(tournamentId, Set.of(homeId, awayId));
+        verify(playerTournamentStatsRepository, never()).deleteByTournament(any());
+    }
+
+    @Test
+    void onEventRecorded_MatchStillPlaying_ShouldNotRefresh() {
+        when(matchRepository.findIdsByIdInAndStatus(Set.of(matchId), MatchStatus.COMPLETED)).thenReturn(List.of());
+
+        writer.onEventRecorded(recorded(homeId, UUID.randomUUID()));
+
+        verify(tournamentLocks, never()).lock(anyString(), any());
+        verify(playerTournamentStatsRepository, never()).deleteByTournamentAndPlayers(any(), anyCollection());
+        verify(teamTournamentStatsRepository, never()).deleteByTournamentAndTeams(any(), anyCollection());
+    }
+
+    @Test
+    void onResultChanged_Completion_ShouldRefreshBothTeamsAndTheirScorers() {
+        UUID scorer = UUID.randomUUID();
+        when(matchEventRepository.findPlayerIdsByMatchIdIn(Set.of(matchId))).thenReturn(List.of(scorer));
+
+        writer.onResultChanged(new MatchResultChangedEvent(tournamentId, matchId, homeId, awayId,
+                MatchStatus.ONGOING, 10, 5, MatchStatus.COMPLETED, 10, 5));
+
+        verify(playerTournamentStatsRepository).insertRollupForPlayers(tournamentId, Set.of(scorer));
+        verify(teamTournamentStatsRepository).insertRollupForTeams(tournamentId, Set.of(homeId, awayId));
+    }
+
+    @Test
+    void onStructureChanged_WithOtherChanges_ShouldRewriteTournamentOnce() {
+        TransactionSynchronizationManager.initSynchronization();
+        writer.onStructureChanged(new TournamentStructureChangedEvent(tournamentId));
+        writer.onStructureChanged(new TournamentStructureChangedEvent(tournamentId));
+        writer.onEventRecorded(recorded(homeId, UUID.randomUUID()));
+        commit();
+
+        verify(tournamentLocks, times(1)).lock(anyString(), eq(tournamentId));
+        verify(playerTournamentStatsRepository).deleteByTournament(tournamentId);
+        verify(teamTournamentStatsRepository).insertRollupForTournament(tournamentId);
+        verify(playerTournamentStatsRepository, never()).insertRollupForPlayers(any(), anyCollection());
+    }
+
+    private MatchEventRecordedEvent recorded(UUID teamId, UUID playerId) {
+        return new MatchEventRecordedEvent(UUID.randomUUID(), tournamentId, matchId, teamId, "Team", playerId,
+                "First", "Last", MatchEventType.TRY, 10);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,120 @@
+package com.athleticaos.backend.suspension;
+
+import com.athleticaos.backend.events.PlayerSuspendedEvent;
+import com.athleticaos.backend.events.PlayerSuspensionChangedEvent;
+import com.athleticaos.backend.repositories.PlayerSuspensionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SuspensionLedgerTest {
+
+    private final UUID tournamentId = UUID.randomUUID();
+    private final UUID teamId = UUID.randomUUID();
+    private final UUID otherTeamId = UUID.randomUUID();
+    private final UUID playerId = UUID.randomUUID();
+
+    @Mock
+    private PlayerSuspensionRepository suspensionRepository;
+
+    @InjectMocks
+    private SuspensionLedger ledger;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void isSuspended_LoadedOnce_ShouldServeFromMemory() {
+        when(suspensionRepository.findActiveLedgerRows(tournamentId)).thenReturn(List.of(active(teamId, 2)));
+
+        assertThat(ledger.isSuspended(tournamentId, playerId)).isTrue();
+        assertThat(ledger.isSuspended(tournamentId, UUID.randomUUID())).isFalse();
+
+        verify(suspensionRepository, times(1)).findActiveLedgerRows(tournamentId);
+    }
+
+    @Test
+    void onSuspended_LoadedLedger_ShouldAppendAfterExisting() {
+        ActiveSuspension first = active(teamId, 1);
+        when(suspensionRepository.findActiveLedgerRows(tournamentId)).thenReturn(List.of(first));
+        ledger.isSuspended(tournamentId, playerId);
+        UUID suspensionId = UUID.randomUUID();
+
+        ledger.onSuspended(new PlayerSuspendedEvent(tournamentId, teamId, suspensionId, playerId, "Red card", 3));
+
+        assertThat(ledger.getActive(tournamentId, playerId))
+                .extracting(ActiveSuspension::id)
+                .containsExactly(first.id(), suspensionId);
+    }
+
+    @Test
+    void onServed_TeamPlayed_ShouldServeOnlyThatTeam() {
+        UUID otherPlayerId = UUID.randomUUID();
+        ActiveSuspension other = new ActiveSuspension(UUID.randomUUID(), otherTeamId, otherPlayerId, "Yellow", 1);
+        when(suspensionRepository.findActiveLedgerRows(tournamentId))
+                .thenReturn(List.of(active(teamId, 2), other));
+        ledger.isSuspended(tournamentId, playerId);
+
+        ledger.onServed(new PlayerSuspensionChangedEvent(tournamentId, teamId));
+
+        assertThat(ledger.getActive(tournamentId, playerId))
+                .extracting(ActiveSuspension::matchesRemaining)
+                .containsExactly(1);
+        assertThat(ledger.isSuspended(tournamentId, otherPlayerId)).isTrue();
+
+        ledger.onServed(new PlayerSuspensionChangedEvent(tournamentId, teamId));
+
+        assertThat(ledger.isSuspended(tournamentId, playerId)).isFalse();
+    }
+
+    @Test
+    void isSuspended_LoadedWhileServeInFlight_ShouldNotKeepLoad() {
+        TransactionSynchronizationManager.initSynchronization();
+        PlayerSuspensionChangedEvent served = new PlayerSuspensionChangedEvent(tournamentId, teamId);
+        ledger.onServing(served);
+
+        // Loaded after the serve committed but before its after-commit listener ran
+        when(suspensionRepository.findActiveLedgerRows(tournamentId)).thenReturn(List.of(active(teamId, 1)));
+        assertThat(ledger.isSuspended(tournamentId, playerId)).isTrue();
+        ledger.onServed(served);
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(0));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(ledger.getActive(tournamentId, playerId))
+                .extracting(ActiveSuspension::matchesRemaining)
+                .containsExactly(1);
+        verify(suspensionRepository, times(2)).findActiveLedgerRows(tournamentId);
+    }
+
+    @Test
+    void invalidate_ShouldReloadOnNextRead() {
+        when(suspensionRepository.findActiveLedgerRows(tournamentId)).thenReturn(List.of(active(teamId, 1)));
+        ledger.isSuspended(tournamentId, playerId);
+
+        ledger.invalidate(tournamentId);
+        ledger.isSuspended(tournamentId, playerId);
+
+        verify(suspensionRepository, times(2)).findActiveLedgerRows(tournamentId);
+    }
+
+    private ActiveSuspension active(UUID team, int matchesRemaining) {
+        return new ActiveSuspension(UUID.randomUUID(), team, playerId, "Red card", matchesRemaining);
+    }
+}